@@ -0,0 +1,12 @@
+package com.skillbridge.common.events;
+
+import java.time.Instant;
+
+public record ContractCompletedEvent(
+        Long contractId,
+        Long jobId,
+        Long clientId,
+        Long freelancerId,
+        Instant completedAt
+) {
+}
@@ -5,7 +5,13 @@ public final class EventTopics {
     public static final String EXCHANGE_NAME = "skillbridge.events";
     public static final String PROPOSAL_CREATED_ROUTING_KEY = "proposal.created";
     public static final String PROPOSAL_ACCEPTED_ROUTING_KEY = "proposal.accepted";
+    public static final String PROPOSALS_REJECTED_ROUTING_KEY = "proposal.rejected-batch";
+    public static final String PROPOSAL_STATUS_CHANGED_ROUTING_KEY = "proposal.status-changed";
     public static final String MILESTONE_COMPLETED_ROUTING_KEY = "milestone.completed";
+    public static final String CONTRACT_CREATED_ROUTING_KEY = "contract.created";
+    public static final String CONTRACT_COMPLETED_ROUTING_KEY = "contract.completed";
+    public static final String JOB_PUBLISHED_ROUTING_KEY = "job.published";
+    public static final String JOB_STATUS_CHANGED_ROUTING_KEY = "job.status-changed";
 
     private EventTopics() {
     }
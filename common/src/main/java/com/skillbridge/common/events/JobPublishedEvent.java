@@ -0,0 +1,13 @@
+package com.skillbridge.common.events;
+
+import java.time.Instant;
+
+public record JobPublishedEvent(
+        String eventId,
+        Long jobId,
+        Long clientId,
+        String companyName,
+        String title,
+        Instant publishedAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.skillbridge.common.events;
+
+import java.time.Instant;
+
+public record JobStatusChangedEvent(
+        String eventId,
+        Long jobId,
+        Long clientId,
+        String status,
+        Instant changedAt
+) {
+}
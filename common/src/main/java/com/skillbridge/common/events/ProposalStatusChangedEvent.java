@@ -0,0 +1,13 @@
+package com.skillbridge.common.events;
+
+import java.time.Instant;
+
+public record ProposalStatusChangedEvent(
+        Long proposalId,
+        Long jobId,
+        Long clientId,
+        Long freelancerId,
+        String status,
+        Instant changedAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.skillbridge.common.events;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ProposalsRejectedEvent(
+        Long acceptedProposalId,
+        Long jobId,
+        Long clientId,
+        List<Recipient> recipients,
+        Instant rejectedAt
+) {
+
+    public record Recipient(
+            Long freelancerId,
+            String freelancerEmail
+    ) {
+    }
+}
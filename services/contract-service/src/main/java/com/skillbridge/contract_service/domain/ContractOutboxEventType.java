@@ -1,5 +1,7 @@
 package com.skillbridge.contract_service.domain;
 
 public enum ContractOutboxEventType {
-    MILESTONE_COMPLETED
+    MILESTONE_COMPLETED,
+    CONTRACT_CREATED,
+    CONTRACT_COMPLETED
 }
@@ -0,0 +1,84 @@
+package com.skillbridge.contract_service.messaging;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.skillbridge.common.events.ContractCompletedEvent;
+import com.skillbridge.common.events.ContractCreatedEvent;
+import com.skillbridge.common.events.EventTopics;
+import com.skillbridge.contract_service.domain.Contract;
+import com.skillbridge.contract_service.domain.ContractOutboxEvent;
+import com.skillbridge.contract_service.domain.ContractOutboxEventType;
+import com.skillbridge.contract_service.repository.ContractOutboxEventRepository;
+
+@Component
+public class ContractEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractEventPublisher.class);
+    private static final String CONTRACT_AGGREGATE_TYPE = "contract";
+
+    private final ContractOutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public ContractEventPublisher(
+            ContractOutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publishContractCreated(Contract contract) {
+        ContractCreatedEvent event = new ContractCreatedEvent(
+                contract.getId(),
+                contract.getJobId(),
+                contract.getClientId(),
+                contract.getFreelancerId(),
+                contract.getCreatedAt()
+        );
+        enqueue(
+                contract.getId(),
+                ContractOutboxEventType.CONTRACT_CREATED,
+                EventTopics.CONTRACT_CREATED_ROUTING_KEY,
+                event
+        );
+    }
+
+    public void publishContractCompleted(Contract contract) {
+        ContractCompletedEvent event = new ContractCompletedEvent(
+                contract.getId(),
+                contract.getJobId(),
+                contract.getClientId(),
+                contract.getFreelancerId(),
+                contract.getCompletedAt()
+        );
+        enqueue(
+                contract.getId(),
+                ContractOutboxEventType.CONTRACT_COMPLETED,
+                EventTopics.CONTRACT_COMPLETED_ROUTING_KEY,
+                event
+        );
+    }
+
+    private void enqueue(Long contractId, ContractOutboxEventType eventType, String routingKey, Object payload) {
+        try {
+            ContractOutboxEvent event = new ContractOutboxEvent();
+            event.setAggregateType(CONTRACT_AGGREGATE_TYPE);
+            event.setAggregateId(contractId);
+            event.setEventType(eventType);
+            event.setExchangeName(EventTopics.EXCHANGE_NAME);
+            event.setRoutingKey(routingKey);
+            event.setPayload(objectMapper.writeValueAsString(payload));
+            event.setAttempts(0);
+            event.setNextAttemptAt(Instant.now());
+            outboxEventRepository.save(event);
+        } catch (JsonProcessingException ex) {
+            log.warn("Failed to serialize outbox event type={} aggregateId={}: {}", eventType, contractId, ex.getMessage());
+        }
+    }
+}
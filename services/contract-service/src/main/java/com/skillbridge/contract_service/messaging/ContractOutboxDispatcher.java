@@ -17,6 +17,8 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.skillbridge.common.events.ContractCompletedEvent;
+import com.skillbridge.common.events.ContractCreatedEvent;
 import com.skillbridge.common.events.MilestoneCompletedEvent;
 import com.skillbridge.contract_service.domain.ContractOutboxEvent;
 import com.skillbridge.contract_service.repository.ContractOutboxEventRepository;
@@ -110,7 +112,11 @@ public class ContractOutboxDispatcher {
     }
 
     private Object decodePayload(ContractOutboxEvent event) throws JsonProcessingException {
-        return objectMapper.readValue(event.getPayload(), MilestoneCompletedEvent.class);
+        return switch (event.getEventType()) {
+            case MILESTONE_COMPLETED -> objectMapper.readValue(event.getPayload(), MilestoneCompletedEvent.class);
+            case CONTRACT_CREATED -> objectMapper.readValue(event.getPayload(), ContractCreatedEvent.class);
+            case CONTRACT_COMPLETED -> objectMapper.readValue(event.getPayload(), ContractCompletedEvent.class);
+        };
     }
 
     private long calculateDelaySeconds(int attempts) {
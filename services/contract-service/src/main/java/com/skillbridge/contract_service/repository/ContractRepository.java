@@ -1,9 +1,12 @@
 package com.skillbridge.contract_service.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.contract_service.domain.Contract;
 
@@ -14,4 +17,63 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
     List<Contract> findByClientIdOrderByCreatedAtDesc(Long clientId);
 
     List<Contract> findByFreelancerIdOrderByCreatedAtDesc(Long freelancerId);
+
+    @Query(value = """
+            select count(*) as "total",
+                   count(*) filter (where status = 'ACTIVE') as "active",
+                   count(*) filter (where status = 'COMPLETED') as "completed",
+                   count(*) filter (where status = 'CANCELLED') as "cancelled"
+            from contracts
+            where client_id = :clientId
+              and created_at between :from and :to
+            """, nativeQuery = true)
+    StatusCounts summarizeByClientIdCreatedBetween(
+            @Param("clientId") Long clientId,
+            @Param("from") Instant from,
+            @Param("to") Instant to
+    );
+
+    @Query(value = """
+            select date_trunc(:unit, event.occurred_at at time zone :timezone) at time zone :timezone as "bucketStart",
+                   count(*) filter (where event.metric = 'CREATED') as "created",
+                   count(*) filter (where event.metric = 'COMPLETED') as "completed"
+            from (
+                select created_at as occurred_at, 'CREATED' as metric
+                from contracts
+                where client_id = :clientId and created_at between :from and :to
+                union all
+                select completed_at, 'COMPLETED'
+                from contracts
+                where client_id = :clientId and completed_at between :from and :to
+            ) event
+            group by 1
+            order by 1
+            """, nativeQuery = true)
+    List<SeriesBucket> countSeriesByClientId(
+            @Param("clientId") Long clientId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("unit") String unit,
+            @Param("timezone") String timezone
+    );
+
+    interface StatusCounts {
+
+        long getTotal();
+
+        long getActive();
+
+        long getCompleted();
+
+        long getCancelled();
+    }
+
+    interface SeriesBucket {
+
+        Instant getBucketStart();
+
+        long getCreated();
+
+        long getCompleted();
+    }
 }
@@ -4,11 +4,13 @@ import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
@@ -16,8 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.skillbridge.contract_service.domain.Contract;
-import com.skillbridge.contract_service.domain.ContractStatus;
 import com.skillbridge.contract_service.dto.InternalContractSeriesPointResponse;
 import com.skillbridge.contract_service.dto.InternalContractSeriesResponse;
 import com.skillbridge.contract_service.dto.InternalContractSummaryResponse;
@@ -35,15 +35,13 @@ public class ContractAnalyticsService {
     @Transactional(readOnly = true)
     public InternalContractSummaryResponse getClientSummary(Long clientId, Instant from, Instant to) {
         Range range = normalizeRange(from, to);
-        List<Contract> contracts = contractRepository.findByClientIdOrderByCreatedAtDesc(clientId).stream()
-                .filter(contract -> inRange(contract.getCreatedAt(), range))
-                .toList();
+        ContractRepository.StatusCounts counts = contractRepository.summarizeByClientIdCreatedBetween(clientId, range.from(), range.to());
 
         return new InternalContractSummaryResponse(
-                contracts.size(),
-                contracts.stream().filter(contract -> contract.getStatus() == ContractStatus.ACTIVE).count(),
-                contracts.stream().filter(contract -> contract.getStatus() == ContractStatus.COMPLETED).count(),
-                contracts.stream().filter(contract -> contract.getStatus() == ContractStatus.CANCELLED).count()
+                counts.getTotal(),
+                counts.getActive(),
+                counts.getCompleted(),
+                counts.getCancelled()
         );
     }
 
@@ -59,19 +57,24 @@ public class ContractAnalyticsService {
         AnalyticsGroupBy safeGroupBy = groupBy == null ? AnalyticsGroupBy.DAY : groupBy;
         ZoneId zoneId = resolveTimezone(timezone);
 
-        Map<Instant, Counter> counters = new LinkedHashMap<>();
-        List<Contract> contracts = contractRepository.findByClientIdOrderByCreatedAtDesc(clientId);
-
-        for (Contract contract : contracts) {
-            increment(counters, contract.getCreatedAt(), range, safeGroupBy, zoneId, CounterMetric.CREATED);
-            increment(counters, contract.getCompletedAt(), range, safeGroupBy, zoneId, CounterMetric.COMPLETED);
+        Map<Instant, ContractRepository.SeriesBucket> buckets = new HashMap<>();
+        for (ContractRepository.SeriesBucket bucket : contractRepository.countSeriesByClientId(
+                clientId,
+                range.from(),
+                range.to(),
+                safeGroupBy.name().toLowerCase(Locale.ROOT),
+                toDatabaseTimezone(zoneId)
+        )) {
+            buckets.put(bucket.getBucketStart(), bucket);
         }
 
         List<InternalContractSeriesPointResponse> points = new ArrayList<>();
         Instant bucketCursor = toBucketStart(range.from(), safeGroupBy, zoneId);
         while (!bucketCursor.isAfter(range.to())) {
-            Counter counter = counters.getOrDefault(bucketCursor, new Counter());
-            points.add(new InternalContractSeriesPointResponse(bucketCursor, counter.created, counter.completed));
+            ContractRepository.SeriesBucket bucket = buckets.get(bucketCursor);
+            points.add(bucket == null
+                    ? new InternalContractSeriesPointResponse(bucketCursor, 0, 0)
+                    : new InternalContractSeriesPointResponse(bucketCursor, bucket.getCreated(), bucket.getCompleted()));
             bucketCursor = nextBucketStart(bucketCursor, safeGroupBy, zoneId);
         }
 
@@ -84,24 +87,15 @@ public class ContractAnalyticsService {
         );
     }
 
-    private void increment(
-            Map<Instant, Counter> counters,
-            Instant timestamp,
-            Range range,
-            AnalyticsGroupBy groupBy,
-            ZoneId zoneId,
-            CounterMetric metric
-    ) {
-        if (!inRange(timestamp, range)) {
-            return;
+    private String toDatabaseTimezone(ZoneId zoneId) {
+        if (!(zoneId.normalized() instanceof ZoneOffset offset)) {
+            return zoneId.getId();
         }
-        Instant bucket = toBucketStart(timestamp, groupBy, zoneId);
-        Counter counter = counters.computeIfAbsent(bucket, ignored -> new Counter());
-        if (metric == CounterMetric.CREATED) {
-            counter.created++;
-        } else {
-            counter.completed++;
+        if (offset.getTotalSeconds() == 0) {
+            return "UTC";
         }
+        String id = offset.getId();
+        return "UTC" + (id.startsWith("+") ? "-" : "+") + id.substring(1);
     }
 
     private Instant toBucketStart(Instant timestamp, AnalyticsGroupBy groupBy, ZoneId zoneId) {
@@ -148,23 +142,6 @@ public class ContractAnalyticsService {
         return new Range(normalizedFrom, normalizedTo);
     }
 
-    private boolean inRange(Instant value, Range range) {
-        if (value == null) {
-            return false;
-        }
-        return !value.isBefore(range.from()) && !value.isAfter(range.to());
-    }
-
-    private enum CounterMetric {
-        CREATED,
-        COMPLETED
-    }
-
-    private static class Counter {
-        long created;
-        long completed;
-    }
-
     private record Range(Instant from, Instant to) {
     }
 }
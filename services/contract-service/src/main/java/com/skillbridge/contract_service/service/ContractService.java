@@ -23,6 +23,7 @@ import com.skillbridge.contract_service.dto.ContractResponse;
 import com.skillbridge.contract_service.dto.CreateContractFromProposalRequest;
 import com.skillbridge.contract_service.dto.CreateMilestoneRequest;
 import com.skillbridge.contract_service.dto.MilestoneResponse;
+import com.skillbridge.contract_service.messaging.ContractEventPublisher;
 import com.skillbridge.contract_service.messaging.MilestoneEventPublisher;
 import com.skillbridge.contract_service.repository.ContractRepository;
 import com.skillbridge.contract_service.repository.MilestoneRepository;
@@ -34,15 +35,18 @@ public class ContractService {
     private final ContractRepository contractRepository;
     private final MilestoneRepository milestoneRepository;
     private final MilestoneEventPublisher milestoneEventPublisher;
+    private final ContractEventPublisher contractEventPublisher;
 
     public ContractService(
             ContractRepository contractRepository,
             MilestoneRepository milestoneRepository,
-            MilestoneEventPublisher milestoneEventPublisher
+            MilestoneEventPublisher milestoneEventPublisher,
+            ContractEventPublisher contractEventPublisher
     ) {
         this.contractRepository = contractRepository;
         this.milestoneRepository = milestoneRepository;
         this.milestoneEventPublisher = milestoneEventPublisher;
+        this.contractEventPublisher = contractEventPublisher;
     }
 
     @Transactional
@@ -87,6 +91,7 @@ public class ContractService {
                 request.milestoneAmount(),
                 request.durationDays()
         );
+        contractEventPublisher.publishContractCreated(savedContract);
 
         return toContractResponse(savedContract, List.of(savedMilestone));
     }
@@ -180,6 +185,7 @@ public class ContractService {
             contract.setStatus(ContractStatus.COMPLETED);
             contract.setCompletedAt(Instant.now());
             contractRepository.save(contract);
+            contractEventPublisher.publishContractCompleted(contract);
         }
 
         if (transitionedToCompleted) {
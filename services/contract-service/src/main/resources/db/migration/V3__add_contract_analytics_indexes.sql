@@ -0,0 +1,2 @@
+create index if not exists idx_contracts_client_created_at on contracts (client_id, created_at);
+create index if not exists idx_contracts_client_completed_at on contracts (client_id, completed_at) where completed_at is not null;
@@ -0,0 +1,106 @@
+package com.skillbridge.contract_service.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.skillbridge.common.events.ContractCompletedEvent;
+import com.skillbridge.common.events.ContractCreatedEvent;
+import com.skillbridge.common.events.EventTopics;
+import com.skillbridge.contract_service.domain.Contract;
+import com.skillbridge.contract_service.domain.ContractOutboxEvent;
+import com.skillbridge.contract_service.domain.ContractOutboxEventType;
+import com.skillbridge.contract_service.repository.ContractOutboxEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ContractEventPublisherTest {
+
+    @Mock
+    private ContractOutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private ContractEventPublisher contractEventPublisher;
+
+    @Test
+    void publishContractCreatedShouldStoreOutboxEvent() throws Exception {
+        Contract contract = contract(10L, 20L, 30L, 40L);
+        contract.setCreatedAt(Instant.parse("2026-03-01T09:00:00Z"));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"type\":\"contract-created\"}");
+
+        contractEventPublisher.publishContractCreated(contract);
+
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(objectMapper).writeValueAsString(payloadCaptor.capture());
+        assertThat(payloadCaptor.getValue()).isEqualTo(new ContractCreatedEvent(10L, 20L, 30L, 40L, contract.getCreatedAt()));
+
+        ContractOutboxEvent stored = captureStoredEvent();
+        assertThat(stored.getAggregateType()).isEqualTo("contract");
+        assertThat(stored.getAggregateId()).isEqualTo(10L);
+        assertThat(stored.getEventType()).isEqualTo(ContractOutboxEventType.CONTRACT_CREATED);
+        assertThat(stored.getExchangeName()).isEqualTo(EventTopics.EXCHANGE_NAME);
+        assertThat(stored.getRoutingKey()).isEqualTo(EventTopics.CONTRACT_CREATED_ROUTING_KEY);
+        assertThat(stored.getPayload()).isEqualTo("{\"type\":\"contract-created\"}");
+        assertThat(stored.getAttempts()).isZero();
+        assertThat(stored.getNextAttemptAt()).isNotNull();
+    }
+
+    @Test
+    void publishContractCompletedShouldStoreOutboxEvent() throws Exception {
+        Contract contract = contract(11L, 21L, 31L, 41L);
+        contract.setCompletedAt(Instant.parse("2026-03-05T16:30:00Z"));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"type\":\"contract-completed\"}");
+
+        contractEventPublisher.publishContractCompleted(contract);
+
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(objectMapper).writeValueAsString(payloadCaptor.capture());
+        assertThat(payloadCaptor.getValue()).isEqualTo(new ContractCompletedEvent(11L, 21L, 31L, 41L, contract.getCompletedAt()));
+
+        ContractOutboxEvent stored = captureStoredEvent();
+        assertThat(stored.getAggregateId()).isEqualTo(11L);
+        assertThat(stored.getEventType()).isEqualTo(ContractOutboxEventType.CONTRACT_COMPLETED);
+        assertThat(stored.getRoutingKey()).isEqualTo(EventTopics.CONTRACT_COMPLETED_ROUTING_KEY);
+    }
+
+    @Test
+    void publisherShouldSwallowSerializationFailure() throws Exception {
+        Contract contract = contract(12L, 22L, 32L, 42L);
+        when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("broken json") {});
+
+        assertThatCode(() -> contractEventPublisher.publishContractCreated(contract))
+                .doesNotThrowAnyException();
+        verify(outboxEventRepository, never()).save(any());
+    }
+
+    private ContractOutboxEvent captureStoredEvent() {
+        ArgumentCaptor<ContractOutboxEvent> captor = ArgumentCaptor.forClass(ContractOutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private Contract contract(Long contractId, Long jobId, Long clientId, Long freelancerId) {
+        Contract contract = new Contract();
+        contract.setId(contractId);
+        contract.setJobId(jobId);
+        contract.setClientId(clientId);
+        contract.setFreelancerId(freelancerId);
+        return contract;
+    }
+}
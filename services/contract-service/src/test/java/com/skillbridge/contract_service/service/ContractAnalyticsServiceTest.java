@@ -0,0 +1,112 @@
+package com.skillbridge.contract_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.skillbridge.contract_service.dto.InternalContractSeriesPointResponse;
+import com.skillbridge.contract_service.dto.InternalContractSeriesResponse;
+import com.skillbridge.contract_service.dto.InternalContractSummaryResponse;
+import com.skillbridge.contract_service.repository.ContractRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ContractAnalyticsServiceTest {
+
+    private static final Instant FROM = Instant.parse("2026-03-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-03-03T12:00:00Z");
+
+    @Mock
+    private ContractRepository contractRepository;
+
+    @InjectMocks
+    private ContractAnalyticsService contractAnalyticsService;
+
+    @Test
+    void getClientSummaryShouldMapAggregatedCounts() {
+        when(contractRepository.summarizeByClientIdCreatedBetween(7L, FROM, TO)).thenReturn(new ContractRepository.StatusCounts() {
+            @Override
+            public long getTotal() {
+                return 9;
+            }
+
+            @Override
+            public long getActive() {
+                return 4;
+            }
+
+            @Override
+            public long getCompleted() {
+                return 3;
+            }
+
+            @Override
+            public long getCancelled() {
+                return 1;
+            }
+        });
+
+        InternalContractSummaryResponse summary = contractAnalyticsService.getClientSummary(7L, FROM, TO);
+
+        assertThat(summary).isEqualTo(new InternalContractSummaryResponse(9, 4, 3, 1));
+    }
+
+    @Test
+    void getClientSeriesShouldFillEmptyBucketsBetweenAggregatedRows() {
+        Instant march2 = Instant.parse("2026-03-02T00:00:00Z");
+        when(contractRepository.countSeriesByClientId(7L, FROM, TO, "day", "UTC")).thenReturn(List.of(bucket(march2, 3, 1)));
+
+        InternalContractSeriesResponse series = contractAnalyticsService.getClientSeries(7L, FROM, TO, null, " ");
+
+        assertThat(series.groupBy()).isEqualTo("DAY");
+        assertThat(series.points()).containsExactly(
+                new InternalContractSeriesPointResponse(FROM, 0, 0),
+                new InternalContractSeriesPointResponse(march2, 3, 1),
+                new InternalContractSeriesPointResponse(Instant.parse("2026-03-03T00:00:00Z"), 0, 0)
+        );
+    }
+
+    @Test
+    void getClientSeriesShouldPassFixedOffsetsInPostgresSignConvention() {
+        when(contractRepository.countSeriesByClientId(7L, FROM, TO, "month", "UTC+03:00")).thenReturn(List.of());
+
+        InternalContractSeriesResponse series = contractAnalyticsService.getClientSeries(7L, FROM, TO, AnalyticsGroupBy.MONTH, "-03:00");
+
+        assertThat(series.points()).extracting(InternalContractSeriesPointResponse::bucketStart)
+                .containsExactly(Instant.parse("2026-02-01T03:00:00Z"), Instant.parse("2026-03-01T03:00:00Z"));
+    }
+
+    @Test
+    void getClientSeriesShouldRejectUnknownTimezone() {
+        assertThatThrownBy(() -> contractAnalyticsService.getClientSeries(7L, FROM, TO, AnalyticsGroupBy.DAY, "Mars/Olympus"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private ContractRepository.SeriesBucket bucket(Instant bucketStart, long created, long completed) {
+        return new ContractRepository.SeriesBucket() {
+            @Override
+            public Instant getBucketStart() {
+                return bucketStart;
+            }
+
+            @Override
+            public long getCreated() {
+                return created;
+            }
+
+            @Override
+            public long getCompleted() {
+                return completed;
+            }
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.skillbridge.contract_service.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +29,7 @@ import com.skillbridge.contract_service.dto.ContractResponse;
 import com.skillbridge.contract_service.dto.CreateContractFromProposalRequest;
 import com.skillbridge.contract_service.dto.CreateMilestoneRequest;
 import com.skillbridge.contract_service.dto.MilestoneResponse;
+import com.skillbridge.contract_service.messaging.ContractEventPublisher;
 import com.skillbridge.contract_service.messaging.MilestoneEventPublisher;
 import com.skillbridge.contract_service.repository.ContractRepository;
 import com.skillbridge.contract_service.repository.MilestoneRepository;
@@ -45,6 +47,9 @@ class ContractServiceTest {
     @Mock
     private MilestoneEventPublisher milestoneEventPublisher;
 
+    @Mock
+    private ContractEventPublisher contractEventPublisher;
+
     @InjectMocks
     private ContractService contractService;
 
@@ -86,6 +91,7 @@ class ContractServiceTest {
         assertThat(milestone.amount()).isEqualByComparingTo("500");
         assertThat(milestone.status()).isEqualTo("PENDING");
         assertThat(milestone.dueDate()).isEqualTo(LocalDate.now().plusDays(14));
+        verify(contractEventPublisher).publishContractCreated(any(Contract.class));
     }
 
     @Test
@@ -121,6 +127,7 @@ class ContractServiceTest {
         assertThat(response.milestones()).hasSize(1);
         assertThat(response.milestones().get(0).title()).isEqualTo("Default milestone");
         verify(milestoneRepository).save(any(Milestone.class));
+        verify(contractEventPublisher, never()).publishContractCreated(any());
     }
 
     @Test
@@ -190,5 +197,6 @@ class ContractServiceTest {
         assertThat(savedContract.getStatus()).isEqualTo(ContractStatus.COMPLETED);
         assertThat(savedContract.getCompletedAt()).isNotNull();
         verify(milestoneEventPublisher).publishMilestoneCompleted(any(Milestone.class), any(Contract.class));
+        verify(contractEventPublisher).publishContractCompleted(savedContract);
     }
 }
@@ -0,0 +1,200 @@
+package com.skillbridge.contract_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.skillbridge.contract_service.dto.InternalContractSeriesPointResponse;
+import com.skillbridge.contract_service.dto.InternalContractSeriesResponse;
+import com.skillbridge.contract_service.dto.InternalContractSummaryResponse;
+import com.skillbridge.contract_service.repository.ContractRepository;
+
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "app.jwt.secret=abcdefghijklmnopqrstuvwxyz123456",
+        "app.jwt.access-token-expiration-ms=900000",
+        "app.jwt.refresh-token-expiration-ms=604800000",
+        "app.internal.api-key=test-internal-key"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "CONTRACT_ANALYTICS_DB_URL", matches = ".+")
+class DbContractAnalyticsScalingTest {
+
+    private static final String SCHEMA = "contract_analytics_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    private static final long CLIENT_ID = 5L;
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-03-31T23:59:59Z");
+
+    @Autowired
+    private ContractAnalyticsService contractAnalyticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> withSearchPath(System.getenv("CONTRACT_ANALYTICS_DB_URL")));
+        registry.add("spring.datasource.username", () -> env("CONTRACT_ANALYTICS_DB_USERNAME", "postgres"));
+        registry.add("spring.datasource.password", () -> env("CONTRACT_ANALYTICS_DB_PASSWORD", ""));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.flyway.schemas", () -> SCHEMA);
+        registry.add("spring.flyway.create-schemas", () -> "true");
+    }
+
+    @AfterAll
+    void dropSchema() {
+        jdbcTemplate.execute("drop schema if exists " + SCHEMA + " cascade");
+    }
+
+    @Test
+    void analyticsMemoryShouldNotGrowWithContractCount() {
+        seed(1_000);
+        long smallAllocation = measureAllocatedBytes();
+        assertCountsMatchRawRows();
+
+        seed(200_000);
+        long largeAllocation = measureAllocatedBytes();
+        assertCountsMatchRawRows();
+
+        assertThat(largeAllocation)
+                .as("allocated bytes for 200k contracts vs %d bytes for 1k", smallAllocation)
+                .isLessThan(smallAllocation * 2 + 1_000_000);
+    }
+
+    @Test
+    void analyticsQueriesShouldUseClientTimeIndexes() {
+        seed(20_000);
+        seedOtherClients(300_000);
+
+        String summaryPlan = explainRepositoryQuery("summarizeByClientIdCreatedBetween");
+        String seriesPlan = explainRepositoryQuery("countSeriesByClientId");
+
+        assertThat(summaryPlan).contains("idx_contracts_client_created_at").doesNotContain("Seq Scan");
+        assertThat(seriesPlan)
+                .contains("idx_contracts_client_created_at", "idx_contracts_client_completed_at")
+                .doesNotContain("Seq Scan");
+    }
+
+    private void seed(int contractCount) {
+        assertThat(jdbcTemplate.queryForObject("select current_schema()", String.class)).isEqualTo(SCHEMA);
+        jdbcTemplate.update("delete from milestones");
+        jdbcTemplate.update("delete from contracts");
+        jdbcTemplate.update("""
+                insert into contracts (source_proposal_id, job_id, client_id, freelancer_id, status, created_at, updated_at, completed_at)
+                select n,
+                       1 + n % 500,
+                       case when n % 10 = 0 then 6 else 5 end,
+                       1000 + n,
+                       (array['CREATED', 'ACTIVE', 'COMPLETED', 'CANCELLED'])[1 + n % 4],
+                       timestamptz '2025-12-01 00:00:00+00' + (n % 150) * interval '1 day' + (n % 1440) * interval '1 minute',
+                       now(),
+                       case when n % 4 = 2
+                            then timestamptz '2025-12-01 00:00:00+00' + (n % 150 + n % 20) * interval '1 day'
+                       end
+                from generate_series(1, ?) as n
+                """, contractCount);
+        jdbcTemplate.execute("analyze contracts");
+    }
+
+    private void seedOtherClients(int contractCount) {
+        jdbcTemplate.update("""
+                insert into contracts (source_proposal_id, job_id, client_id, freelancer_id, status, created_at, updated_at, completed_at)
+                select 1000000 + n,
+                       1000 + n % 5000,
+                       100 + n % 2000,
+                       1000 + n,
+                       (array['CREATED', 'ACTIVE', 'COMPLETED', 'CANCELLED'])[1 + n % 4],
+                       timestamptz '2025-12-01 00:00:00+00' + (n % 150) * interval '1 day',
+                       now(),
+                       case when n % 4 = 2
+                            then timestamptz '2025-12-01 00:00:00+00' + (n % 150 + n % 20) * interval '1 day'
+                       end
+                from generate_series(1, ?) as n
+                """, contractCount);
+        jdbcTemplate.execute("analyze contracts");
+    }
+
+    private long measureAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long minimum = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < 5; attempt++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            contractAnalyticsService.getClientSummary(CLIENT_ID, FROM, TO);
+            contractAnalyticsService.getClientSeries(CLIENT_ID, FROM, TO, AnalyticsGroupBy.DAY, "Asia/Ho_Chi_Minh");
+            minimum = Math.min(minimum, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+        return minimum;
+    }
+
+    private void assertCountsMatchRawRows() {
+        Map<String, Object> expected = jdbcTemplate.queryForMap("""
+                select count(*) filter (where created_at between ? and ?) as created,
+                       count(*) filter (where created_at between ? and ? and status = 'COMPLETED') as completed_status,
+                       count(*) filter (where completed_at between ? and ?) as completed
+                from contracts
+                where client_id = ?
+                """, ts(FROM), ts(TO), ts(FROM), ts(TO), ts(FROM), ts(TO), CLIENT_ID);
+
+        InternalContractSummaryResponse summary = contractAnalyticsService.getClientSummary(CLIENT_ID, FROM, TO);
+        InternalContractSeriesResponse series = contractAnalyticsService.getClientSeries(CLIENT_ID, FROM, TO, AnalyticsGroupBy.WEEK, "+07:00");
+        List<InternalContractSeriesPointResponse> points = series.points();
+
+        assertThat(summary.totalContracts()).isEqualTo(((Number) expected.get("created")).longValue());
+        assertThat(summary.completedContracts()).isEqualTo(((Number) expected.get("completed_status")).longValue());
+        assertThat(points.stream().mapToLong(InternalContractSeriesPointResponse::contractsCreated).sum())
+                .isEqualTo(((Number) expected.get("created")).longValue());
+        assertThat(points.stream().mapToLong(InternalContractSeriesPointResponse::contractsCompleted).sum())
+                .isEqualTo(((Number) expected.get("completed")).longValue());
+    }
+
+    private String explainRepositoryQuery(String methodName) {
+        String sql = null;
+        for (Method method : ContractRepository.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                sql = method.getAnnotation(Query.class).value();
+            }
+        }
+        assertThat(sql).as("native query of ContractRepository.%s", methodName).isNotNull();
+        Map<String, Object> parameters = Map.of(
+                "clientId", CLIENT_ID,
+                "from", OffsetDateTime.ofInstant(FROM, ZoneOffset.UTC),
+                "to", OffsetDateTime.ofInstant(TO, ZoneOffset.UTC),
+                "unit", "day",
+                "timezone", "Asia/Ho_Chi_Minh"
+        );
+        return String.join("\n", new NamedParameterJdbcTemplate(jdbcTemplate).queryForList("explain " + sql, parameters, String.class));
+    }
+
+    private static java.sql.Timestamp ts(Instant instant) {
+        return java.sql.Timestamp.from(instant);
+    }
+
+    private static String withSearchPath(String url) {
+        return url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public";
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,92 @@
+package com.skillbridge.job_service.config;
+
+import java.util.List;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+public class JobSearchFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_FUNCTION = "job_search_match";
+    public static final String RANK_FUNCTION = "job_search_rank";
+    public static final String UNNEST_FUNCTION = "job_search_unnest";
+
+    private static final String SEARCH_VECTOR_COLUMN = "search_vector";
+    private static final String TEXT_SEARCH_CONFIG = "simple";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+        BasicType<String> stringType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.STRING);
+
+        functionContributions.getFunctionRegistry().register(
+                MATCH_FUNCTION,
+                new SearchVectorFunction(MATCH_FUNCTION, booleanType, "", " @@ to_tsquery('" + TEXT_SEARCH_CONFIG + "', ", ")")
+        );
+        functionContributions.getFunctionRegistry().register(
+                RANK_FUNCTION,
+                new SearchVectorFunction(RANK_FUNCTION, doubleType, "ts_rank(", ", to_tsquery('" + TEXT_SEARCH_CONFIG + "', ", "))")
+        );
+        functionContributions.getFunctionRegistry().registerPattern(UNNEST_FUNCTION, "unnest(?1)", stringType);
+    }
+
+    private static final class SearchVectorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private final String prefix;
+        private final String infix;
+        private final String suffix;
+
+        private SearchVectorFunction(String name, BasicType<?> returnType, String prefix, String infix, String suffix) {
+            super(
+                    name,
+                    StandardArgumentsValidators.exactly(2),
+                    StandardFunctionReturnTypeResolvers.invariant(returnType),
+                    null
+            );
+            this.prefix = prefix;
+            this.infix = infix;
+            this.suffix = suffix;
+        }
+
+        @Override
+        public void render(
+                SqlAppender sqlAppender,
+                List<? extends SqlAstNode> sqlAstArguments,
+                ReturnableType<?> returnType,
+                SqlAstTranslator<?> walker
+        ) {
+            sqlAppender.appendSql(prefix);
+            sqlAppender.appendSql(resolveSearchVectorColumn(sqlAstArguments.get(0)));
+            sqlAppender.appendSql(infix);
+            sqlAstArguments.get(1).accept(walker);
+            sqlAppender.appendSql(suffix);
+        }
+
+        private String resolveSearchVectorColumn(SqlAstNode anchor) {
+            ColumnReference columnReference = anchor instanceof Expression expression ? expression.getColumnReference() : null;
+            if (columnReference == null) {
+                throw new IllegalArgumentException("First argument of " + getName() + " must be a column of the jobs table");
+            }
+            String qualifier = columnReference.getQualifier();
+            return qualifier == null ? SEARCH_VECTOR_COLUMN : qualifier + "." + SEARCH_VECTOR_COLUMN;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.skillbridge.job_service.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.skillbridge.common.events.EventTopics;
+
+@Configuration
+public class RabbitMqConfig {
+
+    public static final String RECRUITER_ACTIVITY_QUEUE = "job-service.recruiter-activity.queue";
+    public static final String DEAD_LETTER_EXCHANGE = "job-service.dead-letter";
+    public static final String RECRUITER_ACTIVITY_DEAD_LETTER_QUEUE = "job-service.recruiter-activity.dlq";
+    public static final String VIEWER_CONTEXT_INVALIDATED_ROUTING_KEY = "job-service.viewer-context.invalidated";
+
+    @Bean
+    public TopicExchange domainEventsExchange() {
+        return new TopicExchange(EventTopics.EXCHANGE_NAME, true, false);
+    }
+
+    @Bean
+    public DirectExchange deadLetterExchange() {
+        return new DirectExchange(DEAD_LETTER_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue recruiterActivityQueue() {
+        return QueueBuilder.durable(RECRUITER_ACTIVITY_QUEUE)
+                .deadLetterExchange(DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(RECRUITER_ACTIVITY_DEAD_LETTER_QUEUE)
+                .build();
+    }
+
+    @Bean
+    public Queue recruiterActivityDeadLetterQueue() {
+        return QueueBuilder.durable(RECRUITER_ACTIVITY_DEAD_LETTER_QUEUE).build();
+    }
+
+    @Bean
+    public Binding recruiterActivityDeadLetterBinding(Queue recruiterActivityDeadLetterQueue, DirectExchange deadLetterExchange) {
+        return BindingBuilder.bind(recruiterActivityDeadLetterQueue)
+                .to(deadLetterExchange)
+                .with(RECRUITER_ACTIVITY_DEAD_LETTER_QUEUE);
+    }
+
+    @Bean
+    public Binding proposalCreatedActivityBinding(Queue recruiterActivityQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(recruiterActivityQueue)
+                .to(domainEventsExchange)
+                .with(EventTopics.PROPOSAL_CREATED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding proposalAcceptedActivityBinding(Queue recruiterActivityQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(recruiterActivityQueue)
+                .to(domainEventsExchange)
+                .with(EventTopics.PROPOSAL_ACCEPTED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding proposalsRejectedActivityBinding(Queue recruiterActivityQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(recruiterActivityQueue)
+                .to(domainEventsExchange)
+                .with(EventTopics.PROPOSALS_REJECTED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding proposalStatusChangedActivityBinding(Queue recruiterActivityQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(recruiterActivityQueue)
+                .to(domainEventsExchange)
+                .with(EventTopics.PROPOSAL_STATUS_CHANGED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding contractCreatedActivityBinding(Queue recruiterActivityQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(recruiterActivityQueue)
+                .to(domainEventsExchange)
+                .with(EventTopics.CONTRACT_CREATED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding contractCompletedActivityBinding(Queue recruiterActivityQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(recruiterActivityQueue)
+                .to(domainEventsExchange)
+                .with(EventTopics.CONTRACT_COMPLETED_ROUTING_KEY);
+    }
+
+    @Bean
+    public AnonymousQueue viewerContextInvalidationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("job-service.viewer-context."));
+    }
+
+    @Bean
+    public Binding viewerContextInvalidationBinding(AnonymousQueue viewerContextInvalidationQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(viewerContextInvalidationQueue)
+                .to(domainEventsExchange)
+                .with(VIEWER_CONTEXT_INVALIDATED_ROUTING_KEY);
+    }
+
+    @Bean
+    public MessageConverter rabbitMessageConverter() {
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+        typeMapper.setTrustedPackages("com.skillbridge.common.events");
+        converter.setJavaTypeMapper(typeMapper);
+        return converter;
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter rabbitMessageConverter) {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMessageConverter(rabbitMessageConverter);
+        return rabbitTemplate;
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory recruiterActivityListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter rabbitMessageConverter,
+            @Value("${app.reports.rollup.consumer.enabled:true}") boolean enabled,
+            @Value("${app.reports.rollup.consumer.concurrency:1}") int concurrency,
+            @Value("${app.reports.rollup.consumer.max-attempts:5}") int maxAttempts,
+            @Value("${app.reports.rollup.consumer.retry-initial-interval-ms:1000}") long retryInitialIntervalMs
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(rabbitMessageConverter);
+        factory.setAutoStartup(enabled);
+        factory.setConcurrentConsumers(Math.max(concurrency, 1));
+        factory.setMaxConcurrentConsumers(Math.max(concurrency, 1));
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(Math.max(maxAttempts, 1))
+                .backOffOptions(Math.max(retryInitialIntervalMs, 1), 2.0, 60000)
+                .recoverer(new RejectAndDontRequeueRecoverer())
+                .build());
+        return factory;
+    }
+}
@@ -1,5 +1,9 @@
 package com.skillbridge.job_service.config;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "app.search")
@@ -7,6 +11,13 @@ public class SearchProperties {
 
     private boolean enabled;
     private String provider = "db";
+    private final DbProperties db = new DbProperties();
+    private final ReindexProperties reindex = new ReindexProperties();
+    private final IndexQueueProperties indexQueue = new IndexQueueProperties();
+    private final SuggestionProperties suggestions = new SuggestionProperties();
+    private final ResultCacheProperties resultCache = new ResultCacheProperties();
+    private final ResilienceProperties resilience = new ResilienceProperties();
+    private final FacetProperties facets = new FacetProperties();
     private final OpenSearchProperties opensearch = new OpenSearchProperties();
 
     public boolean isEnabled() {
@@ -25,10 +36,388 @@ public class SearchProperties {
         this.provider = provider;
     }
 
+    public DbProperties getDb() {
+        return db;
+    }
+
+    public ReindexProperties getReindex() {
+        return reindex;
+    }
+
+    public IndexQueueProperties getIndexQueue() {
+        return indexQueue;
+    }
+
+    public SuggestionProperties getSuggestions() {
+        return suggestions;
+    }
+
+    public ResultCacheProperties getResultCache() {
+        return resultCache;
+    }
+
+    public ResilienceProperties getResilience() {
+        return resilience;
+    }
+
+    public FacetProperties getFacets() {
+        return facets;
+    }
+
     public OpenSearchProperties getOpensearch() {
         return opensearch;
     }
 
+    public static class DbProperties {
+        private boolean fullTextEnabled = true;
+        private int maxKeywordTerms = 8;
+
+        public boolean isFullTextEnabled() {
+            return fullTextEnabled;
+        }
+
+        public void setFullTextEnabled(boolean fullTextEnabled) {
+            this.fullTextEnabled = fullTextEnabled;
+        }
+
+        public int getMaxKeywordTerms() {
+            return maxKeywordTerms;
+        }
+
+        public void setMaxKeywordTerms(int maxKeywordTerms) {
+            this.maxKeywordTerms = maxKeywordTerms;
+        }
+    }
+
+    public static class ReindexProperties {
+        private int batchSize = 500;
+        private int parallelism = 2;
+        private long staleRebuildSeconds = 3600;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public long getStaleRebuildSeconds() {
+            return staleRebuildSeconds;
+        }
+
+        public void setStaleRebuildSeconds(long staleRebuildSeconds) {
+            this.staleRebuildSeconds = staleRebuildSeconds;
+        }
+    }
+
+    public static class IndexQueueProperties {
+        private boolean enabled = true;
+        private long coalesceWindowMs = 500;
+        private int batchSize = 200;
+        private long leaseSeconds = 60;
+        private long initialRetryDelaySeconds = 2;
+        private double retryMultiplier = 2.0;
+        private long maxRetryDelaySeconds = 300;
+        private long lagWarningSeconds = 60;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getCoalesceWindowMs() {
+            return coalesceWindowMs;
+        }
+
+        public void setCoalesceWindowMs(long coalesceWindowMs) {
+            this.coalesceWindowMs = coalesceWindowMs;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getLeaseSeconds() {
+            return leaseSeconds;
+        }
+
+        public void setLeaseSeconds(long leaseSeconds) {
+            this.leaseSeconds = leaseSeconds;
+        }
+
+        public long getInitialRetryDelaySeconds() {
+            return initialRetryDelaySeconds;
+        }
+
+        public void setInitialRetryDelaySeconds(long initialRetryDelaySeconds) {
+            this.initialRetryDelaySeconds = initialRetryDelaySeconds;
+        }
+
+        public double getRetryMultiplier() {
+            return retryMultiplier;
+        }
+
+        public void setRetryMultiplier(double retryMultiplier) {
+            this.retryMultiplier = retryMultiplier;
+        }
+
+        public long getMaxRetryDelaySeconds() {
+            return maxRetryDelaySeconds;
+        }
+
+        public void setMaxRetryDelaySeconds(long maxRetryDelaySeconds) {
+            this.maxRetryDelaySeconds = maxRetryDelaySeconds;
+        }
+
+        public long getLagWarningSeconds() {
+            return lagWarningSeconds;
+        }
+
+        public void setLagWarningSeconds(long lagWarningSeconds) {
+            this.lagWarningSeconds = lagWarningSeconds;
+        }
+    }
+
+    public static class SuggestionProperties {
+        private boolean enabled = true;
+        private String source = "local";
+        private int maxPrefixLength = 12;
+        private int topK = 20;
+        private int reloadBatchSize = 500;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public void setSource(String source) {
+            this.source = source;
+        }
+
+        public int getMaxPrefixLength() {
+            return maxPrefixLength;
+        }
+
+        public void setMaxPrefixLength(int maxPrefixLength) {
+            this.maxPrefixLength = maxPrefixLength;
+        }
+
+        public int getTopK() {
+            return topK;
+        }
+
+        public void setTopK(int topK) {
+            this.topK = topK;
+        }
+
+        public int getReloadBatchSize() {
+            return reloadBatchSize;
+        }
+
+        public void setReloadBatchSize(int reloadBatchSize) {
+            this.reloadBatchSize = reloadBatchSize;
+        }
+    }
+
+    public static class ResultCacheProperties {
+        private boolean enabled = true;
+        private long ttlSeconds = 30;
+        private int maxEntries = 1000;
+        private long maxWeight = 16_000_000;
+        private boolean sharedEnabled;
+        private long sharedTtlSeconds = 60;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public long getMaxWeight() {
+            return maxWeight;
+        }
+
+        public void setMaxWeight(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        public boolean isSharedEnabled() {
+            return sharedEnabled;
+        }
+
+        public void setSharedEnabled(boolean sharedEnabled) {
+            this.sharedEnabled = sharedEnabled;
+        }
+
+        public long getSharedTtlSeconds() {
+            return sharedTtlSeconds;
+        }
+
+        public void setSharedTtlSeconds(long sharedTtlSeconds) {
+            this.sharedTtlSeconds = sharedTtlSeconds;
+        }
+    }
+
+    public static class ResilienceProperties {
+        private long callTimeoutMs = 1000;
+        private int maxConcurrentCalls = 32;
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 50;
+        private long openDurationMs = 10000;
+        private int halfOpenProbes = 3;
+        private boolean hedgingEnabled;
+        private long hedgeDelayMs = 0;
+        private long minHedgeDelayMs = 50;
+
+        public long getCallTimeoutMs() {
+            return callTimeoutMs;
+        }
+
+        public void setCallTimeoutMs(long callTimeoutMs) {
+            this.callTimeoutMs = callTimeoutMs;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public double getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public long getOpenDurationMs() {
+            return openDurationMs;
+        }
+
+        public void setOpenDurationMs(long openDurationMs) {
+            this.openDurationMs = openDurationMs;
+        }
+
+        public int getHalfOpenProbes() {
+            return halfOpenProbes;
+        }
+
+        public void setHalfOpenProbes(int halfOpenProbes) {
+            this.halfOpenProbes = halfOpenProbes;
+        }
+
+        public boolean isHedgingEnabled() {
+            return hedgingEnabled;
+        }
+
+        public void setHedgingEnabled(boolean hedgingEnabled) {
+            this.hedgingEnabled = hedgingEnabled;
+        }
+
+        public long getHedgeDelayMs() {
+            return hedgeDelayMs;
+        }
+
+        public void setHedgeDelayMs(long hedgeDelayMs) {
+            this.hedgeDelayMs = hedgeDelayMs;
+        }
+
+        public long getMinHedgeDelayMs() {
+            return minHedgeDelayMs;
+        }
+
+        public void setMinHedgeDelayMs(long minHedgeDelayMs) {
+            this.minHedgeDelayMs = minHedgeDelayMs;
+        }
+    }
+
+    public static class FacetProperties {
+        private List<BigDecimal> budgetBounds = new ArrayList<>(List.of(
+                BigDecimal.valueOf(500),
+                BigDecimal.valueOf(1000),
+                BigDecimal.valueOf(2500),
+                BigDecimal.valueOf(5000)
+        ));
+        private int termLimit = 20;
+
+        public List<BigDecimal> getBudgetBounds() {
+            return budgetBounds;
+        }
+
+        public void setBudgetBounds(List<BigDecimal> budgetBounds) {
+            this.budgetBounds = budgetBounds;
+        }
+
+        public int getTermLimit() {
+            return termLimit;
+        }
+
+        public void setTermLimit(int termLimit) {
+            this.termLimit = termLimit;
+        }
+    }
+
     public static class OpenSearchProperties {
         private String url;
         private String username;
@@ -37,6 +426,16 @@ public class SearchProperties {
         private String indexCompanies = "companies";
         private int connectTimeoutMs = 3000;
         private int socketTimeoutMs = 5000;
+        private int numberOfReplicas = 1;
+        private String refreshInterval = "1s";
+        private int maxConnections = 64;
+        private int maxConnectionsPerRoute = 32;
+        private long keepAliveMs = 30000;
+        private int connectionRequestTimeoutMs = 1000;
+        private boolean compressionEnabled = true;
+        private int compressionMinBytes = 1024;
+        private int ioThreads = 2;
+        private long rebuildTargetRefreshMs = 1000;
 
         public String getUrl() {
             return url;
@@ -93,5 +492,85 @@ public class SearchProperties {
         public void setSocketTimeoutMs(int socketTimeoutMs) {
             this.socketTimeoutMs = socketTimeoutMs;
         }
+
+        public int getNumberOfReplicas() {
+            return numberOfReplicas;
+        }
+
+        public void setNumberOfReplicas(int numberOfReplicas) {
+            this.numberOfReplicas = numberOfReplicas;
+        }
+
+        public String getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(String refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public long getKeepAliveMs() {
+            return keepAliveMs;
+        }
+
+        public void setKeepAliveMs(long keepAliveMs) {
+            this.keepAliveMs = keepAliveMs;
+        }
+
+        public int getConnectionRequestTimeoutMs() {
+            return connectionRequestTimeoutMs;
+        }
+
+        public void setConnectionRequestTimeoutMs(int connectionRequestTimeoutMs) {
+            this.connectionRequestTimeoutMs = connectionRequestTimeoutMs;
+        }
+
+        public boolean isCompressionEnabled() {
+            return compressionEnabled;
+        }
+
+        public void setCompressionEnabled(boolean compressionEnabled) {
+            this.compressionEnabled = compressionEnabled;
+        }
+
+        public int getCompressionMinBytes() {
+            return compressionMinBytes;
+        }
+
+        public void setCompressionMinBytes(int compressionMinBytes) {
+            this.compressionMinBytes = compressionMinBytes;
+        }
+
+        public int getIoThreads() {
+            return ioThreads;
+        }
+
+        public void setIoThreads(int ioThreads) {
+            this.ioThreads = ioThreads;
+        }
+
+        public long getRebuildTargetRefreshMs() {
+            return rebuildTargetRefreshMs;
+        }
+
+        public void setRebuildTargetRefreshMs(long rebuildTargetRefreshMs) {
+            this.rebuildTargetRefreshMs = rebuildTargetRefreshMs;
+        }
     }
 }
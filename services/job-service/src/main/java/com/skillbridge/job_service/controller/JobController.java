@@ -30,11 +30,17 @@ import com.skillbridge.job_service.dto.CreateJobRequest;
 import com.skillbridge.job_service.dto.CompanySearchResponse;
 import com.skillbridge.job_service.dto.FollowedCompanyResponse;
 import com.skillbridge.job_service.dto.JobDashboardResponse;
+import com.skillbridge.job_service.dto.JobOwnerLookupRequest;
+import com.skillbridge.job_service.dto.JobOwnerResponse;
 import com.skillbridge.job_service.dto.JobResponse;
+import com.skillbridge.job_service.dto.JobSearchFacetResponse;
+import com.skillbridge.job_service.dto.JobSearchReindexProgressResponse;
 import com.skillbridge.job_service.dto.JobSearchReindexResponse;
 import com.skillbridge.job_service.dto.JobSearchSuggestionResponse;
 import com.skillbridge.job_service.dto.PatchJobRequest;
 import com.skillbridge.job_service.dto.PagedResult;
+import com.skillbridge.job_service.dto.SearchIndexQueueStatusResponse;
+import com.skillbridge.job_service.dto.RecipientPageResponse;
 import com.skillbridge.job_service.dto.RecruiterReportConversionResponse;
 import com.skillbridge.job_service.dto.RecruiterReportOverviewResponse;
 import com.skillbridge.job_service.dto.RecruiterReportSeriesResponse;
@@ -46,6 +52,7 @@ import com.skillbridge.job_service.service.JobSearchAdminService;
 import com.skillbridge.job_service.service.JobService;
 import com.skillbridge.job_service.service.RecruiterReportService;
 import com.skillbridge.job_service.service.ReportGroupBy;
+import com.skillbridge.job_service.service.SearchIndexQueue;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
@@ -61,17 +68,20 @@ public class JobController {
     private final JobService jobService;
     private final JobSearchAdminService jobSearchAdminService;
     private final RecruiterReportService recruiterReportService;
+    private final SearchIndexQueue searchIndexQueue;
     private final String internalApiKey;
 
     public JobController(
             JobService jobService,
             JobSearchAdminService jobSearchAdminService,
             RecruiterReportService recruiterReportService,
+            SearchIndexQueue searchIndexQueue,
             @Value("${app.internal.api-key}") String internalApiKey
     ) {
         this.jobService = jobService;
         this.jobSearchAdminService = jobSearchAdminService;
         this.recruiterReportService = recruiterReportService;
+        this.searchIndexQueue = searchIndexQueue;
         this.internalApiKey = internalApiKey;
     }
 
@@ -101,6 +111,8 @@ public class JobController {
             @RequestParam(defaultValue = "latest") String sortBy,
             @RequestParam(defaultValue = "0") @Min(0) Integer page,
             @RequestParam(defaultValue = "20") @Min(1) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             Authentication authentication
     ) {
         PagedResult<JobResponse> result = jobService.listJobs(
@@ -119,6 +131,8 @@ public class JobController {
                 sortBy,
                 page,
                 size,
+                cursor,
+                includeTotal,
                 extractOptionalPrincipal(authentication)
         );
         return ResponseEntity.ok().headers(buildPagingHeaders(result)).body(result.content());
@@ -220,6 +234,39 @@ public class JobController {
         return jobService.suggestJobs(query, limit);
     }
 
+    @GetMapping("/search/facets")
+    public JobSearchFacetResponse getJobFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) @DecimalMin("0.01") BigDecimal budgetMin,
+            @RequestParam(required = false) @DecimalMin("0.01") BigDecimal budgetMax,
+            @RequestParam(required = false) @Min(1) Long clientId,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String companyName,
+            @RequestParam(required = false) EmploymentType employmentType,
+            @RequestParam(required = false) Boolean remote,
+            @RequestParam(required = false) @Min(0) Integer experienceYearsMin,
+            @RequestParam(required = false) @Min(0) Integer experienceYearsMax,
+            @RequestParam List<String> facets
+    ) {
+        return jobService.getJobFacets(
+                keyword,
+                status,
+                budgetMin,
+                budgetMax,
+                clientId,
+                tags,
+                location,
+                companyName,
+                employmentType,
+                remote,
+                experienceYearsMin,
+                experienceYearsMax,
+                facets
+        );
+    }
+
     @GetMapping("/companies/search")
     public List<CompanySearchResponse> searchCompanies(
             @RequestParam(name = "q") String query,
@@ -322,6 +369,53 @@ public class JobController {
         return jobSearchAdminService.reindexAllCompanies();
     }
 
+    @GetMapping("/internal/search/reindex/status")
+    public JobSearchReindexProgressResponse reindexStatus(
+            @RequestHeader(name = INTERNAL_API_KEY_HEADER, required = false) String providedApiKey
+    ) {
+        requireInternalApiKey(providedApiKey);
+        return jobSearchAdminService.getReindexProgress();
+    }
+
+    @GetMapping("/internal/search/index-queue")
+    public SearchIndexQueueStatusResponse searchIndexQueueStatus(
+            @RequestHeader(name = INTERNAL_API_KEY_HEADER, required = false) String providedApiKey
+    ) {
+        requireInternalApiKey(providedApiKey);
+        return searchIndexQueue.getStatus();
+    }
+
+    @GetMapping("/internal/companies/{clientId}/followers")
+    public RecipientPageResponse listCompanyFollowerIds(
+            @PathVariable @Min(1) Long clientId,
+            @RequestParam(defaultValue = "0") Long afterUserId,
+            @RequestParam(defaultValue = "1000") int limit,
+            @RequestHeader(name = INTERNAL_API_KEY_HEADER, required = false) String providedApiKey
+    ) {
+        requireInternalApiKey(providedApiKey);
+        return jobService.listCompanyFollowerIds(clientId, afterUserId, limit);
+    }
+
+    @GetMapping("/internal/{jobId}/savers")
+    public RecipientPageResponse listJobSaverIds(
+            @PathVariable @Min(1) Long jobId,
+            @RequestParam(defaultValue = "0") Long afterUserId,
+            @RequestParam(defaultValue = "1000") int limit,
+            @RequestHeader(name = INTERNAL_API_KEY_HEADER, required = false) String providedApiKey
+    ) {
+        requireInternalApiKey(providedApiKey);
+        return jobService.listJobSaverIds(jobId, afterUserId, limit);
+    }
+
+    @PostMapping("/internal/owners")
+    public List<JobOwnerResponse> listJobOwners(
+            @Valid @RequestBody JobOwnerLookupRequest request,
+            @RequestHeader(name = INTERNAL_API_KEY_HEADER, required = false) String providedApiKey
+    ) {
+        requireInternalApiKey(providedApiKey);
+        return jobService.listJobOwners(request.jobIds());
+    }
+
     private void requireInternalApiKey(String providedApiKey) {
         if (providedApiKey == null || !providedApiKey.equals(internalApiKey)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid internal API key");
@@ -348,8 +442,13 @@ public class JobController {
         HttpHeaders headers = new HttpHeaders();
         headers.add("X-Page", String.valueOf(result.page()));
         headers.add("X-Size", String.valueOf(result.size()));
-        headers.add("X-Total-Elements", String.valueOf(result.totalElements()));
-        headers.add("X-Total-Pages", String.valueOf(result.totalPages()));
+        if (result.totalElements() >= 0) {
+            headers.add("X-Total-Elements", String.valueOf(result.totalElements()));
+            headers.add("X-Total-Pages", String.valueOf(result.totalPages()));
+        }
+        if (result.nextCursor() != null) {
+            headers.add("X-Next-Cursor", result.nextCursor());
+        }
         return headers;
     }
 }
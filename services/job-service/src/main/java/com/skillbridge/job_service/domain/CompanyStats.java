@@ -0,0 +1,211 @@
+package com.skillbridge.job_service.domain;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "company_stats")
+public class CompanyStats {
+
+    @Id
+    @Column(name = "client_id")
+    private Long clientId;
+
+    @Column(nullable = false, length = 255)
+    private String companyName;
+
+    @Column(nullable = false, length = 255)
+    private String normalizedName;
+
+    @Column(nullable = false)
+    private long totalJobs;
+
+    @Column(nullable = false)
+    private long openJobs;
+
+    @Column(nullable = false)
+    private long draftJobs;
+
+    @Column(nullable = false)
+    private long inProgressJobs;
+
+    @Column(nullable = false)
+    private long closedJobs;
+
+    @Column(nullable = false)
+    private long expiredJobs;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long savedJobs;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long followers;
+
+    private Instant latestJobCreatedAt;
+
+    private Instant latestJobUpdatedAt;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private Map<String, Long> locationCounts = new LinkedHashMap<>();
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private Map<String, Long> employmentTypeCounts = new LinkedHashMap<>();
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private Map<String, Long> tagCounts = new LinkedHashMap<>();
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void onWrite() {
+        updatedAt = Instant.now();
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(Long clientId) {
+        this.clientId = clientId;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public void setNormalizedName(String normalizedName) {
+        this.normalizedName = normalizedName;
+    }
+
+    public long getTotalJobs() {
+        return totalJobs;
+    }
+
+    public void setTotalJobs(long totalJobs) {
+        this.totalJobs = totalJobs;
+    }
+
+    public long getOpenJobs() {
+        return openJobs;
+    }
+
+    public void setOpenJobs(long openJobs) {
+        this.openJobs = openJobs;
+    }
+
+    public long getDraftJobs() {
+        return draftJobs;
+    }
+
+    public void setDraftJobs(long draftJobs) {
+        this.draftJobs = draftJobs;
+    }
+
+    public long getInProgressJobs() {
+        return inProgressJobs;
+    }
+
+    public void setInProgressJobs(long inProgressJobs) {
+        this.inProgressJobs = inProgressJobs;
+    }
+
+    public long getClosedJobs() {
+        return closedJobs;
+    }
+
+    public void setClosedJobs(long closedJobs) {
+        this.closedJobs = closedJobs;
+    }
+
+    public long getExpiredJobs() {
+        return expiredJobs;
+    }
+
+    public void setExpiredJobs(long expiredJobs) {
+        this.expiredJobs = expiredJobs;
+    }
+
+    public long getSavedJobs() {
+        return savedJobs;
+    }
+
+    public void setSavedJobs(long savedJobs) {
+        this.savedJobs = savedJobs;
+    }
+
+    public long getFollowers() {
+        return followers;
+    }
+
+    public void setFollowers(long followers) {
+        this.followers = followers;
+    }
+
+    public Instant getLatestJobCreatedAt() {
+        return latestJobCreatedAt;
+    }
+
+    public void setLatestJobCreatedAt(Instant latestJobCreatedAt) {
+        this.latestJobCreatedAt = latestJobCreatedAt;
+    }
+
+    public Instant getLatestJobUpdatedAt() {
+        return latestJobUpdatedAt;
+    }
+
+    public void setLatestJobUpdatedAt(Instant latestJobUpdatedAt) {
+        this.latestJobUpdatedAt = latestJobUpdatedAt;
+    }
+
+    public Map<String, Long> getLocationCounts() {
+        return locationCounts;
+    }
+
+    public void setLocationCounts(Map<String, Long> locationCounts) {
+        this.locationCounts = locationCounts;
+    }
+
+    public Map<String, Long> getEmploymentTypeCounts() {
+        return employmentTypeCounts;
+    }
+
+    public void setEmploymentTypeCounts(Map<String, Long> employmentTypeCounts) {
+        this.employmentTypeCounts = employmentTypeCounts;
+    }
+
+    public Map<String, Long> getTagCounts() {
+        return tagCounts;
+    }
+
+    public void setTagCounts(Map<String, Long> tagCounts) {
+        this.tagCounts = tagCounts;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -5,17 +5,16 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
-import jakarta.persistence.CollectionTable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -55,9 +54,8 @@ public class Job {
     @Column(nullable = false, precision = 12, scale = 2)
     private BigDecimal budgetMax;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "job_tags", joinColumns = @JoinColumn(name = "job_id"))
-    @Column(name = "tag", length = 50, nullable = false)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
     private List<String> tags = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,6 @@
+package com.skillbridge.job_service.domain;
+
+public enum JobOutboxEventType {
+    JOB_PUBLISHED,
+    JOB_STATUS_CHANGED
+}
@@ -0,0 +1,112 @@
+package com.skillbridge.job_service.domain;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "recruiter_activity_hourly")
+public class RecruiterActivityBucket {
+
+    @EmbeddedId
+    private RecruiterActivityBucketId id;
+
+    @Column(nullable = false)
+    private int jobsCreated;
+
+    @Column(nullable = false)
+    private int proposals;
+
+    @Column(nullable = false)
+    private int interviews;
+
+    @Column(nullable = false)
+    private int accepted;
+
+    @Column(nullable = false)
+    private int rejected;
+
+    @Column(nullable = false)
+    private int contractsCreated;
+
+    @Column(nullable = false)
+    private int contractsCompleted;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public RecruiterActivityBucketId getId() {
+        return id;
+    }
+
+    public void setId(RecruiterActivityBucketId id) {
+        this.id = id;
+    }
+
+    public int getJobsCreated() {
+        return jobsCreated;
+    }
+
+    public void setJobsCreated(int jobsCreated) {
+        this.jobsCreated = jobsCreated;
+    }
+
+    public int getProposals() {
+        return proposals;
+    }
+
+    public void setProposals(int proposals) {
+        this.proposals = proposals;
+    }
+
+    public int getInterviews() {
+        return interviews;
+    }
+
+    public void setInterviews(int interviews) {
+        this.interviews = interviews;
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(int accepted) {
+        this.accepted = accepted;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public int getContractsCreated() {
+        return contractsCreated;
+    }
+
+    public void setContractsCreated(int contractsCreated) {
+        this.contractsCreated = contractsCreated;
+    }
+
+    public int getContractsCompleted() {
+        return contractsCompleted;
+    }
+
+    public void setContractsCompleted(int contractsCompleted) {
+        this.contractsCompleted = contractsCompleted;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
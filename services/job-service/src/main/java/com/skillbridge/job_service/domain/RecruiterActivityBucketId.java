@@ -0,0 +1,50 @@
+package com.skillbridge.job_service.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class RecruiterActivityBucketId implements Serializable {
+
+    @Column(name = "client_id")
+    private Long clientId;
+
+    @Column(name = "bucket_start")
+    private Instant bucketStart;
+
+    public RecruiterActivityBucketId() {
+    }
+
+    public RecruiterActivityBucketId(Long clientId, Instant bucketStart) {
+        this.clientId = clientId;
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public Instant getBucketStart() {
+        return bucketStart;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RecruiterActivityBucketId that)) {
+            return false;
+        }
+        return Objects.equals(clientId, that.clientId) && Objects.equals(bucketStart, that.bucketStart);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clientId, bucketStart);
+    }
+}
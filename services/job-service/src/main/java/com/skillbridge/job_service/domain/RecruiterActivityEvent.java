@@ -0,0 +1,36 @@
+package com.skillbridge.job_service.domain;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "recruiter_activity_events")
+public class RecruiterActivityEvent {
+
+    @Id
+    @Column(name = "event_key", length = 128)
+    private String eventKey;
+
+    @Column(nullable = false)
+    private Instant processedAt;
+
+    public String getEventKey() {
+        return eventKey;
+    }
+
+    public void setEventKey(String eventKey) {
+        this.eventKey = eventKey;
+    }
+
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(Instant processedAt) {
+        this.processedAt = processedAt;
+    }
+}
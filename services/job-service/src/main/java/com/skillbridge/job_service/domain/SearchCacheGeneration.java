@@ -0,0 +1,34 @@
+package com.skillbridge.job_service.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "search_cache_generation")
+public class SearchCacheGeneration {
+
+    @Id
+    @Column(name = "index_name", length = 32)
+    private String indexName;
+
+    @Column(nullable = false)
+    private long generation;
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public void setIndexName(String indexName) {
+        this.indexName = indexName;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(long generation) {
+        this.generation = generation;
+    }
+}
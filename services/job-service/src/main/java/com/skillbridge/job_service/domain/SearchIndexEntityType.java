@@ -0,0 +1,6 @@
+package com.skillbridge.job_service.domain;
+
+public enum SearchIndexEntityType {
+    JOB,
+    COMPANY
+}
@@ -0,0 +1,11 @@
+package com.skillbridge.job_service.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record JobOwnerLookupRequest(
+        @NotEmpty @Size(max = 1000) List<Long> jobIds
+) {
+}
@@ -0,0 +1,7 @@
+package com.skillbridge.job_service.dto;
+
+public record JobOwnerResponse(
+        Long jobId,
+        Long clientId
+) {
+}
@@ -0,0 +1,10 @@
+package com.skillbridge.job_service.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record JobSearchFacetResponse(
+        long totalElements,
+        Map<String, List<FacetCount>> facets
+) {
+}
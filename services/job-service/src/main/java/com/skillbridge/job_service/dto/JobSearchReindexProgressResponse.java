@@ -0,0 +1,17 @@
+package com.skillbridge.job_service.dto;
+
+import java.time.Instant;
+
+public record JobSearchReindexProgressResponse(
+        String target,
+        String state,
+        long processedCount,
+        long indexedCount,
+        long failedCount,
+        int batchSize,
+        int parallelism,
+        Instant startedAt,
+        Instant finishedAt,
+        double documentsPerSecond
+) {
+}
@@ -1,12 +1,31 @@
 package com.skillbridge.job_service.dto;
 
 import java.util.List;
+import java.util.Map;
 
 public record PagedResult<T>(
         List<T> content,
         long totalElements,
         int totalPages,
         int page,
-        int size
+        int size,
+        String nextCursor,
+        Map<String, List<FacetCount>> facets
 ) {
+
+    public PagedResult {
+        facets = facets == null ? Map.of() : facets;
+    }
+
+    public PagedResult(List<T> content, long totalElements, int totalPages, int page, int size) {
+        this(content, totalElements, totalPages, page, size, null);
+    }
+
+    public PagedResult(List<T> content, long totalElements, int totalPages, int page, int size, String nextCursor) {
+        this(content, totalElements, totalPages, page, size, nextCursor, Map.of());
+    }
+
+    public PagedResult<T> withFacets(Map<String, List<FacetCount>> facets) {
+        return new PagedResult<>(content, totalElements, totalPages, page, size, nextCursor, facets);
+    }
 }
@@ -0,0 +1,9 @@
+package com.skillbridge.job_service.dto;
+
+import java.util.List;
+
+public record RecipientPageResponse(
+        List<Long> userIds,
+        Long nextAfterUserId
+) {
+}
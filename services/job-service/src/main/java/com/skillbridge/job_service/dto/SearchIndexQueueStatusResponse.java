@@ -0,0 +1,17 @@
+package com.skillbridge.job_service.dto;
+
+import java.time.Instant;
+
+public record SearchIndexQueueStatusResponse(
+        boolean active,
+        long pendingCount,
+        long failingCount,
+        Instant oldestPendingAt,
+        long lagSeconds,
+        boolean lagging,
+        Instant lastFlushAt,
+        int lastFlushSize,
+        long flushedCount,
+        long failedCount
+) {
+}
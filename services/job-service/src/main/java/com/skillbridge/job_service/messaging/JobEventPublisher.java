@@ -0,0 +1,86 @@
+package com.skillbridge.job_service.messaging;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.skillbridge.common.events.EventTopics;
+import com.skillbridge.common.events.JobPublishedEvent;
+import com.skillbridge.common.events.JobStatusChangedEvent;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.JobOutboxEvent;
+import com.skillbridge.job_service.domain.JobOutboxEventType;
+import com.skillbridge.job_service.repository.JobOutboxEventRepository;
+
+@Component
+public class JobEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(JobEventPublisher.class);
+    private static final String JOB_AGGREGATE_TYPE = "job";
+
+    private final JobOutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public JobEventPublisher(
+            JobOutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publishJobPublished(Job job, String companyName) {
+        JobPublishedEvent event = new JobPublishedEvent(
+                UUID.randomUUID().toString(),
+                job.getId(),
+                job.getClientId(),
+                companyName,
+                job.getTitle(),
+                Instant.now()
+        );
+        enqueue(
+                job.getId(),
+                JobOutboxEventType.JOB_PUBLISHED,
+                EventTopics.JOB_PUBLISHED_ROUTING_KEY,
+                event
+        );
+    }
+
+    public void publishJobStatusChanged(Job job) {
+        JobStatusChangedEvent event = new JobStatusChangedEvent(
+                UUID.randomUUID().toString(),
+                job.getId(),
+                job.getClientId(),
+                job.getStatus().name(),
+                Instant.now()
+        );
+        enqueue(
+                job.getId(),
+                JobOutboxEventType.JOB_STATUS_CHANGED,
+                EventTopics.JOB_STATUS_CHANGED_ROUTING_KEY,
+                event
+        );
+    }
+
+    private void enqueue(Long jobId, JobOutboxEventType eventType, String routingKey, Object payload) {
+        try {
+            JobOutboxEvent event = new JobOutboxEvent();
+            event.setAggregateType(JOB_AGGREGATE_TYPE);
+            event.setAggregateId(jobId);
+            event.setEventType(eventType);
+            event.setExchangeName(EventTopics.EXCHANGE_NAME);
+            event.setRoutingKey(routingKey);
+            event.setPayload(objectMapper.writeValueAsString(payload));
+            event.setAttempts(0);
+            event.setNextAttemptAt(Instant.now());
+            outboxEventRepository.save(event);
+        } catch (JsonProcessingException ex) {
+            log.warn("Failed to serialize outbox event type={} aggregateId={}: {}", eventType, jobId, ex.getMessage());
+        }
+    }
+}
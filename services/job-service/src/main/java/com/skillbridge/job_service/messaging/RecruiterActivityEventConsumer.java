@@ -0,0 +1,134 @@
+package com.skillbridge.job_service.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.skillbridge.common.events.ContractCompletedEvent;
+import com.skillbridge.common.events.ContractCreatedEvent;
+import com.skillbridge.common.events.ProposalAcceptedEvent;
+import com.skillbridge.common.events.ProposalCreatedEvent;
+import com.skillbridge.common.events.ProposalStatusChangedEvent;
+import com.skillbridge.common.events.ProposalsRejectedEvent;
+import com.skillbridge.job_service.config.RabbitMqConfig;
+import com.skillbridge.job_service.service.RecruiterActivityMetric;
+import com.skillbridge.job_service.service.RecruiterActivityRollupService;
+
+@Component
+@RabbitListener(
+        queues = RabbitMqConfig.RECRUITER_ACTIVITY_QUEUE,
+        containerFactory = "recruiterActivityListenerContainerFactory"
+)
+public class RecruiterActivityEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(RecruiterActivityEventConsumer.class);
+
+    private final RecruiterActivityRollupService rollupService;
+
+    public RecruiterActivityEventConsumer(RecruiterActivityRollupService rollupService) {
+        this.rollupService = rollupService;
+    }
+
+    @RabbitHandler
+    public void handleProposalCreated(ProposalCreatedEvent event) {
+        if (event == null || event.proposalId() == null) {
+            log.warn("Received empty ProposalCreatedEvent");
+            return;
+        }
+        rollupService.record(
+                "proposal-created:" + event.proposalId(),
+                event.clientId(),
+                event.createdAt(),
+                RecruiterActivityMetric.PROPOSALS,
+                1
+        );
+    }
+
+    @RabbitHandler
+    public void handleProposalAccepted(ProposalAcceptedEvent event) {
+        if (event == null || event.proposalId() == null) {
+            log.warn("Received empty ProposalAcceptedEvent");
+            return;
+        }
+        rollupService.record(
+                "proposal-accepted:" + event.proposalId(),
+                event.clientId(),
+                event.acceptedAt(),
+                RecruiterActivityMetric.ACCEPTED,
+                1
+        );
+    }
+
+    @RabbitHandler
+    public void handleProposalsRejected(ProposalsRejectedEvent event) {
+        if (event == null || event.acceptedProposalId() == null || event.recipients() == null || event.recipients().isEmpty()) {
+            log.warn("Received empty ProposalsRejectedEvent");
+            return;
+        }
+        rollupService.record(
+                "proposals-rejected:" + event.acceptedProposalId() + ":" + event.recipients().get(0).freelancerId(),
+                event.clientId(),
+                event.rejectedAt(),
+                RecruiterActivityMetric.REJECTED,
+                event.recipients().size()
+        );
+    }
+
+    @RabbitHandler
+    public void handleProposalStatusChanged(ProposalStatusChangedEvent event) {
+        if (event == null || event.proposalId() == null || event.status() == null) {
+            log.warn("Received empty ProposalStatusChangedEvent");
+            return;
+        }
+        switch (event.status()) {
+            case "INTERVIEW_SCHEDULED" -> rollupService.record(
+                    "proposal-interview:" + event.proposalId(),
+                    event.clientId(),
+                    event.changedAt(),
+                    RecruiterActivityMetric.INTERVIEWS,
+                    1
+            );
+            case "REJECTED" -> rollupService.record(
+                    "proposal-rejected:" + event.proposalId(),
+                    event.clientId(),
+                    event.changedAt(),
+                    RecruiterActivityMetric.REJECTED,
+                    1
+            );
+            default -> {
+            }
+        }
+    }
+
+    @RabbitHandler
+    public void handleContractCreated(ContractCreatedEvent event) {
+        if (event == null || event.contractId() == null) {
+            log.warn("Received empty ContractCreatedEvent");
+            return;
+        }
+        rollupService.record(
+                "contract-created:" + event.contractId(),
+                event.clientId(),
+                event.createdAt(),
+                RecruiterActivityMetric.CONTRACTS_CREATED,
+                1
+        );
+    }
+
+    @RabbitHandler
+    public void handleContractCompleted(ContractCompletedEvent event) {
+        if (event == null || event.contractId() == null) {
+            log.warn("Received empty ContractCompletedEvent");
+            return;
+        }
+        rollupService.record(
+                "contract-completed:" + event.contractId(),
+                event.clientId(),
+                event.completedAt(),
+                RecruiterActivityMetric.CONTRACTS_COMPLETED,
+                1
+        );
+    }
+}
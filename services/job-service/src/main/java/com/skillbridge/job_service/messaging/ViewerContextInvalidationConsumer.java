@@ -0,0 +1,24 @@
+package com.skillbridge.job_service.messaging;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.skillbridge.job_service.service.ViewerContextService;
+
+@Component
+public class ViewerContextInvalidationConsumer {
+
+    private final ViewerContextService viewerContextService;
+
+    public ViewerContextInvalidationConsumer(ViewerContextService viewerContextService) {
+        this.viewerContextService = viewerContextService;
+    }
+
+    @RabbitListener(
+            queues = "#{viewerContextInvalidationQueue.name}",
+            autoStartup = "${app.viewer-context.cache.broadcast-enabled:true}"
+    )
+    public void handleInvalidation(Long userId) {
+        viewerContextService.evictLocally(userId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.skillbridge.job_service.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.skillbridge.common.events.EventTopics;
+import com.skillbridge.job_service.config.RabbitMqConfig;
+
+@Component
+public class ViewerContextInvalidationPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewerContextInvalidationPublisher.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final boolean enabled;
+
+    public ViewerContextInvalidationPublisher(
+            RabbitTemplate rabbitTemplate,
+            @Value("${app.viewer-context.cache.broadcast-enabled:true}") boolean enabled
+    ) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.enabled = enabled;
+    }
+
+    public void publish(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        try {
+            rabbitTemplate.convertAndSend(EventTopics.EXCHANGE_NAME, RabbitMqConfig.VIEWER_CONTEXT_INVALIDATED_ROUTING_KEY, userId);
+        } catch (AmqpException ex) {
+            log.warn("Could not broadcast viewer context invalidation for userId={}: {}", userId, ex.getMessage());
+        }
+    }
+}
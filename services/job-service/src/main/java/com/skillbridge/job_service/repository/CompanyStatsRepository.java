@@ -0,0 +1,131 @@
+package com.skillbridge.job_service.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.skillbridge.job_service.domain.CompanyStats;
+
+import jakarta.persistence.LockModeType;
+
+public interface CompanyStatsRepository extends JpaRepository<CompanyStats, Long> {
+
+    @Modifying
+    @Query(value = """
+            insert into company_stats (
+                client_id, company_name, normalized_name, total_jobs, open_jobs,
+                location_counts, employment_type_counts, tag_counts, updated_at
+            )
+            values (:clientId, :companyName, :normalizedName, 0, 0, '{}'::jsonb, '{}'::jsonb, '{}'::jsonb, :now)
+            on conflict (client_id) do nothing
+            """, nativeQuery = true)
+    void insertIfAbsent(
+            @Param("clientId") Long clientId,
+            @Param("companyName") String companyName,
+            @Param("normalizedName") String normalizedName,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query(value = """
+            update company_stats
+            set saved_jobs = greatest(saved_jobs + :delta, 0), updated_at = :now
+            where client_id = :clientId
+            """, nativeQuery = true)
+    int adjustSavedJobs(@Param("clientId") Long clientId, @Param("delta") long delta, @Param("now") Instant now);
+
+    @Modifying
+    @Query(value = """
+            update company_stats
+            set followers = greatest(followers + :delta, 0), updated_at = :now
+            where client_id = :clientId
+            """, nativeQuery = true)
+    int adjustFollowers(@Param("clientId") Long clientId, @Param("delta") long delta, @Param("now") Instant now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select stats from CompanyStats stats where stats.clientId = :clientId")
+    Optional<CompanyStats> findByIdForUpdate(@Param("clientId") Long clientId);
+
+    @Query("select stats from CompanyStats stats where stats.clientId > :afterClientId and stats.totalJobs > 0 order by stats.clientId")
+    List<CompanyStats> findActiveAfter(@Param("afterClientId") Long afterClientId, Limit limit);
+
+    @Query("""
+            select stats from CompanyStats stats
+            where stats.totalJobs > 0 and stats.normalizedName like :prefixPattern escape '\\'
+            order by case when stats.normalizedName = :query then 0 else 1 end,
+                     stats.openJobs desc, stats.latestJobUpdatedAt desc nulls last, stats.clientId desc
+            """)
+    List<CompanyStats> searchByNamePrefix(
+            @Param("query") String query,
+            @Param("prefixPattern") String prefixPattern,
+            Limit limit
+    );
+
+    @Query(value = """
+            select stats.* from company_stats stats
+            where stats.total_jobs > 0
+              and (stats.normalized_name like :containsPattern escape '\\' or stats.normalized_name % :query)
+            order by case
+                         when stats.normalized_name = :query then 0
+                         when stats.normalized_name like :prefixPattern escape '\\' then 1
+                         when stats.normalized_name like :containsPattern escape '\\' then 2
+                         else 3
+                     end,
+                     similarity(stats.normalized_name, :query) desc,
+                     stats.open_jobs desc,
+                     stats.latest_job_updated_at desc nulls last,
+                     stats.client_id desc
+            limit :limit
+            """, nativeQuery = true)
+    List<CompanyStats> searchByNameTrigram(
+            @Param("query") String query,
+            @Param("prefixPattern") String prefixPattern,
+            @Param("containsPattern") String containsPattern,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            select location as "term", count(*) as "jobCount"
+            from jobs
+            where client_id = :clientId and location is not null and location <> ''
+            group by location
+            order by count(*) desc, location
+            limit :limit
+            """, nativeQuery = true)
+    List<TermCount> countLocationsByClientId(@Param("clientId") Long clientId, @Param("limit") int limit);
+
+    @Query(value = """
+            select employment_type as "term", count(*) as "jobCount"
+            from jobs
+            where client_id = :clientId
+            group by employment_type
+            order by count(*) desc, employment_type
+            limit :limit
+            """, nativeQuery = true)
+    List<TermCount> countEmploymentTypesByClientId(@Param("clientId") Long clientId, @Param("limit") int limit);
+
+    @Query(value = """
+            select tag as "term", count(distinct jobs.id) as "jobCount"
+            from jobs
+            cross join unnest(jobs.tags) as tag
+            where jobs.client_id = :clientId and tag <> ''
+            group by tag
+            order by count(distinct jobs.id) desc, tag
+            limit :limit
+            """, nativeQuery = true)
+    List<TermCount> countTagsByClientId(@Param("clientId") Long clientId, @Param("limit") int limit);
+
+    interface TermCount {
+
+        String getTerm();
+
+        long getJobCount();
+    }
+}
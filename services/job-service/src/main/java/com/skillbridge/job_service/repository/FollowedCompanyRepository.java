@@ -3,6 +3,7 @@ package com.skillbridge.job_service.repository;
 import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,13 +17,16 @@ public interface FollowedCompanyRepository extends JpaRepository<FollowedCompany
 
     Page<FollowedCompany> findByFollowerUserIdOrderByCreatedAtDesc(Long followerUserId, Pageable pageable);
 
-    void deleteByFollowerUserIdAndClientId(Long followerUserId, Long clientId);
+    long deleteByFollowerUserIdAndClientId(Long followerUserId, Long clientId);
 
     long countByClientId(Long clientId);
 
-    @Query("select company.followerUserId from FollowedCompany company where company.clientId = :clientId")
-    List<Long> findFollowerUserIdsByClientId(Long clientId);
+    @Query("select company.followerUserId from FollowedCompany company where company.clientId = :clientId and company.followerUserId > :afterUserId order by company.followerUserId")
+    List<Long> findFollowerUserIdsAfter(Long clientId, Long afterUserId, Limit limit);
 
     @Query("select company.clientId from FollowedCompany company where company.followerUserId = :userId and company.clientId in :clientIds")
     List<Long> findFollowedClientIds(Long userId, Collection<Long> clientIds);
+
+    @Query("select company.clientId from FollowedCompany company where company.followerUserId = :userId order by company.clientId")
+    List<Long> findClientIdsByFollowerUserId(Long userId, Limit limit);
 }
@@ -0,0 +1,27 @@
+package com.skillbridge.job_service.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.skillbridge.job_service.domain.JobOutboxEvent;
+
+import jakarta.persistence.LockModeType;
+
+public interface JobOutboxEventRepository extends JpaRepository<JobOutboxEvent, Long> {
+
+    List<JobOutboxEvent> findByPublishedAtIsNullAndNextAttemptAtLessThanEqualOrderByCreatedAtAsc(
+            Instant now,
+            Pageable pageable
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select event from JobOutboxEvent event where event.id = :id")
+    Optional<JobOutboxEvent> findByIdForUpdate(@Param("id") Long id);
+}
@@ -1,7 +1,12 @@
 package com.skillbridge.job_service.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import com.skillbridge.job_service.domain.Job;
 import com.skillbridge.job_service.domain.JobStatus;
@@ -10,7 +15,29 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
 
     java.util.List<Job> findByClientIdOrderByUpdatedAtDesc(Long clientId);
 
-    long countByClientId(Long clientId);
+    @Query("select job.status as status, count(job) as total from Job job where job.clientId = :clientId group by job.status")
+    List<StatusCount> countByClientIdGroupByStatus(Long clientId);
+
+    @Query("select job.id from Job job where job.id > :afterId order by job.id")
+    List<Long> findIdsAfter(Long afterId, Limit limit);
+
+    @Query("select job.id from Job job where job.status = :status and job.id > :afterId order by job.id")
+    List<Long> findIdsByStatusAfter(JobStatus status, Long afterId, Limit limit);
+
+    List<Job> findByIdIn(Collection<Long> ids);
+
+    @Query("select job.id as jobId, job.clientId as clientId from Job job where job.id in :ids")
+    List<JobOwner> findOwnersByIdIn(Collection<Long> ids);
+
+    interface StatusCount {
+        JobStatus getStatus();
+
+        long getTotal();
+    }
+
+    interface JobOwner {
+        Long getJobId();
 
-    long countByClientIdAndStatus(Long clientId, JobStatus status);
+        Long getClientId();
+    }
 }
@@ -0,0 +1,27 @@
+package com.skillbridge.job_service.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.job_service.domain.RecruiterActivityEvent;
+
+public interface RecruiterActivityEventRepository extends JpaRepository<RecruiterActivityEvent, String> {
+
+    @Modifying
+    @Query(value = """
+            insert into recruiter_activity_events (event_key, processed_at)
+            values (:eventKey, :now)
+            on conflict (event_key) do nothing
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("eventKey") String eventKey, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RecruiterActivityEvent event where event.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,90 @@
+package com.skillbridge.job_service.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.skillbridge.job_service.domain.RecruiterActivityBucket;
+import com.skillbridge.job_service.domain.RecruiterActivityBucketId;
+
+public interface RecruiterActivityRepository extends JpaRepository<RecruiterActivityBucket, RecruiterActivityBucketId> {
+
+    @Modifying
+    @Query(value = """
+            insert into recruiter_activity_hourly (
+                client_id, bucket_start, jobs_created, proposals, interviews, accepted, rejected,
+                contracts_created, contracts_completed, updated_at
+            )
+            values (
+                :clientId, :bucketStart, :jobsCreated, :proposals, :interviews, :accepted, :rejected,
+                :contractsCreated, :contractsCompleted, :now
+            )
+            on conflict (client_id, bucket_start) do update
+            set jobs_created = recruiter_activity_hourly.jobs_created + excluded.jobs_created,
+                proposals = recruiter_activity_hourly.proposals + excluded.proposals,
+                interviews = recruiter_activity_hourly.interviews + excluded.interviews,
+                accepted = recruiter_activity_hourly.accepted + excluded.accepted,
+                rejected = recruiter_activity_hourly.rejected + excluded.rejected,
+                contracts_created = recruiter_activity_hourly.contracts_created + excluded.contracts_created,
+                contracts_completed = recruiter_activity_hourly.contracts_completed + excluded.contracts_completed,
+                updated_at = excluded.updated_at
+            """, nativeQuery = true)
+    void increment(
+            @Param("clientId") Long clientId,
+            @Param("bucketStart") Instant bucketStart,
+            @Param("jobsCreated") int jobsCreated,
+            @Param("proposals") int proposals,
+            @Param("interviews") int interviews,
+            @Param("accepted") int accepted,
+            @Param("rejected") int rejected,
+            @Param("contractsCreated") int contractsCreated,
+            @Param("contractsCompleted") int contractsCompleted,
+            @Param("now") Instant now
+    );
+
+    @Query(value = """
+            select date_trunc(:unit, bucket_start at time zone :timezone) at time zone :timezone as "bucketStart",
+                   sum(jobs_created) as "jobsCreated",
+                   sum(proposals) as "proposals",
+                   sum(interviews) as "interviews",
+                   sum(accepted) as "accepted",
+                   sum(rejected) as "rejected",
+                   sum(contracts_created) as "contractsCreated",
+                   sum(contracts_completed) as "contractsCompleted"
+            from recruiter_activity_hourly
+            where client_id = :clientId
+              and bucket_start between :from and :to
+            group by 1
+            order by 1
+            """, nativeQuery = true)
+    List<SeriesBucket> sumSeriesByClientId(
+            @Param("clientId") Long clientId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("unit") String unit,
+            @Param("timezone") String timezone
+    );
+
+    interface SeriesBucket {
+
+        Instant getBucketStart();
+
+        long getJobsCreated();
+
+        long getProposals();
+
+        long getInterviews();
+
+        long getAccepted();
+
+        long getRejected();
+
+        long getContractsCreated();
+
+        long getContractsCompleted();
+    }
+}
@@ -2,7 +2,9 @@ package com.skillbridge.job_service.repository;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,13 +18,16 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
 
     Page<SavedJob> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
-    void deleteByUserIdAndJobId(Long userId, Long jobId);
+    Optional<SavedJob> findByUserIdAndJobId(Long userId, Long jobId);
 
     long countByJobOwnerClientId(Long jobOwnerClientId);
 
-    @Query("select savedJob.userId from SavedJob savedJob where savedJob.jobId = :jobId")
-    List<Long> findUserIdsByJobId(Long jobId);
+    @Query("select savedJob.userId from SavedJob savedJob where savedJob.jobId = :jobId and savedJob.userId > :afterUserId order by savedJob.userId")
+    List<Long> findUserIdsByJobIdAfter(Long jobId, Long afterUserId, Limit limit);
 
     @Query("select savedJob.jobId from SavedJob savedJob where savedJob.userId = :userId and savedJob.jobId in :jobIds")
     List<Long> findSavedJobIds(Long userId, Collection<Long> jobIds);
+
+    @Query("select savedJob.jobId from SavedJob savedJob where savedJob.userId = :userId order by savedJob.jobId")
+    List<Long> findJobIdsByUserId(Long userId, Limit limit);
 }
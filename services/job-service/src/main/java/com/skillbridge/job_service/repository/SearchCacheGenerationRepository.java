@@ -0,0 +1,22 @@
+package com.skillbridge.job_service.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.job_service.domain.SearchCacheGeneration;
+
+public interface SearchCacheGenerationRepository extends JpaRepository<SearchCacheGeneration, String> {
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+            insert into search_cache_generation (index_name, generation)
+            values (:indexName, 1)
+            on conflict (index_name) do update
+            set generation = search_cache_generation.generation + 1
+            returning generation
+            """, nativeQuery = true)
+    long increment(@Param("indexName") String indexName);
+}
@@ -0,0 +1,51 @@
+package com.skillbridge.job_service.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.skillbridge.job_service.domain.SearchIndexOutboxEntry;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface SearchIndexOutboxRepository extends JpaRepository<SearchIndexOutboxEntry, Long> {
+
+    @Modifying
+    @Query(value = """
+            insert into search_index_outbox (entity_type, entity_id, attempts, next_attempt_at, requested_at, created_at, updated_at)
+            values (:entityType, :entityId, 0, :nextAttemptAt, :requestedAt, :requestedAt, :requestedAt)
+            on conflict (entity_type, entity_id) do update
+            set requested_at = excluded.requested_at,
+                next_attempt_at = least(search_index_outbox.next_attempt_at, excluded.next_attempt_at),
+                updated_at = excluded.updated_at
+            """, nativeQuery = true)
+    void upsert(
+            @Param("entityType") String entityType,
+            @Param("entityId") Long entityId,
+            @Param("requestedAt") Instant requestedAt,
+            @Param("nextAttemptAt") Instant nextAttemptAt
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select entry from SearchIndexOutboxEntry entry where entry.nextAttemptAt <= :now order by entry.nextAttemptAt")
+    List<SearchIndexOutboxEntry> findDueForUpdate(@Param("now") Instant now, Limit limit);
+
+    @Modifying
+    @Query("delete from SearchIndexOutboxEntry entry where entry.id in :ids and entry.requestedAt <= :claimedAt")
+    int deleteFlushed(@Param("ids") Collection<Long> ids, @Param("claimedAt") Instant claimedAt);
+
+    long countByAttemptsGreaterThan(int attempts);
+
+    @Query("select min(entry.createdAt) from SearchIndexOutboxEntry entry")
+    Instant findOldestCreatedAt();
+}
@@ -0,0 +1,49 @@
+package com.skillbridge.job_service.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.job_service.domain.SearchResultCacheEntry;
+
+public interface SearchResultCacheRepository extends JpaRepository<SearchResultCacheEntry, String> {
+
+    @Query("""
+            select entry.payload from SearchResultCacheEntry entry
+            where entry.cacheKey = :cacheKey and entry.generation = :generation and entry.expiresAt > :now
+            """)
+    Optional<String> findPayload(
+            @Param("cacheKey") String cacheKey,
+            @Param("generation") long generation,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+            insert into search_result_cache (cache_key, generation, payload, expires_at)
+            values (:cacheKey, :generation, :payload, :expiresAt)
+            on conflict (cache_key) do update
+            set generation = excluded.generation,
+                payload = excluded.payload,
+                expires_at = excluded.expires_at
+            where search_result_cache.generation <= excluded.generation
+            """, nativeQuery = true)
+    void upsert(
+            @Param("cacheKey") String cacheKey,
+            @Param("generation") long generation,
+            @Param("payload") String payload,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    @Modifying
+    @Transactional
+    @Query("delete from SearchResultCacheEntry entry where entry.expiresAt <= :now or entry.generation < :generation")
+    int deleteStale(@Param("now") Instant now, @Param("generation") long generation);
+}
@@ -0,0 +1,282 @@
+package com.skillbridge.job_service.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.job_service.domain.CompanyStats;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.JobStatus;
+import com.skillbridge.job_service.repository.CompanyStatsRepository;
+
+@Service
+public class CompanyStatsService {
+
+    static final int LOCATION_SKETCH_CAPACITY = 32;
+    static final int EMPLOYMENT_TYPE_SKETCH_CAPACITY = 16;
+    static final int TAG_SKETCH_CAPACITY = 64;
+    private static final int TOP_LOCATIONS = 8;
+    private static final int TOP_EMPLOYMENT_TYPES = 8;
+    private static final int TOP_TAGS = 12;
+    private static final int TRIGRAM_MIN_QUERY_LENGTH = 3;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final CompanyStatsRepository companyStatsRepository;
+
+    public CompanyStatsService(CompanyStatsRepository companyStatsRepository) {
+        this.companyStatsRepository = companyStatsRepository;
+    }
+
+    @Transactional
+    public void applyJobChange(JobFacts before, Job after) {
+        Long clientId = after.getClientId();
+        if (clientId == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        String companyName = resolveCompanyName(after);
+        companyStatsRepository.insertIfAbsent(clientId, companyName, normalizeName(companyName), now);
+        CompanyStats stats = companyStatsRepository.findByIdForUpdate(clientId)
+                .orElseThrow(() -> new IllegalStateException("Company stats row missing for clientId=" + clientId));
+        applyDelta(stats, before, JobFacts.of(after), companyName, after.getCreatedAt(), now);
+    }
+
+    @Transactional
+    public void recordSavedJobChange(Long clientId, long delta) {
+        if (clientId != null && delta != 0) {
+            companyStatsRepository.adjustSavedJobs(clientId, delta, Instant.now());
+        }
+    }
+
+    @Transactional
+    public void recordFollowerChange(Long clientId, long delta) {
+        if (clientId != null && delta != 0) {
+            companyStatsRepository.adjustFollowers(clientId, delta, Instant.now());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CompanyStats> findStats(Long clientId) {
+        return companyStatsRepository.findById(clientId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CompanySearchResultItem> findCompany(Long clientId) {
+        return companyStatsRepository.findById(clientId)
+                .filter(stats -> stats.getTotalJobs() > 0)
+                .map(this::toSearchResult);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CompanySearchResultItem> findCompanies(Collection<Long> clientIds) {
+        return companyStatsRepository.findAllById(clientIds).stream()
+                .filter(stats -> stats.getTotalJobs() > 0)
+                .map(this::toSearchResult)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<CompanySearchResultItem> findCompaniesAfter(Long afterClientId, int limit) {
+        return companyStatsRepository.findActiveAfter(afterClientId, Limit.of(limit)).stream()
+                .map(this::toSearchResult)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<CompanySearchResultItem> searchByName(String query, int limit) {
+        String normalizedQuery = normalizeName(query);
+        if (normalizedQuery == null || limit < 1) {
+            return List.of();
+        }
+        String escaped = normalizedQuery
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        List<CompanyStats> matches = normalizedQuery.length() < TRIGRAM_MIN_QUERY_LENGTH
+                ? companyStatsRepository.searchByNamePrefix(normalizedQuery, escaped + "%", Limit.of(limit))
+                : companyStatsRepository.searchByNameTrigram(normalizedQuery, escaped + "%", "%" + escaped + "%", limit);
+        return matches.stream()
+                .map(this::toSearchResult)
+                .toList();
+    }
+
+    void applyDelta(CompanyStats stats, JobFacts before, JobFacts after, String companyName, Instant createdAt, Instant now) {
+        if (before == null) {
+            stats.setTotalJobs(stats.getTotalJobs() + 1);
+        }
+        if (before == null || before.status() != after.status()) {
+            adjustStatusCount(stats, before == null ? null : before.status(), -1);
+            adjustStatusCount(stats, after.status(), 1);
+        }
+        stats.setCompanyName(companyName);
+        stats.setNormalizedName(normalizeName(companyName));
+        stats.setLatestJobCreatedAt(latest(stats.getLatestJobCreatedAt(), createdAt));
+        stats.setLatestJobUpdatedAt(latest(stats.getLatestJobUpdatedAt(), now));
+
+        Long clientId = stats.getClientId();
+        stats.setLocationCounts(adjust(
+                stats.getLocationCounts(),
+                before == null ? Set.of() : terms(before.location()),
+                terms(after.location()),
+                LOCATION_SKETCH_CAPACITY,
+                () -> companyStatsRepository.countLocationsByClientId(clientId, LOCATION_SKETCH_CAPACITY)
+        ));
+        stats.setEmploymentTypeCounts(adjust(
+                stats.getEmploymentTypeCounts(),
+                before == null ? Set.of() : terms(before.employmentType()),
+                terms(after.employmentType()),
+                EMPLOYMENT_TYPE_SKETCH_CAPACITY,
+                () -> companyStatsRepository.countEmploymentTypesByClientId(clientId, EMPLOYMENT_TYPE_SKETCH_CAPACITY)
+        ));
+        stats.setTagCounts(adjust(
+                stats.getTagCounts(),
+                before == null ? Set.of() : terms(before.tags()),
+                terms(after.tags()),
+                TAG_SKETCH_CAPACITY,
+                () -> companyStatsRepository.countTagsByClientId(clientId, TAG_SKETCH_CAPACITY)
+        ));
+    }
+
+    private void adjustStatusCount(CompanyStats stats, JobStatus status, int delta) {
+        if (status == null) {
+            return;
+        }
+        switch (status) {
+            case DRAFT -> stats.setDraftJobs(Math.max(stats.getDraftJobs() + delta, 0));
+            case OPEN -> stats.setOpenJobs(Math.max(stats.getOpenJobs() + delta, 0));
+            case IN_PROGRESS -> stats.setInProgressJobs(Math.max(stats.getInProgressJobs() + delta, 0));
+            case CLOSED -> stats.setClosedJobs(Math.max(stats.getClosedJobs() + delta, 0));
+            case EXPIRED -> stats.setExpiredJobs(Math.max(stats.getExpiredJobs() + delta, 0));
+        }
+    }
+
+    CompanySearchResultItem toSearchResult(CompanyStats stats) {
+        return new CompanySearchResultItem(
+                stats.getClientId(),
+                stats.getCompanyName(),
+                stats.getTotalJobs(),
+                stats.getOpenJobs(),
+                stats.getLatestJobCreatedAt(),
+                stats.getLatestJobUpdatedAt(),
+                topTerms(stats.getLocationCounts(), TOP_LOCATIONS),
+                topTerms(stats.getEmploymentTypeCounts(), TOP_EMPLOYMENT_TYPES),
+                topTerms(stats.getTagCounts(), TOP_TAGS)
+        );
+    }
+
+    private Map<String, Long> adjust(
+            Map<String, Long> current,
+            Set<String> removed,
+            Set<String> added,
+            int capacity,
+            Supplier<List<CompanyStatsRepository.TermCount>> recount
+    ) {
+        Map<String, Long> counts = new LinkedHashMap<>(current == null ? Map.of() : current);
+        if (counts.size() >= capacity && !added.containsAll(removed)) {
+            companyStatsRepository.flush();
+            Map<String, Long> recounted = new LinkedHashMap<>();
+            for (CompanyStatsRepository.TermCount termCount : recount.get()) {
+                recounted.put(termCount.getTerm(), termCount.getJobCount());
+            }
+            return recounted;
+        }
+        for (String term : removed) {
+            if (!added.contains(term)) {
+                counts.computeIfPresent(term, (key, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+        for (String term : added) {
+            if (!removed.contains(term)) {
+                increment(counts, term, capacity);
+            }
+        }
+        return counts;
+    }
+
+    private void increment(Map<String, Long> counts, String term, int capacity) {
+        Long count = counts.get(term);
+        if (count != null) {
+            counts.put(term, count + 1);
+            return;
+        }
+        if (counts.size() < capacity) {
+            counts.put(term, 1L);
+            return;
+        }
+        Map.Entry<String, Long> smallest = counts.entrySet().stream()
+                .min(Map.Entry.<String, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .orElseThrow();
+        counts.remove(smallest.getKey());
+        counts.put(term, smallest.getValue() + 1);
+    }
+
+    private List<String> topTerms(Map<String, Long> counts, int limit) {
+        if (counts == null || counts.isEmpty()) {
+            return List.of();
+        }
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Set<String> terms(String value) {
+        String term = normalizeTerm(value);
+        return term == null ? Set.of() : Set.of(term);
+    }
+
+    private Set<String> terms(List<String> values) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String value : values) {
+            String term = normalizeTerm(value);
+            if (term != null) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private String normalizeTerm(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    String normalizeName(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private Instant latest(Instant current, Instant candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+
+    private String resolveCompanyName(Job job) {
+        if (job.getCompanyName() != null && !job.getCompanyName().isBlank()) {
+            return job.getCompanyName().trim();
+        }
+        return "Client #" + job.getClientId();
+    }
+}
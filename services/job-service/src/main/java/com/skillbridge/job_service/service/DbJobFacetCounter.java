@@ -0,0 +1,154 @@
+package com.skillbridge.job_service.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.skillbridge.job_service.config.JobSearchFunctionContributor;
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.dto.FacetCount;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+@Component
+public class DbJobFacetCounter {
+
+    private final EntityManager entityManager;
+    private final SearchProperties.FacetProperties properties;
+
+    public DbJobFacetCounter(EntityManager entityManager, SearchProperties searchProperties) {
+        this.entityManager = entityManager;
+        this.properties = searchProperties.getFacets();
+    }
+
+    public Map<String, List<FacetCount>> count(Specification<Job> filter, Set<JobSearchFacet> facets) {
+        List<BigDecimal> bounds = JobSearchFacet.budgetBounds(properties.getBudgetBounds());
+        List<String> bucketKeys = JobSearchFacet.budgetBucketKeys(bounds);
+        Map<JobSearchFacet, Map<String, Long>> counts = new EnumMap<>(JobSearchFacet.class);
+        for (JobSearchFacet facet : facets) {
+            counts.put(facet, new LinkedHashMap<>());
+        }
+
+        List<JobSearchFacet> grouped = facets.stream().filter(facet -> facet != JobSearchFacet.TAGS).toList();
+        if (!grouped.isEmpty()) {
+            countGrouped(filter, grouped, bounds, bucketKeys, counts);
+        }
+        if (facets.contains(JobSearchFacet.TAGS)) {
+            countTags(filter, counts.get(JobSearchFacet.TAGS));
+        }
+
+        Map<String, List<FacetCount>> result = new LinkedHashMap<>();
+        for (Map.Entry<JobSearchFacet, Map<String, Long>> entry : counts.entrySet()) {
+            if (entry.getKey() == JobSearchFacet.BUDGET) {
+                result.put(entry.getKey().key(), bucketKeys.stream()
+                        .map(key -> new FacetCount(key, entry.getValue().getOrDefault(key, 0L)))
+                        .toList());
+            } else {
+                result.put(entry.getKey().key(), entry.getValue().entrySet().stream()
+                        .map(value -> new FacetCount(value.getKey(), value.getValue()))
+                        .sorted(Comparator.comparingLong(FacetCount::count).reversed().thenComparing(FacetCount::value))
+                        .limit(Math.max(properties.getTermLimit(), 1))
+                        .toList());
+            }
+        }
+        return result;
+    }
+
+    private void countGrouped(
+            Specification<Job> filter,
+            List<JobSearchFacet> facets,
+            List<BigDecimal> bounds,
+            List<String> bucketKeys,
+            Map<JobSearchFacet, Map<String, Long>> counts
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Job> root = query.from(Job.class);
+        Predicate predicate = filter.toPredicate(root, query, cb);
+
+        List<Expression<?>> groups = new ArrayList<>();
+        for (JobSearchFacet facet : facets) {
+            groups.add(groupExpression(facet, root, cb, bounds, bucketKeys));
+        }
+        List<Selection<?>> selections = new ArrayList<>(groups);
+        selections.add(cb.count(root));
+        query.multiselect(selections).groupBy(groups).orderBy(List.of());
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            long count = row.get(groups.size(), Long.class);
+            for (int i = 0; i < facets.size(); i++) {
+                Object value = row.get(i);
+                if (value != null && !value.toString().isBlank()) {
+                    counts.get(facets.get(i)).merge(facetValue(value), count, Long::sum);
+                }
+            }
+        }
+    }
+
+    private void countTags(Specification<Job> filter, Map<String, Long> counts) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Job> root = query.from(Job.class);
+        Predicate predicate = filter.toPredicate(root, query, cb);
+        Expression<String> tag = cb.function(JobSearchFunctionContributor.UNNEST_FUNCTION, String.class, root.get("tags"));
+        Expression<Long> jobs = cb.count(root);
+        query.multiselect(tag, jobs).groupBy(tag).orderBy(cb.desc(jobs), cb.asc(tag));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(Math.max(properties.getTermLimit(), 1))
+                .getResultList();
+        for (Tuple row : rows) {
+            counts.put(row.get(0, String.class), row.get(1, Long.class));
+        }
+    }
+
+    private Expression<?> groupExpression(
+            JobSearchFacet facet,
+            Root<Job> root,
+            CriteriaBuilder cb,
+            List<BigDecimal> bounds,
+            List<String> bucketKeys
+    ) {
+        return switch (facet) {
+            case EMPLOYMENT_TYPE -> root.get("employmentType");
+            case WORK_MODE -> root.get("workMode");
+            case REMOTE -> root.get("remote");
+            case CATEGORY -> root.get("category");
+            case BUDGET -> {
+                Expression<BigDecimal> budget = root.get("budgetMax");
+                CriteriaBuilder.Case<String> bucket = cb.selectCase();
+                for (int i = 0; i < bounds.size(); i++) {
+                    bucket = bucket.when(cb.lessThan(budget, cb.literal(bounds.get(i))), cb.literal(bucketKeys.get(i)));
+                }
+                yield bucket.otherwise(cb.literal(bucketKeys.get(bucketKeys.size() - 1)));
+            }
+            case TAGS -> throw new IllegalArgumentException("Tags are counted separately");
+        };
+    }
+
+    private String facetValue(Object value) {
+        return value instanceof Enum<?> enumValue ? enumValue.name() : value.toString();
+    }
+}
@@ -1,13 +1,14 @@
 package com.skillbridge.job_service.service;
 
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
 
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,27 +16,90 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.skillbridge.job_service.config.JobSearchFunctionContributor;
+import com.skillbridge.job_service.config.SearchProperties;
 import com.skillbridge.job_service.domain.Job;
 import com.skillbridge.job_service.dto.PagedResult;
 import com.skillbridge.job_service.repository.JobRepository;
 
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
 @Service
 public class DbJobSearchService implements JobSearchService {
 
     private final JobRepository jobRepository;
+    private final SearchProperties searchProperties;
+    private final CompanyStatsService companyStatsService;
+    private final JobSuggestionIndex jobSuggestionIndex;
+    private final DbJobFacetCounter facetCounter;
 
-    public DbJobSearchService(JobRepository jobRepository) {
+    public DbJobSearchService(
+            JobRepository jobRepository,
+            SearchProperties searchProperties,
+            CompanyStatsService companyStatsService,
+            JobSuggestionIndex jobSuggestionIndex,
+            DbJobFacetCounter facetCounter
+    ) {
         this.jobRepository = jobRepository;
+        this.searchProperties = searchProperties;
+        this.companyStatsService = companyStatsService;
+        this.jobSuggestionIndex = jobSuggestionIndex;
+        this.facetCounter = facetCounter;
     }
 
     @Override
     public PagedResult<JobSearchResultItem> search(JobSearchRequest request) {
+        String textQuery = request.keyword() == null ? null : toPrefixTextQuery(request.keyword());
+        Specification<Job> spec = buildFilterSpec(request, textQuery);
+        PagedResult<JobSearchResultItem> page = request.cursorPaging() ? searchAfterCursor(request, spec) : searchPage(request, spec, textQuery);
+        return request.hasFacets() ? page.withFacets(facetCounter.count(spec, request.facets())) : page;
+    }
+
+    private PagedResult<JobSearchResultItem> searchPage(JobSearchRequest request, Specification<Job> spec, String textQuery) {
+        Sort sort = textQuery != null && request.sort() == JobSearchSort.RELEVANCE ? Sort.unsorted() : resolveSort(request.sort());
+        Pageable pageable = PageRequest.of(request.page(), request.size(), sort);
+        Page<Job> result = jobRepository.findAll(spec, pageable);
+        List<JobSearchResultItem> content = result.getContent().stream()
+                .map(JobSearchResultItem::fromJob)
+                .toList();
+        return new PagedResult<>(
+                content,
+                result.getTotalElements(),
+                result.getTotalPages(),
+                result.getNumber(),
+                result.getSize()
+        );
+    }
+
+    private PagedResult<JobSearchResultItem> searchAfterCursor(JobSearchRequest request, Specification<Job> spec) {
+        JobSearchCursor cursor = request.cursor();
+        Specification<Job> pageSpec = cursor.isFirstPage() ? spec : spec.and(seekAfter(cursor));
+        List<Job> rows = jobRepository.findBy(
+                pageSpec,
+                query -> query.sortBy(resolveSort(cursor.sort())).limit(request.size() + 1).all()
+        );
+        List<JobSearchResultItem> content = rows.stream()
+                .limit(request.size())
+                .map(JobSearchResultItem::fromJob)
+                .toList();
+        String nextCursor = rows.size() > request.size()
+                ? JobSearchCursor.after(cursor.sort(), content.get(content.size() - 1)).encode()
+                : null;
+        long totalElements = request.includeTotal() ? jobRepository.count(spec) : -1;
+        int totalPages = totalElements < 0 ? -1 : (int) ((totalElements + request.size() - 1) / request.size());
+        return new PagedResult<>(content, totalElements, totalPages, 0, request.size(), nextCursor);
+    }
+
+    private Specification<Job> buildFilterSpec(JobSearchRequest request, String textQuery) {
         Specification<Job> spec = Specification.where(null);
-        if (request.keyword() != null) {
+        if (textQuery != null) {
+            spec = spec.and(keywordMatches(textQuery, request.sort() == JobSearchSort.RELEVANCE && !request.cursorPaging()));
+        } else if (request.keyword() != null) {
             spec = spec.and(keywordContains(request.keyword()));
         }
         if (request.status() != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), request.status()));
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), cb.literal(request.status())));
         }
         if (request.budgetMin() != null) {
             spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("budgetMax"), request.budgetMin()));
@@ -64,22 +128,11 @@ public class DbJobSearchService implements JobSearchService {
         if (request.experienceYearsMax() != null) {
             spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("experienceYears"), request.experienceYearsMax()));
         }
-        for (String tag : request.tags() == null ? List.<String>of() : request.tags()) {
-            spec = spec.and((root, query, cb) -> cb.isMember(tag, root.get("tags")));
+        if (request.tags() != null && !request.tags().isEmpty()) {
+            spec = spec.and(taggedWithAll(request.tags()));
         }
 
-        Pageable pageable = PageRequest.of(request.page(), request.size(), resolveSort(request.sort()));
-        Page<Job> result = jobRepository.findAll(spec, pageable);
-        List<JobSearchResultItem> content = result.getContent().stream()
-                .map(JobSearchResultItem::fromJob)
-                .toList();
-        return new PagedResult<>(
-                content,
-                result.getTotalElements(),
-                result.getTotalPages(),
-                result.getNumber(),
-                result.getSize()
-        );
+        return spec;
     }
 
     @Override
@@ -88,6 +141,9 @@ public class DbJobSearchService implements JobSearchService {
         if (normalizedQuery == null || limit < 1) {
             return List.of();
         }
+        if (jobSuggestionIndex.isReady()) {
+            return jobSuggestionIndex.suggest(normalizedQuery, limit);
+        }
 
         Page<Job> jobs = jobRepository.findAll(PageRequest.of(0, Math.max(limit * 5, 25), Sort.by(Sort.Order.desc("updatedAt"))));
         LinkedHashSet<JobSearchSuggestionItem> suggestions = new LinkedHashSet<>();
@@ -112,16 +168,7 @@ public class DbJobSearchService implements JobSearchService {
         if (normalizedQuery == null || limit < 1) {
             return List.of();
         }
-
-        Page<Job> jobs = jobRepository.findAll(PageRequest.of(0, Math.max(limit * 10, 50), Sort.by(Sort.Order.desc("updatedAt"))));
-        Map<Long, List<Job>> jobsByClient = jobs.getContent().stream()
-                .filter(job -> resolveCompanyName(job).toLowerCase(Locale.ROOT).contains(normalizedQuery))
-                .collect(Collectors.groupingBy(Job::getClientId, LinkedHashMap::new, Collectors.toList()));
-
-        return jobsByClient.entrySet().stream()
-                .map(entry -> toCompanyResult(entry.getKey(), entry.getValue()))
-                .limit(limit)
-                .toList();
+        return companyStatsService.searchByName(normalizedQuery, limit);
     }
 
     @Override
@@ -134,6 +181,39 @@ public class DbJobSearchService implements JobSearchService {
         return false;
     }
 
+    @Override
+    public SearchIndexRebuild beginRebuild(SearchIndexKind kind) {
+        return null;
+    }
+
+    @Override
+    public int indexJobs(SearchIndexRebuild rebuild, List<Job> jobs) {
+        return 0;
+    }
+
+    @Override
+    public int indexCompanies(SearchIndexRebuild rebuild, List<CompanySearchResultItem> companies) {
+        return 0;
+    }
+
+    @Override
+    public void completeRebuild(SearchIndexRebuild rebuild) {
+    }
+
+    @Override
+    public void abortRebuild(SearchIndexRebuild rebuild) {
+    }
+
+    @Override
+    public Set<Long> writeJobs(List<Job> jobs, Collection<Long> deletedJobIds, Instant snapshotAt) {
+        return Set.of();
+    }
+
+    @Override
+    public Set<Long> writeCompanies(List<CompanySearchResultItem> companies, Collection<Long> deletedClientIds, Instant snapshotAt) {
+        return Set.of();
+    }
+
     @Override
     public boolean deleteJob(Long jobId) {
         return false;
@@ -154,6 +234,37 @@ public class DbJobSearchService implements JobSearchService {
         return "db";
     }
 
+    String toPrefixTextQuery(String keyword) {
+        if (!searchProperties.getDb().isFullTextEnabled()) {
+            return null;
+        }
+        List<String> terms = Arrays.stream(keyword.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isBlank())
+                .distinct()
+                .limit(Math.max(searchProperties.getDb().getMaxKeywordTerms(), 1))
+                .map(term -> term + ":*")
+                .toList();
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    private Specification<Job> keywordMatches(String textQuery, boolean orderByRank) {
+        return (root, query, cb) -> {
+            Expression<String> textQueryValue = ((HibernateCriteriaBuilder) cb).value(textQuery);
+            if (orderByRank && !Long.class.equals(query.getResultType())) {
+                query.orderBy(
+                        cb.desc(cb.function(JobSearchFunctionContributor.RANK_FUNCTION, Double.class, root.get("id"), textQueryValue)),
+                        cb.desc(root.get("createdAt")),
+                        cb.desc(root.get("id"))
+                );
+            }
+            return cb.isTrue(cb.function(JobSearchFunctionContributor.MATCH_FUNCTION, Boolean.class, root.get("id"), textQueryValue));
+        };
+    }
+
+    private Specification<Job> taggedWithAll(List<String> tags) {
+        return (root, query, cb) -> ((HibernateCriteriaBuilder) cb).collectionIncludes(root.get("tags"), List.copyOf(tags));
+    }
+
     private Specification<Job> keywordContains(String keyword) {
         String pattern = "%" + keyword.toLowerCase(Locale.ROOT) + "%";
         return (root, query, cb) -> cb.or(
@@ -173,14 +284,36 @@ public class DbJobSearchService implements JobSearchService {
         return (root, query, cb) -> cb.like(cb.lower(root.get(fieldName)), pattern);
     }
 
+    private Specification<Job> seekAfter(JobSearchCursor cursor) {
+        return (root, query, cb) -> {
+            Predicate afterCreated = cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()), cb.lessThan(root.get("id"), cursor.id()))
+            );
+            if (cursor.sort() == JobSearchSort.SALARY_HIGH) {
+                return cb.or(
+                        cb.lessThan(root.get("budgetMax"), cursor.budget()),
+                        cb.and(cb.equal(root.get("budgetMax"), cursor.budget()), afterCreated)
+                );
+            }
+            if (cursor.sort() == JobSearchSort.SALARY_LOW) {
+                return cb.or(
+                        cb.greaterThan(root.get("budgetMin"), cursor.budget()),
+                        cb.and(cb.equal(root.get("budgetMin"), cursor.budget()), afterCreated)
+                );
+            }
+            return afterCreated;
+        };
+    }
+
     private Sort resolveSort(JobSearchSort sort) {
-        if (sort == null || sort == JobSearchSort.LATEST) {
-            return Sort.by(Sort.Order.desc("createdAt"));
+        if (sort == null || sort == JobSearchSort.LATEST || sort == JobSearchSort.RELEVANCE) {
+            return Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
         }
         if (sort == JobSearchSort.SALARY_HIGH) {
-            return Sort.by(Sort.Order.desc("budgetMax"), Sort.Order.desc("createdAt"));
+            return Sort.by(Sort.Order.desc("budgetMax"), Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
         }
-        return Sort.by(Sort.Order.asc("budgetMin"), Sort.Order.desc("createdAt"));
+        return Sort.by(Sort.Order.asc("budgetMin"), Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
     }
 
     private void addSuggestion(
@@ -200,34 +333,6 @@ public class DbJobSearchService implements JobSearchService {
         suggestions.add(new JobSearchSuggestionItem(value.trim(), type));
     }
 
-    private CompanySearchResultItem toCompanyResult(Long clientId, List<Job> jobs) {
-        List<Job> safeJobs = jobs.stream()
-                .filter(Objects::nonNull)
-                .toList();
-
-        long openJobs = safeJobs.stream().filter(job -> job.getStatus() != null && "OPEN".equals(job.getStatus().name())).count();
-        return new CompanySearchResultItem(
-                clientId,
-                resolveCompanyName(safeJobs.get(0)),
-                safeJobs.size(),
-                openJobs,
-                safeJobs.stream().map(Job::getCreatedAt).filter(Objects::nonNull).max(java.time.Instant::compareTo).orElse(null),
-                safeJobs.stream().map(Job::getUpdatedAt).filter(Objects::nonNull).max(java.time.Instant::compareTo).orElse(null),
-                distinctNonBlank(safeJobs.stream().map(Job::getLocation).toList()),
-                distinctNonBlank(safeJobs.stream().map(job -> job.getEmploymentType() == null ? null : job.getEmploymentType().name()).toList()),
-                distinctNonBlank(safeJobs.stream().flatMap(job -> job.getTags().stream()).toList())
-        );
-    }
-
-    private List<String> distinctNonBlank(List<String> values) {
-        return values.stream()
-                .map(this::normalize)
-                .filter(Objects::nonNull)
-                .distinct()
-                .limit(8)
-                .toList();
-    }
-
     private String normalize(String value) {
         if (value == null) {
             return null;
@@ -0,0 +1,33 @@
+package com.skillbridge.job_service.service;
+
+import java.util.List;
+
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.JobStatus;
+
+public record JobFacts(
+        Long clientId,
+        JobStatus status,
+        String title,
+        String companyName,
+        String location,
+        String employmentType,
+        List<String> tags
+) {
+
+    public static JobFacts of(Job job) {
+        return new JobFacts(
+                job.getClientId(),
+                job.getStatus(),
+                job.getTitle(),
+                job.getCompanyName(),
+                job.getLocation(),
+                job.getEmploymentType() == null ? null : job.getEmploymentType().name(),
+                job.getTags() == null ? List.of() : List.copyOf(job.getTags())
+        );
+    }
+
+    public boolean open() {
+        return status == JobStatus.OPEN;
+    }
+}
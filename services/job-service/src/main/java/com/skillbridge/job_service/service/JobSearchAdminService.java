@@ -1,52 +1,76 @@
 package com.skillbridge.job_service.service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.skillbridge.job_service.config.SearchProperties;
 import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.dto.JobSearchReindexProgressResponse;
 import com.skillbridge.job_service.dto.JobSearchReindexResponse;
 import com.skillbridge.job_service.repository.JobRepository;
 
 @Service
 public class JobSearchAdminService {
 
+    private static final Logger log = LoggerFactory.getLogger(JobSearchAdminService.class);
+    private static final int PROGRESS_LOG_INTERVAL_BATCHES = 20;
+
     private final JobRepository jobRepository;
+    private final CompanyStatsService companyStatsService;
     private final JobSearchService jobSearchService;
+    private final SearchProperties searchProperties;
+    private final AtomicReference<ReindexRun> currentRun = new AtomicReference<>();
 
-    public JobSearchAdminService(JobRepository jobRepository, JobSearchService jobSearchService) {
+    public JobSearchAdminService(
+            JobRepository jobRepository,
+            CompanyStatsService companyStatsService,
+            JobSearchService jobSearchService,
+            SearchProperties searchProperties
+    ) {
         this.jobRepository = jobRepository;
+        this.companyStatsService = companyStatsService;
         this.jobSearchService = jobSearchService;
+        this.searchProperties = searchProperties;
     }
 
-    @Transactional(readOnly = true)
     public JobSearchReindexResponse reindexAllJobs() {
         if (!jobSearchService.supportsIndexing()) {
-            return new JobSearchReindexResponse(
-                    jobSearchService.providerName(),
-                    0,
-                    false,
-                    "Advanced search indexing is disabled or unavailable"
-            );
+            return indexingDisabled();
         }
 
-        int indexedCount = 0;
-        List<Job> jobs = jobRepository.findAll();
-        for (Job job : jobs) {
-            if (jobSearchService.indexJob(job)) {
-                indexedCount++;
+        ReindexRun run = startRun("jobs");
+        SearchIndexRebuild rebuild = beginRebuild(run, SearchIndexKind.JOBS);
+        boolean loaded = false;
+        boolean promoted;
+        try (BulkPipeline pipeline = new BulkPipeline(run)) {
+            Long afterId = 0L;
+            List<Long> ids = jobRepository.findIdsAfter(afterId, Limit.of(run.batchSize));
+            while (!ids.isEmpty()) {
+                List<Job> jobs = jobRepository.findByIdIn(ids);
+                pipeline.submit(jobs.size(), () -> jobSearchService.indexJobs(rebuild, jobs));
+                afterId = ids.get(ids.size() - 1);
+                ids = jobRepository.findIdsAfter(afterId, Limit.of(run.batchSize));
             }
+            loaded = true;
+        } finally {
+            promoted = finishRebuild(run, rebuild, loaded);
         }
-        return new JobSearchReindexResponse(
-                jobSearchService.providerName(),
-                indexedCount,
-                true,
-                "Reindexed " + indexedCount + " job documents"
-        );
+        return toReindexResponse(run, rebuild, promoted, "job documents");
     }
 
     @Transactional(readOnly = true)
@@ -55,12 +79,7 @@ public class JobSearchAdminService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found"));
 
         if (!jobSearchService.supportsIndexing()) {
-            return new JobSearchReindexResponse(
-                    jobSearchService.providerName(),
-                    0,
-                    false,
-                    "Advanced search indexing is disabled or unavailable"
-            );
+            return indexingDisabled();
         }
 
         boolean indexed = jobSearchService.indexJob(job);
@@ -72,33 +91,232 @@ public class JobSearchAdminService {
         );
     }
 
-    @Transactional(readOnly = true)
     public JobSearchReindexResponse reindexAllCompanies() {
         if (!jobSearchService.supportsIndexing()) {
-            return new JobSearchReindexResponse(
-                    jobSearchService.providerName(),
+            return indexingDisabled();
+        }
+
+        ReindexRun run = startRun("companies");
+        SearchIndexRebuild rebuild = beginRebuild(run, SearchIndexKind.COMPANIES);
+        boolean loaded = false;
+        boolean promoted;
+        try (BulkPipeline pipeline = new BulkPipeline(run)) {
+            List<CompanySearchResultItem> companies = companyStatsService.findCompaniesAfter(0L, run.batchSize);
+            while (!companies.isEmpty()) {
+                List<CompanySearchResultItem> batch = companies;
+                pipeline.submit(batch.size(), () -> jobSearchService.indexCompanies(rebuild, batch));
+                Long afterClientId = batch.get(batch.size() - 1).clientId();
+                companies = companyStatsService.findCompaniesAfter(afterClientId, run.batchSize);
+            }
+            loaded = true;
+        } finally {
+            promoted = finishRebuild(run, rebuild, loaded);
+        }
+        return toReindexResponse(run, rebuild, promoted, "company documents");
+    }
+
+    public JobSearchReindexProgressResponse getReindexProgress() {
+        ReindexRun run = currentRun.get();
+        if (run == null) {
+            SearchProperties.ReindexProperties reindex = searchProperties.getReindex();
+            return new JobSearchReindexProgressResponse(
+                    null,
+                    "IDLE",
+                    0,
                     0,
-                    false,
-                    "Advanced search indexing is disabled or unavailable"
+                    0,
+                    Math.max(reindex.getBatchSize(), 1),
+                    Math.max(reindex.getParallelism(), 1),
+                    null,
+                    null,
+                    0
             );
         }
+        return run.snapshot();
+    }
 
-        int indexedCount = 0;
-        List<Long> clientIds = jobRepository.findAll().stream()
-                .map(Job::getClientId)
-                .distinct()
-                .collect(Collectors.toList());
+    private SearchIndexRebuild beginRebuild(ReindexRun run, SearchIndexKind kind) {
+        try {
+            SearchIndexRebuild rebuild = jobSearchService.beginRebuild(kind);
+            if (rebuild == null) {
+                throw new IllegalStateException("Search provider does not support index rebuilds");
+            }
+            return rebuild;
+        } catch (ResponseStatusException ex) {
+            run.finish(false);
+            log.warn("Could not start {} index rebuild: {}", kind, ex.getReason());
+            throw ex;
+        } catch (RuntimeException ex) {
+            run.finish(false);
+            log.warn("Could not start {} index rebuild: {}", kind, ex.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Could not start search index rebuild");
+        }
+    }
 
-        for (Long clientId : clientIds) {
-            if (jobSearchService.indexCompany(clientId)) {
-                indexedCount++;
+    private boolean finishRebuild(ReindexRun run, SearchIndexRebuild rebuild, boolean loaded) {
+        boolean promoted = false;
+        try {
+            if (loaded && run.failedCount() == 0) {
+                jobSearchService.completeRebuild(rebuild);
+                promoted = true;
+            } else {
+                jobSearchService.abortRebuild(rebuild);
             }
+        } catch (RuntimeException ex) {
+            log.warn("Could not promote rebuilt index {}: {}", rebuild.indexName(), ex.getMessage());
+            jobSearchService.abortRebuild(rebuild);
+        } finally {
+            run.finish(promoted);
         }
+        return promoted;
+    }
+
+    private ReindexRun startRun(String target) {
+        SearchProperties.ReindexProperties reindex = searchProperties.getReindex();
+        ReindexRun run = new ReindexRun(target, Math.max(reindex.getBatchSize(), 1), Math.max(reindex.getParallelism(), 1));
+        ReindexRun previous = currentRun.get();
+        if ((previous != null && previous.isRunning()) || !currentRun.compareAndSet(previous, run)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A search reindex is already running");
+        }
+        log.info("Starting {} reindex with batchSize={} parallelism={}", target, run.batchSize, run.parallelism);
+        return run;
+    }
+
+    private JobSearchReindexResponse toReindexResponse(
+            ReindexRun run,
+            SearchIndexRebuild rebuild,
+            boolean promoted,
+            String documentLabel
+    ) {
+        JobSearchReindexProgressResponse progress = run.snapshot();
+        log.info(
+                "Finished {} reindex into {}: processed={} indexed={} failed={} docsPerSecond={} promoted={}",
+                progress.target(),
+                rebuild.indexName(),
+                progress.processedCount(),
+                progress.indexedCount(),
+                progress.failedCount(),
+                String.format("%.1f", progress.documentsPerSecond()),
+                promoted
+        );
+        String message = promoted
+                ? "Reindexed " + progress.indexedCount() + " " + documentLabel + " into " + rebuild.indexName()
+                        + " (" + String.format("%.1f", progress.documentsPerSecond()) + " docs/s)"
+                : "Discarded rebuild " + rebuild.indexName() + " after " + progress.failedCount() + " failed "
+                        + documentLabel + "; alias " + rebuild.alias() + " was left unchanged";
         return new JobSearchReindexResponse(
                 jobSearchService.providerName(),
-                indexedCount,
+                (int) progress.indexedCount(),
                 true,
-                "Reindexed " + indexedCount + " company documents"
+                message
         );
     }
+
+    private JobSearchReindexResponse indexingDisabled() {
+        return new JobSearchReindexResponse(
+                jobSearchService.providerName(),
+                0,
+                false,
+                "Advanced search indexing is disabled or unavailable"
+        );
+    }
+
+    private static final class ReindexRun {
+
+        private final String target;
+        private final int batchSize;
+        private final int parallelism;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong indexed = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private volatile Instant finishedAt;
+        private volatile boolean aborted;
+
+        private ReindexRun(String target, int batchSize, int parallelism) {
+            this.target = target;
+            this.batchSize = batchSize;
+            this.parallelism = parallelism;
+        }
+
+        private boolean isRunning() {
+            return finishedAt == null;
+        }
+
+        private long failedCount() {
+            return processed.get() - indexed.get();
+        }
+
+        private void record(int batchCount, int indexedCount) {
+            long processedCount = processed.addAndGet(batchCount);
+            long indexedTotal = indexed.addAndGet(indexedCount);
+            if (batches.incrementAndGet() % PROGRESS_LOG_INTERVAL_BATCHES == 0) {
+                log.info("Reindex {} progress: processed={} indexed={}", target, processedCount, indexedTotal);
+            }
+        }
+
+        private void finish(boolean completed) {
+            aborted = !completed;
+            finishedAt = Instant.now();
+        }
+
+        private JobSearchReindexProgressResponse snapshot() {
+            Instant end = finishedAt == null ? Instant.now() : finishedAt;
+            long elapsedMs = Math.max(Duration.between(startedAt, end).toMillis(), 1);
+            long processedCount = processed.get();
+            long indexedCount = indexed.get();
+            return new JobSearchReindexProgressResponse(
+                    target,
+                    finishedAt == null ? "RUNNING" : aborted ? "FAILED" : "COMPLETED",
+                    processedCount,
+                    indexedCount,
+                    processedCount - indexedCount,
+                    batchSize,
+                    parallelism,
+                    startedAt,
+                    finishedAt,
+                    indexedCount * 1000.0 / elapsedMs
+            );
+        }
+    }
+
+    private static final class BulkPipeline implements AutoCloseable {
+
+        private final ReindexRun run;
+        private final ExecutorService executor;
+        private final Semaphore inFlight;
+
+        private BulkPipeline(ReindexRun run) {
+            this.run = run;
+            this.executor = Executors.newFixedThreadPool(run.parallelism);
+            this.inFlight = new Semaphore(run.parallelism);
+        }
+
+        private void submit(int batchCount, Supplier<Integer> bulkRequest) {
+            inFlight.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    int indexedCount = 0;
+                    try {
+                        indexedCount = bulkRequest.get();
+                    } catch (RuntimeException ex) {
+                        log.warn("Reindex {} batch failed: {}", run.target, ex.getMessage());
+                    } finally {
+                        run.record(batchCount, indexedCount);
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException ex) {
+                inFlight.release();
+                throw ex;
+            }
+        }
+
+        @Override
+        public void close() {
+            inFlight.acquireUninterruptibly(run.parallelism);
+            inFlight.release(run.parallelism);
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package com.skillbridge.job_service.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+public record JobSearchCursor(
+        JobSearchSort sort,
+        BigDecimal budget,
+        Instant createdAt,
+        Long id
+) {
+
+    private static final String VERSION = "v1";
+    private static final String FIRST_PAGE_TOKEN = "*";
+    private static final String SEPARATOR = "|";
+
+    public static JobSearchCursor first(JobSearchSort sort) {
+        return new JobSearchCursor(sort, null, null, null);
+    }
+
+    public static JobSearchCursor after(JobSearchSort sort, JobSearchResultItem item) {
+        BigDecimal budget = switch (sort) {
+            case SALARY_HIGH -> item.budgetMax();
+            case SALARY_LOW -> item.budgetMin();
+            default -> null;
+        };
+        return new JobSearchCursor(sort, budget, item.createdAt(), item.id());
+    }
+
+    public static JobSearchCursor decode(String token, JobSearchSort sort) {
+        if (token == null || FIRST_PAGE_TOKEN.equals(token.trim())) {
+            return first(sort);
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("cursor is malformed", ex);
+        }
+        String[] parts = decoded.split("\\|", -1);
+        if (parts.length != 6 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("cursor is malformed");
+        }
+        if (!sort.name().equals(parts[1])) {
+            throw new IllegalArgumentException("cursor does not match sortBy");
+        }
+        try {
+            return new JobSearchCursor(
+                    sort,
+                    parts[2].isEmpty() ? null : new BigDecimal(parts[2]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[3]), Long.parseLong(parts[4])),
+                    Long.parseLong(parts[5])
+            );
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("cursor is malformed", ex);
+        }
+    }
+
+    public boolean isFirstPage() {
+        return createdAt == null || id == null;
+    }
+
+    public String encode() {
+        String raw = String.join(
+                SEPARATOR,
+                VERSION,
+                sort.name(),
+                budget == null ? "" : budget.toPlainString(),
+                String.valueOf(createdAt.getEpochSecond()),
+                String.valueOf(createdAt.getNano()),
+                String.valueOf(id)
+        );
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,53 @@
+package com.skillbridge.job_service.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public enum JobSearchFacet {
+    EMPLOYMENT_TYPE("employmentType"),
+    WORK_MODE("workMode"),
+    REMOTE("remote"),
+    CATEGORY("category"),
+    TAGS("tags"),
+    BUDGET("budget");
+
+    private final String key;
+
+    JobSearchFacet(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    static List<BigDecimal> budgetBounds(List<BigDecimal> configuredBounds) {
+        return configuredBounds.stream()
+                .filter(bound -> bound != null && bound.signum() > 0)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    static List<String> budgetBucketKeys(List<BigDecimal> bounds) {
+        List<String> keys = new ArrayList<>(bounds.size() + 1);
+        String lower = "0";
+        for (BigDecimal bound : bounds) {
+            String upper = bound.stripTrailingZeros().toPlainString();
+            keys.add(lower + "-" + upper);
+            lower = upper;
+        }
+        keys.add(lower + "+");
+        return keys;
+    }
+
+    public static JobSearchFacet fromKey(String value) {
+        for (JobSearchFacet facet : values()) {
+            if (facet.key.equalsIgnoreCase(value) || facet.name().equalsIgnoreCase(value)) {
+                return facet;
+            }
+        }
+        return null;
+    }
+}
@@ -1,7 +1,10 @@
 package com.skillbridge.job_service.service;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import com.skillbridge.job_service.domain.EmploymentType;
 import com.skillbridge.job_service.domain.JobStatus;
@@ -21,6 +24,44 @@ public record JobSearchRequest(
         Integer experienceYearsMax,
         JobSearchSort sort,
         int page,
-        int size
+        int size,
+        JobSearchCursor cursor,
+        boolean includeTotal,
+        Set<JobSearchFacet> facets
 ) {
+
+    public JobSearchRequest {
+        facets = facets == null || facets.isEmpty() ? Set.of() : Collections.unmodifiableSet(EnumSet.copyOf(facets));
+    }
+
+    public JobSearchRequest(
+            String keyword,
+            JobStatus status,
+            BigDecimal budgetMin,
+            BigDecimal budgetMax,
+            Long clientId,
+            List<String> tags,
+            String location,
+            String companyName,
+            EmploymentType employmentType,
+            Boolean remote,
+            Integer experienceYearsMin,
+            Integer experienceYearsMax,
+            JobSearchSort sort,
+            int page,
+            int size,
+            JobSearchCursor cursor,
+            boolean includeTotal
+    ) {
+        this(keyword, status, budgetMin, budgetMax, clientId, tags, location, companyName, employmentType, remote,
+                experienceYearsMin, experienceYearsMax, sort, page, size, cursor, includeTotal, Set.of());
+    }
+
+    public boolean cursorPaging() {
+        return cursor != null;
+    }
+
+    public boolean hasFacets() {
+        return !facets.isEmpty();
+    }
 }
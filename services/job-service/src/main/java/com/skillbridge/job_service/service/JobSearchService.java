@@ -15,6 +15,24 @@ public interface JobSearchService {
 
     boolean indexCompany(Long clientId);
 
+    SearchIndexRebuild beginRebuild(SearchIndexKind kind);
+
+    int indexJobs(SearchIndexRebuild rebuild, java.util.List<Job> jobs);
+
+    int indexCompanies(SearchIndexRebuild rebuild, java.util.List<CompanySearchResultItem> companies);
+
+    void completeRebuild(SearchIndexRebuild rebuild);
+
+    void abortRebuild(SearchIndexRebuild rebuild);
+
+    java.util.Set<Long> writeJobs(java.util.List<Job> jobs, java.util.Collection<Long> deletedJobIds, java.time.Instant snapshotAt);
+
+    java.util.Set<Long> writeCompanies(
+            java.util.List<CompanySearchResultItem> companies,
+            java.util.Collection<Long> deletedClientIds,
+            java.time.Instant snapshotAt
+    );
+
     boolean deleteJob(Long jobId);
 
     boolean deleteCompany(Long clientId);
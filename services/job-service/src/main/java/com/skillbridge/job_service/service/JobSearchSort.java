@@ -3,5 +3,6 @@ package com.skillbridge.job_service.service;
 public enum JobSearchSort {
     LATEST,
     SALARY_HIGH,
-    SALARY_LOW
+    SALARY_LOW,
+    RELEVANCE
 }
@@ -3,24 +3,25 @@ package com.skillbridge.job_service.service;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.skillbridge.job_service.domain.EmploymentType;
@@ -34,11 +35,15 @@ import com.skillbridge.job_service.dto.CreateJobRequest;
 import com.skillbridge.job_service.dto.CompanySearchResponse;
 import com.skillbridge.job_service.dto.FollowedCompanyResponse;
 import com.skillbridge.job_service.dto.JobDashboardResponse;
+import com.skillbridge.job_service.dto.JobOwnerResponse;
 import com.skillbridge.job_service.dto.PatchJobRequest;
 import com.skillbridge.job_service.dto.JobResponse;
+import com.skillbridge.job_service.dto.JobSearchFacetResponse;
 import com.skillbridge.job_service.dto.JobSearchSuggestionResponse;
 import com.skillbridge.job_service.dto.PagedResult;
+import com.skillbridge.job_service.dto.RecipientPageResponse;
 import com.skillbridge.job_service.dto.UpdateJobRequest;
+import com.skillbridge.job_service.messaging.JobEventPublisher;
 import com.skillbridge.job_service.repository.FollowedCompanyRepository;
 import com.skillbridge.job_service.repository.JobRepository;
 import com.skillbridge.job_service.repository.SavedJobRepository;
@@ -48,31 +53,44 @@ import com.skillbridge.job_service.security.JwtUserPrincipal;
 public class JobService {
 
     private static final Logger log = LoggerFactory.getLogger(JobService.class);
-    private static final String INTERNAL_API_KEY_HEADER = "X-Internal-Api-Key";
+    private static final int MAX_RECIPIENT_PAGE_SIZE = 5000;
 
     private final JobRepository jobRepository;
     private final SavedJobRepository savedJobRepository;
     private final FollowedCompanyRepository followedCompanyRepository;
     private final JobSearchService jobSearchService;
-    private final RestClient notificationRestClient;
-    private final String internalApiKey;
+    private final SearchIndexQueue searchIndexQueue;
+    private final CompanyStatsService companyStatsService;
+    private final JobSuggestionIndex jobSuggestionIndex;
+    private final SearchResultCache searchResultCache;
+    private final ViewerContextService viewerContextService;
+    private final JobEventPublisher jobEventPublisher;
+    private final RecruiterActivityRollupService recruiterActivityRollupService;
 
     public JobService(
             JobRepository jobRepository,
             SavedJobRepository savedJobRepository,
             FollowedCompanyRepository followedCompanyRepository,
             JobSearchService jobSearchService,
-            @Value("${app.services.notification-base-url:http://localhost:8086}") String notificationBaseUrl,
-            @Value("${app.internal.api-key}") String internalApiKey
+            SearchIndexQueue searchIndexQueue,
+            CompanyStatsService companyStatsService,
+            JobSuggestionIndex jobSuggestionIndex,
+            SearchResultCache searchResultCache,
+            ViewerContextService viewerContextService,
+            JobEventPublisher jobEventPublisher,
+            RecruiterActivityRollupService recruiterActivityRollupService
     ) {
         this.jobRepository = jobRepository;
         this.savedJobRepository = savedJobRepository;
         this.followedCompanyRepository = followedCompanyRepository;
         this.jobSearchService = jobSearchService;
-        this.notificationRestClient = notificationBaseUrl == null
-                ? RestClient.builder().build()
-                : RestClient.builder().baseUrl(notificationBaseUrl).build();
-        this.internalApiKey = internalApiKey == null ? "" : internalApiKey;
+        this.searchIndexQueue = searchIndexQueue;
+        this.companyStatsService = companyStatsService;
+        this.jobSuggestionIndex = jobSuggestionIndex;
+        this.searchResultCache = searchResultCache;
+        this.viewerContextService = viewerContextService;
+        this.jobEventPublisher = jobEventPublisher;
+        this.recruiterActivityRollupService = recruiterActivityRollupService;
     }
 
     @Transactional
@@ -106,7 +124,7 @@ public class JobService {
         applyStatusMetadata(job, job.getStatus(), Instant.now());
 
         Job savedJob = jobRepository.save(job);
-        safeIndexJob(savedJob);
+        afterJobWrite(null, savedJob);
         notifyFollowersForPublishedJob(savedJob);
         return toResponse(savedJob, principal);
     }
@@ -128,12 +146,16 @@ public class JobService {
             String sortBy,
             int page,
             int size,
+            String cursor,
+            boolean includeTotal,
             JwtUserPrincipal principal
     ) {
         validateBudgetRange(budgetMin, budgetMax);
         validateExperienceRange(experienceYearsMin, experienceYearsMax);
         validatePaging(page, size);
         List<String> normalizedTags = normalizeTags(tags);
+        JobSearchSort sort = resolveSort(sortBy);
+        JobSearchCursor searchCursor = resolveCursor(cursor, sort, page);
         JobSearchRequest request = new JobSearchRequest(
                 normalizeText(keyword),
                 status,
@@ -147,14 +169,62 @@ public class JobService {
                 remote,
                 experienceYearsMin,
                 experienceYearsMax,
-                resolveSort(sortBy),
+                sort,
                 page,
-                size
+                size,
+                searchCursor,
+                includeTotal
         );
-        PagedResult<JobSearchResultItem> result = jobSearchService.search(request);
+        PagedResult<JobSearchResultItem> result = searchResultCache.get(request, () -> jobSearchService.search(request));
         return toPagedResult(result, principal);
     }
 
+    @Transactional(readOnly = true)
+    public JobSearchFacetResponse getJobFacets(
+            String keyword,
+            JobStatus status,
+            BigDecimal budgetMin,
+            BigDecimal budgetMax,
+            Long clientId,
+            List<String> tags,
+            String location,
+            String companyName,
+            EmploymentType employmentType,
+            Boolean remote,
+            Integer experienceYearsMin,
+            Integer experienceYearsMax,
+            List<String> facets
+    ) {
+        validateBudgetRange(budgetMin, budgetMax);
+        validateExperienceRange(experienceYearsMin, experienceYearsMax);
+        Set<JobSearchFacet> resolvedFacets = resolveFacets(facets);
+        if (resolvedFacets.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "facets is required");
+        }
+        JobSearchRequest request = new JobSearchRequest(
+                normalizeText(keyword),
+                status,
+                budgetMin,
+                budgetMax,
+                clientId,
+                normalizeTags(tags),
+                normalizeText(location),
+                normalizeText(companyName),
+                employmentType,
+                remote,
+                experienceYearsMin,
+                experienceYearsMax,
+                JobSearchSort.LATEST,
+                0,
+                1,
+                null,
+                true,
+                resolvedFacets
+        );
+        PagedResult<JobSearchResultItem> result = searchResultCache.get(request, () -> jobSearchService.search(request));
+        return new JobSearchFacetResponse(result.totalElements(), result.facets());
+    }
+
     @Transactional(readOnly = true)
     public PagedResult<JobResponse> listMyJobs(
             JobStatus status,
@@ -180,6 +250,8 @@ public class JobService {
                 sortBy,
                 page,
                 size,
+                null,
+                true,
                 principal
         );
     }
@@ -193,6 +265,7 @@ public class JobService {
     public JobResponse updateJob(Long jobId, UpdateJobRequest request, JwtUserPrincipal principal) {
         ensureClientRole(principal);
         Job job = findJob(jobId);
+        JobFacts before = JobFacts.of(job);
         ensureOwner(job, principal.userId());
         ensureJobEditable(job);
 
@@ -221,7 +294,7 @@ public class JobService {
         job.setExpiresAt(request.expiresAt());
 
         Job savedJob = jobRepository.save(job);
-        safeIndexJob(savedJob);
+        afterJobWrite(before, savedJob);
         return toResponse(savedJob, principal);
     }
 
@@ -229,6 +302,7 @@ public class JobService {
     public JobResponse patchJob(Long jobId, PatchJobRequest request, JwtUserPrincipal principal) {
         ensureClientRole(principal);
         Job job = findJob(jobId);
+        JobFacts before = JobFacts.of(job);
         ensureOwner(job, principal.userId());
         ensureJobEditable(job);
 
@@ -297,7 +371,7 @@ public class JobService {
         }
 
         Job savedJob = jobRepository.save(job);
-        safeIndexJob(savedJob);
+        afterJobWrite(before, savedJob);
         return toResponse(savedJob, principal);
     }
 
@@ -305,6 +379,7 @@ public class JobService {
     public JobResponse updateJobStatus(Long jobId, JobStatus status, JwtUserPrincipal principal) {
         ensureClientRole(principal);
         Job job = findJob(jobId);
+        JobFacts before = JobFacts.of(job);
         ensureOwner(job, principal.userId());
 
         if (status == JobStatus.IN_PROGRESS) {
@@ -313,7 +388,7 @@ public class JobService {
 
         applyStatusMetadata(job, requireStatus(status), Instant.now());
         Job savedJob = jobRepository.save(job);
-        safeIndexJob(savedJob);
+        afterJobWrite(before, savedJob);
         notifyUsersForStatusChange(savedJob);
         return toResponse(savedJob, principal);
     }
@@ -321,9 +396,10 @@ public class JobService {
     @Transactional
     public JobResponse updateJobStatusInternal(Long jobId, JobStatus status) {
         Job job = findJob(jobId);
+        JobFacts before = JobFacts.of(job);
         applyStatusMetadata(job, requireStatus(status), Instant.now());
         Job savedJob = jobRepository.save(job);
-        safeIndexJob(savedJob);
+        afterJobWrite(before, savedJob);
         notifyUsersForStatusChange(savedJob);
         return toResponse(savedJob, null);
     }
@@ -343,6 +419,8 @@ public class JobService {
             savedJob.setJobId(jobId);
             savedJob.setJobOwnerClientId(job.getClientId());
             savedJobRepository.save(savedJob);
+            companyStatsService.recordSavedJobChange(job.getClientId(), 1);
+            viewerContextService.invalidate(principal.userId());
         }
         return toResponse(job, principal);
     }
@@ -350,7 +428,11 @@ public class JobService {
     @Transactional
     public void unsaveJob(Long jobId, JwtUserPrincipal principal) {
         ensureFreelancerRole(principal);
-        savedJobRepository.deleteByUserIdAndJobId(principal.userId(), jobId);
+        savedJobRepository.findByUserIdAndJobId(principal.userId(), jobId).ifPresent(savedJob -> {
+            savedJobRepository.delete(savedJob);
+            companyStatsService.recordSavedJobChange(savedJob.getJobOwnerClientId(), -1);
+            viewerContextService.invalidate(principal.userId());
+        });
     }
 
     @Transactional(readOnly = true)
@@ -364,11 +446,15 @@ public class JobService {
         List<Long> jobIds = savedJobs.getContent().stream()
                 .map(SavedJob::getJobId)
                 .toList();
-        List<Job> jobs = jobRepository.findAllById(jobIds);
-        List<JobResponse> responses = jobs.stream()
-                .map(job -> toResponse(job, principal))
-                .sorted((left, right) -> Integer.compare(jobIds.indexOf(left.id()), jobIds.indexOf(right.id())))
+        Map<Long, Integer> positions = new HashMap<>(jobIds.size() * 2);
+        for (int index = 0; index < jobIds.size(); index++) {
+            positions.putIfAbsent(jobIds.get(index), index);
+        }
+        List<JobSearchResultItem> jobs = jobRepository.findAllById(jobIds).stream()
+                .sorted(Comparator.comparingInt(job -> positions.getOrDefault(job.getId(), Integer.MAX_VALUE)))
+                .map(JobSearchResultItem::fromJob)
                 .toList();
+        List<JobResponse> responses = toResponses(jobs, principal);
         return new PagedResult<>(
                 responses,
                 savedJobs.getTotalElements(),
@@ -390,6 +476,8 @@ public class JobService {
             followedCompany.setClientId(clientId);
             followedCompany.setCompanyName(resolveCompanyName(job));
             followedCompanyRepository.save(followedCompany);
+            companyStatsService.recordFollowerChange(clientId, 1);
+            viewerContextService.invalidate(principal.userId());
         }
         return new FollowedCompanyResponse(clientId, resolveCompanyName(job), now);
     }
@@ -398,7 +486,11 @@ public class JobService {
     public void unfollowCompany(Long jobId, JwtUserPrincipal principal) {
         ensureFreelancerRole(principal);
         Job job = findJob(jobId);
-        followedCompanyRepository.deleteByFollowerUserIdAndClientId(principal.userId(), job.getClientId());
+        long removed = followedCompanyRepository.deleteByFollowerUserIdAndClientId(principal.userId(), job.getClientId());
+        if (removed > 0) {
+            companyStatsService.recordFollowerChange(job.getClientId(), -removed);
+            viewerContextService.invalidate(principal.userId());
+        }
     }
 
     @Transactional(readOnly = true)
@@ -425,17 +517,61 @@ public class JobService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public RecipientPageResponse listCompanyFollowerIds(Long clientId, Long afterUserId, int limit) {
+        validateRecipientPageLimit(limit);
+        List<Long> userIds = followedCompanyRepository.findFollowerUserIdsAfter(clientId, afterUserId == null ? 0L : afterUserId, Limit.of(limit));
+        return toRecipientPage(userIds, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public RecipientPageResponse listJobSaverIds(Long jobId, Long afterUserId, int limit) {
+        validateRecipientPageLimit(limit);
+        List<Long> userIds = savedJobRepository.findUserIdsByJobIdAfter(jobId, afterUserId == null ? 0L : afterUserId, Limit.of(limit));
+        return toRecipientPage(userIds, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobOwnerResponse> listJobOwners(List<Long> jobIds) {
+        List<Long> ids = jobIds == null ? List.of() : jobIds.stream().filter(id -> id != null).distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jobRepository.findOwnersByIdIn(ids).stream()
+                .map(owner -> new JobOwnerResponse(owner.getJobId(), owner.getClientId()))
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public JobDashboardResponse getMyDashboard(JwtUserPrincipal principal) {
         ensureClientRole(principal);
         Long clientId = principal.userId();
+        return companyStatsService.findStats(clientId)
+                .map(stats -> new JobDashboardResponse(
+                        stats.getTotalJobs(),
+                        stats.getDraftJobs(),
+                        stats.getOpenJobs(),
+                        stats.getInProgressJobs(),
+                        stats.getClosedJobs(),
+                        stats.getExpiredJobs(),
+                        stats.getSavedJobs(),
+                        stats.getFollowers()
+                ))
+                .orElseGet(() -> countDashboard(clientId));
+    }
+
+    private JobDashboardResponse countDashboard(Long clientId) {
+        Map<JobStatus, Long> statusCounts = new EnumMap<>(JobStatus.class);
+        for (JobRepository.StatusCount count : jobRepository.countByClientIdGroupByStatus(clientId)) {
+            statusCounts.put(count.getStatus(), count.getTotal());
+        }
         return new JobDashboardResponse(
-                jobRepository.countByClientId(clientId),
-                jobRepository.countByClientIdAndStatus(clientId, JobStatus.DRAFT),
-                jobRepository.countByClientIdAndStatus(clientId, JobStatus.OPEN),
-                jobRepository.countByClientIdAndStatus(clientId, JobStatus.IN_PROGRESS),
-                jobRepository.countByClientIdAndStatus(clientId, JobStatus.CLOSED),
-                jobRepository.countByClientIdAndStatus(clientId, JobStatus.EXPIRED),
+                statusCounts.values().stream().mapToLong(Long::longValue).sum(),
+                statusCounts.getOrDefault(JobStatus.DRAFT, 0L),
+                statusCounts.getOrDefault(JobStatus.OPEN, 0L),
+                statusCounts.getOrDefault(JobStatus.IN_PROGRESS, 0L),
+                statusCounts.getOrDefault(JobStatus.CLOSED, 0L),
+                statusCounts.getOrDefault(JobStatus.EXPIRED, 0L),
                 savedJobRepository.countByJobOwnerClientId(clientId),
                 followedCompanyRepository.countByClientId(clientId)
         );
@@ -502,28 +638,20 @@ public class JobService {
     }
 
     private PagedResult<JobResponse> toPagedResult(PagedResult<JobSearchResultItem> result, JwtUserPrincipal principal) {
-        Set<Long> savedJobIds = resolveSavedJobIds(principal, result.content().stream().map(JobSearchResultItem::id).toList());
-        Set<Long> followedCompanyIds = resolveFollowedCompanyIds(principal, result.content().stream().map(JobSearchResultItem::clientId).toList());
-        List<JobResponse> content = result.content().stream()
-                .map(job -> toResponse(job, savedJobIds.contains(job.id()), followedCompanyIds.contains(job.clientId())))
-                .toList();
         return new PagedResult<>(
-                content,
+                toResponses(result.content(), principal),
                 result.totalElements(),
                 result.totalPages(),
                 result.page(),
-                result.size()
+                result.size(),
+                result.nextCursor(),
+                result.facets()
         );
     }
 
     private PagedResult<JobResponse> toPagedResult(Page<Job> result, JwtUserPrincipal principal) {
-        Set<Long> savedJobIds = resolveSavedJobIds(principal, result.getContent().stream().map(Job::getId).toList());
-        Set<Long> followedCompanyIds = resolveFollowedCompanyIds(principal, result.getContent().stream().map(Job::getClientId).toList());
-        List<JobResponse> content = result.getContent().stream()
-                .map(job -> toResponse(job, savedJobIds.contains(job.getId()), followedCompanyIds.contains(job.getClientId())))
-                .toList();
         return new PagedResult<>(
-                content,
+                toResponses(result.getContent().stream().map(JobSearchResultItem::fromJob).toList(), principal),
                 result.getTotalElements(),
                 result.getTotalPages(),
                 result.getNumber(),
@@ -531,22 +659,15 @@ public class JobService {
         );
     }
 
-    private Set<Long> resolveSavedJobIds(JwtUserPrincipal principal, Collection<Long> jobIds) {
-        if (!isFreelancer(principal) || jobIds.isEmpty()) {
-            return Set.of();
-        }
-        return new HashSet<>(savedJobRepository.findSavedJobIds(principal.userId(), jobIds));
+    private RecipientPageResponse toRecipientPage(List<Long> userIds, int limit) {
+        Long nextAfterUserId = userIds.size() < limit ? null : userIds.get(userIds.size() - 1);
+        return new RecipientPageResponse(userIds, nextAfterUserId);
     }
 
-    private Set<Long> resolveFollowedCompanyIds(JwtUserPrincipal principal, Collection<Long> clientIds) {
-        if (!isFreelancer(principal) || clientIds.isEmpty()) {
-            return Set.of();
+    private void validateRecipientPageLimit(int limit) {
+        if (limit < 1 || limit > MAX_RECIPIENT_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_RECIPIENT_PAGE_SIZE);
         }
-        return new HashSet<>(followedCompanyRepository.findFollowedClientIds(principal.userId(), clientIds));
-    }
-
-    private boolean isFreelancer(JwtUserPrincipal principal) {
-        return principal != null && principal.role() != null && "FREELANCER".equalsIgnoreCase(principal.role());
     }
 
     private void validateBudgetRange(BigDecimal min, BigDecimal max) {
@@ -590,6 +711,23 @@ public class JobService {
         }
     }
 
+    private JobSearchCursor resolveCursor(String cursor, JobSearchSort sort, int page) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        if (sort == JobSearchSort.RELEVANCE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor is not supported with sortBy=relevance");
+        }
+        if (page != 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must not be combined with cursor");
+        }
+        try {
+            return JobSearchCursor.decode(cursor, sort);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
     private void validateSuggestionLimit(int limit) {
         if (limit < 1 || limit > 20) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and 20");
@@ -657,9 +795,31 @@ public class JobService {
         if ("salary_low".equalsIgnoreCase(normalizedSort) || "salaryLow".equalsIgnoreCase(normalizedSort)) {
             return JobSearchSort.SALARY_LOW;
         }
+        if ("relevance".equalsIgnoreCase(normalizedSort)) {
+            return JobSearchSort.RELEVANCE;
+        }
         throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported sortBy value");
     }
 
+    private Set<JobSearchFacet> resolveFacets(List<String> facets) {
+        if (facets == null || facets.isEmpty()) {
+            return Set.of();
+        }
+        Set<JobSearchFacet> resolved = EnumSet.noneOf(JobSearchFacet.class);
+        for (String facet : facets) {
+            String normalizedFacet = normalizeText(facet);
+            if (normalizedFacet == null) {
+                continue;
+            }
+            JobSearchFacet resolvedFacet = JobSearchFacet.fromKey(normalizedFacet);
+            if (resolvedFacet == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported facets value");
+            }
+            resolved.add(resolvedFacet);
+        }
+        return resolved;
+    }
+
     private JobStatus requireStatus(JobStatus status) {
         if (status == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "status is required");
@@ -696,48 +856,19 @@ public class JobService {
         if (job.getStatus() != JobStatus.OPEN) {
             return;
         }
-        String companyName = resolveCompanyName(job);
-        for (Long followerUserId : followedCompanyRepository.findFollowerUserIdsByClientId(job.getClientId())) {
-            safeCreateNotification(
-                    followerUserId,
-                    "JOB_PUBLISHED",
-                    "New job from " + companyName,
-                    companyName + " posted a new job: " + job.getTitle()
-            );
-        }
+        jobEventPublisher.publishJobPublished(job, resolveCompanyName(job));
     }
 
     private void notifyUsersForStatusChange(Job job) {
         if (job.getStatus() == JobStatus.DRAFT) {
             return;
         }
-        String message = "Job #" + job.getId() + " is now " + job.getStatus().name();
-        for (Long savedUserId : savedJobRepository.findUserIdsByJobId(job.getId())) {
-            safeCreateNotification(
-                    savedUserId,
-                    "JOB_STATUS_CHANGED",
-                    "Saved job updated",
-                    message
-            );
-        }
+        jobEventPublisher.publishJobStatusChanged(job);
         if (job.getStatus() == JobStatus.OPEN) {
             notifyFollowersForPublishedJob(job);
         }
     }
 
-    private void safeCreateNotification(Long recipientUserId, String type, String title, String message) {
-        try {
-            notificationRestClient.post()
-                    .uri("/notifications/internal")
-                    .header(INTERNAL_API_KEY_HEADER, internalApiKey)
-                    .body(new CreateNotificationRequest(recipientUserId, type, title, message))
-                    .retrieve()
-                    .toBodilessEntity();
-        } catch (RestClientException ex) {
-            log.warn("Failed to create notification type={} recipient={}: {}", type, recipientUserId, ex.getMessage());
-        }
-    }
-
     private String normalizeRequiredText(String text, String field) {
         String normalized = normalizeText(text);
         if (normalized == null) {
@@ -781,7 +912,20 @@ public class JobService {
         return job.getCompanyName() == null ? "Client #" + job.getClientId() : job.getCompanyName();
     }
 
+    private void afterJobWrite(JobFacts before, Job job) {
+        companyStatsService.applyJobChange(before, job);
+        if (before == null) {
+            recruiterActivityRollupService.recordJobCreated(job);
+        }
+        jobSuggestionIndex.applyJobChange(job);
+        searchResultCache.invalidateJobs();
+        safeIndexJob(job);
+    }
+
     private void safeIndexJob(Job job) {
+        if (searchIndexQueue.enqueue(job)) {
+            return;
+        }
         boolean indexedJob = jobSearchService.indexJob(job);
         boolean indexedCompany = job.getClientId() != null && jobSearchService.indexCompany(job.getClientId());
         if (!indexedJob && !indexedCompany) {
@@ -790,13 +934,18 @@ public class JobService {
     }
 
     private JobResponse toResponse(Job job, JwtUserPrincipal principal) {
-        boolean saved = isFreelancer(principal) && savedJobRepository.existsByUserIdAndJobId(principal.userId(), job.getId());
-        boolean followed = isFreelancer(principal) && followedCompanyRepository.existsByFollowerUserIdAndClientId(principal.userId(), job.getClientId());
-        return toResponse(job, saved, followed);
+        return toResponses(List.of(JobSearchResultItem.fromJob(job)), principal).get(0);
     }
 
-    private JobResponse toResponse(Job job, boolean savedByCurrentUser, boolean companyFollowedByCurrentUser) {
-        return toResponse(JobSearchResultItem.fromJob(job), savedByCurrentUser, companyFollowedByCurrentUser);
+    private List<JobResponse> toResponses(List<JobSearchResultItem> jobs, JwtUserPrincipal principal) {
+        ViewerContextService.ViewerContext viewer = viewerContextService.resolve(
+                principal,
+                jobs.stream().map(JobSearchResultItem::id).toList(),
+                jobs.stream().map(JobSearchResultItem::clientId).toList()
+        );
+        return jobs.stream()
+                .map(job -> toResponse(job, viewer.isSaved(job.id()), viewer.followsCompany(job.clientId())))
+                .toList();
     }
 
     private JobResponse toResponse(JobSearchResultItem job, boolean savedByCurrentUser, boolean companyFollowedByCurrentUser) {
@@ -830,12 +979,4 @@ public class JobService {
                 companyFollowedByCurrentUser
         );
     }
-
-    private record CreateNotificationRequest(
-            Long recipientUserId,
-            String type,
-            String title,
-            String message
-    ) {
-    }
 }
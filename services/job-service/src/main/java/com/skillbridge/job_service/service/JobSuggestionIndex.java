@@ -0,0 +1,214 @@
+package com.skillbridge.job_service.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.JobStatus;
+import com.skillbridge.job_service.repository.JobRepository;
+
+@Service
+public class JobSuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(JobSuggestionIndex.class);
+
+    private final JobRepository jobRepository;
+    private final SearchProperties searchProperties;
+    private final Object stateLock = new Object();
+    private final Object publishLock = new Object();
+    private Map<Long, IndexedJob> indexedJobs = new HashMap<>();
+    private Map<TermKey, TermCount> counts = new HashMap<>();
+    private Set<TermKey> pendingTerms = new LinkedHashSet<>();
+    private Set<Long> changedDuringReload;
+    private volatile SuggestionTrie trie = SuggestionTrie.EMPTY;
+    private volatile Instant loadedAt;
+
+    public JobSuggestionIndex(JobRepository jobRepository, SearchProperties searchProperties) {
+        this.jobRepository = jobRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    public boolean isReady() {
+        return searchProperties.getSuggestions().isEnabled() && loadedAt != null;
+    }
+
+    public List<JobSearchSuggestionItem> suggest(String query, int limit) {
+        return trie.lookup(query, limit);
+    }
+
+    public void applyJobChange(Job job) {
+        if (!searchProperties.getSuggestions().isEnabled() || job.getId() == null) {
+            return;
+        }
+        Long jobId = job.getId();
+        IndexedJob indexed = IndexedJob.of(JobFacts.of(job));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyChange(jobId, indexed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyChange(jobId, indexed);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.suggestions.publish-interval-ms:500}")
+    public void publishPendingChanges() {
+        if (!isReady()) {
+            return;
+        }
+        synchronized (publishLock) {
+            List<SuggestionTrie.TermUpdate> updates;
+            synchronized (stateLock) {
+                if (pendingTerms.isEmpty()) {
+                    return;
+                }
+                updates = new ArrayList<>(pendingTerms.size());
+                for (TermKey key : pendingTerms) {
+                    TermCount count = counts.get(key);
+                    updates.add(new SuggestionTrie.TermUpdate(key.key(), key.type(), count == null ? null : toTerm(key, count)));
+                }
+                pendingTerms = new LinkedHashSet<>();
+            }
+            trie = trie.apply(updates);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.suggestions.reload-interval-ms:300000}")
+    public void reload() {
+        SearchProperties.SuggestionProperties properties = searchProperties.getSuggestions();
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (stateLock) {
+            changedDuringReload = new HashSet<>();
+        }
+        try {
+            Map<Long, IndexedJob> freshJobs = new HashMap<>();
+            Map<TermKey, TermCount> freshCounts = new HashMap<>();
+            int batchSize = Math.max(properties.getReloadBatchSize(), 1);
+            List<Long> ids = jobRepository.findIdsByStatusAfter(JobStatus.OPEN, 0L, Limit.of(batchSize));
+            while (!ids.isEmpty()) {
+                for (Job job : jobRepository.findByIdIn(ids)) {
+                    replace(freshJobs, freshCounts, null, job.getId(), IndexedJob.of(JobFacts.of(job)));
+                }
+                ids = jobRepository.findIdsByStatusAfter(JobStatus.OPEN, ids.get(ids.size() - 1), Limit.of(batchSize));
+            }
+
+            List<SuggestionTrie.Term> terms;
+            synchronized (publishLock) {
+                synchronized (stateLock) {
+                    for (Long jobId : changedDuringReload) {
+                        replace(freshJobs, freshCounts, null, jobId, indexedJobs.get(jobId));
+                    }
+                    indexedJobs = freshJobs;
+                    counts = freshCounts;
+                    pendingTerms = new LinkedHashSet<>();
+                    changedDuringReload = null;
+                    terms = freshCounts.entrySet().stream()
+                            .map(entry -> toTerm(entry.getKey(), entry.getValue()))
+                            .toList();
+                }
+                trie = SuggestionTrie.build(terms, properties.getMaxPrefixLength(), properties.getTopK());
+            }
+            loadedAt = Instant.now();
+            log.debug("Reloaded job suggestion index with {} terms", terms.size());
+        } catch (RuntimeException ex) {
+            log.warn("Could not reload job suggestion index: {}", ex.getMessage());
+        } finally {
+            synchronized (stateLock) {
+                changedDuringReload = null;
+            }
+        }
+    }
+
+    void applyChange(Long jobId, IndexedJob indexed) {
+        synchronized (stateLock) {
+            replace(indexedJobs, counts, pendingTerms, jobId, indexed);
+            if (changedDuringReload != null) {
+                changedDuringReload.add(jobId);
+            }
+        }
+    }
+
+    private SuggestionTrie.Term toTerm(TermKey key, TermCount count) {
+        return new SuggestionTrie.Term(key.key(), new JobSearchSuggestionItem(count.display(), key.type()), count.count());
+    }
+
+    private void replace(
+            Map<Long, IndexedJob> jobs,
+            Map<TermKey, TermCount> target,
+            Set<TermKey> changedTerms,
+            Long jobId,
+            IndexedJob indexed
+    ) {
+        IndexedJob previous = indexed == null ? jobs.remove(jobId) : jobs.put(jobId, indexed);
+        if (Objects.equals(previous, indexed)) {
+            return;
+        }
+        if (previous != null) {
+            adjust(target, changedTerms, previous, -1);
+        }
+        if (indexed != null) {
+            adjust(target, changedTerms, indexed, 1);
+        }
+    }
+
+    private void adjust(Map<TermKey, TermCount> target, Set<TermKey> changedTerms, IndexedJob job, int delta) {
+        adjustTerm(target, changedTerms, "TITLE", job.title(), delta);
+        adjustTerm(target, changedTerms, "COMPANY", job.companyName(), delta);
+        for (String tag : job.tags()) {
+            adjustTerm(target, changedTerms, "TAG", tag, delta);
+        }
+    }
+
+    private void adjustTerm(Map<TermKey, TermCount> target, Set<TermKey> changedTerms, String type, String value, int delta) {
+        String key = SuggestionTrie.normalizeKey(value);
+        if (key.isEmpty()) {
+            return;
+        }
+        String display = value.trim();
+        TermKey termKey = new TermKey(type, key);
+        target.compute(termKey, (ignored, current) -> {
+            long next = (current == null ? 0 : current.count()) + delta;
+            if (next <= 0) {
+                return null;
+            }
+            return new TermCount(current == null || delta > 0 ? display : current.display(), next);
+        });
+        if (changedTerms != null) {
+            changedTerms.add(termKey);
+        }
+    }
+
+    record IndexedJob(String title, String companyName, List<String> tags) {
+
+        static IndexedJob of(JobFacts facts) {
+            return facts.open() ? new IndexedJob(facts.title(), facts.companyName(), facts.tags()) : null;
+        }
+    }
+
+    private record TermKey(String type, String key) {
+    }
+
+    private record TermCount(String display, long count) {
+    }
+}
@@ -0,0 +1,651 @@
+package com.skillbridge.job_service.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.dto.FacetCount;
+
+final class OpenSearchJobCodec {
+
+    private static final JsonFactory JSON = JsonFactory.builder().build();
+
+    private static final SerializedString FROM = new SerializedString("from");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TRACK_TOTAL_HITS = new SerializedString("track_total_hits");
+    private static final SerializedString SOURCE = new SerializedString("_source");
+    private static final SerializedString QUERY = new SerializedString("query");
+    private static final SerializedString SORT = new SerializedString("sort");
+    private static final SerializedString SEARCH_AFTER = new SerializedString("search_after");
+    private static final SerializedString BOOL = new SerializedString("bool");
+    private static final SerializedString MUST = new SerializedString("must");
+    private static final SerializedString FILTER = new SerializedString("filter");
+    private static final SerializedString MULTI_MATCH = new SerializedString("multi_match");
+    private static final SerializedString FIELDS = new SerializedString("fields");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString TERM = new SerializedString("term");
+    private static final SerializedString RANGE = new SerializedString("range");
+    private static final SerializedString MATCH = new SerializedString("match");
+    private static final SerializedString OPERATOR = new SerializedString("operator");
+    private static final SerializedString GTE = new SerializedString("gte");
+    private static final SerializedString LTE = new SerializedString("lte");
+    private static final SerializedString AGGS = new SerializedString("aggs");
+    private static final SerializedString TERMS = new SerializedString("terms");
+    private static final SerializedString FIELD = new SerializedString("field");
+    private static final SerializedString RANGES = new SerializedString("ranges");
+    private static final SerializedString KEY = new SerializedString("key");
+    private static final SerializedString FROM_BOUND = new SerializedString("from");
+    private static final SerializedString TO_BOUND = new SerializedString("to");
+
+    private static final SerializableString SOURCE_INCLUDES = new SerializedString("""
+            ["id","title","description","requirements","responsibilities","benefits","budgetMin","budgetMax","tags",\
+            "status","clientId","companyName","location","employmentType","workMode","remote","experienceYears",\
+            "category","visibility","openings","createdAt","updatedAt","publishedAt","expiresAt","closedAt"]""");
+    private static final SerializableString KEYWORD_FIELDS = new SerializedString("""
+            ["title^5","companyName^3","location^2","description","requirements","responsibilities","benefits",\
+            "category^2","tags^2"]""");
+    private static final SerializableString MATCH_ALL = new SerializedString("{\"match_all\":{}}");
+    private static final SerializableString SORT_RELEVANCE = new SerializedString(
+            "[{\"_score\":{\"order\":\"desc\"}},{\"createdAt\":{\"order\":\"desc\"}},{\"id\":{\"order\":\"desc\"}}]");
+    private static final SerializableString SORT_LATEST = new SerializedString(
+            "[{\"createdAt\":{\"order\":\"desc\"}},{\"id\":{\"order\":\"desc\"}}]");
+    private static final SerializableString SORT_SALARY_HIGH = new SerializedString(
+            "[{\"budgetMax\":{\"order\":\"desc\"}},{\"createdAt\":{\"order\":\"desc\"}},{\"id\":{\"order\":\"desc\"}}]");
+    private static final SerializableString SORT_SALARY_LOW = new SerializedString(
+            "[{\"budgetMin\":{\"order\":\"asc\"}},{\"createdAt\":{\"order\":\"desc\"}},{\"id\":{\"order\":\"desc\"}}]");
+
+    private OpenSearchJobCodec() {
+    }
+
+    static byte[] writeSearchRequest(JobSearchRequest request, SearchProperties.FacetProperties facetProperties) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try (JsonGenerator generator = JSON.createGenerator(out)) {
+            generator.writeStartObject();
+            if (request.cursorPaging()) {
+                generator.writeFieldName(SIZE);
+                generator.writeNumber(request.size() + 1);
+                generator.writeFieldName(TRACK_TOTAL_HITS);
+                generator.writeBoolean(request.includeTotal());
+            } else {
+                generator.writeFieldName(FROM);
+                generator.writeNumber(request.page() * request.size());
+                generator.writeFieldName(SIZE);
+                generator.writeNumber(request.size());
+            }
+            generator.writeFieldName(SOURCE);
+            generator.writeRawValue(SOURCE_INCLUDES);
+            generator.writeFieldName(QUERY);
+            writeQuery(generator, request);
+            generator.writeFieldName(SORT);
+            generator.writeRawValue(sortTemplate(request));
+            if (request.cursorPaging() && !request.cursor().isFirstPage()) {
+                writeSearchAfter(generator, request.cursor());
+            }
+            if (request.hasFacets()) {
+                writeAggregations(generator, request, facetProperties);
+            }
+            generator.writeEndObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    static SearchHits readSearchResponse(InputStream body) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("OpenSearch search response was empty");
+            }
+            long totalHits = 0;
+            List<JobSearchResultItem> items = new ArrayList<>();
+            Map<String, List<FacetCount>> facets = Map.of();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("aggregations".equals(field) && value == JsonToken.START_OBJECT) {
+                    facets = readAggregations(parser);
+                    continue;
+                }
+                if (!"hits".equals(field) || value != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String hitsField = parser.currentName();
+                    JsonToken hitsValue = parser.nextToken();
+                    if ("total".equals(hitsField)) {
+                        totalHits = readTotal(parser);
+                    } else if ("hits".equals(hitsField) && hitsValue == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            JobSearchResultItem item = readHit(parser);
+                            if (item != null) {
+                                items.add(item);
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            return new SearchHits(items, totalHits, facets);
+        }
+    }
+
+    private static void writeQuery(JsonGenerator generator, JobSearchRequest request) throws IOException {
+        boolean hasFilter = request.status() != null
+                || request.clientId() != null
+                || request.budgetMin() != null
+                || request.budgetMax() != null
+                || request.location() != null
+                || request.companyName() != null
+                || request.employmentType() != null
+                || request.remote() != null
+                || request.experienceYearsMin() != null
+                || request.experienceYearsMax() != null
+                || (request.tags() != null && !request.tags().isEmpty());
+        if (request.keyword() == null && !hasFilter) {
+            generator.writeRawValue(MATCH_ALL);
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeFieldName(BOOL);
+        generator.writeStartObject();
+        if (request.keyword() != null) {
+            generator.writeFieldName(MUST);
+            generator.writeStartArray();
+            generator.writeStartObject();
+            generator.writeFieldName(MULTI_MATCH);
+            generator.writeStartObject();
+            generator.writeFieldName(QUERY);
+            generator.writeString(request.keyword());
+            generator.writeFieldName(FIELDS);
+            generator.writeRawValue(KEYWORD_FIELDS);
+            generator.writeFieldName(TYPE);
+            generator.writeString("best_fields");
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeEndArray();
+        }
+        if (hasFilter) {
+            generator.writeFieldName(FILTER);
+            generator.writeStartArray();
+            if (request.status() != null) {
+                writeTerm(generator, "status", request.status().name());
+            }
+            if (request.clientId() != null) {
+                generator.writeStartObject();
+                generator.writeFieldName(TERM);
+                generator.writeStartObject();
+                generator.writeNumberField("clientId", request.clientId());
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            if (request.budgetMin() != null) {
+                writeRange(generator, "budgetMax", GTE, request.budgetMin());
+            }
+            if (request.budgetMax() != null) {
+                writeRange(generator, "budgetMin", LTE, request.budgetMax());
+            }
+            if (request.location() != null) {
+                writeMatchAll(generator, "location", request.location());
+            }
+            if (request.companyName() != null) {
+                writeMatchAll(generator, "companyName", request.companyName());
+            }
+            if (request.employmentType() != null) {
+                writeTerm(generator, "employmentType", request.employmentType().name());
+            }
+            if (request.remote() != null) {
+                generator.writeStartObject();
+                generator.writeFieldName(TERM);
+                generator.writeStartObject();
+                generator.writeBooleanField("remote", request.remote());
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            if (request.experienceYearsMin() != null) {
+                writeRange(generator, "experienceYears", GTE, BigDecimal.valueOf(request.experienceYearsMin()));
+            }
+            if (request.experienceYearsMax() != null) {
+                writeRange(generator, "experienceYears", LTE, BigDecimal.valueOf(request.experienceYearsMax()));
+            }
+            if (request.tags() != null) {
+                for (String tag : request.tags()) {
+                    writeTerm(generator, "tags", tag);
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static void writeAggregations(
+            JsonGenerator generator,
+            JobSearchRequest request,
+            SearchProperties.FacetProperties facetProperties
+    ) throws IOException {
+        int termLimit = Math.max(facetProperties.getTermLimit(), 1);
+        generator.writeFieldName(AGGS);
+        generator.writeStartObject();
+        for (JobSearchFacet facet : request.facets()) {
+            generator.writeFieldName(facet.key());
+            generator.writeStartObject();
+            switch (facet) {
+                case EMPLOYMENT_TYPE -> writeTermsAggregation(generator, "employmentType", termLimit);
+                case WORK_MODE -> writeTermsAggregation(generator, "workMode", termLimit);
+                case REMOTE -> writeTermsAggregation(generator, "remote", 2);
+                case CATEGORY -> writeTermsAggregation(generator, "category.keyword", termLimit);
+                case TAGS -> writeTermsAggregation(generator, "tags", termLimit);
+                case BUDGET -> writeBudgetAggregation(generator, JobSearchFacet.budgetBounds(facetProperties.getBudgetBounds()));
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeTermsAggregation(JsonGenerator generator, String field, int size) throws IOException {
+        generator.writeFieldName(TERMS);
+        generator.writeStartObject();
+        generator.writeFieldName(FIELD);
+        generator.writeString(field);
+        generator.writeFieldName(SIZE);
+        generator.writeNumber(size);
+        generator.writeEndObject();
+    }
+
+    private static void writeBudgetAggregation(JsonGenerator generator, List<BigDecimal> bounds) throws IOException {
+        List<String> keys = JobSearchFacet.budgetBucketKeys(bounds);
+        generator.writeFieldName(RANGE);
+        generator.writeStartObject();
+        generator.writeFieldName(FIELD);
+        generator.writeString("budgetMax");
+        generator.writeFieldName(RANGES);
+        generator.writeStartArray();
+        for (int i = 0; i < keys.size(); i++) {
+            generator.writeStartObject();
+            generator.writeFieldName(KEY);
+            generator.writeString(keys.get(i));
+            if (i > 0) {
+                generator.writeFieldName(FROM_BOUND);
+                generator.writeNumber(bounds.get(i - 1));
+            }
+            if (i < bounds.size()) {
+                generator.writeFieldName(TO_BOUND);
+                generator.writeNumber(bounds.get(i));
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeTerm(JsonGenerator generator, String field, String value) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(TERM);
+        generator.writeStartObject();
+        generator.writeStringField(field, value);
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static void writeRange(JsonGenerator generator, String field, SerializedString bound, BigDecimal value) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(RANGE);
+        generator.writeStartObject();
+        generator.writeFieldName(field);
+        generator.writeStartObject();
+        generator.writeFieldName(bound);
+        generator.writeNumber(value);
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static void writeMatchAll(JsonGenerator generator, String field, String value) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(MATCH);
+        generator.writeStartObject();
+        generator.writeFieldName(field);
+        generator.writeStartObject();
+        generator.writeFieldName(QUERY);
+        generator.writeString(value);
+        generator.writeFieldName(OPERATOR);
+        generator.writeString("and");
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static void writeSearchAfter(JsonGenerator generator, JobSearchCursor cursor) throws IOException {
+        generator.writeFieldName(SEARCH_AFTER);
+        generator.writeStartArray();
+        if (cursor.sort() == JobSearchSort.SALARY_HIGH || cursor.sort() == JobSearchSort.SALARY_LOW) {
+            if (cursor.budget() == null) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(cursor.budget());
+            }
+        }
+        generator.writeNumber(cursor.createdAt().toEpochMilli());
+        generator.writeNumber(cursor.id());
+        generator.writeEndArray();
+    }
+
+    private static SerializableString sortTemplate(JobSearchRequest request) {
+        JobSearchSort sort = request.sort();
+        if (sort == JobSearchSort.RELEVANCE && request.keyword() != null && !request.cursorPaging()) {
+            return SORT_RELEVANCE;
+        }
+        if (sort == null || sort == JobSearchSort.LATEST || sort == JobSearchSort.RELEVANCE) {
+            return SORT_LATEST;
+        }
+        return sort == JobSearchSort.SALARY_HIGH ? SORT_SALARY_HIGH : SORT_SALARY_LOW;
+    }
+
+    private static long readTotal(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        long total = 0;
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("value".equals(field) && parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    total = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return total;
+    }
+
+    private static Map<String, List<FacetCount>> readAggregations(JsonParser parser) throws IOException {
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            JobSearchFacet facet = JobSearchFacet.fromKey(parser.currentName());
+            if (parser.nextToken() != JsonToken.START_OBJECT || facet == null) {
+                parser.skipChildren();
+                continue;
+            }
+            List<FacetCount> counts = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "buckets".equals(field)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        FacetCount count = readBucket(parser);
+                        if (count != null) {
+                            counts.add(count);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            facets.put(facet.key(), List.copyOf(counts));
+        }
+        return facets;
+    }
+
+    private static FacetCount readBucket(JsonParser parser) throws IOException {
+        String key = null;
+        String keyAsString = null;
+        long docCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "key" -> key = readText(parser);
+                case "key_as_string" -> keyAsString = readText(parser);
+                case "doc_count" -> docCount = parser.getLongValue();
+                default -> parser.skipChildren();
+            }
+        }
+        String value = keyAsString != null ? keyAsString : key;
+        return value == null || value.isBlank() ? null : new FacetCount(value, docCount);
+    }
+
+    private static JobSearchResultItem readHit(JsonParser parser) throws IOException {
+        JobSearchResultItem item = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("_source".equals(field) && value == JsonToken.START_OBJECT) {
+                item = readSource(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return item;
+    }
+
+    private static JobSearchResultItem readSource(JsonParser parser) throws IOException {
+        Long id = null;
+        String title = null;
+        String description = null;
+        String requirements = null;
+        String responsibilities = null;
+        String benefits = null;
+        BigDecimal budgetMin = null;
+        BigDecimal budgetMax = null;
+        List<String> tags = List.of();
+        String status = null;
+        Long clientId = null;
+        String companyName = null;
+        String location = null;
+        String employmentType = null;
+        String workMode = null;
+        boolean remote = false;
+        Integer experienceYears = null;
+        String category = null;
+        String visibility = null;
+        Integer openings = null;
+        Instant createdAt = null;
+        Instant updatedAt = null;
+        Instant publishedAt = null;
+        Instant expiresAt = null;
+        Instant closedAt = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = readLong(parser);
+                case "title" -> title = readText(parser);
+                case "description" -> description = readText(parser);
+                case "requirements" -> requirements = readText(parser);
+                case "responsibilities" -> responsibilities = readText(parser);
+                case "benefits" -> benefits = readText(parser);
+                case "budgetMin" -> budgetMin = readDecimal(parser);
+                case "budgetMax" -> budgetMax = readDecimal(parser);
+                case "tags" -> tags = readTextArray(parser);
+                case "status" -> status = readText(parser);
+                case "clientId" -> clientId = readLong(parser);
+                case "companyName" -> companyName = readText(parser);
+                case "location" -> location = readText(parser);
+                case "employmentType" -> employmentType = readText(parser);
+                case "workMode" -> workMode = readText(parser);
+                case "remote" -> remote = parser.currentToken() == JsonToken.VALUE_TRUE;
+                case "experienceYears" -> experienceYears = readInteger(parser);
+                case "category" -> category = readText(parser);
+                case "visibility" -> visibility = readText(parser);
+                case "openings" -> openings = readInteger(parser);
+                case "createdAt" -> createdAt = readInstant(parser);
+                case "updatedAt" -> updatedAt = readInstant(parser);
+                case "publishedAt" -> publishedAt = readInstant(parser);
+                case "expiresAt" -> expiresAt = readInstant(parser);
+                case "closedAt" -> closedAt = readInstant(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new JobSearchResultItem(
+                id,
+                title,
+                description,
+                requirements,
+                responsibilities,
+                benefits,
+                budgetMin,
+                budgetMax,
+                tags,
+                status,
+                clientId,
+                companyName,
+                location,
+                employmentType,
+                workMode,
+                remote,
+                experienceYears,
+                category,
+                visibility,
+                openings,
+                createdAt,
+                updatedAt,
+                publishedAt,
+                expiresAt,
+                closedAt
+        );
+    }
+
+    private static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private static Long readLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL || token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsLong();
+    }
+
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL || token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsInt();
+    }
+
+    private static BigDecimal readDecimal(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isNumeric()) {
+            return parser.getDecimalValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return new BigDecimal(parser.getText());
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static Instant readInstant(JsonParser parser) throws IOException {
+        String value = readText(parser);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Instant instant = parseUtcInstant(value);
+        return instant != null ? instant : Instant.parse(value);
+    }
+
+    static Instant parseUtcInstant(String value) {
+        int length = value.length();
+        if (length < 20 || length > 30 || value.charAt(length - 1) != 'Z'
+                || value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T'
+                || value.charAt(13) != ':' || value.charAt(16) != ':') {
+            return null;
+        }
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 7);
+        int day = digits(value, 8, 10);
+        int hour = digits(value, 11, 13);
+        int minute = digits(value, 14, 16);
+        int second = digits(value, 17, 19);
+        int nanos = 0;
+        if (length > 20) {
+            if (value.charAt(19) != '.' || length == 21) {
+                return null;
+            }
+            int fraction = digits(value, 20, length - 1);
+            if (fraction < 0) {
+                return null;
+            }
+            nanos = fraction;
+            for (int i = length - 1 - 20; i < 9; i++) {
+                nanos *= 10;
+            }
+        } else if (value.charAt(19) != 'Z') {
+            return null;
+        }
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31 || hour < 0 || hour > 23
+                || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        try {
+            long epochDay = LocalDate.of(year, month, day).toEpochDay();
+            return Instant.ofEpochSecond(epochDay * 86_400 + hour * 3_600L + minute * 60L + second, nanos);
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    private static int digits(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static List<String> readTextArray(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String value = readText(parser);
+            if (value != null && !value.isBlank()) {
+                values.add(value);
+            }
+        }
+        return List.copyOf(values);
+    }
+
+    record SearchHits(List<JobSearchResultItem> items, long totalHits, Map<String, List<FacetCount>> facets) {
+    }
+}
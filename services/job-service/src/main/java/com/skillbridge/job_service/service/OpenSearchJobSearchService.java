@@ -1,75 +1,107 @@
 package com.skillbridge.job_service.service;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.skillbridge.job_service.config.SearchProperties;
 import com.skillbridge.job_service.domain.Job;
 import com.skillbridge.job_service.dto.PagedResult;
-import com.skillbridge.job_service.repository.JobRepository;
 
 @Service
 public class OpenSearchJobSearchService implements JobSearchService {
 
     private static final Logger log = LoggerFactory.getLogger(OpenSearchJobSearchService.class);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final List<String> SUGGESTION_TYPES = List.of("TITLE", "COMPANY", "TAG");
 
     private final SearchProperties searchProperties;
-    private final JobRepository jobRepository;
+    private final CompanyStatsService companyStatsService;
+    private final OpenSearchTransport transport;
     private final RestClient restClient;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final Map<SearchIndexKind, RebuildTarget> rebuildTargets = new ConcurrentHashMap<>();
     private volatile boolean jobIndexEnsured;
     private volatile boolean companyIndexEnsured;
 
-    public OpenSearchJobSearchService(SearchProperties searchProperties, JobRepository jobRepository) {
+    public OpenSearchJobSearchService(
+            SearchProperties searchProperties,
+            CompanyStatsService companyStatsService,
+            OpenSearchTransport transport
+    ) {
         this.searchProperties = searchProperties;
-        this.jobRepository = jobRepository;
-        this.restClient = createRestClient(searchProperties);
+        this.companyStatsService = companyStatsService;
+        this.transport = transport;
+        this.restClient = createRestClient();
     }
 
     @Override
     public PagedResult<JobSearchResultItem> search(JobSearchRequest request) {
         ensureJobIndex();
-        JsonNode response = restClient.post()
+        OpenSearchJobCodec.SearchHits hits = restClient.post()
                 .uri("/{index}/_search", searchProperties.getOpensearch().getIndexJobs())
                 .contentType(MediaType.APPLICATION_JSON)
-                .body(buildSearchRequest(request))
-                .retrieve()
-                .body(JsonNode.class);
-
-        if (response == null) {
-            throw new IllegalStateException("OpenSearch search response was empty");
-        }
+                .body(OpenSearchJobCodec.writeSearchRequest(request, searchProperties.getFacets()))
+                .exchange((clientRequest, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new IllegalStateException("OpenSearch search failed with status " + response.getStatusCode().value());
+                    }
+                    try (InputStream body = response.getBody()) {
+                        return OpenSearchJobCodec.readSearchResponse(body);
+                    }
+                });
 
-        List<JobSearchResultItem> content = new ArrayList<>();
-        JsonNode hitsNode = response.path("hits").path("hits");
-        if (hitsNode.isArray()) {
-            for (JsonNode hit : hitsNode) {
-                JsonNode source = hit.path("_source");
-                if (!source.isMissingNode() && !source.isNull()) {
-                    content.add(toSearchResult(source));
-                }
-            }
+        if (request.cursorPaging()) {
+            return toCursorPage(request, hits).withFacets(hits.facets());
         }
 
-        long totalElements = extractTotalHits(response.path("hits").path("total"));
+        long totalElements = hits.totalHits();
         int totalPages = request.size() == 0 ? 0 : (int) Math.ceil((double) totalElements / request.size());
-        return new PagedResult<>(content, totalElements, totalPages, request.page(), request.size());
+        return new PagedResult<>(hits.items(), totalElements, totalPages, request.page(), request.size(), null, hits.facets());
+    }
+
+    private PagedResult<JobSearchResultItem> toCursorPage(JobSearchRequest request, OpenSearchJobCodec.SearchHits hits) {
+        List<JobSearchResultItem> items = hits.items();
+        List<JobSearchResultItem> content = items.size() > request.size() ? items.subList(0, request.size()) : items;
+        String nextCursor = items.size() > request.size()
+                ? JobSearchCursor.after(request.cursor().sort(), content.get(content.size() - 1)).encode()
+                : null;
+        long totalElements = request.includeTotal() ? hits.totalHits() : -1;
+        int totalPages = totalElements < 0 ? -1 : (int) Math.ceil((double) totalElements / request.size());
+        return new PagedResult<>(List.copyOf(content), totalElements, totalPages, 0, request.size(), nextCursor);
     }
 
     @Override
@@ -91,26 +123,33 @@ public class OpenSearchJobSearchService implements JobSearchService {
             throw new IllegalStateException("OpenSearch suggest response was empty");
         }
 
-        LinkedHashSet<JobSearchSuggestionItem> suggestions = new LinkedHashSet<>();
-        JsonNode hitsNode = response.path("hits").path("hits");
-        if (hitsNode.isArray()) {
-            for (JsonNode hit : hitsNode) {
-                JsonNode source = hit.path("_source");
-                if (source.isMissingNode() || source.isNull()) {
-                    continue;
-                }
-                addSuggestion(suggestions, readText(source, "title"), "TITLE", normalizedQuery, limit);
-                addSuggestion(suggestions, readNullableText(source, "companyName"), "COMPANY", normalizedQuery, limit);
-                JsonNode tagsNode = source.path("tags");
-                if (tagsNode.isArray()) {
-                    for (JsonNode tag : tagsNode) {
-                        addSuggestion(suggestions, tag.asText(null), "TAG", normalizedQuery, limit);
+        List<List<String>> optionsByType = new ArrayList<>();
+        for (String type : SUGGESTION_TYPES) {
+            List<String> options = new ArrayList<>();
+            for (JsonNode entry : response.path("suggest").path(type)) {
+                for (JsonNode option : entry.path("options")) {
+                    String text = option.path("text").asText(null);
+                    if (notBlank(text)) {
+                        options.add(text);
                     }
                 }
-                if (suggestions.size() >= limit) {
-                    break;
+            }
+            optionsByType.add(options);
+        }
+
+        LinkedHashSet<JobSearchSuggestionItem> suggestions = new LinkedHashSet<>();
+        for (int rank = 0; suggestions.size() < limit; rank++) {
+            boolean more = false;
+            for (int typeIndex = 0; typeIndex < SUGGESTION_TYPES.size() && suggestions.size() < limit; typeIndex++) {
+                List<String> options = optionsByType.get(typeIndex);
+                if (rank < options.size()) {
+                    suggestions.add(new JobSearchSuggestionItem(options.get(rank), SUGGESTION_TYPES.get(typeIndex)));
+                    more = true;
                 }
             }
+            if (!more) {
+                break;
+            }
         }
         return List.copyOf(suggestions);
     }
@@ -154,12 +193,7 @@ public class OpenSearchJobSearchService implements JobSearchService {
         }
         try {
             ensureJobIndex();
-            restClient.put()
-                    .uri("/{index}/_doc/{id}", searchProperties.getOpensearch().getIndexJobs(), job.getId())
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(toIndexDocument(job))
-                    .retrieve()
-                    .toBodilessEntity();
+            writeDocument(SearchIndexKind.JOBS, job.getId(), toIndexDocument(job));
             return true;
         } catch (RestClientException | IllegalStateException ex) {
             log.warn("Failed to index jobId={} into OpenSearch: {}", job.getId(), ex.getMessage());
@@ -173,22 +207,174 @@ public class OpenSearchJobSearchService implements JobSearchService {
             return false;
         }
         try {
-            List<Job> jobs = jobRepository.findByClientIdOrderByUpdatedAtDesc(clientId);
-            if (jobs.isEmpty()) {
+            CompanySearchResultItem company = companyStatsService.findCompany(clientId).orElse(null);
+            if (company == null) {
                 return deleteCompany(clientId);
             }
             ensureCompanyIndex();
+            writeDocument(SearchIndexKind.COMPANIES, clientId, toCompanyIndexDocument(company));
+            return true;
+        } catch (RestClientException | IllegalStateException ex) {
+            log.warn("Failed to index company clientId={} into OpenSearch: {}", clientId, ex.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public SearchIndexRebuild beginRebuild(SearchIndexKind kind) {
+        if (!supportsIndexing()) {
+            return null;
+        }
+        String alias = aliasFor(kind);
+        for (String staleIndex : staleRebuildIndexes(kind)) {
+            log.warn("Deleting unfinished or orphaned {} rebuild index {}", kind, staleIndex);
+            deleteIndexQuietly(staleIndex);
+        }
+        String indexName = newPhysicalIndexName(alias);
+        Map<String, Object> definition = buildIndexDefinition(kind, true);
+        definition.put("aliases", Map.of(rebuildAliasFor(kind), Map.of()));
+        createIndex(indexName, definition);
+        rebuildTargets.put(kind, new RebuildTarget(indexName, System.nanoTime()));
+        awaitRebuildTargetPropagation();
+        log.info("Started {} index rebuild into {} behind alias {}", kind, indexName, alias);
+        return new SearchIndexRebuild(kind, alias, indexName);
+    }
+
+    @Override
+    public int indexJobs(SearchIndexRebuild rebuild, List<Job> jobs) {
+        if (!supportsIndexing() || jobs.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Map<String, Object>> documents = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            documents.put(job.getId(), toIndexDocument(job));
+        }
+        try {
+            return bulkCreate(rebuild.indexName(), documents);
+        } catch (RestClientException | IllegalStateException ex) {
+            log.warn("Failed to bulk index {} jobs into OpenSearch: {}", jobs.size(), ex.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public int indexCompanies(SearchIndexRebuild rebuild, List<CompanySearchResultItem> companies) {
+        if (!supportsIndexing() || companies.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Map<String, Object>> documents = new LinkedHashMap<>();
+        for (CompanySearchResultItem company : companies) {
+            documents.put(company.clientId(), toCompanyIndexDocument(company));
+        }
+        try {
+            return bulkCreate(rebuild.indexName(), documents);
+        } catch (RestClientException | IllegalStateException ex) {
+            log.warn("Failed to bulk index {} companies into OpenSearch: {}", documents.size(), ex.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public void completeRebuild(SearchIndexRebuild rebuild) {
+        try {
             restClient.put()
-                    .uri("/{index}/_doc/{id}", searchProperties.getOpensearch().getIndexCompanies(), clientId)
+                    .uri("/{index}/_settings", rebuild.indexName())
                     .contentType(MediaType.APPLICATION_JSON)
-                    .body(toCompanyIndexDocument(clientId, jobs))
+                    .body(Map.of("index", liveIndexSettings()))
                     .retrieve()
                     .toBodilessEntity();
-            return true;
+            restClient.post()
+                    .uri("/{index}/_refresh", rebuild.indexName())
+                    .retrieve()
+                    .toBodilessEntity();
+
+            String rebuildAlias = rebuildAliasFor(rebuild.kind());
+            if (!indexesForAlias(rebuildAlias).contains(rebuild.indexName())) {
+                throw new IllegalStateException("Rebuild " + rebuild.indexName() + " was superseded by another rebuild");
+            }
+            List<String> previousIndexes = resolveIndexes(rebuild.alias());
+            List<Object> actions = new ArrayList<>();
+            for (String previousIndex : previousIndexes) {
+                if (previousIndex.equals(rebuild.alias())) {
+                    actions.add(Map.of("remove_index", Map.of("index", previousIndex)));
+                } else if (!previousIndex.equals(rebuild.indexName())) {
+                    actions.add(Map.of("remove", Map.of("index", previousIndex, "alias", rebuild.alias())));
+                }
+            }
+            actions.add(Map.of("add", Map.of("index", rebuild.indexName(), "alias", rebuild.alias())));
+            actions.add(Map.of("remove", Map.of("index", rebuild.indexName(), "alias", rebuildAlias)));
+            restClient.post()
+                    .uri("/_aliases")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("actions", actions))
+                    .retrieve()
+                    .toBodilessEntity();
+            markIndexEnsured(rebuild.kind());
+            rebuildTargets.put(rebuild.kind(), new RebuildTarget(null, System.nanoTime()));
+            log.info("Swapped alias {} to {} (previous: {})", rebuild.alias(), rebuild.indexName(), previousIndexes);
+
+            for (String previousIndex : previousIndexes) {
+                if (!previousIndex.equals(rebuild.alias()) && !previousIndex.equals(rebuild.indexName())) {
+                    deleteIndexQuietly(previousIndex);
+                }
+            }
+        } catch (RestClientException ex) {
+            throw new IllegalStateException("Could not promote OpenSearch index " + rebuild.indexName(), ex);
+        }
+    }
+
+    @Override
+    public void abortRebuild(SearchIndexRebuild rebuild) {
+        try {
+            restClient.post()
+                    .uri("/_aliases")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("actions", List.of(Map.of("remove", Map.of("index", rebuild.indexName(), "alias", rebuildAliasFor(rebuild.kind()))))))
+                    .retrieve()
+                    .toBodilessEntity();
+            rebuildTargets.put(rebuild.kind(), new RebuildTarget(null, System.nanoTime()));
+            awaitRebuildTargetPropagation();
         } catch (RestClientException | IllegalStateException ex) {
-            log.warn("Failed to index company clientId={} into OpenSearch: {}", clientId, ex.getMessage());
-            return false;
+            log.warn("Could not detach rebuild alias from {}: {}", rebuild.indexName(), ex.getMessage());
+        }
+        deleteIndexQuietly(rebuild.indexName());
+        log.warn("Aborted {} index rebuild, kept alias {} on its current index", rebuild.kind(), rebuild.alias());
+    }
+
+    @Override
+    public Set<Long> writeJobs(List<Job> jobs, Collection<Long> deletedJobIds, Instant snapshotAt) {
+        if (!supportsIndexing() || (jobs.isEmpty() && deletedJobIds.isEmpty())) {
+            return Set.of();
+        }
+        ensureJobIndex();
+        long version = snapshotAt.toEpochMilli();
+        String rebuildTarget = rebuildTarget(SearchIndexKind.JOBS);
+        List<BulkOperation> operations = new ArrayList<>();
+        for (Job job : jobs) {
+            addVersionedWrite(operations, SearchIndexKind.JOBS, rebuildTarget, job.getId(), version, toIndexDocument(job));
+        }
+        for (Long jobId : deletedJobIds) {
+            addVersionedDelete(operations, SearchIndexKind.JOBS, rebuildTarget, jobId, version);
+        }
+        return executeBulk(operations);
+    }
+
+    @Override
+    public Set<Long> writeCompanies(List<CompanySearchResultItem> companies, Collection<Long> deletedClientIds, Instant snapshotAt) {
+        if (!supportsIndexing() || (companies.isEmpty() && deletedClientIds.isEmpty())) {
+            return Set.of();
+        }
+        ensureCompanyIndex();
+        long version = snapshotAt.toEpochMilli();
+        String rebuildTarget = rebuildTarget(SearchIndexKind.COMPANIES);
+        List<BulkOperation> operations = new ArrayList<>();
+        for (CompanySearchResultItem company : companies) {
+            addVersionedWrite(operations, SearchIndexKind.COMPANIES, rebuildTarget, company.clientId(), version, toCompanyIndexDocument(company));
         }
+        for (Long clientId : deletedClientIds) {
+            addVersionedDelete(operations, SearchIndexKind.COMPANIES, rebuildTarget, clientId, version);
+        }
+        return executeBulk(operations);
     }
 
     @Override
@@ -198,10 +384,7 @@ public class OpenSearchJobSearchService implements JobSearchService {
         }
         try {
             ensureJobIndex();
-            restClient.delete()
-                    .uri("/{index}/_doc/{id}", searchProperties.getOpensearch().getIndexJobs(), jobId)
-                    .retrieve()
-                    .toBodilessEntity();
+            removeDocument(SearchIndexKind.JOBS, jobId);
             return true;
         } catch (HttpClientErrorException.NotFound ex) {
             return false;
@@ -218,10 +401,7 @@ public class OpenSearchJobSearchService implements JobSearchService {
         }
         try {
             ensureCompanyIndex();
-            restClient.delete()
-                    .uri("/{index}/_doc/{id}", searchProperties.getOpensearch().getIndexCompanies(), clientId)
-                    .retrieve()
-                    .toBodilessEntity();
+            removeDocument(SearchIndexKind.COMPANIES, clientId);
             return true;
         } catch (HttpClientErrorException.NotFound ex) {
             return false;
@@ -247,23 +427,14 @@ public class OpenSearchJobSearchService implements JobSearchService {
         return "opensearch";
     }
 
-    private RestClient createRestClient(SearchProperties properties) {
-        if (!notBlank(properties.getOpensearch().getUrl())) {
+    private RestClient createRestClient() {
+        if (!transport.isConfigured()) {
             return null;
         }
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(properties.getOpensearch().getConnectTimeoutMs());
-        requestFactory.setReadTimeout(properties.getOpensearch().getSocketTimeoutMs());
-        return RestClient.builder()
-                .baseUrl(properties.getOpensearch().getUrl())
-                .requestFactory(requestFactory)
-                .defaultHeaders(headers -> {
-                    if (notBlank(properties.getOpensearch().getUsername())) {
-                        headers.setBasicAuth(
-                                properties.getOpensearch().getUsername(),
-                                properties.getOpensearch().getPassword() == null ? "" : properties.getOpensearch().getPassword()
-                        );
-                    }
+        return transport.restClientBuilder()
+                .messageConverters(converters -> {
+                    converters.removeIf(MappingJackson2HttpMessageConverter.class::isInstance);
+                    converters.add(new MappingJackson2HttpMessageConverter(objectMapper));
                 })
                 .build();
     }
@@ -276,7 +447,7 @@ public class OpenSearchJobSearchService implements JobSearchService {
             if (jobIndexEnsured) {
                 return;
             }
-            ensureIndex(searchProperties.getOpensearch().getIndexJobs(), buildJobIndexMapping());
+            ensureIndex(SearchIndexKind.JOBS);
             jobIndexEnsured = true;
         }
     }
@@ -289,17 +460,207 @@ public class OpenSearchJobSearchService implements JobSearchService {
             if (companyIndexEnsured) {
                 return;
             }
-            ensureIndex(searchProperties.getOpensearch().getIndexCompanies(), buildCompanyIndexMapping());
+            ensureIndex(SearchIndexKind.COMPANIES);
             companyIndexEnsured = true;
         }
     }
 
-    private void ensureIndex(String indexName, Map<String, Object> mapping) {
+    private void ensureIndex(SearchIndexKind kind) {
         if (!supportsIndexing()) {
             throw new IllegalStateException("OpenSearch indexing is not configured");
         }
-        if (!indexExists(indexName)) {
-            createIndex(indexName, mapping);
+        String alias = aliasFor(kind);
+        if (!indexExists(alias)) {
+            Map<String, Object> definition = buildIndexDefinition(kind, false);
+            definition.put("aliases", Map.of(alias, Map.of()));
+            createIndex(newPhysicalIndexName(alias), definition);
+        }
+    }
+
+    private void markIndexEnsured(SearchIndexKind kind) {
+        if (kind == SearchIndexKind.JOBS) {
+            jobIndexEnsured = true;
+        } else {
+            companyIndexEnsured = true;
+        }
+    }
+
+    private String aliasFor(SearchIndexKind kind) {
+        return kind == SearchIndexKind.JOBS
+                ? searchProperties.getOpensearch().getIndexJobs()
+                : searchProperties.getOpensearch().getIndexCompanies();
+    }
+
+    private String rebuildAliasFor(SearchIndexKind kind) {
+        return aliasFor(kind) + "_rebuild";
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.opensearch.rebuild-target-refresh-ms:1000}")
+    public void refreshRebuildTargets() {
+        if (!supportsIndexing()) {
+            return;
+        }
+        for (SearchIndexKind kind : SearchIndexKind.values()) {
+            try {
+                resolveRebuildTarget(kind);
+            } catch (RestClientException | IllegalStateException ex) {
+                log.warn("Could not refresh {} rebuild target: {}", kind, ex.getMessage());
+            }
+        }
+    }
+
+    private String rebuildTarget(SearchIndexKind kind) {
+        RebuildTarget cached = rebuildTargets.get(kind);
+        long maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(2 * rebuildTargetRefreshMs());
+        if (cached != null && System.nanoTime() - cached.resolvedAtNanos() < maxAgeNanos) {
+            return cached.indexName();
+        }
+        return resolveRebuildTarget(kind);
+    }
+
+    private String resolveRebuildTarget(SearchIndexKind kind) {
+        long resolvedAtNanos = System.nanoTime();
+        List<String> targets = indexesForAlias(rebuildAliasFor(kind));
+        String target = targets.isEmpty() ? null : targets.get(0);
+        rebuildTargets.put(kind, new RebuildTarget(target, resolvedAtNanos));
+        return target;
+    }
+
+    private void awaitRebuildTargetPropagation() {
+        try {
+            Thread.sleep(2 * rebuildTargetRefreshMs());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for instances to pick up the rebuild target", ex);
+        }
+    }
+
+    private long rebuildTargetRefreshMs() {
+        return Math.max(searchProperties.getOpensearch().getRebuildTargetRefreshMs(), 1);
+    }
+
+    private List<String> indexesForAlias(String alias) {
+        try {
+            JsonNode response = restClient.get()
+                    .uri("/_alias/{alias}", alias)
+                    .retrieve()
+                    .body(JsonNode.class);
+            List<String> indexes = new ArrayList<>();
+            if (response != null) {
+                response.fields().forEachRemaining(entry -> {
+                    if (entry.getValue().path("aliases").has(alias)) {
+                        indexes.add(entry.getKey());
+                    }
+                });
+            }
+            return indexes;
+        } catch (HttpClientErrorException.NotFound ex) {
+            return List.of();
+        }
+    }
+
+    private List<String> staleRebuildIndexes(SearchIndexKind kind) {
+        String alias = aliasFor(kind);
+        String rebuildAlias = rebuildAliasFor(kind);
+        JsonNode response = restClient.get()
+                .uri("/{pattern}/_alias", alias + "_v*")
+                .retrieve()
+                .body(JsonNode.class);
+        Instant staleBefore = Instant.now().minusSeconds(Math.max(searchProperties.getReindex().getStaleRebuildSeconds(), 0));
+        List<String> indexes = new ArrayList<>();
+        if (response != null) {
+            response.fields().forEachRemaining(entry -> {
+                JsonNode aliases = entry.getValue().path("aliases");
+                if (aliases.has(alias)) {
+                    return;
+                }
+                if (aliases.has(rebuildAlias)) {
+                    Instant createdAt = physicalIndexCreatedAt(alias, entry.getKey());
+                    if (createdAt == null || createdAt.isAfter(staleBefore)) {
+                        throw new ResponseStatusException(
+                                HttpStatus.CONFLICT,
+                                "A " + kind.name().toLowerCase(Locale.ROOT) + " index rebuild into " + entry.getKey() + " is already running"
+                        );
+                    }
+                }
+                indexes.add(entry.getKey());
+            });
+        }
+        return indexes;
+    }
+
+    private String newPhysicalIndexName(String alias) {
+        return alias + "_v" + System.currentTimeMillis();
+    }
+
+    private Instant physicalIndexCreatedAt(String alias, String indexName) {
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(indexName.substring(alias.length() + 2)));
+        } catch (NumberFormatException | IndexOutOfBoundsException ex) {
+            return null;
+        }
+    }
+
+    private List<String> resolveIndexes(String alias) {
+        try {
+            JsonNode response = restClient.get()
+                    .uri("/{index}", alias)
+                    .retrieve()
+                    .body(JsonNode.class);
+            List<String> indexes = new ArrayList<>();
+            if (response != null) {
+                response.fieldNames().forEachRemaining(indexes::add);
+            }
+            return indexes;
+        } catch (HttpClientErrorException.NotFound ex) {
+            return List.of();
+        }
+    }
+
+    private void writeDocument(SearchIndexKind kind, Long id, Map<String, Object> document) {
+        restClient.put()
+                .uri("/{index}/_doc/{id}", aliasFor(kind), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(document)
+                .retrieve()
+                .toBodilessEntity();
+        String rebuildTarget = rebuildTarget(kind);
+        if (rebuildTarget != null) {
+            restClient.put()
+                    .uri("/{index}/_doc/{id}", rebuildTarget, id)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(document)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    }
+
+    private void removeDocument(SearchIndexKind kind, Long id) {
+        String rebuildTarget = rebuildTarget(kind);
+        if (rebuildTarget != null) {
+            try {
+                restClient.delete()
+                        .uri("/{index}/_doc/{id}", rebuildTarget, id)
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch (HttpClientErrorException.NotFound ex) {
+                log.debug("Document {} not yet present in rebuild target {}", id, rebuildTarget);
+            }
+        }
+        restClient.delete()
+                .uri("/{index}/_doc/{id}", aliasFor(kind), id)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private void deleteIndexQuietly(String indexName) {
+        try {
+            restClient.delete()
+                    .uri("/{index}", indexName)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RestClientException ex) {
+            log.warn("Failed to delete OpenSearch index {}: {}", indexName, ex.getMessage());
         }
     }
 
@@ -336,6 +697,131 @@ public class OpenSearchJobSearchService implements JobSearchService {
         }
     }
 
+    private int bulkCreate(String indexName, Map<Long, Map<String, Object>> documents) {
+        if (documents.isEmpty()) {
+            return 0;
+        }
+        List<BulkOperation> operations = new ArrayList<>();
+        documents.forEach((id, document) -> operations.add(new BulkOperation("create", indexName, id, null, document)));
+        return documents.size() - executeBulk(operations).size();
+    }
+
+    private void addVersionedWrite(
+            List<BulkOperation> operations,
+            SearchIndexKind kind,
+            String rebuildTarget,
+            Long id,
+            long version,
+            Map<String, Object> document
+    ) {
+        operations.add(new BulkOperation("index", aliasFor(kind), id, version, document));
+        if (rebuildTarget != null) {
+            operations.add(new BulkOperation("index", rebuildTarget, id, version, document));
+        }
+    }
+
+    private void addVersionedDelete(List<BulkOperation> operations, SearchIndexKind kind, String rebuildTarget, Long id, long version) {
+        operations.add(new BulkOperation("delete", aliasFor(kind), id, version, null));
+        if (rebuildTarget != null) {
+            operations.add(new BulkOperation("delete", rebuildTarget, id, version, null));
+        }
+    }
+
+    private Set<Long> executeBulk(List<BulkOperation> operations) {
+        StringBuilder body = new StringBuilder();
+        for (BulkOperation operation : operations) {
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            metadata.put("_index", operation.index());
+            metadata.put("_id", String.valueOf(operation.id()));
+            if (operation.version() != null) {
+                metadata.put("version", operation.version());
+                metadata.put("version_type", "external_gte");
+            }
+            body.append(toJson(Map.of(operation.action(), metadata))).append('\n');
+            if (operation.document() != null) {
+                body.append(toJson(operation.document())).append('\n');
+            }
+        }
+        JsonNode response = await(transport.postAsync("/_bulk", NDJSON, body.toString().getBytes(StandardCharsets.UTF_8))
+                .thenApply(this::readResponse));
+        if (response == null || response.isMissingNode()) {
+            throw new IllegalStateException("OpenSearch bulk response was empty");
+        }
+        if (!response.path("errors").asBoolean(false)) {
+            return Set.of();
+        }
+
+        Set<Long> failedIds = new LinkedHashSet<>();
+        String firstError = null;
+        JsonNode items = response.path("items");
+        for (int i = 0; i < operations.size() && i < items.size(); i++) {
+            BulkOperation operation = operations.get(i);
+            JsonNode result = items.get(i).path(operation.action());
+            int status = result.path("status").asInt(500);
+            boolean accepted = status < 300 || status == 409 || ("delete".equals(operation.action()) && status == 404);
+            if (!accepted) {
+                failedIds.add(operation.id());
+                if (firstError == null) {
+                    firstError = result.path("error").path("reason").asText(result.path("error").toString());
+                }
+            }
+        }
+        if (!failedIds.isEmpty()) {
+            log.warn("OpenSearch bulk request rejected {} of {} operations: {}", failedIds.size(), operations.size(), firstError);
+        }
+        return failedIds;
+    }
+
+    private JsonNode readResponse(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not read OpenSearch response", ex);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> call) {
+        try {
+            return call.get(searchProperties.getOpensearch().getSocketTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException runtime
+                    ? runtime
+                    : new IllegalStateException("OpenSearch request failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            call.cancel(true);
+            throw new IllegalStateException("OpenSearch request timed out", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            call.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for OpenSearch", ex);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize OpenSearch document", ex);
+        }
+    }
+
+    private Map<String, Object> buildIndexDefinition(SearchIndexKind kind, boolean bulkLoading) {
+        Map<String, Object> definition = new LinkedHashMap<>();
+        definition.put("settings", Map.of("index", bulkLoading
+                ? Map.of("number_of_replicas", 0, "refresh_interval", "-1")
+                : liveIndexSettings()));
+        definition.put("mappings", kind == SearchIndexKind.JOBS ? buildJobIndexMapping() : buildCompanyIndexMapping());
+        return definition;
+    }
+
+    private Map<String, Object> liveIndexSettings() {
+        SearchProperties.OpenSearchProperties properties = searchProperties.getOpensearch();
+        return Map.of(
+                "number_of_replicas", properties.getNumberOfReplicas(),
+                "refresh_interval", properties.getRefreshInterval()
+        );
+    }
+
     private Map<String, Object> buildJobIndexMapping() {
         Map<String, Object> properties = new LinkedHashMap<>();
         properties.put("id", Map.of("type", "long"));
@@ -363,7 +849,10 @@ public class OpenSearchJobSearchService implements JobSearchService {
         properties.put("expiresAt", Map.of("type", "date"));
         properties.put("closedAt", Map.of("type", "date"));
         properties.put("tags", Map.of("type", "keyword"));
-        return Map.of("mappings", Map.of("properties", properties));
+        properties.put("titleSuggest", completionField());
+        properties.put("companySuggest", completionField());
+        properties.put("tagSuggest", completionField());
+        return Map.of("properties", properties);
     }
 
     private Map<String, Object> buildCompanyIndexMapping() {
@@ -377,7 +866,15 @@ public class OpenSearchJobSearchService implements JobSearchService {
         properties.put("locations", Map.of("type", "keyword"));
         properties.put("employmentTypes", Map.of("type", "keyword"));
         properties.put("topTags", Map.of("type", "keyword"));
-        return Map.of("mappings", Map.of("properties", properties));
+        return Map.of("properties", properties);
+    }
+
+    private Map<String, Object> completionField() {
+        return Map.of(
+                "type", "completion",
+                "max_input_length", 50,
+                "contexts", List.of(Map.of("name", "status", "type", "category", "path", "status"))
+        );
     }
 
     private Map<String, Object> textWithKeyword() {
@@ -414,53 +911,56 @@ public class OpenSearchJobSearchService implements JobSearchService {
         document.put("expiresAt", job.getExpiresAt());
         document.put("closedAt", job.getClosedAt());
         document.put("tags", job.getTags());
+        document.put("titleSuggest", completionInput(List.of(job.getTitle() == null ? "" : job.getTitle())));
+        document.put("companySuggest", completionInput(List.of(job.getCompanyName() == null ? "" : job.getCompanyName())));
+        document.put("tagSuggest", completionInput(job.getTags() == null ? List.of() : job.getTags()));
         return document;
     }
 
-    private Map<String, Object> toCompanyIndexDocument(Long clientId, List<Job> jobs) {
-        Job seed = jobs.get(0);
+    private Map<String, Object> completionInput(List<String> values) {
+        List<String> inputs = values.stream()
+                .filter(this::notBlank)
+                .map(String::trim)
+                .distinct()
+                .toList();
+        return inputs.isEmpty() ? null : Map.of("input", inputs);
+    }
+
+    private Map<String, Object> toCompanyIndexDocument(CompanySearchResultItem company) {
         Map<String, Object> document = new LinkedHashMap<>();
-        document.put("clientId", clientId);
-        document.put("companyName", resolveCompanyName(seed));
-        document.put("totalJobs", jobs.size());
-        document.put("openJobs", jobs.stream().filter(job -> job.getStatus() != null && "OPEN".equals(job.getStatus().name())).count());
-        document.put("latestJobCreatedAt", jobs.stream().map(Job::getCreatedAt).filter(Objects::nonNull).max(Instant::compareTo).orElse(null));
-        document.put("latestJobUpdatedAt", jobs.stream().map(Job::getUpdatedAt).filter(Objects::nonNull).max(Instant::compareTo).orElse(null));
-        document.put("locations", distinctNonBlank(jobs.stream().map(Job::getLocation).toList(), 8));
-        document.put("employmentTypes", distinctNonBlank(
-                jobs.stream().map(job -> job.getEmploymentType() == null ? null : job.getEmploymentType().name()).toList(),
-                8
-        ));
-        document.put("topTags", distinctNonBlank(jobs.stream().flatMap(job -> job.getTags().stream()).toList(), 12));
+        document.put("clientId", company.clientId());
+        document.put("companyName", company.companyName());
+        document.put("totalJobs", company.totalJobs());
+        document.put("openJobs", company.openJobs());
+        document.put("latestJobCreatedAt", company.latestJobCreatedAt());
+        document.put("latestJobUpdatedAt", company.latestJobUpdatedAt());
+        document.put("locations", company.locations());
+        document.put("employmentTypes", company.employmentTypes());
+        document.put("topTags", company.topTags());
         return document;
     }
 
-    private Map<String, Object> buildSearchRequest(JobSearchRequest request) {
+    private Map<String, Object> buildSuggestionRequest(String query, int limit) {
+        Map<String, Object> suggest = new LinkedHashMap<>();
+        suggest.put("TITLE", completionSuggestion(query, "titleSuggest", limit));
+        suggest.put("COMPANY", completionSuggestion(query, "companySuggest", limit));
+        suggest.put("TAG", completionSuggestion(query, "tagSuggest", limit));
         Map<String, Object> body = new LinkedHashMap<>();
-        body.put("from", request.page() * request.size());
-        body.put("size", request.size());
-        body.put("query", buildQuery(request));
-        body.put("sort", buildSort(request.sort()));
+        body.put("size", 0);
+        body.put("suggest", suggest);
         return body;
     }
 
-    private Map<String, Object> buildSuggestionRequest(String query, int limit) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("size", Math.max(limit * 3, limit));
-        body.put("_source", List.of("title", "companyName", "tags"));
-        body.put("query", Map.of(
-                "bool", Map.of(
-                        "filter", List.of(Map.of("term", Map.of("status", "OPEN"))),
-                        "should", List.of(
-                                Map.of("match_phrase_prefix", Map.of("title", Map.of("query", query, "boost", 5))),
-                                Map.of("match_phrase_prefix", Map.of("companyName", Map.of("query", query, "boost", 3))),
-                                Map.of("prefix", Map.of("tags", query))
-                        ),
-                        "minimum_should_match", 1
+    private Map<String, Object> completionSuggestion(String query, String field, int limit) {
+        return Map.of(
+                "prefix", query,
+                "completion", Map.of(
+                        "field", field,
+                        "size", limit,
+                        "skip_duplicates", true,
+                        "contexts", Map.of("status", List.of("OPEN"))
                 )
-        ));
-        body.put("sort", List.of(Map.of("_score", Map.of("order", "desc")), Map.of("updatedAt", Map.of("order", "desc"))));
-        return body;
+        );
     }
 
     private Map<String, Object> buildCompanySearchRequest(String query, int limit) {
@@ -483,125 +983,6 @@ public class OpenSearchJobSearchService implements JobSearchService {
         return body;
     }
 
-    private Map<String, Object> buildQuery(JobSearchRequest request) {
-        List<Object> must = new ArrayList<>();
-        List<Object> filter = new ArrayList<>();
-
-        if (request.keyword() != null) {
-            must.add(Map.of(
-                    "multi_match", Map.of(
-                            "query", request.keyword(),
-                            "fields", List.of(
-                                    "title^5",
-                                    "companyName^3",
-                                    "location^2",
-                                    "description",
-                                    "requirements",
-                                    "responsibilities",
-                                    "benefits",
-                                    "category^2",
-                                    "tags^2"
-                            ),
-                            "type", "best_fields"
-                    )
-            ));
-        }
-        if (request.status() != null) {
-            filter.add(Map.of("term", Map.of("status", request.status().name())));
-        }
-        if (request.clientId() != null) {
-            filter.add(Map.of("term", Map.of("clientId", request.clientId())));
-        }
-        if (request.budgetMin() != null) {
-            filter.add(Map.of("range", Map.of("budgetMax", Map.of("gte", request.budgetMin()))));
-        }
-        if (request.budgetMax() != null) {
-            filter.add(Map.of("range", Map.of("budgetMin", Map.of("lte", request.budgetMax()))));
-        }
-        if (request.location() != null) {
-            filter.add(Map.of("match", Map.of("location", Map.of("query", request.location(), "operator", "and"))));
-        }
-        if (request.companyName() != null) {
-            filter.add(Map.of("match", Map.of("companyName", Map.of("query", request.companyName(), "operator", "and"))));
-        }
-        if (request.employmentType() != null) {
-            filter.add(Map.of("term", Map.of("employmentType", request.employmentType().name())));
-        }
-        if (request.remote() != null) {
-            filter.add(Map.of("term", Map.of("remote", request.remote())));
-        }
-        if (request.experienceYearsMin() != null) {
-            filter.add(Map.of("range", Map.of("experienceYears", Map.of("gte", request.experienceYearsMin()))));
-        }
-        if (request.experienceYearsMax() != null) {
-            filter.add(Map.of("range", Map.of("experienceYears", Map.of("lte", request.experienceYearsMax()))));
-        }
-        if (request.tags() != null) {
-            for (String tag : request.tags()) {
-                filter.add(Map.of("term", Map.of("tags", tag)));
-            }
-        }
-
-        Map<String, Object> bool = new LinkedHashMap<>();
-        if (!must.isEmpty()) {
-            bool.put("must", must);
-        }
-        if (!filter.isEmpty()) {
-            bool.put("filter", filter);
-        }
-        return bool.isEmpty() ? Map.of("match_all", Map.of()) : Map.of("bool", bool);
-    }
-
-    private List<Object> buildSort(JobSearchSort sort) {
-        if (sort == null || sort == JobSearchSort.LATEST) {
-            return List.of(Map.of("createdAt", Map.of("order", "desc")));
-        }
-        if (sort == JobSearchSort.SALARY_HIGH) {
-            return List.of(
-                    Map.of("budgetMax", Map.of("order", "desc")),
-                    Map.of("createdAt", Map.of("order", "desc"))
-            );
-        }
-        return List.of(
-                Map.of("budgetMin", Map.of("order", "asc")),
-                Map.of("createdAt", Map.of("order", "desc"))
-        );
-    }
-
-    private JobSearchResultItem toSearchResult(JsonNode source) {
-        return new JobSearchResultItem(
-                readLong(source, "id"),
-                readText(source, "title"),
-                readText(source, "description"),
-                readNullableText(source, "requirements"),
-                readNullableText(source, "responsibilities"),
-                readNullableText(source, "benefits"),
-                readBigDecimal(source, "budgetMin"),
-                readBigDecimal(source, "budgetMax"),
-                readTextArray(source.path("tags")),
-                readText(source, "status"),
-                readLong(source, "clientId"),
-                readNullableText(source, "companyName"),
-                readNullableText(source, "location"),
-                readText(source, "employmentType"),
-                readNullableText(source, "workMode"),
-                source.path("remote").asBoolean(false),
-                source.path("experienceYears").isMissingNode() || source.path("experienceYears").isNull()
-                        ? null
-                        : source.path("experienceYears").asInt(),
-                readNullableText(source, "category"),
-                readNullableText(source, "visibility"),
-                source.path("openings").isMissingNode() || source.path("openings").isNull()
-                        ? null
-                        : source.path("openings").asInt(),
-                readInstant(source, "createdAt"),
-                readInstant(source, "updatedAt"),
-                readInstant(source, "publishedAt"),
-                readInstant(source, "expiresAt"),
-                readInstant(source, "closedAt")
-        );
-    }
-
     private CompanySearchResultItem toCompanySearchResult(JsonNode source) {
         return new CompanySearchResultItem(
                 readLong(source, "clientId"),
@@ -616,32 +997,6 @@ public class OpenSearchJobSearchService implements JobSearchService {
         );
     }
 
-    private void addSuggestion(
-            LinkedHashSet<JobSearchSuggestionItem> suggestions,
-            String value,
-            String type,
-            String normalizedQuery,
-            int limit
-    ) {
-        if (suggestions.size() >= limit || value == null || value.isBlank()) {
-            return;
-        }
-        if (!value.toLowerCase(Locale.ROOT).contains(normalizedQuery)) {
-            return;
-        }
-        suggestions.add(new JobSearchSuggestionItem(value, type));
-    }
-
-    private long extractTotalHits(JsonNode totalNode) {
-        if (totalNode == null || totalNode.isMissingNode() || totalNode.isNull()) {
-            return 0L;
-        }
-        if (totalNode.isNumber()) {
-            return totalNode.asLong();
-        }
-        return totalNode.path("value").asLong(0L);
-    }
-
     private Long readLong(JsonNode node, String field) {
         JsonNode value = node.path(field);
         return value.isMissingNode() || value.isNull() ? null : value.asLong();
@@ -652,18 +1007,6 @@ public class OpenSearchJobSearchService implements JobSearchService {
         return value.isMissingNode() || value.isNull() ? null : value.asText();
     }
 
-    private String readNullableText(JsonNode node, String field) {
-        return readText(node, field);
-    }
-
-    private BigDecimal readBigDecimal(JsonNode node, String field) {
-        JsonNode value = node.path(field);
-        if (value.isMissingNode() || value.isNull()) {
-            return null;
-        }
-        return new BigDecimal(value.asText());
-    }
-
     private List<String> readTextArray(JsonNode arrayNode) {
         if (arrayNode == null || !arrayNode.isArray()) {
             return List.of();
@@ -685,23 +1028,6 @@ public class OpenSearchJobSearchService implements JobSearchService {
         return Instant.parse(value.asText());
     }
 
-    private List<String> distinctNonBlank(List<String> values, int limit) {
-        return values.stream()
-                .filter(Objects::nonNull)
-                .map(String::trim)
-                .filter(value -> !value.isBlank())
-                .distinct()
-                .limit(limit)
-                .toList();
-    }
-
-    private String resolveCompanyName(Job job) {
-        if (job.getCompanyName() != null && !job.getCompanyName().isBlank()) {
-            return job.getCompanyName();
-        }
-        return "Client #" + job.getClientId();
-    }
-
     private String normalizeQuery(String query) {
         if (query == null) {
             return null;
@@ -713,4 +1039,10 @@ public class OpenSearchJobSearchService implements JobSearchService {
     private boolean notBlank(String value) {
         return value != null && !value.isBlank();
     }
+
+    private record BulkOperation(String action, String index, Long id, Long version, Map<String, Object> document) {
+    }
+
+    private record RebuildTarget(String indexName, long resolvedAtNanos) {
+    }
 }
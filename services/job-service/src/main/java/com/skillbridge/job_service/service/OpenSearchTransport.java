@@ -0,0 +1,320 @@
+package com.skillbridge.job_service.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.skillbridge.job_service.config.SearchProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class OpenSearchTransport {
+
+    private final SearchProperties.OpenSearchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final String authorization;
+    private final CloseableHttpClient httpClient;
+    private final CloseableHttpAsyncClient asyncClient;
+    private final RestClient.Builder restClientBuilder;
+
+    public OpenSearchTransport(SearchProperties searchProperties, MeterRegistry meterRegistry) {
+        this.properties = searchProperties.getOpensearch();
+        this.meterRegistry = meterRegistry;
+        String url = properties.getUrl();
+        if (url == null || url.isBlank()) {
+            this.baseUrl = null;
+            this.authorization = null;
+            this.httpClient = null;
+            this.asyncClient = null;
+            this.restClientBuilder = null;
+            return;
+        }
+        this.baseUrl = url.trim().replaceAll("/+$", "");
+        this.authorization = basicAuthorization(properties.getUsername(), properties.getPassword());
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMs()))
+                .setSocketTimeout(Timeout.ofMilliseconds(properties.getSocketTimeoutMs()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeoutMs()))
+                .setResponseTimeout(Timeout.ofMilliseconds(properties.getSocketTimeoutMs()))
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(properties.getKeepAliveMs()))
+                .build();
+
+        PoolingHttpClientConnectionManager syncPool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(syncPool)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getKeepAliveMs()));
+        if (!properties.isCompressionEnabled()) {
+            httpClientBuilder.disableContentCompression();
+        }
+        this.httpClient = httpClientBuilder.build();
+
+        PoolingAsyncClientConnectionManager asyncPool = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+        this.asyncClient = HttpAsyncClients.custom()
+                .setConnectionManager(asyncPool)
+                .setDefaultRequestConfig(requestConfig)
+                .setIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(Math.max(properties.getIoThreads(), 1))
+                        .setSoTimeout(Timeout.ofMilliseconds(properties.getSocketTimeoutMs()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getKeepAliveMs()))
+                .build();
+        this.asyncClient.start();
+
+        registerPoolGauges("sync", syncPool);
+        registerPoolGauges("async", asyncPool);
+
+        this.restClientBuilder = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+                .requestInterceptor(this::intercept)
+                .defaultHeaders(headers -> {
+                    if (authorization != null) {
+                        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                    }
+                });
+    }
+
+    public boolean isConfigured() {
+        return baseUrl != null;
+    }
+
+    public RestClient.Builder restClientBuilder() {
+        if (restClientBuilder == null) {
+            throw new IllegalStateException("OpenSearch URL is not configured");
+        }
+        return restClientBuilder.clone();
+    }
+
+    public CompletableFuture<byte[]> postAsync(String path, MediaType contentType, byte[] body) {
+        if (asyncClient == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("OpenSearch URL is not configured"));
+        }
+        SimpleRequestBuilder requestBuilder = SimpleRequestBuilder.post(URI.create(baseUrl + path));
+        byte[] payload = body;
+        if (shouldCompress(body)) {
+            payload = gzip(body);
+            requestBuilder.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (properties.isCompressionEnabled()) {
+            requestBuilder.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        if (authorization != null) {
+            requestBuilder.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        SimpleHttpRequest request = requestBuilder
+                .setBody(payload, ContentType.parse(contentType.toString()))
+                .build();
+
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        long startedAt = System.nanoTime();
+        asyncClient.execute(request, new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                record("async", "POST", path, outcome(response.getCode()), startedAt);
+                if (response.getCode() >= 300) {
+                    result.completeExceptionally(new IllegalStateException(
+                            "OpenSearch POST " + path + " failed with status " + response.getCode()
+                    ));
+                    return;
+                }
+                byte[] responseBody = response.getBodyBytes();
+                if (responseBody == null) {
+                    result.complete(new byte[0]);
+                    return;
+                }
+                Header contentEncoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+                if (contentEncoding == null || !"gzip".equalsIgnoreCase(contentEncoding.getValue().trim())) {
+                    result.complete(responseBody);
+                    return;
+                }
+                try {
+                    result.complete(gunzip(responseBody));
+                } catch (UncheckedIOException ex) {
+                    result.completeExceptionally(new IllegalStateException(
+                            "Could not decompress OpenSearch POST " + path + " response", ex.getCause()
+                    ));
+                }
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                record("async", "POST", path, "error", startedAt);
+                result.completeExceptionally(new IllegalStateException("OpenSearch POST " + path + " failed: " + ex.getMessage(), ex));
+            }
+
+            @Override
+            public void cancelled() {
+                record("async", "POST", path, "cancelled", startedAt);
+                result.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (httpClient != null) {
+            httpClient.close(CloseMode.GRACEFUL);
+        }
+        if (asyncClient != null) {
+            asyncClient.close(CloseMode.GRACEFUL);
+        }
+    }
+
+    private ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        byte[] payload = body;
+        if (shouldCompress(body)) {
+            payload = gzip(body);
+            request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            request.getHeaders().setContentLength(payload.length);
+        }
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            ClientHttpResponse response = execution.execute(request, payload);
+            outcome = outcome(response.getStatusCode().value());
+            return response;
+        } finally {
+            record("sync", request.getMethod().name(), request.getURI().getPath(), outcome, startedAt);
+        }
+    }
+
+    private boolean shouldCompress(byte[] body) {
+        return properties.isCompressionEnabled() && body.length >= Math.max(properties.getCompressionMinBytes(), 1);
+    }
+
+    private void record(String client, String method, String path, String outcome, long startedAt) {
+        Timer.builder("opensearch.client.requests")
+                .tag("client", client)
+                .tag("method", method)
+                .tag("endpoint", endpoint(path))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void registerPoolGauges(String client, ConnPoolControl<HttpRoute> pool) {
+        Gauge.builder("opensearch.pool.connections", pool, control -> control.getTotalStats().getLeased())
+                .tag("client", client)
+                .tag("state", "leased")
+                .register(meterRegistry);
+        Gauge.builder("opensearch.pool.connections", pool, control -> control.getTotalStats().getAvailable())
+                .tag("client", client)
+                .tag("state", "available")
+                .register(meterRegistry);
+        Gauge.builder("opensearch.pool.connections", pool, control -> control.getTotalStats().getPending())
+                .tag("client", client)
+                .tag("state", "pending")
+                .description("Requests waiting for a pooled connection")
+                .register(meterRegistry);
+        Gauge.builder("opensearch.pool.max", pool, ConnPoolControl::getMaxTotal)
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    static String endpoint(String path) {
+        if (path == null || path.isBlank() || "/".equals(path)) {
+            return "root";
+        }
+        String endpoint = "index";
+        for (String segment : path.split("/")) {
+            if (segment.startsWith("_")) {
+                endpoint = segment;
+            }
+        }
+        return endpoint;
+    }
+
+    private static String outcome(int status) {
+        if (status < 300) {
+            return "success";
+        }
+        return status < 500 ? "client_error" : "server_error";
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] body) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return gzip.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String basicAuthorization(String username, String password) {
+        if (username == null || username.isBlank()) {
+            return null;
+        }
+        String credentials = username + ":" + (password == null ? "" : password);
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+}
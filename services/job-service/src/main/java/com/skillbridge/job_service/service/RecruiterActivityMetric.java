@@ -0,0 +1,11 @@
+package com.skillbridge.job_service.service;
+
+public enum RecruiterActivityMetric {
+    JOBS_CREATED,
+    PROPOSALS,
+    INTERVIEWS,
+    ACCEPTED,
+    REJECTED,
+    CONTRACTS_CREATED,
+    CONTRACTS_COMPLETED
+}
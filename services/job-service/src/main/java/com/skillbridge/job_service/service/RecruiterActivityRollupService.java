@@ -0,0 +1,141 @@
+package com.skillbridge.job_service.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.repository.RecruiterActivityEventRepository;
+import com.skillbridge.job_service.repository.RecruiterActivityRepository;
+
+@Service
+public class RecruiterActivityRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecruiterActivityRollupService.class);
+    private static final int SECONDS_PER_HOUR = 3600;
+
+    private final RecruiterActivityRepository activityRepository;
+    private final RecruiterActivityEventRepository eventRepository;
+    private final boolean readEnabled;
+    private final Instant coveredSince;
+    private final Duration eventRetention;
+
+    public RecruiterActivityRollupService(
+            RecruiterActivityRepository activityRepository,
+            RecruiterActivityEventRepository eventRepository,
+            @Value("${app.reports.rollup.read-enabled:true}") boolean readEnabled,
+            @Value("${app.reports.rollup.covered-since:}") String coveredSince,
+            @Value("${app.reports.rollup.event-retention-days:30}") long eventRetentionDays
+    ) {
+        this.activityRepository = activityRepository;
+        this.eventRepository = eventRepository;
+        this.readEnabled = readEnabled;
+        this.coveredSince = coveredSince == null || coveredSince.isBlank() ? null : Instant.parse(coveredSince.trim());
+        this.eventRetention = Duration.ofDays(Math.max(eventRetentionDays, 1));
+    }
+
+    @Transactional
+    public void recordJobCreated(Job job) {
+        record(null, job.getClientId(), job.getCreatedAt(), RecruiterActivityMetric.JOBS_CREATED, 1);
+    }
+
+    @Transactional
+    public boolean record(String eventKey, Long clientId, Instant occurredAt, RecruiterActivityMetric metric, int count) {
+        if (clientId == null || occurredAt == null || count <= 0) {
+            log.warn("Skipping {} rollup event key={} without clientId/occurredAt", metric, eventKey);
+            return false;
+        }
+        Instant now = Instant.now();
+        if (eventKey != null && eventRepository.insertIfAbsent(eventKey, now) == 0) {
+            return false;
+        }
+        activityRepository.increment(
+                clientId,
+                occurredAt.truncatedTo(ChronoUnit.HOURS),
+                metric == RecruiterActivityMetric.JOBS_CREATED ? count : 0,
+                metric == RecruiterActivityMetric.PROPOSALS ? count : 0,
+                metric == RecruiterActivityMetric.INTERVIEWS ? count : 0,
+                metric == RecruiterActivityMetric.ACCEPTED ? count : 0,
+                metric == RecruiterActivityMetric.REJECTED ? count : 0,
+                metric == RecruiterActivityMetric.CONTRACTS_CREATED ? count : 0,
+                metric == RecruiterActivityMetric.CONTRACTS_COMPLETED ? count : 0,
+                now
+        );
+        return true;
+    }
+
+    public boolean canServeSeries(Instant from, Instant to, ZoneId zoneId) {
+        return readEnabled
+                && coveredSince != null
+                && !from.isBefore(coveredSince)
+                && hasWholeHourOffsets(zoneId, from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecruiterActivityRepository.SeriesBucket> loadSeries(
+            Long clientId,
+            Instant from,
+            Instant to,
+            ReportGroupBy groupBy,
+            ZoneId zoneId
+    ) {
+        return activityRepository.sumSeriesByClientId(
+                clientId,
+                from.truncatedTo(ChronoUnit.HOURS),
+                to,
+                groupBy.name().toLowerCase(Locale.ROOT),
+                toDatabaseTimezone(zoneId)
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${app.reports.rollup.event-cleanup-interval-ms:3600000}")
+    public void purgeProcessedEvents() {
+        try {
+            int purged = eventRepository.deleteProcessedBefore(Instant.now().minus(eventRetention));
+            if (purged > 0) {
+                log.info("Purged {} processed recruiter activity event keys", purged);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not purge processed recruiter activity event keys: {}", ex.getMessage());
+        }
+    }
+
+    private boolean hasWholeHourOffsets(ZoneId zoneId, Instant from, Instant to) {
+        ZoneRules rules = zoneId.getRules();
+        if (rules.getOffset(from).getTotalSeconds() % SECONDS_PER_HOUR != 0) {
+            return false;
+        }
+        ZoneOffsetTransition transition = rules.nextTransition(from);
+        while (transition != null && !transition.getInstant().isAfter(to)) {
+            if (transition.getOffsetAfter().getTotalSeconds() % SECONDS_PER_HOUR != 0) {
+                return false;
+            }
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        return true;
+    }
+
+    private String toDatabaseTimezone(ZoneId zoneId) {
+        if (!(zoneId.normalized() instanceof ZoneOffset offset)) {
+            return zoneId.getId();
+        }
+        if (offset.getTotalSeconds() == 0) {
+            return "UTC";
+        }
+        String id = offset.getId();
+        return "UTC" + (id.startsWith("+") ? "-" : "+") + id.substring(1);
+    }
+}
@@ -10,15 +10,33 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.skillbridge.job_service.domain.Job;
@@ -29,8 +47,11 @@ import com.skillbridge.job_service.dto.RecruiterReportSeriesPointResponse;
 import com.skillbridge.job_service.dto.RecruiterReportSeriesResponse;
 import com.skillbridge.job_service.dto.RecruiterTopJobPerformanceResponse;
 import com.skillbridge.job_service.repository.JobRepository;
+import com.skillbridge.job_service.repository.RecruiterActivityRepository;
 import com.skillbridge.job_service.security.JwtUserPrincipal;
 
+import jakarta.annotation.PreDestroy;
+
 @Service
 public class RecruiterReportService {
 
@@ -38,20 +59,44 @@ public class RecruiterReportService {
     private static final String INTERNAL_API_KEY_HEADER = "X-Internal-Api-Key";
 
     private final JobRepository jobRepository;
+    private final RecruiterActivityRollupService rollupService;
+    private final CloseableHttpClient proposalHttpClient;
+    private final CloseableHttpClient contractHttpClient;
     private final RestClient proposalRestClient;
     private final RestClient contractRestClient;
     private final String internalApiKey;
+    private final long deadlineMs;
+    private final ThreadPoolExecutor fanOutExecutor;
 
     public RecruiterReportService(
             JobRepository jobRepository,
+            RecruiterActivityRollupService rollupService,
             @Value("${app.services.proposal-base-url:http://localhost:8084}") String proposalBaseUrl,
             @Value("${app.services.contract-base-url:http://localhost:8085}") String contractBaseUrl,
-            @Value("${app.internal.api-key}") String internalApiKey
+            @Value("${app.internal.api-key}") String internalApiKey,
+            @Value("${app.reports.fan-out.deadline-ms:3000}") long deadlineMs,
+            @Value("${app.reports.fan-out.max-threads:16}") int maxThreads,
+            @Value("${app.reports.fan-out.queue-capacity:256}") int queueCapacity,
+            @Value("${app.reports.proposal-service.connect-timeout-ms:500}") int proposalConnectTimeoutMs,
+            @Value("${app.reports.proposal-service.read-timeout-ms:2500}") int proposalReadTimeoutMs,
+            @Value("${app.reports.contract-service.connect-timeout-ms:500}") int contractConnectTimeoutMs,
+            @Value("${app.reports.contract-service.read-timeout-ms:2500}") int contractReadTimeoutMs
     ) {
         this.jobRepository = jobRepository;
-        this.proposalRestClient = RestClient.builder().baseUrl(proposalBaseUrl).build();
-        this.contractRestClient = RestClient.builder().baseUrl(contractBaseUrl).build();
+        this.rollupService = rollupService;
+        this.proposalHttpClient = httpClient(proposalConnectTimeoutMs, proposalReadTimeoutMs, maxThreads);
+        this.contractHttpClient = httpClient(contractConnectTimeoutMs, contractReadTimeoutMs, maxThreads);
+        this.proposalRestClient = RestClient.builder()
+                .baseUrl(proposalBaseUrl)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(proposalHttpClient))
+                .build();
+        this.contractRestClient = RestClient.builder()
+                .baseUrl(contractBaseUrl)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(contractHttpClient))
+                .build();
         this.internalApiKey = internalApiKey == null ? "" : internalApiKey;
+        this.deadlineMs = Math.max(deadlineMs, 1);
+        this.fanOutExecutor = newExecutor(maxThreads, queueCapacity);
     }
 
     @Transactional(readOnly = true)
@@ -63,6 +108,9 @@ public class RecruiterReportService {
         Long clientId = requireClientPrincipal(principal);
         Range range = normalizeRange(from, to);
         List<String> warnings = new ArrayList<>();
+        long deadlineNanos = startDeadline();
+        CompletableFuture<InternalProposalSummaryResponse> proposalSummaryCall = fetchAsync(() -> fetchProposalSummary(clientId, range));
+        CompletableFuture<InternalContractSummaryResponse> contractSummaryCall = fetchAsync(() -> fetchContractSummary(clientId, range));
 
         List<Job> jobs = jobRepository.findByClientIdOrderByUpdatedAtDesc(clientId);
         long totalJobs = jobs.size();
@@ -71,8 +119,10 @@ public class RecruiterReportService {
         long expiredJobs = jobs.stream().filter(job -> job.getStatus() == JobStatus.EXPIRED).count();
         long jobsCreatedInRange = jobs.stream().filter(job -> inRange(job.getCreatedAt(), range)).count();
 
-        InternalProposalSummaryResponse proposalSummary = fetchProposalSummary(clientId, range, warnings);
-        InternalContractSummaryResponse contractSummary = fetchContractSummary(clientId, range, warnings);
+        InternalProposalSummaryResponse proposalSummary = await(
+                proposalSummaryCall, deadlineNanos, "proposal-service summary", clientId, InternalProposalSummaryResponse::empty, warnings);
+        InternalContractSummaryResponse contractSummary = await(
+                contractSummaryCall, deadlineNanos, "contract-service summary", clientId, InternalContractSummaryResponse::empty, warnings);
 
         return new RecruiterReportOverviewResponse(
                 totalJobs,
@@ -115,6 +165,26 @@ public class RecruiterReportService {
             cursor = nextBucketStart(cursor, safeGroupBy, zoneId);
         }
 
+        if (rollupService.canServeSeries(range.from(), range.to(), zoneId)) {
+            for (RecruiterActivityRepository.SeriesBucket bucket
+                    : rollupService.loadSeries(clientId, range.from(), range.to(), safeGroupBy, zoneId)) {
+                MutableSeriesCounter counter = counters.computeIfAbsent(bucket.getBucketStart(), ignored -> new MutableSeriesCounter());
+                counter.jobsCreated += bucket.getJobsCreated();
+                counter.proposals += bucket.getProposals();
+                counter.interviews += bucket.getInterviews();
+                counter.accepted += bucket.getAccepted();
+                counter.rejected += bucket.getRejected();
+                counter.hires += bucket.getContractsCreated();
+            }
+            return toSeriesResponse(range, safeGroupBy, zoneId, counters, warnings);
+        }
+
+        long deadlineNanos = startDeadline();
+        CompletableFuture<InternalProposalSeriesResponse> proposalSeriesCall =
+                fetchAsync(() -> fetchProposalSeries(clientId, range, safeGroupBy, zoneId));
+        CompletableFuture<InternalContractSeriesResponse> contractSeriesCall =
+                fetchAsync(() -> fetchContractSeries(clientId, range, safeGroupBy, zoneId));
+
         List<Job> jobs = jobRepository.findByClientIdOrderByUpdatedAtDesc(clientId);
         for (Job job : jobs) {
             if (!inRange(job.getCreatedAt(), range)) {
@@ -124,7 +194,8 @@ public class RecruiterReportService {
             counters.computeIfAbsent(bucket, ignored -> new MutableSeriesCounter()).jobsCreated++;
         }
 
-        InternalProposalSeriesResponse proposalSeries = fetchProposalSeries(clientId, range, safeGroupBy, zoneId, warnings);
+        InternalProposalSeriesResponse proposalSeries = await(
+                proposalSeriesCall, deadlineNanos, "proposal-service series", clientId, InternalProposalSeriesResponse::empty, warnings);
         for (InternalProposalSeriesPointResponse point : proposalSeries.points()) {
             MutableSeriesCounter counter = counters.computeIfAbsent(point.bucketStart(), ignored -> new MutableSeriesCounter());
             counter.proposals += point.proposals();
@@ -133,33 +204,14 @@ public class RecruiterReportService {
             counter.rejected += point.rejected();
         }
 
-        InternalContractSeriesResponse contractSeries = fetchContractSeries(clientId, range, safeGroupBy, zoneId, warnings);
+        InternalContractSeriesResponse contractSeries = await(
+                contractSeriesCall, deadlineNanos, "contract-service series", clientId, InternalContractSeriesResponse::empty, warnings);
         for (InternalContractSeriesPointResponse point : contractSeries.points()) {
             MutableSeriesCounter counter = counters.computeIfAbsent(point.bucketStart(), ignored -> new MutableSeriesCounter());
             counter.hires += point.contractsCreated();
         }
 
-        List<RecruiterReportSeriesPointResponse> points = counters.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> new RecruiterReportSeriesPointResponse(
-                        entry.getKey(),
-                        entry.getValue().jobsCreated,
-                        entry.getValue().proposals,
-                        entry.getValue().interviews,
-                        entry.getValue().accepted,
-                        entry.getValue().rejected,
-                        entry.getValue().hires
-                ))
-                .toList();
-
-        return new RecruiterReportSeriesResponse(
-                range.from(),
-                range.to(),
-                safeGroupBy.name(),
-                zoneId.getId(),
-                points,
-                List.copyOf(warnings)
-        );
+        return toSeriesResponse(range, safeGroupBy, zoneId, counters, warnings);
     }
 
     @Transactional(readOnly = true)
@@ -171,12 +223,17 @@ public class RecruiterReportService {
         Long clientId = requireClientPrincipal(principal);
         Range range = normalizeRange(from, to);
         List<String> warnings = new ArrayList<>();
+        long deadlineNanos = startDeadline();
+        CompletableFuture<InternalProposalSummaryResponse> proposalSummaryCall = fetchAsync(() -> fetchProposalSummary(clientId, range));
+        CompletableFuture<InternalContractSummaryResponse> contractSummaryCall = fetchAsync(() -> fetchContractSummary(clientId, range));
 
         long jobsCreated = jobRepository.findByClientIdOrderByUpdatedAtDesc(clientId).stream()
                 .filter(job -> inRange(job.getCreatedAt(), range))
                 .count();
-        InternalProposalSummaryResponse proposalSummary = fetchProposalSummary(clientId, range, warnings);
-        InternalContractSummaryResponse contractSummary = fetchContractSummary(clientId, range, warnings);
+        InternalProposalSummaryResponse proposalSummary = await(
+                proposalSummaryCall, deadlineNanos, "proposal-service summary", clientId, InternalProposalSummaryResponse::empty, warnings);
+        InternalContractSummaryResponse contractSummary = await(
+                contractSummaryCall, deadlineNanos, "contract-service summary", clientId, InternalContractSummaryResponse::empty, warnings);
 
         long proposals = proposalSummary.totalProposals();
         long interviews = proposalSummary.interviewsScheduled();
@@ -210,7 +267,14 @@ public class RecruiterReportService {
         Range range = normalizeRange(from, to);
         List<String> warnings = new ArrayList<>();
 
-        List<InternalTopJobProposalPerformanceResponse> proposalTopJobs = fetchProposalTopJobs(clientId, range, limit, warnings);
+        List<InternalTopJobProposalPerformanceResponse> proposalTopJobs = await(
+                fetchAsync(() -> fetchProposalTopJobs(clientId, range, limit)),
+                startDeadline(),
+                "proposal-service top jobs",
+                clientId,
+                List::of,
+                warnings
+        );
         List<Long> jobIds = proposalTopJobs.stream().map(InternalTopJobProposalPerformanceResponse::jobId).toList();
         Map<Long, Job> jobsById = jobRepository.findAllById(jobIds).stream()
                 .collect(java.util.stream.Collectors.toMap(Job::getId, job -> job));
@@ -237,122 +301,210 @@ public class RecruiterReportService {
                 .toList();
     }
 
-    private InternalProposalSummaryResponse fetchProposalSummary(Long clientId, Range range, List<String> warnings) {
-        try {
-            InternalProposalSummaryResponse response = proposalRestClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/proposals/internal/analytics/client/{clientId}/summary")
-                            .queryParam("from", range.from())
-                            .queryParam("to", range.to())
-                            .build(clientId))
-                    .header(INTERNAL_API_KEY_HEADER, internalApiKey)
-                    .retrieve()
-                    .body(InternalProposalSummaryResponse.class);
-            return response == null ? InternalProposalSummaryResponse.empty() : response;
-        } catch (RestClientException ex) {
-            warnings.add("proposal-service summary unavailable");
-            log.warn("Failed to fetch proposal summary for clientId={}: {}", clientId, ex.getMessage());
-            return InternalProposalSummaryResponse.empty();
-        }
+    private InternalProposalSummaryResponse fetchProposalSummary(Long clientId, Range range) {
+        InternalProposalSummaryResponse response = proposalRestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/proposals/internal/analytics/client/{clientId}/summary")
+                        .queryParam("from", range.from())
+                        .queryParam("to", range.to())
+                        .build(clientId))
+                .header(INTERNAL_API_KEY_HEADER, internalApiKey)
+                .retrieve()
+                .body(InternalProposalSummaryResponse.class);
+        return response == null ? InternalProposalSummaryResponse.empty() : response;
     }
 
-    private InternalProposalSeriesResponse fetchProposalSeries(
-            Long clientId,
-            Range range,
-            ReportGroupBy groupBy,
-            ZoneId zoneId,
-            List<String> warnings
-    ) {
+    private InternalProposalSeriesResponse fetchProposalSeries(Long clientId, Range range, ReportGroupBy groupBy, ZoneId zoneId) {
+        InternalProposalSeriesResponse response = proposalRestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/proposals/internal/analytics/client/{clientId}/series")
+                        .queryParam("from", range.from())
+                        .queryParam("to", range.to())
+                        .queryParam("groupBy", groupBy.name())
+                        .queryParam("timezone", zoneId.getId())
+                        .build(clientId))
+                .header(INTERNAL_API_KEY_HEADER, internalApiKey)
+                .retrieve()
+                .body(InternalProposalSeriesResponse.class);
+        return response == null ? InternalProposalSeriesResponse.empty() : response;
+    }
+
+    private List<InternalTopJobProposalPerformanceResponse> fetchProposalTopJobs(Long clientId, Range range, int limit) {
+        List<InternalTopJobProposalPerformanceResponse> response = proposalRestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/proposals/internal/analytics/client/{clientId}/top-jobs")
+                        .queryParam("from", range.from())
+                        .queryParam("to", range.to())
+                        .queryParam("limit", limit)
+                        .build(clientId))
+                .header(INTERNAL_API_KEY_HEADER, internalApiKey)
+                .retrieve()
+                .body(new org.springframework.core.ParameterizedTypeReference<List<InternalTopJobProposalPerformanceResponse>>() {
+                });
+        return response == null ? List.of() : response;
+    }
+
+    private InternalContractSummaryResponse fetchContractSummary(Long clientId, Range range) {
+        InternalContractSummaryResponse response = contractRestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/contracts/internal/analytics/client/{clientId}/summary")
+                        .queryParam("from", range.from())
+                        .queryParam("to", range.to())
+                        .build(clientId))
+                .header(INTERNAL_API_KEY_HEADER, internalApiKey)
+                .retrieve()
+                .body(InternalContractSummaryResponse.class);
+        return response == null ? InternalContractSummaryResponse.empty() : response;
+    }
+
+    private InternalContractSeriesResponse fetchContractSeries(Long clientId, Range range, ReportGroupBy groupBy, ZoneId zoneId) {
+        InternalContractSeriesResponse response = contractRestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/contracts/internal/analytics/client/{clientId}/series")
+                        .queryParam("from", range.from())
+                        .queryParam("to", range.to())
+                        .queryParam("groupBy", groupBy.name())
+                        .queryParam("timezone", zoneId.getId())
+                        .build(clientId))
+                .header(INTERNAL_API_KEY_HEADER, internalApiKey)
+                .retrieve()
+                .body(InternalContractSeriesResponse.class);
+        return response == null ? InternalContractSeriesResponse.empty() : response;
+    }
+
+    private long startDeadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+    }
+
+    private <T> CompletableFuture<T> fetchAsync(Supplier<T> call) {
         try {
-            InternalProposalSeriesResponse response = proposalRestClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/proposals/internal/analytics/client/{clientId}/series")
-                            .queryParam("from", range.from())
-                            .queryParam("to", range.to())
-                            .queryParam("groupBy", groupBy.name())
-                            .queryParam("timezone", zoneId.getId())
-                            .build(clientId))
-                    .header(INTERNAL_API_KEY_HEADER, internalApiKey)
-                    .retrieve()
-                    .body(InternalProposalSeriesResponse.class);
-            return response == null ? InternalProposalSeriesResponse.empty() : response;
-        } catch (RestClientException ex) {
-            warnings.add("proposal-service series unavailable");
-            log.warn("Failed to fetch proposal series for clientId={}: {}", clientId, ex.getMessage());
-            return InternalProposalSeriesResponse.empty();
+            return CompletableFuture.supplyAsync(withMdc(call), fanOutExecutor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
         }
     }
 
-    private List<InternalTopJobProposalPerformanceResponse> fetchProposalTopJobs(
+    private <T> T await(
+            CompletableFuture<T> call,
+            long deadlineNanos,
+            String source,
             Long clientId,
-            Range range,
-            int limit,
+            Supplier<T> fallback,
             List<String> warnings
     ) {
         try {
-            List<InternalTopJobProposalPerformanceResponse> response = proposalRestClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/proposals/internal/analytics/client/{clientId}/top-jobs")
-                            .queryParam("from", range.from())
-                            .queryParam("to", range.to())
-                            .queryParam("limit", limit)
-                            .build(clientId))
-                    .header(INTERNAL_API_KEY_HEADER, internalApiKey)
-                    .retrieve()
-                    .body(new org.springframework.core.ParameterizedTypeReference<List<InternalTopJobProposalPerformanceResponse>>() {
-                    });
-            return response == null ? List.of() : response;
-        } catch (RestClientException ex) {
-            warnings.add("proposal-service top jobs unavailable");
-            log.warn("Failed to fetch proposal top-jobs for clientId={}: {}", clientId, ex.getMessage());
-            return List.of();
+            return call.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            call.cancel(false);
+            log.warn("{} missed the {} ms report deadline for clientId={}", source, deadlineMs, clientId);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+            log.warn("Failed to fetch {} for clientId={}: {}", source, clientId, cause.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            call.cancel(false);
+            log.warn("Interrupted while waiting for {} for clientId={}", source, clientId);
         }
+        warnings.add(source + " unavailable");
+        return fallback.get();
     }
 
-    private InternalContractSummaryResponse fetchContractSummary(Long clientId, Range range, List<String> warnings) {
-        try {
-            InternalContractSummaryResponse response = contractRestClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/contracts/internal/analytics/client/{clientId}/summary")
-                            .queryParam("from", range.from())
-                            .queryParam("to", range.to())
-                            .build(clientId))
-                    .header(INTERNAL_API_KEY_HEADER, internalApiKey)
-                    .retrieve()
-                    .body(InternalContractSummaryResponse.class);
-            return response == null ? InternalContractSummaryResponse.empty() : response;
-        } catch (RestClientException ex) {
-            warnings.add("contract-service summary unavailable");
-            log.warn("Failed to fetch contract summary for clientId={}: {}", clientId, ex.getMessage());
-            return InternalContractSummaryResponse.empty();
-        }
+    @PreDestroy
+    void shutdown() {
+        fanOutExecutor.shutdownNow();
+        proposalHttpClient.close(CloseMode.IMMEDIATE);
+        contractHttpClient.close(CloseMode.IMMEDIATE);
     }
 
-    private InternalContractSeriesResponse fetchContractSeries(
-            Long clientId,
+    private static <T> Supplier<T> withMdc(Supplier<T> call) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(context);
+            }
+            try {
+                return call.get();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+
+    private static CloseableHttpClient httpClient(int connectTimeoutMs, int readTimeoutMs, int maxConnections) {
+        Timeout connectTimeout = Timeout.ofMilliseconds(Math.max(connectTimeoutMs, 1));
+        Timeout readTimeout = Timeout.ofMilliseconds(Math.max(readTimeoutMs, 1));
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(Math.max(maxConnections, 1))
+                .setMaxConnPerRoute(Math.max(maxConnections, 1))
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(connectTimeout)
+                        .setSocketTimeout(readTimeout)
+                        .build())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(connectTimeout)
+                        .setResponseTimeout(readTimeout)
+                        .build())
+                .evictExpiredConnections()
+                .build();
+    }
+
+    private static ThreadPoolExecutor newExecutor(int maxThreads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(maxThreads, 1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "recruiter-report-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private RecruiterReportSeriesResponse toSeriesResponse(
             Range range,
             ReportGroupBy groupBy,
             ZoneId zoneId,
+            Map<Instant, MutableSeriesCounter> counters,
             List<String> warnings
     ) {
-        try {
-            InternalContractSeriesResponse response = contractRestClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/contracts/internal/analytics/client/{clientId}/series")
-                            .queryParam("from", range.from())
-                            .queryParam("to", range.to())
-                            .queryParam("groupBy", groupBy.name())
-                            .queryParam("timezone", zoneId.getId())
-                            .build(clientId))
-                    .header(INTERNAL_API_KEY_HEADER, internalApiKey)
-                    .retrieve()
-                    .body(InternalContractSeriesResponse.class);
-            return response == null ? InternalContractSeriesResponse.empty() : response;
-        } catch (RestClientException ex) {
-            warnings.add("contract-service series unavailable");
-            log.warn("Failed to fetch contract series for clientId={}: {}", clientId, ex.getMessage());
-            return InternalContractSeriesResponse.empty();
-        }
+        List<RecruiterReportSeriesPointResponse> points = counters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new RecruiterReportSeriesPointResponse(
+                        entry.getKey(),
+                        entry.getValue().jobsCreated,
+                        entry.getValue().proposals,
+                        entry.getValue().interviews,
+                        entry.getValue().accepted,
+                        entry.getValue().rejected,
+                        entry.getValue().hires
+                ))
+                .toList();
+
+        return new RecruiterReportSeriesResponse(
+                range.from(),
+                range.to(),
+                groupBy.name(),
+                zoneId.getId(),
+                points,
+                List.copyOf(warnings)
+        );
     }
 
     private Long requireClientPrincipal(JwtUserPrincipal principal) {
@@ -1,7 +1,10 @@
 package com.skillbridge.job_service.service;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
@@ -13,59 +16,57 @@ import com.skillbridge.job_service.dto.PagedResult;
 @Primary
 public class RoutingJobSearchService implements JobSearchService {
 
-    private static final Logger log = LoggerFactory.getLogger(RoutingJobSearchService.class);
-
     private final SearchProperties searchProperties;
     private final DbJobSearchService dbJobSearchService;
     private final OpenSearchJobSearchService openSearchJobSearchService;
+    private final SearchProviderGuard searchProviderGuard;
 
     public RoutingJobSearchService(
             SearchProperties searchProperties,
             DbJobSearchService dbJobSearchService,
-            OpenSearchJobSearchService openSearchJobSearchService
+            OpenSearchJobSearchService openSearchJobSearchService,
+            SearchProviderGuard searchProviderGuard
     ) {
         this.searchProperties = searchProperties;
         this.dbJobSearchService = dbJobSearchService;
         this.openSearchJobSearchService = openSearchJobSearchService;
+        this.searchProviderGuard = searchProviderGuard;
     }
 
     @Override
     public PagedResult<JobSearchResultItem> search(JobSearchRequest request) {
         if (!shouldUseOpenSearch()) {
-            return dbJobSearchService.search(request);
-        }
-        try {
-            return openSearchJobSearchService.search(request);
-        } catch (RuntimeException ex) {
-            log.warn("OpenSearch search failed, falling back to DB search: {}", ex.getMessage());
-            return dbJobSearchService.search(request);
+            return searchProviderGuard.timed("db", "search", () -> dbJobSearchService.search(request));
         }
+        return searchProviderGuard.call(
+                "search",
+                () -> openSearchJobSearchService.search(request),
+                () -> dbJobSearchService.search(request)
+        );
     }
 
     @Override
     public java.util.List<JobSearchSuggestionItem> suggest(String query, int limit) {
-        if (!shouldUseOpenSearch()) {
-            return dbJobSearchService.suggest(query, limit);
-        }
-        try {
-            return openSearchJobSearchService.suggest(query, limit);
-        } catch (RuntimeException ex) {
-            log.warn("OpenSearch suggest failed, falling back to DB search suggestions: {}", ex.getMessage());
-            return dbJobSearchService.suggest(query, limit);
+        if (!shouldUseOpenSearch() || !"opensearch".equalsIgnoreCase(searchProperties.getSuggestions().getSource())) {
+            return searchProviderGuard.timed("db", "suggest", () -> dbJobSearchService.suggest(query, limit));
         }
+        return searchProviderGuard.call(
+                "suggest",
+                () -> openSearchJobSearchService.suggest(query, limit),
+                () -> dbJobSearchService.suggest(query, limit)
+        );
     }
 
     @Override
     public java.util.List<CompanySearchResultItem> searchCompanies(String query, int limit) {
         if (!shouldUseOpenSearch()) {
-            return dbJobSearchService.searchCompanies(query, limit);
-        }
-        try {
-            return openSearchJobSearchService.searchCompanies(query, limit);
-        } catch (RuntimeException ex) {
-            log.warn("OpenSearch company search failed, falling back to DB company search: {}", ex.getMessage());
-            return dbJobSearchService.searchCompanies(query, limit);
+            return searchProviderGuard.timed("db", "companies", () -> dbJobSearchService.searchCompanies(query, limit));
         }
+        return searchProviderGuard.call(
+                "companies",
+                () -> openSearchJobSearchService.searchCompanies(query, limit),
+                () -> dbJobSearchService.searchCompanies(query, limit)
+        );
     }
 
     @Override
@@ -84,6 +85,56 @@ public class RoutingJobSearchService implements JobSearchService {
         return openSearchJobSearchService.indexCompany(clientId);
     }
 
+    @Override
+    public SearchIndexRebuild beginRebuild(SearchIndexKind kind) {
+        if (!shouldUseOpenSearch()) {
+            return null;
+        }
+        return openSearchJobSearchService.beginRebuild(kind);
+    }
+
+    @Override
+    public int indexJobs(SearchIndexRebuild rebuild, java.util.List<Job> jobs) {
+        if (!shouldUseOpenSearch()) {
+            return 0;
+        }
+        return openSearchJobSearchService.indexJobs(rebuild, jobs);
+    }
+
+    @Override
+    public int indexCompanies(SearchIndexRebuild rebuild, List<CompanySearchResultItem> companies) {
+        if (!shouldUseOpenSearch()) {
+            return 0;
+        }
+        return openSearchJobSearchService.indexCompanies(rebuild, companies);
+    }
+
+    @Override
+    public void completeRebuild(SearchIndexRebuild rebuild) {
+        openSearchJobSearchService.completeRebuild(rebuild);
+    }
+
+    @Override
+    public void abortRebuild(SearchIndexRebuild rebuild) {
+        openSearchJobSearchService.abortRebuild(rebuild);
+    }
+
+    @Override
+    public Set<Long> writeJobs(List<Job> jobs, Collection<Long> deletedJobIds, Instant snapshotAt) {
+        if (!shouldUseOpenSearch()) {
+            return Set.of();
+        }
+        return openSearchJobSearchService.writeJobs(jobs, deletedJobIds, snapshotAt);
+    }
+
+    @Override
+    public Set<Long> writeCompanies(List<CompanySearchResultItem> companies, Collection<Long> deletedClientIds, Instant snapshotAt) {
+        if (!shouldUseOpenSearch()) {
+            return Set.of();
+        }
+        return openSearchJobSearchService.writeCompanies(companies, deletedClientIds, snapshotAt);
+    }
+
     @Override
     public boolean deleteJob(Long jobId) {
         if (!shouldUseOpenSearch()) {
@@ -0,0 +1,6 @@
+package com.skillbridge.job_service.service;
+
+public enum SearchIndexKind {
+    JOBS,
+    COMPANIES
+}
@@ -0,0 +1,83 @@
+package com.skillbridge.job_service.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.SearchIndexEntityType;
+import com.skillbridge.job_service.dto.SearchIndexQueueStatusResponse;
+import com.skillbridge.job_service.repository.SearchIndexOutboxRepository;
+
+@Service
+public class SearchIndexQueue {
+
+    private final SearchIndexOutboxRepository outboxRepository;
+    private final JobSearchService jobSearchService;
+    private final SearchProperties searchProperties;
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private volatile Instant lastFlushAt;
+    private volatile int lastFlushSize;
+
+    public SearchIndexQueue(
+            SearchIndexOutboxRepository outboxRepository,
+            JobSearchService jobSearchService,
+            SearchProperties searchProperties
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.jobSearchService = jobSearchService;
+        this.searchProperties = searchProperties;
+    }
+
+    public boolean isActive() {
+        return searchProperties.getIndexQueue().isEnabled() && jobSearchService.supportsIndexing();
+    }
+
+    @Transactional
+    public boolean enqueue(Job job) {
+        if (!isActive() || job.getId() == null) {
+            return false;
+        }
+        Instant requestedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Instant dueAt = requestedAt.plusMillis(Math.max(searchProperties.getIndexQueue().getCoalesceWindowMs(), 0));
+        outboxRepository.upsert(SearchIndexEntityType.JOB.name(), job.getId(), requestedAt, dueAt);
+        if (job.getClientId() != null) {
+            outboxRepository.upsert(SearchIndexEntityType.COMPANY.name(), job.getClientId(), requestedAt, dueAt);
+        }
+        return true;
+    }
+
+    void recordFlush(int flushed, int failed) {
+        flushedCount.addAndGet(flushed);
+        failedCount.addAndGet(failed);
+        lastFlushSize = flushed + failed;
+        lastFlushAt = Instant.now();
+    }
+
+    @Transactional(readOnly = true)
+    public SearchIndexQueueStatusResponse getStatus() {
+        long pendingCount = outboxRepository.count();
+        Instant oldestPendingAt = pendingCount == 0 ? null : outboxRepository.findOldestCreatedAt();
+        long lagSeconds = oldestPendingAt == null
+                ? 0
+                : Math.max(Duration.between(oldestPendingAt, Instant.now()).toSeconds(), 0);
+        return new SearchIndexQueueStatusResponse(
+                isActive(),
+                pendingCount,
+                outboxRepository.countByAttemptsGreaterThan(0),
+                oldestPendingAt,
+                lagSeconds,
+                lagSeconds > searchProperties.getIndexQueue().getLagWarningSeconds(),
+                lastFlushAt,
+                lastFlushSize,
+                flushedCount.get(),
+                failedCount.get()
+        );
+    }
+}
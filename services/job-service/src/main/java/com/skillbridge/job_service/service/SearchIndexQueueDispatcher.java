@@ -0,0 +1,211 @@
+package com.skillbridge.job_service.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.SearchIndexEntityType;
+import com.skillbridge.job_service.domain.SearchIndexOutboxEntry;
+import com.skillbridge.job_service.repository.JobRepository;
+import com.skillbridge.job_service.repository.SearchIndexOutboxRepository;
+
+@Component
+public class SearchIndexQueueDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexQueueDispatcher.class);
+    private static final int LAST_ERROR_MAX_LENGTH = 2000;
+
+    private final SearchIndexOutboxRepository outboxRepository;
+    private final JobRepository jobRepository;
+    private final CompanyStatsService companyStatsService;
+    private final JobSearchService jobSearchService;
+    private final SearchIndexQueue searchIndexQueue;
+    private final SearchResultCache searchResultCache;
+    private final SearchProperties.IndexQueueProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Instant lastLagWarningAt = Instant.EPOCH;
+
+    public SearchIndexQueueDispatcher(
+            SearchIndexOutboxRepository outboxRepository,
+            JobRepository jobRepository,
+            CompanyStatsService companyStatsService,
+            JobSearchService jobSearchService,
+            SearchIndexQueue searchIndexQueue,
+            SearchResultCache searchResultCache,
+            SearchProperties searchProperties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.jobRepository = jobRepository;
+        this.companyStatsService = companyStatsService;
+        this.jobSearchService = jobSearchService;
+        this.searchIndexQueue = searchIndexQueue;
+        this.searchResultCache = searchResultCache;
+        this.properties = searchProperties.getIndexQueue();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.index-queue.flush-interval-ms:1000}")
+    public void flushPendingWrites() {
+        if (!searchIndexQueue.isActive()) {
+            return;
+        }
+        int batchSize = Math.max(properties.getBatchSize(), 1);
+        int claimed;
+        do {
+            claimed = flushBatch(batchSize);
+        } while (claimed == batchSize);
+        warnIfLagging();
+    }
+
+    int flushBatch(int batchSize) {
+        Instant claimedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<SearchIndexOutboxEntry> entries = transactionTemplate.execute(status -> claimDueEntries(claimedAt, batchSize));
+        if (entries == null || entries.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> jobIds = new ArrayList<>();
+        List<Long> clientIds = new ArrayList<>();
+        for (SearchIndexOutboxEntry entry : entries) {
+            (entry.getEntityType() == SearchIndexEntityType.JOB ? jobIds : clientIds).add(entry.getEntityId());
+        }
+
+        Map<SearchIndexEntityType, String> errors = new LinkedHashMap<>();
+        Set<Long> failedJobIds = flushJobs(jobIds, errors);
+        Set<Long> failedClientIds = flushCompanies(clientIds, errors);
+
+        List<Long> flushedEntryIds = new ArrayList<>();
+        List<SearchIndexOutboxEntry> failedEntries = new ArrayList<>();
+        for (SearchIndexOutboxEntry entry : entries) {
+            Set<Long> failedIds = entry.getEntityType() == SearchIndexEntityType.JOB ? failedJobIds : failedClientIds;
+            if (failedIds.contains(entry.getEntityId())) {
+                failedEntries.add(entry);
+            } else {
+                flushedEntryIds.add(entry.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!flushedEntryIds.isEmpty()) {
+                outboxRepository.deleteFlushed(flushedEntryIds, claimedAt);
+            }
+            if (!failedEntries.isEmpty()) {
+                rescheduleFailed(failedEntries, errors);
+            }
+        });
+        searchIndexQueue.recordFlush(flushedEntryIds.size(), failedEntries.size());
+        return entries.size();
+    }
+
+    private List<SearchIndexOutboxEntry> claimDueEntries(Instant claimedAt, int batchSize) {
+        List<SearchIndexOutboxEntry> entries = outboxRepository.findDueForUpdate(claimedAt, Limit.of(batchSize));
+        Instant leaseUntil = claimedAt.plusSeconds(Math.max(properties.getLeaseSeconds(), 1));
+        for (SearchIndexOutboxEntry entry : entries) {
+            entry.setNextAttemptAt(leaseUntil);
+        }
+        return entries;
+    }
+
+    private Set<Long> flushJobs(List<Long> jobIds, Map<SearchIndexEntityType, String> errors) {
+        if (jobIds.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            Instant snapshotAt = Instant.now();
+            List<Job> jobs = jobRepository.findByIdIn(jobIds);
+            Set<Long> deletedJobIds = new LinkedHashSet<>(jobIds);
+            jobs.forEach(job -> deletedJobIds.remove(job.getId()));
+            Set<Long> failedJobIds = jobSearchService.writeJobs(jobs, deletedJobIds, snapshotAt);
+            if (failedJobIds.size() < jobIds.size()) {
+                searchResultCache.invalidateJobs();
+            }
+            return failedJobIds;
+        } catch (RuntimeException ex) {
+            errors.put(SearchIndexEntityType.JOB, ex.getMessage());
+            log.warn("Failed to flush {} queued job index writes: {}", jobIds.size(), ex.getMessage());
+            return new LinkedHashSet<>(jobIds);
+        }
+    }
+
+    private Set<Long> flushCompanies(List<Long> clientIds, Map<SearchIndexEntityType, String> errors) {
+        if (clientIds.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            Instant snapshotAt = Instant.now();
+            List<CompanySearchResultItem> companies = companyStatsService.findCompanies(clientIds);
+            Set<Long> deletedClientIds = new LinkedHashSet<>(clientIds);
+            companies.forEach(company -> deletedClientIds.remove(company.clientId()));
+            return jobSearchService.writeCompanies(companies, deletedClientIds, snapshotAt);
+        } catch (RuntimeException ex) {
+            errors.put(SearchIndexEntityType.COMPANY, ex.getMessage());
+            log.warn("Failed to flush {} queued company index writes: {}", clientIds.size(), ex.getMessage());
+            return new LinkedHashSet<>(clientIds);
+        }
+    }
+
+    private void rescheduleFailed(Collection<SearchIndexOutboxEntry> failedEntries, Map<SearchIndexEntityType, String> errors) {
+        Instant now = Instant.now();
+        Map<Long, SearchIndexOutboxEntry> failedById = new LinkedHashMap<>();
+        failedEntries.forEach(entry -> failedById.put(entry.getId(), entry));
+        for (SearchIndexOutboxEntry entry : outboxRepository.findAllById(failedById.keySet())) {
+            int attempts = entry.getAttempts() + 1;
+            entry.setAttempts(attempts);
+            entry.setLastError(truncate(errors.getOrDefault(entry.getEntityType(), "Rejected by search bulk request")));
+            entry.setNextAttemptAt(now.plusSeconds(calculateDelaySeconds(attempts)));
+        }
+        log.warn("Rescheduled {} queued search index writes after failure", failedEntries.size());
+    }
+
+    private void warnIfLagging() {
+        Instant oldestPendingAt = outboxRepository.findOldestCreatedAt();
+        if (oldestPendingAt == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        long lagSeconds = Duration.between(oldestPendingAt, now).toSeconds();
+        long threshold = Math.max(properties.getLagWarningSeconds(), 1);
+        if (lagSeconds > threshold && lastLagWarningAt.plusSeconds(threshold).isBefore(now)) {
+            lastLagWarningAt = now;
+            log.warn("Search index queue is lagging: oldest pending write is {}s old", lagSeconds);
+        }
+    }
+
+    private long calculateDelaySeconds(int attempts) {
+        long initialDelay = Math.max(properties.getInitialRetryDelaySeconds(), 1);
+        double multiplier = properties.getRetryMultiplier() < 1.0 ? 1.0 : properties.getRetryMultiplier();
+        long maxDelay = Math.max(properties.getMaxRetryDelaySeconds(), initialDelay);
+        double delay = initialDelay * Math.pow(multiplier, Math.max(0, attempts - 1));
+        return Math.max(Math.min((long) delay, maxDelay), 1);
+    }
+
+    private String truncate(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length() <= LAST_ERROR_MAX_LENGTH) {
+            return value;
+        }
+        return value.substring(0, LAST_ERROR_MAX_LENGTH);
+    }
+}
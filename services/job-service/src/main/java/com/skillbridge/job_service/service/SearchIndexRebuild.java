@@ -0,0 +1,8 @@
+package com.skillbridge.job_service.service;
+
+public record SearchIndexRebuild(
+        SearchIndexKind kind,
+        String alias,
+        String indexName
+) {
+}
@@ -0,0 +1,306 @@
+package com.skillbridge.job_service.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import com.skillbridge.job_service.config.SearchProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class SearchProviderGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchProviderGuard.class);
+    private static final int LATENCY_WINDOW_SIZE = 256;
+
+    private final SearchProperties.ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final SearchCircuitBreaker circuitBreaker;
+    private final ThreadPoolExecutor primaryExecutor;
+    private final ThreadPoolExecutor hedgeExecutor;
+    private final long[] latencyWindow = new long[LATENCY_WINDOW_SIZE];
+    private int latencyIndex;
+    private int latencyCount;
+
+    public SearchProviderGuard(SearchProperties searchProperties, MeterRegistry meterRegistry) {
+        this.properties = searchProperties.getResilience();
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = new SearchCircuitBreaker(
+                properties.getSlidingWindowSize(),
+                properties.getMinimumCalls(),
+                properties.getFailureRateThreshold(),
+                properties.getOpenDurationMs(),
+                properties.getHalfOpenProbes(),
+                System::currentTimeMillis
+        );
+        this.primaryExecutor = newExecutor("opensearch-call-", properties.getMaxConcurrentCalls());
+        this.hedgeExecutor = newExecutor("search-hedge-", properties.getMaxConcurrentCalls());
+        Gauge.builder("search.provider.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("OpenSearch circuit state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        Gauge.builder("search.provider.calls.active", primaryExecutor, ThreadPoolExecutor::getActiveCount)
+                .tag("provider", "opensearch")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(String operation, Supplier<T> primary, Supplier<T> fallback) {
+        if (!circuitBreaker.tryAcquire()) {
+            return fallBack(operation, "circuit_open", fallback);
+        }
+
+        AtomicBoolean settled = new AtomicBoolean();
+        CompletableFuture<T> primaryCall;
+        try {
+            primaryCall = CompletableFuture.supplyAsync(withMdc(() -> timed("opensearch", operation, primary)), primaryExecutor);
+        } catch (RejectedExecutionException ex) {
+            circuitBreaker.release();
+            return fallBack(operation, "rejected", fallback);
+        }
+        primaryCall.whenComplete((result, error) -> settle(settled, error == null));
+
+        long startedAt = System.nanoTime();
+        long budgetMs = Math.max(properties.getCallTimeoutMs(), 1);
+        long hedgeDelayMs = properties.isHedgingEnabled() ? Math.min(hedgeDelayMs(), budgetMs) : budgetMs;
+        try {
+            return primaryCall.get(hedgeDelayMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            log.warn("OpenSearch {} failed, falling back to DB: {}", operation, rootMessage(ex));
+            return fallBack(operation, "error", fallback);
+        } catch (TimeoutException ex) {
+            if (hedgeDelayMs < budgetMs) {
+                return hedge(operation, primaryCall, settled, fallback, budgetMs - elapsedMs(startedAt));
+            }
+            abandon(primaryCall, settled);
+            log.warn("OpenSearch {} exceeded its {} ms budget, falling back to DB", operation, budgetMs);
+            return fallBack(operation, "timeout", fallback);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abandon(primaryCall, settled);
+            return fallBack(operation, "interrupted", fallback);
+        }
+    }
+
+    public <T> T timed(String provider, String operation, Supplier<T> call) {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            Timer.builder("search.provider.latency")
+                    .tag("provider", provider)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if ("opensearch".equals(provider) && "success".equals(outcome)) {
+                recordLatency(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            }
+        }
+    }
+
+    SearchCircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        primaryExecutor.shutdownNow();
+        hedgeExecutor.shutdownNow();
+    }
+
+    private <T> T hedge(
+            String operation,
+            CompletableFuture<T> primaryCall,
+            AtomicBoolean settled,
+            Supplier<T> fallback,
+            long remainingBudgetMs
+    ) {
+        CompletableFuture<T> hedgeCall;
+        try {
+            hedgeCall = CompletableFuture.supplyAsync(withMdc(() -> timed("db", operation, fallback)), hedgeExecutor);
+        } catch (RejectedExecutionException ex) {
+            return waitForPrimary(operation, primaryCall, settled, fallback, remainingBudgetMs);
+        }
+        meterRegistry.counter("search.provider.hedges", "operation", operation).increment();
+
+        CompletableFuture<T> firstSuccess = new CompletableFuture<>();
+        AtomicInteger failedCalls = new AtomicInteger();
+        primaryCall.whenComplete((result, error) -> complete(firstSuccess, failedCalls, result, error));
+        hedgeCall.whenComplete((result, error) -> complete(firstSuccess, failedCalls, result, error));
+        try {
+            T result = firstSuccess.get(Math.max(remainingBudgetMs, 1), TimeUnit.MILLISECONDS);
+            if (!primaryCall.isDone() || primaryCall.isCompletedExceptionally()) {
+                meterRegistry.counter("search.provider.hedge.wins", "operation", operation).increment();
+            }
+            return result;
+        } catch (TimeoutException ex) {
+            abandon(primaryCall, settled);
+            meterRegistry.counter("search.provider.fallbacks", "operation", operation, "reason", "timeout").increment();
+            return join(hedgeCall);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abandon(primaryCall, settled);
+            return join(hedgeCall);
+        }
+    }
+
+    private <T> T waitForPrimary(
+            String operation,
+            CompletableFuture<T> primaryCall,
+            AtomicBoolean settled,
+            Supplier<T> fallback,
+            long remainingBudgetMs
+    ) {
+        try {
+            return primaryCall.get(Math.max(remainingBudgetMs, 1), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            return fallBack(operation, "error", fallback);
+        } catch (TimeoutException ex) {
+            abandon(primaryCall, settled);
+            return fallBack(operation, "timeout", fallback);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abandon(primaryCall, settled);
+            return fallBack(operation, "interrupted", fallback);
+        }
+    }
+
+    private <T> void complete(CompletableFuture<T> firstSuccess, AtomicInteger failedCalls, T result, Throwable error) {
+        if (error == null) {
+            firstSuccess.complete(result);
+        } else if (failedCalls.incrementAndGet() == 2) {
+            firstSuccess.completeExceptionally(error);
+        }
+    }
+
+    private <T> T fallBack(String operation, String reason, Supplier<T> fallback) {
+        meterRegistry.counter("search.provider.fallbacks", "operation", operation, "reason", reason).increment();
+        return timed("db", operation, fallback);
+    }
+
+    private void abandon(CompletableFuture<?> primaryCall, AtomicBoolean settled) {
+        primaryCall.cancel(true);
+        settle(settled, false);
+    }
+
+    private void settle(AtomicBoolean settled, boolean success) {
+        if (!settled.compareAndSet(false, true)) {
+            return;
+        }
+        if (success) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private long hedgeDelayMs() {
+        if (properties.getHedgeDelayMs() > 0) {
+            return properties.getHedgeDelayMs();
+        }
+        long[] samples;
+        synchronized (latencyWindow) {
+            if (latencyCount < LATENCY_WINDOW_SIZE / 4) {
+                return Math.max(properties.getCallTimeoutMs(), 1);
+            }
+            samples = Arrays.copyOf(latencyWindow, latencyCount);
+        }
+        Arrays.sort(samples);
+        long p95 = samples[(int) Math.ceil(samples.length * 0.95) - 1];
+        return Math.max(p95, properties.getMinHedgeDelayMs());
+    }
+
+    private void recordLatency(long latencyMs) {
+        synchronized (latencyWindow) {
+            latencyWindow[latencyIndex] = latencyMs;
+            latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW_SIZE;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW_SIZE);
+        }
+    }
+
+    private static <T> Supplier<T> withMdc(Supplier<T> call) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(context);
+            }
+            try {
+                return call.get();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private static <T> T join(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException runtime ? runtime : ex;
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException ex) {
+        Throwable cause = ex.getCause() instanceof CompletionException completion ? completion.getCause() : ex.getCause();
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    private static String rootMessage(ExecutionException ex) {
+        Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+        return cause.getMessage();
+    }
+
+    private static ThreadPoolExecutor newExecutor(String threadPrefix, int maxThreads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(maxThreads, 1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadPrefix + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
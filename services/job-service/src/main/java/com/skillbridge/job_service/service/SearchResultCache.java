@@ -0,0 +1,292 @@
+package com.skillbridge.job_service.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.dto.PagedResult;
+import com.skillbridge.job_service.repository.SearchCacheGenerationRepository;
+import com.skillbridge.job_service.repository.SearchResultCacheRepository;
+
+@Service
+public class SearchResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchResultCache.class);
+    private static final TypeReference<PagedResult<JobSearchResultItem>> RESULT_TYPE = new TypeReference<>() {
+    };
+    private static final int ENTRY_OVERHEAD = 256;
+    private static final int ITEM_OVERHEAD = 512;
+
+    private final SearchResultCacheRepository cacheRepository;
+    private final SearchCacheGenerationRepository generationRepository;
+    private final SearchProperties.ResultCacheProperties properties;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final AtomicLong generation = new AtomicLong();
+    private final LinkedHashMap<String, LocalEntry> localEntries = new LinkedHashMap<>(64, 0.75f, true);
+    private long localWeight;
+
+    public SearchResultCache(
+            SearchResultCacheRepository cacheRepository,
+            SearchCacheGenerationRepository generationRepository,
+            SearchProperties searchProperties
+    ) {
+        this.cacheRepository = cacheRepository;
+        this.generationRepository = generationRepository;
+        this.properties = searchProperties.getResultCache();
+    }
+
+    public PagedResult<JobSearchResultItem> get(JobSearchRequest request, Supplier<PagedResult<JobSearchResultItem>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        String key = cacheKey(request);
+        long currentGeneration = generation.get();
+        Instant now = Instant.now();
+
+        PagedResult<JobSearchResultItem> cached = getLocal(key, currentGeneration, now);
+        if (cached != null) {
+            return cached;
+        }
+        cached = getShared(key, currentGeneration, now);
+        if (cached != null) {
+            putLocal(key, currentGeneration, cached, now);
+            return cached;
+        }
+
+        PagedResult<JobSearchResultItem> result = loader.get();
+        putLocal(key, currentGeneration, result, now);
+        putShared(key, currentGeneration, result, now);
+        return result;
+    }
+
+    public void invalidateJobs() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpGeneration();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bumpGeneration();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.result-cache.generation-refresh-ms:1000}")
+    public void refreshGeneration() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            generationRepository.findById(SearchIndexKind.JOBS.name())
+                    .ifPresent(shared -> generation.accumulateAndGet(shared.getGeneration(), Math::max));
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh search cache generation: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.result-cache.shared-purge-interval-ms:60000}")
+    public void purgeSharedEntries() {
+        if (!sharedTierEnabled()) {
+            return;
+        }
+        try {
+            cacheRepository.deleteStale(Instant.now(), generation.get());
+        } catch (RuntimeException ex) {
+            log.warn("Could not purge shared search cache entries: {}", ex.getMessage());
+        }
+    }
+
+    long currentGeneration() {
+        return generation.get();
+    }
+
+    String cacheKey(JobSearchRequest request) {
+        StringBuilder key = new StringBuilder(128);
+        appendPart(key, request.keyword() == null ? null : request.keyword().toLowerCase(Locale.ROOT));
+        appendPart(key, request.status());
+        appendPart(key, normalizeAmount(request.budgetMin()));
+        appendPart(key, normalizeAmount(request.budgetMax()));
+        appendPart(key, request.clientId());
+        appendPart(key, request.tags() == null ? null : String.join(",", request.tags().stream().sorted().toList()));
+        appendPart(key, request.location() == null ? null : request.location().toLowerCase(Locale.ROOT));
+        appendPart(key, request.companyName() == null ? null : request.companyName().toLowerCase(Locale.ROOT));
+        appendPart(key, request.employmentType());
+        appendPart(key, request.remote());
+        appendPart(key, request.experienceYearsMin());
+        appendPart(key, request.experienceYearsMax());
+        appendPart(key, request.sort());
+        appendPart(key, request.size());
+        appendPart(key, request.hasFacets() ? request.facets().stream().map(JobSearchFacet::key).collect(Collectors.joining(",")) : null);
+        if (request.cursorPaging()) {
+            appendPart(key, request.cursor().isFirstPage() ? "*" : request.cursor().encode());
+            appendPart(key, request.includeTotal());
+        } else {
+            appendPart(key, request.page());
+        }
+        return key.toString();
+    }
+
+    private void bumpGeneration() {
+        try {
+            generation.accumulateAndGet(generationRepository.increment(SearchIndexKind.JOBS.name()), Math::max);
+        } catch (RuntimeException ex) {
+            log.warn("Could not bump search cache generation, clearing local tier only: {}", ex.getMessage());
+            synchronized (localEntries) {
+                localEntries.clear();
+                localWeight = 0;
+            }
+        }
+    }
+
+    private PagedResult<JobSearchResultItem> getLocal(String key, long currentGeneration, Instant now) {
+        synchronized (localEntries) {
+            LocalEntry entry = localEntries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.generation() != currentGeneration || !entry.expiresAt().isAfter(now)) {
+                localEntries.remove(key);
+                localWeight -= entry.weight();
+                return null;
+            }
+            return entry.result();
+        }
+    }
+
+    private void putLocal(String key, long entryGeneration, PagedResult<JobSearchResultItem> result, Instant now) {
+        long weight = estimateWeight(key, result);
+        int maxEntries = Math.max(properties.getMaxEntries(), 1);
+        long maxWeight = Math.max(properties.getMaxWeight(), 1);
+        if (weight > maxWeight) {
+            return;
+        }
+        LocalEntry entry = new LocalEntry(entryGeneration, now.plus(Duration.ofSeconds(properties.getTtlSeconds())), weight, result);
+        synchronized (localEntries) {
+            LocalEntry previous = localEntries.put(key, entry);
+            localWeight += weight - (previous == null ? 0 : previous.weight());
+            Iterator<Map.Entry<String, LocalEntry>> eldest = localEntries.entrySet().iterator();
+            while ((localEntries.size() > maxEntries || localWeight > maxWeight) && eldest.hasNext()) {
+                LocalEntry evicted = eldest.next().getValue();
+                eldest.remove();
+                localWeight -= evicted.weight();
+            }
+        }
+    }
+
+    private PagedResult<JobSearchResultItem> getShared(String key, long currentGeneration, Instant now) {
+        if (!sharedTierEnabled()) {
+            return null;
+        }
+        try {
+            return cacheRepository.findPayload(sharedKey(key), currentGeneration, now)
+                    .map(this::fromJson)
+                    .orElse(null);
+        } catch (RuntimeException ex) {
+            log.warn("Shared search cache lookup failed: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private void putShared(String key, long entryGeneration, PagedResult<JobSearchResultItem> result, Instant now) {
+        if (!sharedTierEnabled()) {
+            return;
+        }
+        try {
+            cacheRepository.upsert(
+                    sharedKey(key),
+                    entryGeneration,
+                    objectMapper.writeValueAsString(result),
+                    now.plus(Duration.ofSeconds(properties.getSharedTtlSeconds()))
+            );
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn("Shared search cache write failed: {}", ex.getMessage());
+        }
+    }
+
+    private PagedResult<JobSearchResultItem> fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, RESULT_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not read shared search cache entry", ex);
+        }
+    }
+
+    private boolean sharedTierEnabled() {
+        return properties.isEnabled() && properties.isSharedEnabled();
+    }
+
+    private String sharedKey(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private long estimateWeight(String key, PagedResult<JobSearchResultItem> result) {
+        long weight = ENTRY_OVERHEAD + key.length();
+        for (JobSearchResultItem item : result.content()) {
+            weight += ITEM_OVERHEAD
+                    + length(item.title())
+                    + length(item.description())
+                    + length(item.requirements())
+                    + length(item.responsibilities())
+                    + length(item.benefits())
+                    + length(item.companyName())
+                    + length(item.location())
+                    + length(item.category());
+            for (String tag : item.tags() == null ? List.<String>of() : item.tags()) {
+                weight += length(tag);
+            }
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static String normalizeAmount(BigDecimal amount) {
+        return amount == null ? null : amount.stripTrailingZeros().toPlainString();
+    }
+
+    private static void appendPart(StringBuilder key, Object value) {
+        key.append(Objects.toString(value, "")).append('\u001f');
+    }
+
+    private record LocalEntry(long generation, Instant expiresAt, long weight, PagedResult<JobSearchResultItem> result) {
+    }
+}
@@ -0,0 +1,332 @@
+package com.skillbridge.job_service.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class SuggestionTrie {
+
+    private static final Term[] NO_TERMS = new Term[0];
+    private static final Comparator<Term> BY_RANK = Comparator.comparingLong(Term::weight).reversed()
+            .thenComparingInt(term -> term.key().length())
+            .thenComparing(Term::key)
+            .thenComparing(term -> term.item().type());
+
+    static final SuggestionTrie EMPTY = new SuggestionTrie(Node.EMPTY, 1, 1);
+
+    private final Node root;
+    private final int maxDepth;
+    private final int topK;
+
+    private SuggestionTrie(Node root, int maxDepth, int topK) {
+        this.root = root;
+        this.maxDepth = maxDepth;
+        this.topK = topK;
+    }
+
+    static SuggestionTrie build(Collection<Term> terms, int maxDepth, int topK) {
+        int depth = Math.max(maxDepth, 1);
+        int k = Math.max(topK, 1);
+        List<Term> ranked = new ArrayList<>(terms);
+        ranked.sort(BY_RANK);
+        NodeBuilder root = new NodeBuilder();
+        for (Term term : ranked) {
+            String key = term.key();
+            for (int start = 0; start < key.length(); start++) {
+                if (!isWordStart(key, start)) {
+                    continue;
+                }
+                NodeBuilder node = root;
+                int end = Math.min(key.length(), start + depth);
+                for (int i = start; i < end; i++) {
+                    node = node.child(key.charAt(i));
+                    node.offer(term, i - start + 1 == depth ? Integer.MAX_VALUE : k);
+                }
+                if (end - start < depth) {
+                    node.end(term);
+                }
+            }
+        }
+        return new SuggestionTrie(root.freeze(k, true), depth, k);
+    }
+
+    static String normalizeKey(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = key.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            key.append(Character.toLowerCase(c));
+        }
+        return key.toString();
+    }
+
+    SuggestionTrie apply(Collection<TermUpdate> updates) {
+        Node updatedRoot = root;
+        for (TermUpdate update : updates) {
+            String key = update.key();
+            for (int start = 0; start < key.length(); start++) {
+                if (isWordStart(key, start)) {
+                    updatedRoot = update(updatedRoot, update, start, start, Math.min(key.length(), start + maxDepth));
+                }
+            }
+        }
+        return updatedRoot == root ? this : new SuggestionTrie(updatedRoot, maxDepth, topK);
+    }
+
+    List<JobSearchSuggestionItem> lookup(String query, int limit) {
+        if (query == null || limit < 1) {
+            return List.of();
+        }
+        Node node = root;
+        int depth = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = depth > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                if (depth == maxDepth) {
+                    return filterDeepMatches(node, normalizeKey(query), limit);
+                }
+                node = node.child(' ');
+                depth++;
+                pendingSpace = false;
+                if (node == null) {
+                    return List.of();
+                }
+            }
+            if (depth == maxDepth) {
+                return filterDeepMatches(node, normalizeKey(query), limit);
+            }
+            node = node.child(Character.toLowerCase(c));
+            depth++;
+            if (node == null) {
+                return List.of();
+            }
+        }
+        if (depth == 0) {
+            return List.of();
+        }
+        return node.topItems.size() <= limit ? node.topItems : node.topItems.subList(0, limit);
+    }
+
+    private Node update(Node node, TermUpdate update, int start, int index, int end) {
+        int level = index - start;
+        if (index == end) {
+            if (level == maxDepth) {
+                Term[] all = replace(node.all == null ? NO_TERMS : node.all, update);
+                return Node.of(node.labels, node.children, NO_TERMS, all, topK, true);
+            }
+            return Node.of(node.labels, node.children, replace(node.ending, update), null, topK, level > 0);
+        }
+        char label = update.key().charAt(index);
+        int position = Arrays.binarySearch(node.labels, label);
+        Node child = position < 0 ? Node.EMPTY : node.children[position];
+        Node updatedChild = update(child, update, start, index + 1, end);
+        if (updatedChild == child) {
+            return node;
+        }
+
+        char[] labels;
+        Node[] children;
+        if (updatedChild.isEmpty()) {
+            if (position < 0) {
+                return node;
+            }
+            labels = new char[node.labels.length - 1];
+            children = new Node[node.children.length - 1];
+            System.arraycopy(node.labels, 0, labels, 0, position);
+            System.arraycopy(node.labels, position + 1, labels, position, labels.length - position);
+            System.arraycopy(node.children, 0, children, 0, position);
+            System.arraycopy(node.children, position + 1, children, position, children.length - position);
+        } else if (position < 0) {
+            int insertAt = -position - 1;
+            labels = new char[node.labels.length + 1];
+            children = new Node[node.children.length + 1];
+            System.arraycopy(node.labels, 0, labels, 0, insertAt);
+            System.arraycopy(node.labels, insertAt, labels, insertAt + 1, node.labels.length - insertAt);
+            System.arraycopy(node.children, 0, children, 0, insertAt);
+            System.arraycopy(node.children, insertAt, children, insertAt + 1, node.children.length - insertAt);
+            labels[insertAt] = label;
+            children[insertAt] = updatedChild;
+        } else {
+            labels = node.labels;
+            children = node.children.clone();
+            children[position] = updatedChild;
+        }
+        return Node.of(labels, children, node.ending, null, topK, level > 0);
+    }
+
+    private List<JobSearchSuggestionItem> filterDeepMatches(Node node, String prefix, int limit) {
+        if (node.all == null) {
+            return List.of();
+        }
+        List<JobSearchSuggestionItem> matches = new ArrayList<>(Math.min(limit, node.all.length));
+        for (Term term : node.all) {
+            if (matchesWordPrefix(term.key(), prefix)) {
+                matches.add(term.item());
+                if (matches.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Term[] replace(Term[] ranked, TermUpdate update) {
+        List<Term> terms = new ArrayList<>(ranked.length + 1);
+        for (Term term : ranked) {
+            if (!update.matches(term)) {
+                terms.add(term);
+            }
+        }
+        if (update.term() != null) {
+            int position = Collections.binarySearch(terms, update.term(), BY_RANK);
+            terms.add(position < 0 ? -position - 1 : position, update.term());
+        }
+        return terms.toArray(Term[]::new);
+    }
+
+    private static boolean isWordStart(String key, int start) {
+        return start == 0 || key.charAt(start - 1) == ' ';
+    }
+
+    private static boolean matchesWordPrefix(String key, String prefix) {
+        for (int start = 0; start + prefix.length() <= key.length(); start++) {
+            if (isWordStart(key, start) && key.startsWith(prefix, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    record Term(String key, JobSearchSuggestionItem item, long weight) {
+    }
+
+    record TermUpdate(String key, String type, Term term) {
+
+        private boolean matches(Term candidate) {
+            return candidate.key().equals(key) && candidate.item().type().equals(type);
+        }
+    }
+
+    private static final class Node {
+
+        private static final Node EMPTY = new Node(new char[0], new Node[0], NO_TERMS, List.of(), null);
+
+        private final char[] labels;
+        private final Node[] children;
+        private final Term[] ending;
+        private final List<JobSearchSuggestionItem> topItems;
+        private final Term[] top;
+        private final Term[] all;
+
+        private Node(char[] labels, Node[] children, Term[] ending, List<Term> top, Term[] all) {
+            this.labels = labels;
+            this.children = children;
+            this.ending = ending;
+            this.top = top.toArray(Term[]::new);
+            this.topItems = top.stream().map(Term::item).toList();
+            this.all = all;
+        }
+
+        private static Node of(char[] labels, Node[] children, Term[] ending, Term[] all, int topK, boolean ranked) {
+            if (labels.length == 0 && ending.length == 0 && (all == null || all.length == 0)) {
+                return EMPTY;
+            }
+            if (!ranked) {
+                return new Node(labels, children, ending, List.of(), all);
+            }
+            if (all != null) {
+                return new Node(labels, children, ending, Arrays.asList(all).subList(0, Math.min(topK, all.length)), all);
+            }
+            List<Term> candidates = new ArrayList<>(Arrays.asList(ending).subList(0, Math.min(topK, ending.length)));
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BY_RANK);
+            List<Term> top = new ArrayList<>(Math.min(topK, candidates.size()));
+            for (Term candidate : candidates) {
+                if (top.size() >= topK) {
+                    break;
+                }
+                if (top.isEmpty() || !sameTerm(top.get(top.size() - 1), candidate)) {
+                    top.add(candidate);
+                }
+            }
+            return new Node(labels, children, ending, top, null);
+        }
+
+        private static boolean sameTerm(Term left, Term right) {
+            return left.key().equals(right.key()) && left.item().type().equals(right.item().type());
+        }
+
+        private boolean isEmpty() {
+            return this == EMPTY;
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static final class NodeBuilder {
+
+        private final Map<Character, NodeBuilder> children = new TreeMap<>();
+        private final List<Term> terms = new ArrayList<>(2);
+        private final List<Term> ending = new ArrayList<>(1);
+        private boolean unbounded;
+
+        private NodeBuilder child(char label) {
+            return children.computeIfAbsent(label, ignored -> new NodeBuilder());
+        }
+
+        private void offer(Term term, int capacity) {
+            unbounded |= capacity == Integer.MAX_VALUE;
+            if (!terms.isEmpty() && terms.get(terms.size() - 1) == term) {
+                return;
+            }
+            if (terms.size() < capacity) {
+                terms.add(term);
+            }
+        }
+
+        private void end(Term term) {
+            if (ending.isEmpty() || ending.get(ending.size() - 1) != term) {
+                ending.add(term);
+            }
+        }
+
+        private Node freeze(int topK, boolean root) {
+            char[] labels = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int index = 0;
+            for (Map.Entry<Character, NodeBuilder> entry : children.entrySet()) {
+                labels[index] = entry.getKey();
+                frozen[index] = entry.getValue().freeze(topK, false);
+                index++;
+            }
+            List<Term> top = root ? List.of() : terms.subList(0, Math.min(topK, terms.size()));
+            return new Node(labels, frozen, ending.toArray(Term[]::new), top, unbounded ? terms.toArray(Term[]::new) : null);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.skillbridge.job_service.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.skillbridge.job_service.messaging.ViewerContextInvalidationPublisher;
+import com.skillbridge.job_service.repository.FollowedCompanyRepository;
+import com.skillbridge.job_service.repository.SavedJobRepository;
+import com.skillbridge.job_service.security.JwtUserPrincipal;
+
+@Service
+public class ViewerContextService {
+
+    private final SavedJobRepository savedJobRepository;
+    private final FollowedCompanyRepository followedCompanyRepository;
+    private final ViewerContextInvalidationPublisher invalidationPublisher;
+    private final boolean cacheEnabled;
+    private final Duration cacheTtl;
+    private final int maxCachedUsers;
+    private final int maxIdsPerUser;
+    private final LinkedHashMap<Long, CachedIds> cachedIds = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<Long, PendingLoad> pendingLoads = new HashMap<>();
+
+    public ViewerContextService(
+            SavedJobRepository savedJobRepository,
+            FollowedCompanyRepository followedCompanyRepository,
+            ViewerContextInvalidationPublisher invalidationPublisher,
+            @Value("${app.viewer-context.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${app.viewer-context.cache.ttl-seconds:30}") long cacheTtlSeconds,
+            @Value("${app.viewer-context.cache.max-users:10000}") int maxCachedUsers,
+            @Value("${app.viewer-context.cache.max-ids-per-user:2000}") int maxIdsPerUser
+    ) {
+        this.savedJobRepository = savedJobRepository;
+        this.followedCompanyRepository = followedCompanyRepository;
+        this.invalidationPublisher = invalidationPublisher;
+        this.cacheEnabled = cacheEnabled;
+        this.cacheTtl = Duration.ofSeconds(Math.max(cacheTtlSeconds, 0));
+        this.maxCachedUsers = Math.max(maxCachedUsers, 1);
+        this.maxIdsPerUser = Math.max(maxIdsPerUser, 0);
+    }
+
+    public ViewerContext resolve(JwtUserPrincipal principal, Collection<Long> jobIds, Collection<Long> clientIds) {
+        if (!isFreelancer(principal)) {
+            return ViewerContext.ANONYMOUS;
+        }
+        List<Long> requestedJobIds = distinctNonNull(jobIds);
+        List<Long> requestedClientIds = distinctNonNull(clientIds);
+        if (requestedJobIds.isEmpty() && requestedClientIds.isEmpty()) {
+            return ViewerContext.ANONYMOUS;
+        }
+
+        CachedIds cached = cacheEnabled ? cachedIds(principal.userId()) : null;
+        if (cached != null && cached.complete()) {
+            return new ViewerContext(
+                    matching(cached.savedJobIds(), requestedJobIds),
+                    matching(cached.followedClientIds(), requestedClientIds)
+            );
+        }
+        Set<Long> savedJobIds = requestedJobIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(savedJobRepository.findSavedJobIds(principal.userId(), requestedJobIds));
+        Set<Long> followedClientIds = requestedClientIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(followedCompanyRepository.findFollowedClientIds(principal.userId(), requestedClientIds));
+        return new ViewerContext(savedJobIds, followedClientIds);
+    }
+
+    public void invalidate(Long userId) {
+        if (!cacheEnabled || userId == null) {
+            return;
+        }
+        evict(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidationPublisher.publish(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidationPublisher.publish(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                evict(userId);
+            }
+        });
+    }
+
+    public void evictLocally(Long userId) {
+        if (!cacheEnabled || userId == null) {
+            return;
+        }
+        evict(userId);
+    }
+
+    int cachedUserCount() {
+        synchronized (cachedIds) {
+            return cachedIds.size();
+        }
+    }
+
+    private CachedIds cachedIds(Long userId) {
+        Instant now = Instant.now();
+        PendingLoad pending;
+        long loadGeneration;
+        synchronized (cachedIds) {
+            CachedIds cached = cachedIds.get(userId);
+            if (cached != null && cached.expiresAt().isAfter(now)) {
+                return cached;
+            }
+            if (cached != null) {
+                cachedIds.remove(userId);
+            }
+            pending = pendingLoads.computeIfAbsent(userId, ignored -> new PendingLoad());
+            pending.loads++;
+            loadGeneration = pending.generation;
+        }
+
+        CachedIds loaded = null;
+        try {
+            loaded = load(userId, now.plus(cacheTtl));
+        } finally {
+            synchronized (cachedIds) {
+                if (loaded != null && pending.generation == loadGeneration) {
+                    cachedIds.put(userId, loaded);
+                    while (cachedIds.size() > maxCachedUsers) {
+                        Long eldest = cachedIds.keySet().iterator().next();
+                        cachedIds.remove(eldest);
+                    }
+                }
+                if (--pending.loads == 0) {
+                    pendingLoads.remove(userId);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private CachedIds load(Long userId, Instant expiresAt) {
+        List<Long> savedJobIds = savedJobRepository.findJobIdsByUserId(userId, Limit.of(maxIdsPerUser + 1));
+        if (savedJobIds.size() > maxIdsPerUser) {
+            return CachedIds.incomplete(expiresAt);
+        }
+        List<Long> followedClientIds = followedCompanyRepository.findClientIdsByFollowerUserId(userId, Limit.of(maxIdsPerUser + 1));
+        if (followedClientIds.size() > maxIdsPerUser) {
+            return CachedIds.incomplete(expiresAt);
+        }
+        return new CachedIds(sortedIds(savedJobIds), sortedIds(followedClientIds), expiresAt);
+    }
+
+    private void evict(Long userId) {
+        synchronized (cachedIds) {
+            cachedIds.remove(userId);
+            PendingLoad pending = pendingLoads.get(userId);
+            if (pending != null) {
+                pending.generation++;
+            }
+        }
+    }
+
+    private static Set<Long> matching(long[] sortedIds, List<Long> requestedIds) {
+        Set<Long> matches = new HashSet<>();
+        for (Long id : requestedIds) {
+            if (Arrays.binarySearch(sortedIds, id) >= 0) {
+                matches.add(id);
+            }
+        }
+        return matches;
+    }
+
+    private static long[] sortedIds(List<Long> ids) {
+        long[] sorted = ids.stream().filter(Objects::nonNull).mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static List<Long> distinctNonNull(Collection<Long> ids) {
+        return ids == null ? List.of() : ids.stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    private static boolean isFreelancer(JwtUserPrincipal principal) {
+        return principal != null
+                && principal.userId() != null
+                && principal.role() != null
+                && "FREELANCER".equalsIgnoreCase(principal.role());
+    }
+
+    public record ViewerContext(Set<Long> savedJobIds, Set<Long> followedClientIds) {
+
+        static final ViewerContext ANONYMOUS = new ViewerContext(Set.of(), Set.of());
+
+        public boolean isSaved(Long jobId) {
+            return jobId != null && savedJobIds.contains(jobId);
+        }
+
+        public boolean followsCompany(Long clientId) {
+            return clientId != null && followedClientIds.contains(clientId);
+        }
+    }
+
+    private static final class PendingLoad {
+
+        private int loads;
+        private long generation;
+    }
+
+    private record CachedIds(long[] savedJobIds, long[] followedClientIds, Instant expiresAt) {
+
+        static CachedIds incomplete(Instant expiresAt) {
+            return new CachedIds(null, null, expiresAt);
+        }
+
+        boolean complete() {
+            return savedJobIds != null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+alter table jobs
+    add column if not exists tags varchar(50)[] not null default '{}';
+
+update jobs j
+set tags = t.tags
+from (
+    select job_id, array_agg(tag order by ctid) as tags
+    from job_tags
+    group by job_id
+) t
+where t.job_id = j.id;
+
+create index if not exists idx_jobs_tags on jobs using gin (tags);
+
+create or replace function sync_jobs_tags_from_job_tags() returns trigger as $$
+declare
+    changed_job_id bigint;
+begin
+    if pg_trigger_depth() > 1 then
+        return null;
+    end if;
+    changed_job_id := case when tg_op = 'DELETE' then old.job_id else new.job_id end;
+    update jobs
+    set tags = coalesce((
+        select array_agg(tag order by ctid)
+        from job_tags
+        where job_id = changed_job_id
+    ), '{}')
+    where id = changed_job_id;
+    if tg_op = 'UPDATE' and old.job_id <> new.job_id then
+        update jobs
+        set tags = coalesce((
+            select array_agg(tag order by ctid)
+            from job_tags
+            where job_id = old.job_id
+        ), '{}')
+        where id = old.job_id;
+    end if;
+    return null;
+end;
+$$ language plpgsql;
+
+create or replace function sync_job_tags_from_jobs_tags() returns trigger as $$
+begin
+    if pg_trigger_depth() > 1 or (tg_op = 'UPDATE' and new.tags is not distinct from old.tags) then
+        return null;
+    end if;
+    delete from job_tags where job_id = new.id;
+    insert into job_tags (job_id, tag)
+    select new.id, tag
+    from unnest(new.tags) as tag
+    on conflict do nothing;
+    return null;
+end;
+$$ language plpgsql;
+
+drop trigger if exists trg_job_tags_sync_jobs_tags on job_tags;
+create trigger trg_job_tags_sync_jobs_tags
+    after insert or update or delete on job_tags
+    for each row execute function sync_jobs_tags_from_job_tags();
+
+drop trigger if exists trg_jobs_sync_job_tags on jobs;
+create trigger trg_jobs_sync_job_tags
+    after insert or update of tags on jobs
+    for each row execute function sync_job_tags_from_jobs_tags();
@@ -0,0 +1,46 @@
+alter table company_stats
+    add column if not exists draft_jobs bigint not null default 0,
+    add column if not exists in_progress_jobs bigint not null default 0,
+    add column if not exists closed_jobs bigint not null default 0,
+    add column if not exists expired_jobs bigint not null default 0,
+    add column if not exists saved_jobs bigint not null default 0,
+    add column if not exists followers bigint not null default 0;
+
+update company_stats stats
+set total_jobs = summary.total_jobs,
+    draft_jobs = summary.draft_jobs,
+    open_jobs = summary.open_jobs,
+    in_progress_jobs = summary.in_progress_jobs,
+    closed_jobs = summary.closed_jobs,
+    expired_jobs = summary.expired_jobs
+from (
+    select
+        client_id,
+        count(*) as total_jobs,
+        count(*) filter (where status = 'DRAFT') as draft_jobs,
+        count(*) filter (where status = 'OPEN') as open_jobs,
+        count(*) filter (where status = 'IN_PROGRESS') as in_progress_jobs,
+        count(*) filter (where status = 'CLOSED') as closed_jobs,
+        count(*) filter (where status = 'EXPIRED') as expired_jobs
+    from jobs
+    group by client_id
+) summary
+where stats.client_id = summary.client_id;
+
+update company_stats stats
+set saved_jobs = summary.saved_jobs
+from (
+    select job_owner_client_id as client_id, count(*) as saved_jobs
+    from saved_jobs
+    group by job_owner_client_id
+) summary
+where stats.client_id = summary.client_id;
+
+update company_stats stats
+set followers = summary.followers
+from (
+    select client_id, count(*) as followers
+    from followed_companies
+    group by client_id
+) summary
+where stats.client_id = summary.client_id;
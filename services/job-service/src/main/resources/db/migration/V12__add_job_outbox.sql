@@ -0,0 +1,27 @@
+create table if not exists job_outbox_events (
+    id bigserial primary key,
+    aggregate_type varchar(64) not null,
+    aggregate_id bigint,
+    event_type varchar(64) not null,
+    exchange_name varchar(255) not null,
+    routing_key varchar(255) not null,
+    payload text not null,
+    attempts integer not null default 0,
+    next_attempt_at timestamptz not null,
+    published_at timestamptz,
+    last_error varchar(2000),
+    created_at timestamptz not null,
+    updated_at timestamptz not null
+);
+
+create index if not exists idx_job_outbox_dispatch
+    on job_outbox_events (next_attempt_at, created_at)
+    where published_at is null;
+
+create index if not exists idx_followed_companies_client_follower
+    on followed_companies (client_id, follower_user_id);
+create index if not exists idx_saved_jobs_job_user
+    on saved_jobs (job_id, user_id);
+
+drop index if exists idx_followed_companies_client;
+drop index if exists idx_saved_jobs_job_id;
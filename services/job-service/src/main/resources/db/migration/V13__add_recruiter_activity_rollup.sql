@@ -0,0 +1,32 @@
+create table if not exists recruiter_activity_hourly (
+    client_id bigint not null,
+    bucket_start timestamptz not null,
+    jobs_created integer not null default 0,
+    proposals integer not null default 0,
+    interviews integer not null default 0,
+    accepted integer not null default 0,
+    rejected integer not null default 0,
+    contracts_created integer not null default 0,
+    contracts_completed integer not null default 0,
+    updated_at timestamptz not null,
+    primary key (client_id, bucket_start)
+);
+
+create table if not exists recruiter_activity_events (
+    event_key varchar(128) primary key,
+    processed_at timestamptz not null
+);
+
+create index if not exists idx_recruiter_activity_events_processed_at
+    on recruiter_activity_events (processed_at);
+
+insert into recruiter_activity_hourly (client_id, bucket_start, jobs_created, updated_at)
+select client_id,
+       date_trunc('hour', created_at at time zone 'UTC') at time zone 'UTC',
+       count(*),
+       now()
+from jobs
+where client_id is not null and created_at is not null
+group by 1, 2
+on conflict (client_id, bucket_start) do update
+set jobs_created = excluded.jobs_created;
@@ -0,0 +1,18 @@
+create extension if not exists pg_trgm;
+
+alter table jobs
+    add column if not exists search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(company_name, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(category, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(location, '')), 'C')
+        || setweight(to_tsvector('simple', coalesce(requirements, '')), 'C')
+        || setweight(to_tsvector('simple', coalesce(responsibilities, '')), 'C')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'D')
+        || setweight(to_tsvector('simple', coalesce(benefits, '')), 'D')
+    ) stored;
+
+create index if not exists idx_jobs_search_vector on jobs using gin (search_vector);
+create index if not exists idx_jobs_location_trgm on jobs using gin (lower(location) gin_trgm_ops);
+create index if not exists idx_jobs_company_name_trgm on jobs using gin (lower(company_name) gin_trgm_ops);
@@ -0,0 +1 @@
+create index if not exists idx_jobs_client_id_id on jobs (client_id, id);
@@ -0,0 +1,15 @@
+create table if not exists search_index_outbox (
+    id bigserial primary key,
+    entity_type varchar(32) not null,
+    entity_id bigint not null,
+    attempts integer not null default 0,
+    next_attempt_at timestamptz not null,
+    requested_at timestamptz not null,
+    last_error varchar(2000),
+    created_at timestamptz not null,
+    updated_at timestamptz not null,
+    constraint uk_search_index_outbox_entity unique (entity_type, entity_id)
+);
+
+create index if not exists idx_search_index_outbox_due
+    on search_index_outbox (next_attempt_at);
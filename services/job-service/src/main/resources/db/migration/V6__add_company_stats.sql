@@ -0,0 +1,95 @@
+create table if not exists company_stats (
+    client_id bigint primary key,
+    company_name varchar(255) not null,
+    total_jobs bigint not null default 0,
+    open_jobs bigint not null default 0,
+    latest_job_created_at timestamptz,
+    latest_job_updated_at timestamptz,
+    location_counts jsonb not null default '{}'::jsonb,
+    employment_type_counts jsonb not null default '{}'::jsonb,
+    tag_counts jsonb not null default '{}'::jsonb,
+    updated_at timestamptz not null
+);
+
+insert into company_stats (
+    client_id,
+    company_name,
+    total_jobs,
+    open_jobs,
+    latest_job_created_at,
+    latest_job_updated_at,
+    location_counts,
+    employment_type_counts,
+    tag_counts,
+    updated_at
+)
+select
+    summary.client_id,
+    coalesce(
+        (
+            select nullif(trim(latest.company_name), '')
+            from jobs latest
+            where latest.client_id = summary.client_id
+            order by latest.updated_at desc, latest.id desc
+            limit 1
+        ),
+        'Client #' || summary.client_id
+    ),
+    summary.total_jobs,
+    summary.open_jobs,
+    summary.latest_job_created_at,
+    summary.latest_job_updated_at,
+    coalesce(
+        (
+            select jsonb_object_agg(ranked.location, ranked.job_count)
+            from (
+                select trim(j.location) as location, count(*) as job_count
+                from jobs j
+                where j.client_id = summary.client_id
+                  and nullif(trim(j.location), '') is not null
+                group by trim(j.location)
+                order by job_count desc, location
+                limit 32
+            ) ranked
+        ),
+        '{}'::jsonb
+    ),
+    coalesce(
+        (
+            select jsonb_object_agg(ranked.employment_type, ranked.job_count)
+            from (
+                select j.employment_type, count(*) as job_count
+                from jobs j
+                where j.client_id = summary.client_id
+                group by j.employment_type
+            ) ranked
+        ),
+        '{}'::jsonb
+    ),
+    coalesce(
+        (
+            select jsonb_object_agg(ranked.tag, ranked.job_count)
+            from (
+                select t.tag, count(*) as job_count
+                from jobs j
+                join job_tags t on t.job_id = j.id
+                where j.client_id = summary.client_id
+                group by t.tag
+                order by job_count desc, t.tag
+                limit 64
+            ) ranked
+        ),
+        '{}'::jsonb
+    ),
+    now()
+from (
+    select
+        client_id,
+        count(*) as total_jobs,
+        count(*) filter (where status = 'OPEN') as open_jobs,
+        max(created_at) as latest_job_created_at,
+        max(updated_at) as latest_job_updated_at
+    from jobs
+    group by client_id
+) summary
+on conflict (client_id) do nothing;
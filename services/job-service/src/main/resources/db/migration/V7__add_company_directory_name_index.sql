@@ -0,0 +1,17 @@
+create extension if not exists pg_trgm;
+
+alter table company_stats
+    add column if not exists normalized_name varchar(255);
+
+update company_stats
+set normalized_name = lower(regexp_replace(trim(company_name), '\s+', ' ', 'g'))
+where normalized_name is null;
+
+alter table company_stats
+    alter column normalized_name set not null;
+
+create index if not exists idx_company_stats_normalized_name_trgm
+    on company_stats using gin (normalized_name gin_trgm_ops);
+
+create index if not exists idx_company_stats_normalized_name_prefix
+    on company_stats (normalized_name text_pattern_ops);
@@ -0,0 +1,14 @@
+create unlogged table if not exists search_result_cache (
+    cache_key varchar(64) primary key,
+    generation bigint not null,
+    payload text not null,
+    expires_at timestamptz not null
+);
+
+create index if not exists idx_search_result_cache_expires
+    on search_result_cache (expires_at);
+
+create table if not exists search_cache_generation (
+    index_name varchar(32) primary key,
+    generation bigint not null
+);
@@ -0,0 +1,11 @@
+create index if not exists idx_jobs_open_created_at
+    on jobs (created_at desc, id desc)
+    where status = 'OPEN';
+
+create index if not exists idx_jobs_open_budget_max
+    on jobs (budget_max desc, created_at desc, id desc)
+    where status = 'OPEN';
+
+create index if not exists idx_jobs_open_budget_min
+    on jobs (budget_min, created_at desc, id desc)
+    where status = 'OPEN';
@@ -0,0 +1,102 @@
+package com.skillbridge.job_service.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.skillbridge.common.events.EventTopics;
+import com.skillbridge.common.events.JobPublishedEvent;
+import com.skillbridge.common.events.JobStatusChangedEvent;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.JobOutboxEvent;
+import com.skillbridge.job_service.domain.JobOutboxEventType;
+import com.skillbridge.job_service.domain.JobStatus;
+import com.skillbridge.job_service.repository.JobOutboxEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JobEventPublisherTest {
+
+    @Mock
+    private JobOutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private JobEventPublisher jobEventPublisher;
+
+    @Test
+    void publishJobPublishedShouldStoreSingleOutboxEvent() throws Exception {
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"type\":\"published\"}");
+
+        jobEventPublisher.publishJobPublished(job(10L, 99L, JobStatus.OPEN), "Acme");
+
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(objectMapper).writeValueAsString(payloadCaptor.capture());
+        JobPublishedEvent payload = (JobPublishedEvent) payloadCaptor.getValue();
+        assertThat(payload.eventId()).isNotBlank();
+        assertThat(payload.clientId()).isEqualTo(99L);
+        assertThat(payload.companyName()).isEqualTo("Acme");
+        assertThat(payload.title()).isEqualTo("Build API");
+
+        ArgumentCaptor<JobOutboxEvent> captor = ArgumentCaptor.forClass(JobOutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        JobOutboxEvent stored = captor.getValue();
+        assertThat(stored.getAggregateType()).isEqualTo("job");
+        assertThat(stored.getAggregateId()).isEqualTo(10L);
+        assertThat(stored.getEventType()).isEqualTo(JobOutboxEventType.JOB_PUBLISHED);
+        assertThat(stored.getExchangeName()).isEqualTo(EventTopics.EXCHANGE_NAME);
+        assertThat(stored.getRoutingKey()).isEqualTo(EventTopics.JOB_PUBLISHED_ROUTING_KEY);
+        assertThat(stored.getPayload()).isEqualTo("{\"type\":\"published\"}");
+        assertThat(stored.getAttempts()).isZero();
+        assertThat(stored.getNextAttemptAt()).isNotNull();
+    }
+
+    @Test
+    void publishJobStatusChangedShouldStoreOutboxEvent() throws Exception {
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"type\":\"status\"}");
+
+        jobEventPublisher.publishJobStatusChanged(job(11L, 99L, JobStatus.CLOSED));
+
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(objectMapper).writeValueAsString(payloadCaptor.capture());
+        JobStatusChangedEvent payload = (JobStatusChangedEvent) payloadCaptor.getValue();
+        assertThat(payload.jobId()).isEqualTo(11L);
+        assertThat(payload.status()).isEqualTo("CLOSED");
+
+        ArgumentCaptor<JobOutboxEvent> captor = ArgumentCaptor.forClass(JobOutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(JobOutboxEventType.JOB_STATUS_CHANGED);
+        assertThat(captor.getValue().getRoutingKey()).isEqualTo(EventTopics.JOB_STATUS_CHANGED_ROUTING_KEY);
+    }
+
+    @Test
+    void publishShouldSwallowSerializationFailure() throws Exception {
+        when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("broken json") {});
+
+        assertThatCode(() -> jobEventPublisher.publishJobPublished(job(12L, 99L, JobStatus.OPEN), "Acme"))
+                .doesNotThrowAnyException();
+        verify(outboxEventRepository, never()).save(any());
+    }
+
+    private Job job(Long id, Long clientId, JobStatus status) {
+        Job job = new Job();
+        job.setId(id);
+        job.setClientId(clientId);
+        job.setTitle("Build API");
+        job.setStatus(status);
+        return job;
+    }
+}
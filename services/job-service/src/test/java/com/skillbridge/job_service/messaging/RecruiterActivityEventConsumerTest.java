@@ -0,0 +1,83 @@
+package com.skillbridge.job_service.messaging;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.skillbridge.common.events.ContractCompletedEvent;
+import com.skillbridge.common.events.ContractCreatedEvent;
+import com.skillbridge.common.events.ProposalAcceptedEvent;
+import com.skillbridge.common.events.ProposalCreatedEvent;
+import com.skillbridge.common.events.ProposalStatusChangedEvent;
+import com.skillbridge.common.events.ProposalsRejectedEvent;
+import com.skillbridge.job_service.service.RecruiterActivityMetric;
+import com.skillbridge.job_service.service.RecruiterActivityRollupService;
+
+@ExtendWith(MockitoExtension.class)
+class RecruiterActivityEventConsumerTest {
+
+    private static final Instant AT = Instant.parse("2026-03-10T14:47:12Z");
+
+    @Mock
+    private RecruiterActivityRollupService rollupService;
+
+    @InjectMocks
+    private RecruiterActivityEventConsumer consumer;
+
+    @Test
+    void proposalEventsShouldBeRecordedUnderPerProposalKeys() {
+        consumer.handleProposalCreated(new ProposalCreatedEvent(1L, 10L, 70L, 900L, AT));
+        consumer.handleProposalAccepted(new ProposalAcceptedEvent(2L, 10L, 900L, 71L, "f@example.com", AT));
+
+        verify(rollupService).record("proposal-created:1", 900L, AT, RecruiterActivityMetric.PROPOSALS, 1);
+        verify(rollupService).record("proposal-accepted:2", 900L, AT, RecruiterActivityMetric.ACCEPTED, 1);
+    }
+
+    @Test
+    void batchedRejectionsShouldCountEveryRecipientOnce() {
+        consumer.handleProposalsRejected(new ProposalsRejectedEvent(
+                2L,
+                10L,
+                900L,
+                List.of(new ProposalsRejectedEvent.Recipient(72L, "a@example.com"), new ProposalsRejectedEvent.Recipient(73L, "b@example.com")),
+                AT
+        ));
+
+        verify(rollupService).record("proposals-rejected:2:72", 900L, AT, RecruiterActivityMetric.REJECTED, 2);
+    }
+
+    @Test
+    void statusChangesShouldOnlyCountInterviewsAndRejections() {
+        consumer.handleProposalStatusChanged(new ProposalStatusChangedEvent(3L, 10L, 900L, 74L, "INTERVIEW_SCHEDULED", AT));
+        consumer.handleProposalStatusChanged(new ProposalStatusChangedEvent(4L, 10L, 900L, 75L, "REJECTED", AT));
+
+        verify(rollupService).record("proposal-interview:3", 900L, AT, RecruiterActivityMetric.INTERVIEWS, 1);
+        verify(rollupService).record("proposal-rejected:4", 900L, AT, RecruiterActivityMetric.REJECTED, 1);
+    }
+
+    @Test
+    void reviewingStatusAndEmptyEventsShouldBeIgnored() {
+        consumer.handleProposalStatusChanged(new ProposalStatusChangedEvent(5L, 10L, 900L, 76L, "REVIEWING", AT));
+        consumer.handleProposalsRejected(new ProposalsRejectedEvent(2L, 10L, 900L, List.of(), AT));
+        consumer.handleContractCreated(null);
+
+        verifyNoInteractions(rollupService);
+    }
+
+    @Test
+    void contractEventsShouldBeRecordedUnderPerContractKeys() {
+        consumer.handleContractCreated(new ContractCreatedEvent(20L, 10L, 900L, 71L, AT));
+        consumer.handleContractCompleted(new ContractCompletedEvent(20L, 10L, 900L, 71L, AT));
+
+        verify(rollupService).record("contract-created:20", 900L, AT, RecruiterActivityMetric.CONTRACTS_CREATED, 1);
+        verify(rollupService).record("contract-completed:20", 900L, AT, RecruiterActivityMetric.CONTRACTS_COMPLETED, 1);
+    }
+}
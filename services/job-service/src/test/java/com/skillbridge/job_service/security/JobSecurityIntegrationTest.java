@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
@@ -12,6 +13,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import javax.crypto.SecretKey;
 
@@ -28,11 +30,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.skillbridge.job_service.config.JwtProperties;
 import com.skillbridge.job_service.config.SecurityConfig;
 import com.skillbridge.job_service.controller.JobController;
+import com.skillbridge.job_service.dto.FacetCount;
 import com.skillbridge.job_service.dto.JobResponse;
+import com.skillbridge.job_service.dto.JobSearchFacetResponse;
 import com.skillbridge.job_service.dto.PagedResult;
 import com.skillbridge.job_service.service.JobSearchAdminService;
 import com.skillbridge.job_service.service.JobService;
 import com.skillbridge.job_service.service.RecruiterReportService;
+import com.skillbridge.job_service.service.SearchIndexQueue;
 
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -60,6 +65,9 @@ class JobSecurityIntegrationTest {
     @MockitoBean
     private RecruiterReportService recruiterReportService;
 
+    @MockitoBean
+    private SearchIndexQueue searchIndexQueue;
+
     @Test
     void createJobShouldRequireAuthentication() throws Exception {
         mockMvc.perform(post("/jobs")
@@ -161,6 +169,8 @@ class JobSecurityIntegrationTest {
                 eq("latest"),
                 eq(0),
                 eq(20),
+                eq(null),
+                eq(true),
                 eq(null)
         )).thenReturn(new PagedResult<>(List.of(), 0, 0, 0, 20));
 
@@ -168,6 +178,31 @@ class JobSecurityIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void jobFacetsShouldBePublicAndReturnTypedCounts() throws Exception {
+        when(jobService.getJobFacets(
+                eq(null),
+                eq(null),
+                eq(null),
+                eq(null),
+                eq(null),
+                eq(List.of("java")),
+                eq(null),
+                eq(null),
+                eq(null),
+                eq(null),
+                eq(null),
+                eq(null),
+                eq(List.of("workMode", "budget"))
+        )).thenReturn(new JobSearchFacetResponse(3, Map.of("workMode", List.of(new FacetCount("REMOTE", 3)))));
+
+        mockMvc.perform(get("/jobs/search/facets").param("tags", "java").param("facets", "workMode,budget"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.facets.workMode[0].value").value("REMOTE"))
+                .andExpect(jsonPath("$.facets.workMode[0].count").value(3));
+    }
+
     private String tokenFor(Long userId, String role) {
         SecretKey key = Keys.hmacShaKeyFor("abcdefghijklmnopqrstuvwxyz123456".getBytes(StandardCharsets.UTF_8));
         return Jwts.builder()
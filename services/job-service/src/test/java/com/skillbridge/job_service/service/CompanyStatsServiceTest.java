@@ -0,0 +1,169 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.skillbridge.job_service.domain.CompanyStats;
+import com.skillbridge.job_service.domain.EmploymentType;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.JobStatus;
+import com.skillbridge.job_service.repository.CompanyStatsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyStatsServiceTest {
+
+    @Mock
+    private CompanyStatsRepository companyStatsRepository;
+
+    @InjectMocks
+    private CompanyStatsService companyStatsService;
+
+    @Test
+    void applyJobChangeShouldCountNewJobUnderRowLock() {
+        CompanyStats stats = stats(77L);
+        when(companyStatsRepository.findByIdForUpdate(77L)).thenReturn(Optional.of(stats));
+        Job job = job(JobStatus.OPEN, "Ho Chi Minh City", List.of("java", "spring"));
+
+        companyStatsService.applyJobChange(null, job);
+
+        verify(companyStatsRepository).insertIfAbsent(eq(77L), eq("Acme"), eq("acme"), any());
+        assertThat(stats.getTotalJobs()).isEqualTo(1);
+        assertThat(stats.getOpenJobs()).isEqualTo(1);
+        assertThat(stats.getCompanyName()).isEqualTo("Acme");
+        assertThat(stats.getNormalizedName()).isEqualTo("acme");
+        assertThat(stats.getLatestJobCreatedAt()).isEqualTo(job.getCreatedAt());
+        assertThat(stats.getLatestJobUpdatedAt()).isNotNull();
+        assertThat(stats.getLocationCounts()).containsExactly(Map.entry("Ho Chi Minh City", 1L));
+        assertThat(stats.getEmploymentTypeCounts()).containsExactly(Map.entry("FULL_TIME", 1L));
+        assertThat(stats.getTagCounts()).containsOnly(Map.entry("java", 1L), Map.entry("spring", 1L));
+    }
+
+    @Test
+    void applyDeltaShouldOnlyMoveCountersThatChanged() {
+        CompanyStats stats = stats(77L);
+        stats.setTotalJobs(3);
+        stats.setOpenJobs(2);
+        stats.setLocationCounts(new LinkedHashMap<>(Map.of("Remote", 2L, "Hanoi", 1L)));
+        stats.setEmploymentTypeCounts(new LinkedHashMap<>(Map.of("FULL_TIME", 3L)));
+        stats.setTagCounts(new LinkedHashMap<>(Map.of("java", 3L, "spring", 1L)));
+        JobFacts before = JobFacts.of(job(JobStatus.OPEN, "Hanoi", List.of("java", "spring")));
+        JobFacts after = JobFacts.of(job(JobStatus.CLOSED, "Remote", List.of("java", "kafka")));
+
+        companyStatsService.applyDelta(stats, before, after, "Acme", null, Instant.now());
+
+        assertThat(stats.getTotalJobs()).isEqualTo(3);
+        assertThat(stats.getOpenJobs()).isEqualTo(1);
+        assertThat(stats.getClosedJobs()).isEqualTo(1);
+        assertThat(stats.getLocationCounts()).containsOnly(Map.entry("Remote", 3L));
+        assertThat(stats.getEmploymentTypeCounts()).containsOnly(Map.entry("FULL_TIME", 3L));
+        assertThat(stats.getTagCounts()).containsOnly(Map.entry("java", 3L), Map.entry("kafka", 1L));
+        CompanySearchResultItem result = companyStatsService.toSearchResult(stats);
+        assertThat(result.topTags()).containsExactly("java", "kafka");
+        assertThat(result.locations()).containsExactly("Remote");
+    }
+
+    @Test
+    void tagSketchShouldEvictSmallestCounterWhenFull() {
+        CompanyStats stats = stats(77L);
+        Map<String, Long> tags = new LinkedHashMap<>();
+        for (int i = 0; i < CompanyStatsService.TAG_SKETCH_CAPACITY; i++) {
+            tags.put(String.format("tag%02d", i), i == 0 ? 1L : 5L);
+        }
+        stats.setTagCounts(tags);
+
+        companyStatsService.applyDelta(stats, null, JobFacts.of(job(JobStatus.DRAFT, null, List.of("rust"))), "Acme", null, Instant.now());
+
+        assertThat(stats.getTagCounts()).hasSize(CompanyStatsService.TAG_SKETCH_CAPACITY);
+        assertThat(stats.getTagCounts()).doesNotContainKey("tag00");
+        assertThat(stats.getTagCounts()).containsEntry("rust", 2L);
+        assertThat(stats.getOpenJobs()).isZero();
+    }
+
+    @Test
+    void removingATermFromAFullSketchShouldRecountItFromJobs() {
+        CompanyStats stats = stats(77L);
+        Map<String, Long> tags = new LinkedHashMap<>();
+        for (int i = 0; i < CompanyStatsService.TAG_SKETCH_CAPACITY - 1; i++) {
+            tags.put(String.format("tag%02d", i), 5L);
+        }
+        tags.put("rust", 2L);
+        stats.setTagCounts(tags);
+        stats.setLocationCounts(new LinkedHashMap<>(Map.of("Hanoi", 1L)));
+        when(companyStatsRepository.countTagsByClientId(77L, CompanyStatsService.TAG_SKETCH_CAPACITY))
+                .thenReturn(List.of(termCount("tag01", 5L), termCount("java", 1L)));
+        JobFacts before = JobFacts.of(job(JobStatus.OPEN, "Hanoi", List.of("rust")));
+        JobFacts after = JobFacts.of(job(JobStatus.OPEN, "Hanoi", List.of("java")));
+
+        companyStatsService.applyDelta(stats, before, after, "Acme", null, Instant.now());
+
+        verify(companyStatsRepository).flush();
+        assertThat(stats.getTagCounts()).containsExactly(Map.entry("tag01", 5L), Map.entry("java", 1L));
+        assertThat(stats.getLocationCounts()).containsOnly(Map.entry("Hanoi", 1L));
+        verify(companyStatsRepository, never()).countLocationsByClientId(any(), anyInt());
+    }
+
+    @Test
+    void searchByNameShouldUsePrefixIndexForShortQueriesAndTrigramsOtherwise() {
+        CompanyStats acme = stats(77L);
+        acme.setCompanyName("Acme  Labs");
+        when(companyStatsRepository.searchByNamePrefix("ac", "ac%", Limit.of(5))).thenReturn(List.of(acme));
+        when(companyStatsRepository.searchByNameTrigram("acme 50%_", "acme 50\\%\\_%", "%acme 50\\%\\_%", 5)).thenReturn(List.of());
+
+        assertThat(companyStatsService.searchByName(" AC ", 5)).extracting(CompanySearchResultItem::clientId).containsExactly(77L);
+        assertThat(companyStatsService.searchByName("Acme   50%_", 5)).isEmpty();
+        assertThat(companyStatsService.searchByName("   ", 5)).isEmpty();
+        verify(companyStatsRepository, never()).searchByNameTrigram(eq("ac"), any(), any(), anyInt());
+    }
+
+    private CompanyStatsRepository.TermCount termCount(String term, long jobCount) {
+        return new CompanyStatsRepository.TermCount() {
+            @Override
+            public String getTerm() {
+                return term;
+            }
+
+            @Override
+            public long getJobCount() {
+                return jobCount;
+            }
+        };
+    }
+
+    private CompanyStats stats(Long clientId) {
+        CompanyStats stats = new CompanyStats();
+        stats.setClientId(clientId);
+        stats.setCompanyName("Client #" + clientId);
+        return stats;
+    }
+
+    private Job job(JobStatus status, String location, List<String> tags) {
+        Job job = new Job();
+        job.setId(10L);
+        job.setClientId(77L);
+        job.setCompanyName("Acme");
+        job.setStatus(status);
+        job.setLocation(location);
+        job.setEmploymentType(EmploymentType.FULL_TIME);
+        job.setTags(tags);
+        job.setCreatedAt(Instant.parse("2026-03-19T01:00:00Z"));
+        return job;
+    }
+}
@@ -0,0 +1,292 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.job_service.domain.EmploymentType;
+import com.skillbridge.job_service.domain.JobStatus;
+
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "app.search.result-cache.enabled=false",
+        "app.jwt.secret=abcdefghijklmnopqrstuvwxyz123456",
+        "app.jwt.access-token-expiration-ms=900000",
+        "app.jwt.refresh-token-expiration-ms=604800000",
+        "app.internal.api-key=test-internal-key"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "JOB_SEARCH_EXPLAIN_DB_URL", matches = ".+")
+class DbJobSearchIndexUsageTest {
+
+    private static final String SCHEMA = "job_explain_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+
+    private static final Map<JobSearchSort, String> SORT_INDEXES = Map.of(
+            JobSearchSort.LATEST, "idx_jobs_open_created_at",
+            JobSearchSort.RELEVANCE, "idx_jobs_search_vector",
+            JobSearchSort.SALARY_HIGH, "idx_jobs_open_budget_max",
+            JobSearchSort.SALARY_LOW, "idx_jobs_open_budget_min"
+    );
+
+    @Autowired
+    private DbJobSearchService searchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> withSearchPath(System.getenv("JOB_SEARCH_EXPLAIN_DB_URL")));
+        registry.add("spring.datasource.username", () -> env("JOB_SEARCH_EXPLAIN_DB_USERNAME", "postgres"));
+        registry.add("spring.datasource.password", () -> env("JOB_SEARCH_EXPLAIN_DB_PASSWORD", ""));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.flyway.schemas", () -> SCHEMA);
+        registry.add("spring.flyway.create-schemas", () -> "true");
+    }
+
+    @BeforeAll
+    void seed() {
+        assertThat(jdbcTemplate.queryForObject("select current_schema()", String.class)).isEqualTo(SCHEMA);
+        jdbcTemplate.update("""
+                insert into jobs (title, description, company_name, location, budget_min, budget_max, status,
+                                  employment_type, remote, work_mode, visibility, experience_years, category, client_id,
+                                  tags, created_at, updated_at)
+                select 'Job ' || n || case when n % 50 = 0 then ' java platform' else ' generalist' end,
+                       'Seeded job ' || n,
+                       'Company ' || (n % 400),
+                       'City ' || (n % 60),
+                       100 + (n * 37) % 5000,
+                       200 + (n * 37) % 5000 + (n % 7) * 300,
+                       case when n % 10 < 3 then 'OPEN' when n % 10 < 5 then 'IN_PROGRESS' else 'CLOSED' end,
+                       (array['FULL_TIME', 'PART_TIME', 'CONTRACT'])[1 + n % 3],
+                       n % 2 = 0,
+                       case when n % 2 = 0 then 'REMOTE' else 'ONSITE' end,
+                       'PUBLIC',
+                       n % 12,
+                       'Category ' || (n % 25),
+                       1 + n % 2000,
+                       case when n % 5000 = 0 then array['rare'] else array[]::text[] end
+                           || array['tag-' || n % 400, 'tag-' || (n * 7 + 1) % 400, 'tag-' || (n * 13 + 2) % 400],
+                       now() - n * interval '1 minute',
+                       now() - n * interval '1 minute'
+                from generate_series(1, 60000) as n
+                """);
+        jdbcTemplate.execute("alter table jobs alter column tags set statistics 1000");
+        jdbcTemplate.execute("analyze jobs");
+    }
+
+    @AfterAll
+    void dropSchema() {
+        jdbcTemplate.execute("drop schema if exists " + SCHEMA + " cascade");
+    }
+
+    @ParameterizedTest(name = "{0} {1} cursor={2}")
+    @MethodSource("queryShapes")
+    void pageQueryShouldBeServedByAQueryShapeIndex(JobSearchSort sort, String filter, boolean cursorPaging) throws Exception {
+        JobSearchRequest request = request(sort, filter, cursorPaging);
+
+        JsonNode plan = explainPageQuery(request);
+
+        Map<String, Set<String>> scans = new TreeMap<>();
+        List<String> nodeTypes = new ArrayList<>();
+        collect(plan, null, scans, nodeTypes);
+        Set<String> jobScans = scans.getOrDefault("jobs", Set.of());
+        assertThat(scans.values()).as("scans in %s", plan).noneMatch(access -> access.contains("Seq Scan"));
+        if ("rareTag".equals(filter)) {
+            assertThat(jobScans).as("jobs access in %s", plan).contains("idx_jobs_tags");
+        } else if ("tag".equals(filter)) {
+            assertThat(jobScans).as("jobs access in %s", plan).containsAnyOf(SORT_INDEXES.get(sort), "idx_jobs_tags");
+        } else if ("keyword".equals(filter)) {
+            assertThat(jobScans).as("jobs access in %s", plan).containsAnyOf(SORT_INDEXES.get(sort), "idx_jobs_search_vector");
+        } else {
+            assertThat(jobScans).as("jobs access in %s", plan).containsExactly(SORT_INDEXES.get(sort));
+            assertThat(nodeTypes).as("plan nodes in %s", plan).doesNotContain("Sort");
+        }
+    }
+
+    static Stream<Arguments> queryShapes() {
+        List<Arguments> shapes = new ArrayList<>();
+        for (JobSearchSort sort : JobSearchSort.values()) {
+            for (String filter : List.of("none", "employmentType", "remote", "budget", "experience", "tag", "rareTag", "keyword")) {
+                if (sort == JobSearchSort.RELEVANCE && !"keyword".equals(filter)) {
+                    continue;
+                }
+                shapes.add(Arguments.of(sort, filter, false));
+                if (sort != JobSearchSort.RELEVANCE && !"keyword".equals(filter)) {
+                    shapes.add(Arguments.of(sort, filter, true));
+                }
+            }
+        }
+        return shapes.stream();
+    }
+
+    private JobSearchRequest request(JobSearchSort sort, String filter, boolean cursorPaging) {
+        return new JobSearchRequest(
+                "keyword".equals(filter) ? "java" : null,
+                JobStatus.OPEN,
+                "budget".equals(filter) ? BigDecimal.valueOf(1500) : null,
+                "budget".equals(filter) ? BigDecimal.valueOf(1800) : null,
+                null,
+                "tag".equals(filter) ? List.of("tag-17") : "rareTag".equals(filter) ? List.of("rare") : List.of(),
+                null,
+                null,
+                "employmentType".equals(filter) ? EmploymentType.CONTRACT : null,
+                "remote".equals(filter) ? Boolean.TRUE : null,
+                "experience".equals(filter) ? 3 : null,
+                "experience".equals(filter) ? 5 : null,
+                sort,
+                0,
+                20,
+                cursorPaging ? JobSearchCursor.first(sort) : null,
+                false
+        );
+    }
+
+    private JsonNode explainPageQuery(JobSearchRequest request) throws Exception {
+        RecordedStatement statement;
+        synchronized (RecordingDataSource.RECORDED) {
+            RecordingDataSource.RECORDED.clear();
+            searchService.search(request);
+            statement = RecordingDataSource.RECORDED.stream()
+                    .filter(recorded -> recorded.sql().contains(" from jobs ") && recorded.sql().contains(" order by "))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No page query recorded for " + request));
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("explain (format json) " + statement.sql())) {
+            for (Invocation parameter : statement.parameters()) {
+                parameter.method().invoke(explain, parameter.args());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+            }
+        }
+    }
+
+    private void collect(JsonNode node, String bitmapRelation, Map<String, Set<String>> scans, List<String> nodeTypes) {
+        String nodeType = node.path("Node Type").asText();
+        nodeTypes.add(nodeType);
+        String relation = node.has("Relation Name") ? node.get("Relation Name").asText() : bitmapRelation;
+        if (relation != null && !"Bitmap Heap Scan".equals(nodeType)) {
+            scans.computeIfAbsent(relation, ignored -> new TreeSet<>())
+                    .add(node.has("Index Name") ? node.get("Index Name").asText() : nodeType);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, "Bitmap Heap Scan".equals(nodeType) || "BitmapAnd".equals(nodeType) || "BitmapOr".equals(nodeType) ? relation : null, scans, nodeTypes);
+        }
+    }
+
+    private static String withSearchPath(String url) {
+        return url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public";
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null ? defaultValue : value;
+    }
+
+    record Invocation(Method method, Object[] args) {
+    }
+
+    record RecordedStatement(String sql, List<Invocation> parameters) {
+    }
+
+    @TestConfiguration
+    static class RecordingDataSource {
+
+        static final List<RecordedStatement> RECORDED = new ArrayList<>();
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource, RecordingDataSource::wrapConnection) : bean;
+                }
+            };
+        }
+
+        private static Object wrapConnection(Object target, Method method, Object[] args) throws Exception {
+            Object result = method.invoke(target, args);
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, RecordingDataSource::wrapStatement);
+            }
+            return result;
+        }
+
+        private static Object wrapStatement(Object target, Method method, Object[] args) throws Exception {
+            Object result = method.invoke(target, args);
+            if ("prepareStatement".equals(method.getName()) && result instanceof PreparedStatement statement) {
+                RecordedStatement recorded = new RecordedStatement((String) args[0], new ArrayList<>());
+                synchronized (RECORDED) {
+                    RECORDED.add(recorded);
+                }
+                return proxy(PreparedStatement.class, statement, (delegate, call, callArgs) -> {
+                    if (call.getName().startsWith("set") && callArgs != null && callArgs.length >= 2 && callArgs[0] instanceof Integer) {
+                        recorded.parameters().add(new Invocation(call, callArgs.clone()));
+                    }
+                    return call.invoke(delegate, callArgs);
+                });
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                try {
+                    return interceptor.invoke(target, method, args);
+                } catch (java.lang.reflect.InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+        }
+
+        @FunctionalInterface
+        interface Interceptor {
+            Object invoke(Object target, Method method, Object[] args) throws Exception;
+        }
+    }
+}
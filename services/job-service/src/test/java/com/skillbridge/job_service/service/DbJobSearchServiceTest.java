@@ -0,0 +1,72 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.repository.JobRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DbJobSearchServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private CompanyStatsService companyStatsService;
+
+    @Mock
+    private JobSuggestionIndex jobSuggestionIndex;
+
+    @Mock
+    private DbJobFacetCounter facetCounter;
+
+    @Test
+    void prefixTextQueryShouldKeepOnlyWordCharactersAsPrefixTerms() {
+        DbJobSearchService service = new DbJobSearchService(jobRepository, new SearchProperties(), companyStatsService, jobSuggestionIndex, facetCounter);
+
+        assertThat(service.toPrefixTextQuery(" Backend  Engineer, Hồ Chí Minh! backend ")).isEqualTo("backend:* & engineer:* & hồ:* & chí:* & minh:*");
+        assertThat(service.toPrefixTextQuery("') | !(")).isNull();
+    }
+
+    @Test
+    void prefixTextQueryShouldRespectConfiguredTermLimitAndToggle() {
+        SearchProperties properties = new SearchProperties();
+        properties.getDb().setMaxKeywordTerms(2);
+        DbJobSearchService service = new DbJobSearchService(jobRepository, properties, companyStatsService, jobSuggestionIndex, facetCounter);
+
+        assertThat(service.toPrefixTextQuery("java spring kafka")).isEqualTo("java:* & spring:*");
+
+        properties.getDb().setFullTextEnabled(false);
+        assertThat(service.toPrefixTextQuery("java spring kafka")).isNull();
+    }
+
+    @Test
+    void searchCompaniesShouldServeNormalizedQueryFromCompanyStats() {
+        DbJobSearchService service = new DbJobSearchService(jobRepository, new SearchProperties(), companyStatsService, jobSuggestionIndex, facetCounter);
+        CompanySearchResultItem acme = new CompanySearchResultItem(7L, "Acme", 3, 1, null, null, List.of(), List.of(), List.of());
+        when(companyStatsService.searchByName("acme", 5)).thenReturn(List.of(acme));
+
+        assertThat(service.searchCompanies("  ACME ", 5)).containsExactly(acme);
+        assertThat(service.searchCompanies(" ", 5)).isEmpty();
+    }
+
+    @Test
+    void suggestShouldServeFromSuggestionIndexOnceLoaded() {
+        DbJobSearchService service = new DbJobSearchService(jobRepository, new SearchProperties(), companyStatsService, jobSuggestionIndex, facetCounter);
+        List<JobSearchSuggestionItem> suggestions = List.of(new JobSearchSuggestionItem("Backend Engineer", "TITLE"));
+        when(jobSuggestionIndex.isReady()).thenReturn(true);
+        when(jobSuggestionIndex.suggest("back", 5)).thenReturn(suggestions);
+
+        assertThat(service.suggest(" Back ", 5)).isEqualTo(suggestions);
+        verifyNoInteractions(jobRepository);
+    }
+}
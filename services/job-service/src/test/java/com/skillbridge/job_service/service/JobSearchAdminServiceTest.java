@@ -0,0 +1,141 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.dto.JobSearchReindexResponse;
+import com.skillbridge.job_service.repository.JobRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JobSearchAdminServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private CompanyStatsService companyStatsService;
+
+    @Mock
+    private JobSearchService jobSearchService;
+
+    private JobSearchAdminService jobSearchAdminService;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        properties.getReindex().setBatchSize(2);
+        properties.getReindex().setParallelism(2);
+        jobSearchAdminService = new JobSearchAdminService(jobRepository, companyStatsService, jobSearchService, properties);
+        when(jobSearchService.supportsIndexing()).thenReturn(true);
+        lenient().when(jobSearchService.providerName()).thenReturn("opensearch");
+    }
+
+    @Test
+    void reindexAllJobsShouldStreamKeysetChunksThroughBulkIndexing() {
+        when(jobRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(jobRepository.findIdsAfter(2L, Limit.of(2))).thenReturn(List.of(5L));
+        when(jobRepository.findIdsAfter(5L, Limit.of(2))).thenReturn(List.of());
+        when(jobRepository.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(job(1L, 10L), job(2L, 10L)));
+        when(jobRepository.findByIdIn(List.of(5L))).thenReturn(List.of(job(5L, 20L)));
+        SearchIndexRebuild rebuild = new SearchIndexRebuild(SearchIndexKind.JOBS, "jobs", "jobs_v2");
+        when(jobSearchService.beginRebuild(SearchIndexKind.JOBS)).thenReturn(rebuild);
+        when(jobSearchService.indexJobs(eq(rebuild), anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).size());
+
+        JobSearchReindexResponse response = jobSearchAdminService.reindexAllJobs();
+
+        assertThat(response.indexedCount()).isEqualTo(3);
+        assertThat(response.indexingActive()).isTrue();
+        assertThat(jobSearchAdminService.getReindexProgress().state()).isEqualTo("COMPLETED");
+        assertThat(jobSearchAdminService.getReindexProgress().processedCount()).isEqualTo(3);
+        verify(jobSearchService).completeRebuild(rebuild);
+    }
+
+    @Test
+    void reindexAllJobsShouldKeepCurrentAliasWhenDocumentsFail() {
+        SearchIndexRebuild rebuild = new SearchIndexRebuild(SearchIndexKind.JOBS, "jobs", "jobs_v2");
+        when(jobSearchService.beginRebuild(SearchIndexKind.JOBS)).thenReturn(rebuild);
+        when(jobRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(jobRepository.findIdsAfter(2L, Limit.of(2))).thenReturn(List.of());
+        when(jobRepository.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(job(1L, 10L), job(2L, 10L)));
+        when(jobSearchService.indexJobs(eq(rebuild), anyList())).thenReturn(1);
+
+        JobSearchReindexResponse response = jobSearchAdminService.reindexAllJobs();
+
+        assertThat(response.message()).contains("Discarded rebuild jobs_v2");
+        assertThat(jobSearchAdminService.getReindexProgress().state()).isEqualTo("FAILED");
+        verify(jobSearchService).abortRebuild(rebuild);
+        verify(jobSearchService, never()).completeRebuild(any());
+    }
+
+    @Test
+    void reindexAllJobsShouldReportConflictWhenAnotherInstanceIsRebuilding() {
+        when(jobSearchService.beginRebuild(SearchIndexKind.JOBS))
+                .thenThrow(new ResponseStatusException(HttpStatus.CONFLICT, "A jobs index rebuild into jobs_v3 is already running"));
+
+        assertThatThrownBy(() -> jobSearchAdminService.reindexAllJobs())
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(jobSearchAdminService.getReindexProgress().state()).isEqualTo("FAILED");
+        verify(jobRepository, never()).findIdsAfter(any(), any());
+    }
+
+    @Test
+    void reindexAllCompaniesShouldPageThroughCompanyStats() {
+        when(companyStatsService.findCompaniesAfter(0L, 2)).thenReturn(List.of(company(10L), company(20L)));
+        when(companyStatsService.findCompaniesAfter(20L, 2)).thenReturn(List.of(company(30L)));
+        when(companyStatsService.findCompaniesAfter(30L, 2)).thenReturn(List.of());
+        SearchIndexRebuild rebuild = new SearchIndexRebuild(SearchIndexKind.COMPANIES, "companies", "companies_v2");
+        when(jobSearchService.beginRebuild(SearchIndexKind.COMPANIES)).thenReturn(rebuild);
+        List<List<CompanySearchResultItem>> batches = Collections.synchronizedList(new ArrayList<>());
+        when(jobSearchService.indexCompanies(eq(rebuild), anyList())).thenAnswer(invocation -> {
+            List<CompanySearchResultItem> companies = invocation.getArgument(1);
+            batches.add(companies);
+            return companies.size();
+        });
+
+        JobSearchReindexResponse response = jobSearchAdminService.reindexAllCompanies();
+
+        assertThat(response.indexedCount()).isEqualTo(3);
+        assertThat(batches).hasSize(2);
+        assertThat(batches).flatExtracting(batch -> batch.stream().map(CompanySearchResultItem::clientId).toList())
+                .containsExactlyInAnyOrder(10L, 20L, 30L);
+        verify(jobSearchService).completeRebuild(rebuild);
+        verify(jobRepository, never()).findIdsAfter(any(), any());
+    }
+
+    private CompanySearchResultItem company(Long clientId) {
+        return new CompanySearchResultItem(clientId, "Client " + clientId, 1, 1, null, null, List.of(), List.of(), List.of());
+    }
+
+    private Job job(Long jobId, Long clientId) {
+        Job job = new Job();
+        job.setId(jobId);
+        job.setClientId(clientId);
+        job.setTitle("Job " + jobId);
+        job.setUpdatedAt(Instant.parse("2026-03-19T02:00:00Z"));
+        return job;
+    }
+}
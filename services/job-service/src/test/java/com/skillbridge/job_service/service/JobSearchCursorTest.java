@@ -0,0 +1,40 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+class JobSearchCursorTest {
+
+    @Test
+    void encodedCursorShouldRoundTripWithFullTimestampPrecision() {
+        JobSearchCursor cursor = new JobSearchCursor(
+                JobSearchSort.SALARY_HIGH,
+                new BigDecimal("2400.50"),
+                Instant.parse("2026-03-01T10:15:30.123456789Z"),
+                42L
+        );
+
+        JobSearchCursor decoded = JobSearchCursor.decode(cursor.encode(), JobSearchSort.SALARY_HIGH);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.isFirstPage()).isFalse();
+    }
+
+    @Test
+    void decodeShouldTreatStarAsFirstPageAndRejectForeignTokens() {
+        assertThat(JobSearchCursor.decode("*", JobSearchSort.LATEST).isFirstPage()).isTrue();
+
+        String latestCursor = new JobSearchCursor(JobSearchSort.LATEST, null, Instant.now(), 7L).encode();
+        assertThatThrownBy(() -> JobSearchCursor.decode(latestCursor, JobSearchSort.SALARY_LOW))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("cursor does not match sortBy");
+        assertThatThrownBy(() -> JobSearchCursor.decode("not-a-cursor", JobSearchSort.LATEST))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("cursor is malformed");
+    }
+}
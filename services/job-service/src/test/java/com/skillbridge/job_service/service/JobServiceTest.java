@@ -3,6 +3,7 @@ package com.skillbridge.job_service.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,23 +11,31 @@ import static org.mockito.Mockito.when;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.skillbridge.job_service.domain.CompanyStats;
 import com.skillbridge.job_service.domain.EmploymentType;
 import com.skillbridge.job_service.domain.Job;
 import com.skillbridge.job_service.domain.JobStatus;
 import com.skillbridge.job_service.domain.SavedJob;
 import com.skillbridge.job_service.dto.CreateJobRequest;
+import com.skillbridge.job_service.dto.FacetCount;
+import com.skillbridge.job_service.dto.JobDashboardResponse;
 import com.skillbridge.job_service.dto.JobResponse;
+import com.skillbridge.job_service.dto.JobSearchFacetResponse;
+import com.skillbridge.job_service.dto.PagedResult;
+import com.skillbridge.job_service.messaging.JobEventPublisher;
+import com.skillbridge.job_service.messaging.ViewerContextInvalidationPublisher;
 import com.skillbridge.job_service.repository.FollowedCompanyRepository;
 import com.skillbridge.job_service.repository.JobRepository;
 import com.skillbridge.job_service.repository.SavedJobRepository;
@@ -47,9 +56,43 @@ class JobServiceTest {
     @Mock
     private JobSearchService jobSearchService;
 
-    @InjectMocks
+    @Mock
+    private SearchIndexQueue searchIndexQueue;
+
+    @Mock
+    private CompanyStatsService companyStatsService;
+
+    @Mock
+    private JobSuggestionIndex jobSuggestionIndex;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private JobEventPublisher jobEventPublisher;
+
+    @Mock
+    private RecruiterActivityRollupService recruiterActivityRollupService;
+
     private JobService jobService;
 
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService(
+                jobRepository,
+                savedJobRepository,
+                followedCompanyRepository,
+                jobSearchService,
+                searchIndexQueue,
+                companyStatsService,
+                jobSuggestionIndex,
+                searchResultCache,
+                new ViewerContextService(savedJobRepository, followedCompanyRepository, mock(ViewerContextInvalidationPublisher.class), false, 30, 100, 100),
+                jobEventPublisher,
+                recruiterActivityRollupService
+        );
+    }
+
     @Test
     void createJobShouldRejectNonClientRole() {
         CreateJobRequest request = new CreateJobRequest(
@@ -133,6 +176,45 @@ class JobServiceTest {
         assertThat(response.status()).isEqualTo("DRAFT");
         assertThat(response.tags()).containsExactly("java", "spring");
         assertThat(response.companyName()).isEqualTo("Acme Corp");
+        verify(recruiterActivityRollupService).recordJobCreated(saved);
+    }
+
+    @Test
+    void createJobShouldQueueSearchIndexWriteInsteadOfCallingSearchBackend() {
+        CreateJobRequest request = new CreateJobRequest(
+                "Build API",
+                "Create microservice",
+                null,
+                null,
+                null,
+                BigDecimal.valueOf(300),
+                BigDecimal.valueOf(500),
+                List.of("java"),
+                null,
+                null,
+                EmploymentType.CONTRACT,
+                null,
+                false,
+                null,
+                null,
+                null,
+                null,
+                JobStatus.OPEN,
+                null
+        );
+        JwtUserPrincipal client = new JwtUserPrincipal(77L, "client@example.com", "CLIENT");
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> {
+            Job job = invocation.getArgument(0);
+            job.setId(901L);
+            return job;
+        });
+        when(searchIndexQueue.enqueue(any(Job.class))).thenReturn(true);
+
+        jobService.createJob(request, client);
+
+        verify(searchIndexQueue).enqueue(any(Job.class));
+        verify(jobSearchService, never()).indexJob(any());
+        verify(jobSearchService, never()).indexCompany(any());
     }
 
     @Test
@@ -168,11 +250,39 @@ class JobServiceTest {
                 "latest",
                 0,
                 20,
+                null,
+                true,
                 null
         )).isInstanceOf(ResponseStatusException.class)
                 .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
     }
 
+    @Test
+    void getJobFacetsShouldPassRequestedFacetsToSearchAndKeepCounts() {
+        Map<String, List<FacetCount>> facets = Map.of("workMode", List.of(new FacetCount("REMOTE", 4)));
+        when(searchResultCache.get(any(), any())).thenReturn(new PagedResult<JobSearchResultItem>(List.of(), 4, 4, 0, 1, null, facets));
+
+        JobSearchFacetResponse result = jobService.getJobFacets(
+                null, null, null, null, null, List.of(), null, null, null, null, null, null,
+                List.of("workMode", " budget ", "workMode")
+        );
+
+        ArgumentCaptor<JobSearchRequest> request = ArgumentCaptor.forClass(JobSearchRequest.class);
+        verify(searchResultCache).get(request.capture(), any());
+        assertThat(request.getValue().facets()).containsExactlyInAnyOrder(JobSearchFacet.WORK_MODE, JobSearchFacet.BUDGET);
+        assertThat(result.totalElements()).isEqualTo(4);
+        assertThat(result.facets()).isEqualTo(facets);
+
+        assertThatThrownBy(() -> jobService.getJobFacets(
+                null, null, null, null, null, List.of(), null, null, null, null, null, null, List.of("salary")
+        )).isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> jobService.getJobFacets(
+                null, null, null, null, null, List.of(), null, null, null, null, null, null, List.of(" ")
+        )).isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
     @Test
     void saveJobShouldCreateSavedRecordForFreelancer() {
         Job existing = new Job();
@@ -188,7 +298,8 @@ class JobServiceTest {
         existing.setUpdatedAt(Instant.now());
 
         when(jobRepository.findById(10L)).thenReturn(Optional.of(existing));
-        when(savedJobRepository.existsByUserIdAndJobId(50L, 10L)).thenReturn(false).thenReturn(true);
+        when(savedJobRepository.existsByUserIdAndJobId(50L, 10L)).thenReturn(false);
+        when(savedJobRepository.findSavedJobIds(50L, List.of(10L))).thenReturn(List.of(10L));
         JwtUserPrincipal freelancer = new JwtUserPrincipal(50L, "freelancer@example.com", "FREELANCER");
 
         JobResponse response = jobService.saveJob(10L, freelancer);
@@ -198,6 +309,7 @@ class JobServiceTest {
         assertThat(captor.getValue().getUserId()).isEqualTo(50L);
         assertThat(captor.getValue().getJobId()).isEqualTo(10L);
         assertThat(captor.getValue().getJobOwnerClientId()).isEqualTo(999L);
+        verify(companyStatsService).recordSavedJobChange(999L, 1);
         assertThat(response.savedByCurrentUser()).isTrue();
     }
 
@@ -211,4 +323,72 @@ class JobServiceTest {
 
         verify(savedJobRepository, never()).save(any(SavedJob.class));
     }
+
+    @Test
+    void getMyDashboardShouldReadMaterializedCompanyCounters() {
+        CompanyStats stats = new CompanyStats();
+        stats.setClientId(99L);
+        stats.setTotalJobs(9);
+        stats.setDraftJobs(1);
+        stats.setOpenJobs(4);
+        stats.setInProgressJobs(2);
+        stats.setClosedJobs(1);
+        stats.setExpiredJobs(1);
+        stats.setSavedJobs(12);
+        stats.setFollowers(5);
+        when(companyStatsService.findStats(99L)).thenReturn(Optional.of(stats));
+
+        JobDashboardResponse dashboard = jobService.getMyDashboard(new JwtUserPrincipal(99L, "client@example.com", "CLIENT"));
+
+        assertThat(dashboard).isEqualTo(new JobDashboardResponse(9, 1, 4, 2, 1, 1, 12, 5));
+        verify(jobRepository, never()).countByClientIdGroupByStatus(any());
+        verify(savedJobRepository, never()).countByJobOwnerClientId(any());
+    }
+
+    @Test
+    void getMyDashboardShouldFallBackToGroupedStatusCountWithoutCounterRow() {
+        when(companyStatsService.findStats(99L)).thenReturn(Optional.empty());
+        when(jobRepository.countByClientIdGroupByStatus(99L)).thenReturn(List.of(
+                statusCount(JobStatus.OPEN, 3),
+                statusCount(JobStatus.CLOSED, 2)
+        ));
+        when(savedJobRepository.countByJobOwnerClientId(99L)).thenReturn(7L);
+        when(followedCompanyRepository.countByClientId(99L)).thenReturn(4L);
+
+        JobDashboardResponse dashboard = jobService.getMyDashboard(new JwtUserPrincipal(99L, "client@example.com", "CLIENT"));
+
+        assertThat(dashboard).isEqualTo(new JobDashboardResponse(5, 0, 3, 0, 2, 0, 7, 4));
+    }
+
+    @Test
+    void unsaveJobShouldDecrementOwnerSavedCounterOnlyWhenARowIsRemoved() {
+        SavedJob savedJob = new SavedJob();
+        savedJob.setUserId(50L);
+        savedJob.setJobId(10L);
+        savedJob.setJobOwnerClientId(999L);
+        when(savedJobRepository.findByUserIdAndJobId(50L, 10L)).thenReturn(Optional.of(savedJob));
+        when(savedJobRepository.findByUserIdAndJobId(50L, 11L)).thenReturn(Optional.empty());
+        JwtUserPrincipal freelancer = new JwtUserPrincipal(50L, "freelancer@example.com", "FREELANCER");
+
+        jobService.unsaveJob(10L, freelancer);
+        jobService.unsaveJob(11L, freelancer);
+
+        verify(savedJobRepository).delete(savedJob);
+        verify(companyStatsService).recordSavedJobChange(999L, -1);
+        verify(companyStatsService, never()).recordSavedJobChange(999L, 1);
+    }
+
+    private static JobRepository.StatusCount statusCount(JobStatus status, long total) {
+        return new JobRepository.StatusCount() {
+            @Override
+            public JobStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
 }
@@ -3,6 +3,7 @@ package com.skillbridge.job_service.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -22,6 +23,8 @@ import com.skillbridge.job_service.domain.Job;
 import com.skillbridge.job_service.domain.JobStatus;
 import com.skillbridge.job_service.domain.WorkMode;
 import com.skillbridge.job_service.dto.UpdateJobRequest;
+import com.skillbridge.job_service.messaging.JobEventPublisher;
+import com.skillbridge.job_service.messaging.ViewerContextInvalidationPublisher;
 import com.skillbridge.job_service.repository.FollowedCompanyRepository;
 import com.skillbridge.job_service.repository.JobRepository;
 import com.skillbridge.job_service.repository.SavedJobRepository;
@@ -38,6 +41,19 @@ class JobServiceUpdateJobTest {
     private FollowedCompanyRepository followedCompanyRepository;
     @Mock
     private JobSearchService jobSearchService;
+    @Mock
+    private SearchIndexQueue searchIndexQueue;
+    @Mock
+    private CompanyStatsService companyStatsService;
+    @Mock
+    private JobSuggestionIndex jobSuggestionIndex;
+    @Mock
+    private SearchResultCache searchResultCache;
+    @Mock
+    private JobEventPublisher jobEventPublisher;
+
+    @Mock
+    private RecruiterActivityRollupService recruiterActivityRollupService;
 
     private JobService jobService;
 
@@ -48,8 +64,13 @@ class JobServiceUpdateJobTest {
                 savedJobRepository,
                 followedCompanyRepository,
                 jobSearchService,
-                "http://localhost:8086",
-                "internal-key"
+                searchIndexQueue,
+                companyStatsService,
+                jobSuggestionIndex,
+                searchResultCache,
+                new ViewerContextService(savedJobRepository, followedCompanyRepository, mock(ViewerContextInvalidationPublisher.class), false, 30, 100, 100),
+                jobEventPublisher,
+                recruiterActivityRollupService
         );
     }
 
@@ -0,0 +1,128 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.JobStatus;
+import com.skillbridge.job_service.repository.JobRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JobSuggestionIndexTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Test
+    void reloadShouldRankWordPrefixMatchesByOpenJobCount() {
+        JobSuggestionIndex index = loadedIndex(new SearchProperties(),
+                job(1L, "Senior Java Engineer", "Acme", List.of("java", "spring")),
+                job(2L, "Java Backend Developer", "Javelin Labs", List.of("java")),
+                job(3L, "Frontend Engineer", "Acme", List.of("react")));
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.suggest("  JAV ", 4)).containsExactly(
+                new JobSearchSuggestionItem("java", "TAG"),
+                new JobSearchSuggestionItem("Javelin Labs", "COMPANY"),
+                new JobSearchSuggestionItem("Senior Java Engineer", "TITLE"),
+                new JobSearchSuggestionItem("Java Backend Developer", "TITLE")
+        );
+        assertThat(index.suggest("java  eng", 5)).containsExactly(new JobSearchSuggestionItem("Senior Java Engineer", "TITLE"));
+        assertThat(index.suggest("acme", 1)).containsExactly(new JobSearchSuggestionItem("Acme", "COMPANY"));
+        assertThat(index.suggest("ngineer", 5)).isEmpty();
+    }
+
+    @Test
+    void jobChangesShouldBecomeVisibleAfterPublish() {
+        Job job = job(1L, "Data Engineer", "Acme", List.of("python"));
+        JobSuggestionIndex index = loadedIndex(new SearchProperties(), job);
+
+        job.setStatus(JobStatus.CLOSED);
+        index.applyJobChange(job);
+        assertThat(index.suggest("data", 5)).hasSize(1);
+
+        index.publishPendingChanges();
+        assertThat(index.suggest("data", 5)).isEmpty();
+        assertThat(index.suggest("py", 5)).isEmpty();
+
+        index.applyJobChange(job(2L, "Data Analyst", null, List.of("python")));
+        index.publishPendingChanges();
+        assertThat(index.suggest("data", 5)).containsExactly(new JobSearchSuggestionItem("Data Analyst", "TITLE"));
+        assertThat(index.suggest("py", 5)).containsExactly(new JobSearchSuggestionItem("python", "TAG"));
+    }
+
+    @Test
+    void reloadShouldKeepChangesCommittedAfterTheirPageWasScanned() {
+        Job closedDuringReload = job(1L, "Data Engineer", "Acme", List.of("python"));
+        Job retitledDuringReload = job(2L, "Data Analyst", "Acme", List.of());
+        List<Long> ids = List.of(1L, 2L);
+        JobSuggestionIndex index = new JobSuggestionIndex(jobRepository, new SearchProperties());
+        when(jobRepository.findIdsByStatusAfter(eq(JobStatus.OPEN), eq(0L), any(Limit.class))).thenReturn(ids);
+        when(jobRepository.findIdsByStatusAfter(eq(JobStatus.OPEN), eq(2L), any(Limit.class))).thenReturn(List.of());
+        when(jobRepository.findByIdIn(ids)).thenAnswer(invocation -> {
+            List<Job> scanned = List.of(
+                    job(1L, "Data Engineer", "Acme", List.of("python")),
+                    job(2L, "Data Analyst", "Acme", List.of()));
+            closedDuringReload.setStatus(JobStatus.CLOSED);
+            index.applyJobChange(closedDuringReload);
+            retitledDuringReload.setTitle("Data Scientist");
+            index.applyJobChange(retitledDuringReload);
+            return scanned;
+        });
+
+        index.reload();
+        index.applyJobChange(retitledDuringReload);
+        index.publishPendingChanges();
+
+        assertThat(index.suggest("data", 5)).containsExactly(new JobSearchSuggestionItem("Data Scientist", "TITLE"));
+        assertThat(index.suggest("py", 5)).isEmpty();
+        assertThat(index.suggest("acme", 5)).containsExactly(new JobSearchSuggestionItem("Acme", "COMPANY"));
+    }
+
+    @Test
+    void queriesLongerThanIndexedPrefixShouldFilterDeepMatches() {
+        SearchProperties properties = new SearchProperties();
+        properties.getSuggestions().setMaxPrefixLength(4);
+        JobSuggestionIndex index = loadedIndex(properties,
+                job(1L, "Backend Engineer", null, List.of()),
+                job(2L, "Backoffice Assistant", null, List.of()));
+
+        assertThat(index.suggest("back", 5)).hasSize(2);
+        assertThat(index.suggest("backo", 5)).containsExactly(new JobSearchSuggestionItem("Backoffice Assistant", "TITLE"));
+        assertThat(index.suggest("backend eng", 5)).containsExactly(new JobSearchSuggestionItem("Backend Engineer", "TITLE"));
+    }
+
+    private JobSuggestionIndex loadedIndex(SearchProperties properties, Job... jobs) {
+        List<Long> ids = Arrays.stream(jobs).map(Job::getId).toList();
+        when(jobRepository.findIdsByStatusAfter(eq(JobStatus.OPEN), eq(0L), any(Limit.class))).thenReturn(ids);
+        when(jobRepository.findIdsByStatusAfter(eq(JobStatus.OPEN), eq(ids.get(ids.size() - 1)), any(Limit.class))).thenReturn(List.of());
+        when(jobRepository.findByIdIn(ids)).thenReturn(List.of(jobs));
+        JobSuggestionIndex index = new JobSuggestionIndex(jobRepository, properties);
+        index.reload();
+        return index;
+    }
+
+    private Job job(Long id, String title, String companyName, List<String> tags) {
+        Job job = new Job();
+        job.setId(id);
+        job.setClientId(10L);
+        job.setTitle(title);
+        job.setCompanyName(companyName);
+        job.setTags(new ArrayList<>(tags));
+        job.setStatus(JobStatus.OPEN);
+        return job;
+    }
+}
@@ -0,0 +1,166 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@EnabledIfEnvironmentVariable(named = "SEARCH_CODEC_ALLOCATION_TEST", matches = "true")
+class OpenSearchJobCodecAllocationTest {
+
+    private static final int HITS = 100;
+    private static final int DESCRIPTION_LENGTH = 3 * 1024;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void streamingDecoderShouldAllocateFarLessThanTreeDecoding() throws IOException {
+        byte[] response = searchResponse();
+        assertThat(OpenSearchJobCodec.readSearchResponse(new ByteArrayInputStream(response)).items())
+                .usingRecursiveFieldByFieldElementComparator(RecursiveComparisonConfiguration.builder()
+                        .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                        .build())
+                .containsExactlyElementsOf(treeDecode(response));
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            OpenSearchJobCodec.readSearchResponse(new ByteArrayInputStream(response));
+            treeDecode(response);
+        }
+        long streamingBytes = measureAllocatedBytes(() -> OpenSearchJobCodec.readSearchResponse(new ByteArrayInputStream(response)));
+        long treeBytes = measureAllocatedBytes(() -> treeDecode(response));
+
+        assertThat(streamingBytes)
+                .as("bytes allocated per %d-hit page: streaming %d vs tree %d", HITS, streamingBytes, treeBytes)
+                .isLessThan(treeBytes * 6 / 10);
+    }
+
+    private long measureAllocatedBytes(Decoder decoder) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long minimum = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            decoder.decode();
+            minimum = Math.min(minimum, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+        return minimum;
+    }
+
+    private List<JobSearchResultItem> treeDecode(byte[] response) throws IOException {
+        JsonNode root = objectMapper.readTree(response);
+        List<JobSearchResultItem> items = new ArrayList<>();
+        for (JsonNode hit : root.path("hits").path("hits")) {
+            JsonNode source = hit.path("_source");
+            if (source.isMissingNode() || source.isNull()) {
+                continue;
+            }
+            items.add(new JobSearchResultItem(
+                    readLong(source, "id"),
+                    readText(source, "title"),
+                    readText(source, "description"),
+                    readText(source, "requirements"),
+                    readText(source, "responsibilities"),
+                    readText(source, "benefits"),
+                    readBigDecimal(source, "budgetMin"),
+                    readBigDecimal(source, "budgetMax"),
+                    readTextArray(source.path("tags")),
+                    readText(source, "status"),
+                    readLong(source, "clientId"),
+                    readText(source, "companyName"),
+                    readText(source, "location"),
+                    readText(source, "employmentType"),
+                    readText(source, "workMode"),
+                    source.path("remote").asBoolean(false),
+                    readInteger(source, "experienceYears"),
+                    readText(source, "category"),
+                    readText(source, "visibility"),
+                    readInteger(source, "openings"),
+                    readInstant(source, "createdAt"),
+                    readInstant(source, "updatedAt"),
+                    readInstant(source, "publishedAt"),
+                    readInstant(source, "expiresAt"),
+                    readInstant(source, "closedAt")
+            ));
+        }
+        return items;
+    }
+
+    private static byte[] searchResponse() {
+        String description = "Build and operate search services. ".repeat(DESCRIPTION_LENGTH / 35 + 1).substring(0, DESCRIPTION_LENGTH);
+        StringBuilder body = new StringBuilder("{\"took\":7,\"timed_out\":false,\"hits\":{\"total\":{\"value\":4200,\"relation\":\"eq\"},\"hits\":[");
+        for (int i = 0; i < HITS; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"_index\":\"jobs_v1\",\"_id\":\"").append(i).append("\",\"_score\":null,\"_source\":{")
+                    .append("\"id\":").append(1000 + i)
+                    .append(",\"title\":\"Senior Backend Engineer ").append(i).append('"')
+                    .append(",\"description\":\"").append(description).append('"')
+                    .append(",\"requirements\":\"Java, Spring, PostgreSQL\",\"responsibilities\":\"Own the search stack\"")
+                    .append(",\"benefits\":\"Remote budget\",\"budgetMin\":1500.50,\"budgetMax\":3000")
+                    .append(",\"tags\":[\"java\",\"spring\",\"search\"],\"status\":\"OPEN\",\"clientId\":").append(10 + i % 7)
+                    .append(",\"companyName\":\"Acme\",\"location\":\"Ho Chi Minh City\",\"employmentType\":\"FULL_TIME\"")
+                    .append(",\"workMode\":\"REMOTE\",\"remote\":true,\"experienceYears\":3,\"category\":\"ENGINEERING\"")
+                    .append(",\"visibility\":\"PUBLIC\",\"openings\":2")
+                    .append(",\"createdAt\":\"2026-03-19T01:00:00Z\",\"updatedAt\":\"2026-03-19T02:00:00.123Z\"")
+                    .append(",\"publishedAt\":\"2026-03-19T01:30:00Z\",\"expiresAt\":\"2026-04-19T01:00:00Z\",\"closedAt\":null")
+                    .append("},\"sort\":[1773882000000,").append(1000 + i).append("]}");
+        }
+        return body.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Long readLong(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isMissingNode() || value.isNull() ? null : value.asLong();
+    }
+
+    private static Integer readInteger(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isMissingNode() || value.isNull() ? null : value.asInt();
+    }
+
+    private static String readText(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isMissingNode() || value.isNull() ? null : value.asText();
+    }
+
+    private static BigDecimal readBigDecimal(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isMissingNode() || value.isNull() ? null : new BigDecimal(value.asText());
+    }
+
+    private static List<String> readTextArray(JsonNode arrayNode) {
+        List<String> values = new ArrayList<>();
+        for (JsonNode node : arrayNode) {
+            if (!node.isNull() && !node.asText().isBlank()) {
+                values.add(node.asText());
+            }
+        }
+        return List.copyOf(values);
+    }
+
+    private static Instant readInstant(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isMissingNode() || value.isNull() || value.asText().isBlank() ? null : Instant.parse(value.asText());
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+
+        Object decode() throws IOException;
+    }
+}
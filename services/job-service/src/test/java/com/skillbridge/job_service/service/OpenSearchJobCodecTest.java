@@ -0,0 +1,136 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.domain.JobStatus;
+import com.skillbridge.job_service.dto.FacetCount;
+
+class OpenSearchJobCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SearchProperties.FacetProperties facetProperties = new SearchProperties().getFacets();
+
+    @Test
+    void readSearchResponseShouldDecodeSourcesAndSkipUnknownFields() throws Exception {
+        String response = """
+                {"took":4,"_shards":{"total":1},"hits":{"max_score":null,"hits":[
+                  {"_index":"jobs_v1","_id":"10","_score":null,"sort":[1,2],"_source":{
+                    "id":10,"title":"Backend Engineer","description":"Build services","requirements":null,
+                    "budgetMin":1200.50,"budgetMax":"2400","tags":["java","","search"],"status":"OPEN","clientId":99,
+                    "companyName":"Acme","employmentType":"FULL_TIME","remote":true,"experienceYears":3,"openings":null,
+                    "titleSuggest":{"input":["Backend Engineer"]},
+                    "createdAt":"2026-03-19T01:00:00Z","updatedAt":"2026-03-19T02:00:00.123Z","closedAt":""}},
+                  {"_index":"jobs_v1","_id":"11"}
+                ],"total":{"value":42,"relation":"eq"}}}
+                """;
+
+        OpenSearchJobCodec.SearchHits hits = OpenSearchJobCodec.readSearchResponse(
+                new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(hits.totalHits()).isEqualTo(42);
+        assertThat(hits.items()).hasSize(1);
+        JobSearchResultItem item = hits.items().get(0);
+        assertThat(item.id()).isEqualTo(10L);
+        assertThat(item.title()).isEqualTo("Backend Engineer");
+        assertThat(item.requirements()).isNull();
+        assertThat(item.budgetMin()).isEqualTo(new BigDecimal("1200.50"));
+        assertThat(item.budgetMax()).isEqualByComparingTo("2400");
+        assertThat(item.tags()).containsExactly("java", "search");
+        assertThat(item.remote()).isTrue();
+        assertThat(item.experienceYears()).isEqualTo(3);
+        assertThat(item.openings()).isNull();
+        assertThat(item.createdAt()).isEqualTo(Instant.parse("2026-03-19T01:00:00Z"));
+        assertThat(item.updatedAt()).isEqualTo(Instant.parse("2026-03-19T02:00:00.123Z"));
+        assertThat(item.closedAt()).isNull();
+        assertThat(item.location()).isNull();
+    }
+
+    @Test
+    void parseUtcInstantShouldMatchInstantParseOrDeclineOtherFormats() {
+        for (String value : List.of("2026-03-19T01:02:03Z", "2026-12-31T23:59:59.5Z", "2024-02-29T00:00:00.123456789Z")) {
+            assertThat(OpenSearchJobCodec.parseUtcInstant(value)).isEqualTo(Instant.parse(value));
+        }
+        assertThat(OpenSearchJobCodec.parseUtcInstant("2026-03-19T01:02:03+07:00")).isNull();
+        assertThat(OpenSearchJobCodec.parseUtcInstant("2026-02-30T01:02:03Z")).isNull();
+        assertThat(OpenSearchJobCodec.parseUtcInstant("2026-03-19T01:02:03.Z")).isNull();
+    }
+
+    @Test
+    void writeSearchRequestShouldFilterSourceAndRenderFiltersAndCursor() throws Exception {
+        JobSearchCursor cursor = new JobSearchCursor(JobSearchSort.SALARY_LOW, new BigDecimal("900"), Instant.parse("2026-03-19T01:00:00Z"), 7L);
+        JobSearchRequest request = new JobSearchRequest(
+                "java", JobStatus.OPEN, null, new BigDecimal("3000"), 99L, List.of("java", "spring"), null, null, null, false, 2, null,
+                JobSearchSort.SALARY_LOW, 0, 20, cursor, true
+        );
+
+        JsonNode body = objectMapper.readTree(OpenSearchJobCodec.writeSearchRequest(request, facetProperties));
+
+        assertThat(body.path("size").asInt()).isEqualTo(21);
+        assertThat(body.path("track_total_hits").asBoolean()).isTrue();
+        assertThat(body.path("_source")).hasSize(25);
+        assertThat(body.path("_source").toString()).doesNotContain("Suggest");
+        JsonNode bool = body.path("query").path("bool");
+        assertThat(bool.path("must").get(0).path("multi_match").path("query").asText()).isEqualTo("java");
+        assertThat(bool.path("filter").toString())
+                .contains("{\"term\":{\"status\":\"OPEN\"}}")
+                .contains("{\"term\":{\"clientId\":99}}")
+                .contains("{\"range\":{\"budgetMin\":{\"lte\":3000}}}")
+                .contains("{\"term\":{\"remote\":false}}")
+                .contains("{\"range\":{\"experienceYears\":{\"gte\":2}}}")
+                .contains("{\"term\":{\"tags\":\"spring\"}}");
+        assertThat(body.path("sort").get(0).path("budgetMin").path("order").asText()).isEqualTo("asc");
+        assertThat(body.path("search_after").toString()).isEqualTo("[900,1773882000000,7]");
+
+        JsonNode unfiltered = objectMapper.readTree(OpenSearchJobCodec.writeSearchRequest(new JobSearchRequest(
+                null, null, null, null, null, List.of(), null, null, null, null, null, null, JobSearchSort.LATEST, 2, 10, null, true
+        ), facetProperties));
+        assertThat(unfiltered.path("from").asInt()).isEqualTo(20);
+        assertThat(unfiltered.path("query").has("match_all")).isTrue();
+        assertThat(unfiltered.has("aggs")).isFalse();
+    }
+
+    @Test
+    void searchRequestAndResponseShouldCarryFacetAggregations() throws Exception {
+        JobSearchRequest request = new JobSearchRequest(
+                null, JobStatus.OPEN, null, null, null, List.of(), null, null, null, null, null, null, JobSearchSort.LATEST, 0, 20, null, true,
+                Set.of(JobSearchFacet.REMOTE, JobSearchFacet.CATEGORY, JobSearchFacet.BUDGET)
+        );
+
+        JsonNode aggs = objectMapper.readTree(OpenSearchJobCodec.writeSearchRequest(request, facetProperties)).path("aggs");
+
+        assertThat(aggs.path("remote").path("terms").path("field").asText()).isEqualTo("remote");
+        assertThat(aggs.path("category").path("terms").path("field").asText()).isEqualTo("category.keyword");
+        assertThat(aggs.path("category").path("terms").path("size").asInt()).isEqualTo(20);
+        assertThat(aggs.path("budget").path("range").path("ranges").toString()).isEqualTo(
+                "[{\"key\":\"0-500\",\"to\":500},{\"key\":\"500-1000\",\"from\":500,\"to\":1000},"
+                        + "{\"key\":\"1000-2500\",\"from\":1000,\"to\":2500},{\"key\":\"2500-5000\",\"from\":2500,\"to\":5000},"
+                        + "{\"key\":\"5000+\",\"from\":5000}]");
+
+        String response = """
+                {"hits":{"total":{"value":3},"hits":[]},"aggregations":{
+                  "remote":{"doc_count_error_upper_bound":0,"buckets":[{"key":1,"key_as_string":"true","doc_count":2},{"key":0,"key_as_string":"false","doc_count":1}]},
+                  "category":{"buckets":[{"key":"Engineering","doc_count":3}]},
+                  "budget":{"buckets":[{"key":"0-500","to":500.0,"doc_count":0},{"key":"5000+","from":5000.0,"doc_count":3}]},
+                  "unknown":{"value":7}}}
+                """;
+        OpenSearchJobCodec.SearchHits hits = OpenSearchJobCodec.readSearchResponse(
+                new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(hits.totalHits()).isEqualTo(3);
+        assertThat(hits.facets()).containsOnlyKeys("remote", "category", "budget");
+        assertThat(hits.facets().get("remote")).containsExactly(new FacetCount("true", 2), new FacetCount("false", 1));
+        assertThat(hits.facets().get("budget")).containsExactly(new FacetCount("0-500", 0), new FacetCount("5000+", 3));
+    }
+}
@@ -1,38 +1,61 @@
 package com.skillbridge.job_service.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skillbridge.job_service.config.SearchProperties;
 import com.skillbridge.job_service.domain.EmploymentType;
 import com.skillbridge.job_service.domain.Job;
 import com.skillbridge.job_service.domain.JobStatus;
 import com.skillbridge.job_service.dto.PagedResult;
-import com.skillbridge.job_service.repository.JobRepository;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class OpenSearchJobSearchServiceTest {
 
     @Mock
-    private JobRepository jobRepository;
+    private CompanyStatsService companyStatsService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<OpenSearchTransport> transports = new ArrayList<>();
+
+    @AfterEach
+    void closeTransports() {
+        transports.forEach(OpenSearchTransport::close);
+    }
 
     @Test
     void supportsIndexingShouldBeFalseWhenUrlMissing() {
@@ -40,7 +63,7 @@ class OpenSearchJobSearchServiceTest {
         properties.setEnabled(true);
         properties.setProvider("opensearch");
 
-        OpenSearchJobSearchService service = new OpenSearchJobSearchService(properties, jobRepository);
+        OpenSearchJobSearchService service = service(properties);
 
         assertThat(service.supportsIndexing()).isFalse();
     }
@@ -61,14 +84,14 @@ class OpenSearchJobSearchServiceTest {
                 }
                 return;
             }
-            if ("PUT".equals(exchange.getRequestMethod()) && "/jobs".equals(path)) {
+            if ("PUT".equals(exchange.getRequestMethod()) && path.startsWith("/jobs_v")) {
                 indexCreated.set(true);
-                lastCreateBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                lastCreateBody.set(requestBody(exchange));
                 writeJson(exchange, 200, "{\"acknowledged\":true}");
                 return;
             }
             if ("POST".equals(exchange.getRequestMethod()) && "/jobs/_search".equals(path)) {
-                lastSearchBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                lastSearchBody.set(requestBody(exchange));
                 writeJson(exchange, 200, """
                         {"hits":{"total":{"value":1},"hits":[{"_source":{
                           "id":10,
@@ -96,7 +119,7 @@ class OpenSearchJobSearchServiceTest {
             writeJson(exchange, 404, "{}");
         })) {
             SearchProperties properties = properties(server.baseUrl());
-            OpenSearchJobSearchService service = new OpenSearchJobSearchService(properties, jobRepository);
+            OpenSearchJobSearchService service = service(properties);
 
             PagedResult<JobSearchResultItem> result = service.search(new JobSearchRequest(
                     "backend engineer",
@@ -113,7 +136,9 @@ class OpenSearchJobSearchServiceTest {
                     5,
                     JobSearchSort.SALARY_HIGH,
                     0,
-                    20
+                    20,
+                    null,
+                    true
             ));
 
             assertThat(result.totalElements()).isEqualTo(1);
@@ -122,6 +147,7 @@ class OpenSearchJobSearchServiceTest {
             assertThat(result.content().get(0).budgetMax()).isEqualByComparingTo("2400");
             assertThat(lastCreateBody.get()).contains("\"title\"");
             assertThat(lastCreateBody.get()).contains("\"companyName\"");
+            assertThat(lastCreateBody.get()).contains("\"aliases\":{\"jobs\":{}}");
             assertThat(lastSearchBody.get()).contains("\"title^5\"");
             assertThat(lastSearchBody.get()).contains("\"companyName^3\"");
             assertThat(lastSearchBody.get()).contains("\"remote\":true");
@@ -140,14 +166,14 @@ class OpenSearchJobSearchServiceTest {
                 return;
             }
             if ("PUT".equals(exchange.getRequestMethod()) && "/jobs/_doc/10".equals(path)) {
-                lastIndexBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                lastIndexBody.set(requestBody(exchange));
                 writeJson(exchange, 200, "{\"result\":\"updated\"}");
                 return;
             }
             writeJson(exchange, 404, "{}");
         })) {
             SearchProperties properties = properties(server.baseUrl());
-            OpenSearchJobSearchService service = new OpenSearchJobSearchService(properties, jobRepository);
+            OpenSearchJobSearchService service = service(properties);
             Job job = job(10L, 99L);
 
             boolean indexed = service.indexJob(job);
@@ -160,30 +186,278 @@ class OpenSearchJobSearchServiceTest {
     }
 
     @Test
-    void suggestShouldReturnUniqueSuggestions() throws Exception {
+    void indexJobsShouldBulkCreateIntoRebuildIndexAndCountRejectedItems() throws Exception {
+        AtomicReference<String> lastBulkBody = new AtomicReference<>();
+        AtomicReference<String> lastBulkContentType = new AtomicReference<>();
+        AtomicReference<String> lastBulkContentEncoding = new AtomicReference<>();
+
         try (TestServer server = startServer(exchange -> {
             String path = exchange.getRequestURI().getPath();
             if ("GET".equals(exchange.getRequestMethod()) && "/jobs".equals(path)) {
                 writeJson(exchange, 200, "{\"jobs\":{\"aliases\":{}}}");
                 return;
             }
-            if ("POST".equals(exchange.getRequestMethod()) && "/jobs/_search".equals(path)) {
+            if ("POST".equals(exchange.getRequestMethod()) && "/_bulk".equals(path)) {
+                lastBulkContentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+                lastBulkContentEncoding.set(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+                lastBulkBody.set(requestBody(exchange));
                 writeJson(exchange, 200, """
-                        {"hits":{"total":{"value":2},"hits":[
-                          {"_source":{"title":"Backend Engineer","companyName":"Acme","tags":["java","backend"]}},
-                          {"_source":{"title":"Backend Platform","companyName":"Acme","tags":["backend","search"]}}
-                        ]}}
+                        {"errors":true,"items":[
+                          {"create":{"_id":"10","status":201}},
+                          {"create":{"_id":"11","status":400,"error":{"reason":"mapper_parsing_exception"}}}
+                        ]}
+                        """);
+                return;
+            }
+            writeJson(exchange, 404, "{}");
+        })) {
+            SearchProperties properties = properties(server.baseUrl());
+            properties.getOpensearch().setCompressionMinBytes(1);
+            OpenSearchJobSearchService service = service(properties);
+
+            int indexed = service.indexJobs(
+                    new SearchIndexRebuild(SearchIndexKind.JOBS, "jobs", "jobs_v2"),
+                    List.of(job(10L, 99L), anotherJob(11L, 99L))
+            );
+
+            assertThat(indexed).isEqualTo(1);
+            assertThat(lastBulkContentType.get()).startsWith("application/x-ndjson");
+            assertThat(lastBulkContentEncoding.get()).isEqualTo("gzip");
+            assertThat(meterRegistry.get("opensearch.client.requests")
+                    .tags("client", "async", "endpoint", "_bulk", "outcome", "success")
+                    .timer()
+                    .count()).isEqualTo(1);
+            assertThat(meterRegistry.get("opensearch.pool.max").tags("client", "async").gauge().value()).isEqualTo(64);
+            String[] lines = lastBulkBody.get().split("\n");
+            assertThat(lines).hasSize(4);
+            JsonNode action = new ObjectMapper().readTree(lines[0]).path("create");
+            assertThat(action.path("_index").asText()).isEqualTo("jobs_v2");
+            assertThat(action.path("_id").asText()).isEqualTo("10");
+            assertThat(lines[1]).contains("\"title\":\"Backend Engineer\"").contains("\"createdAt\":\"2026-03-19T01:00:00Z\"");
+            assertThat(lines[3]).contains("\"title\":\"Search Architect\"");
+        }
+    }
+
+    @Test
+    void writeJobsShouldSendExternallyVersionedBulkAndReportRejectedIds() throws Exception {
+        AtomicReference<String> lastBulkBody = new AtomicReference<>();
+        AtomicReference<String> lastBulkAcceptEncoding = new AtomicReference<>();
+
+        try (TestServer server = startServer(exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if ("GET".equals(exchange.getRequestMethod()) && "/jobs".equals(path)) {
+                writeJson(exchange, 200, "{\"jobs_v1\":{\"aliases\":{\"jobs\":{}}}}");
+                return;
+            }
+            if ("POST".equals(exchange.getRequestMethod()) && "/_bulk".equals(path)) {
+                lastBulkBody.set(requestBody(exchange));
+                lastBulkAcceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+                writeGzipJson(exchange, 200, """
+                        {"errors":true,"items":[
+                          {"index":{"_id":"10","status":409}},
+                          {"index":{"_id":"11","status":429,"error":{"reason":"es_rejected_execution_exception"}}},
+                          {"delete":{"_id":"12","status":404}}
+                        ]}
                         """);
                 return;
             }
             writeJson(exchange, 404, "{}");
         })) {
-            OpenSearchJobSearchService service = new OpenSearchJobSearchService(properties(server.baseUrl()), jobRepository);
+            OpenSearchJobSearchService service = service(properties(server.baseUrl()));
+            Instant snapshotAt = Instant.parse("2026-03-21T00:00:00Z");
+
+            Set<Long> failed = service.writeJobs(List.of(job(10L, 99L), anotherJob(11L, 99L)), List.of(12L), snapshotAt);
+
+            assertThat(failed).containsExactly(11L);
+            assertThat(lastBulkAcceptEncoding.get()).isEqualTo("gzip");
+            String[] lines = lastBulkBody.get().split("\n");
+            assertThat(lines).hasSize(5);
+            ObjectMapper mapper = new ObjectMapper();
+            JsonNode firstAction = mapper.readTree(lines[0]).path("index");
+            assertThat(firstAction.path("_index").asText()).isEqualTo("jobs");
+            assertThat(firstAction.path("version").asLong()).isEqualTo(snapshotAt.toEpochMilli());
+            assertThat(firstAction.path("version_type").asText()).isEqualTo("external_gte");
+            JsonNode deleteAction = mapper.readTree(lines[4]).path("delete");
+            assertThat(deleteAction.path("_id").asText()).isEqualTo("12");
+        }
+    }
+
+    @Test
+    void rebuildShouldDualWriteFromEveryInstanceAndSwapAliasAtomically() throws Exception {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<String> rebuildCreateBody = new AtomicReference<>();
+        AtomicReference<String> aliasActionsBody = new AtomicReference<>();
+        AtomicReference<String> rebuildIndex = new AtomicReference<>();
+
+        try (TestServer server = startServer(exchange -> {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String body = requestBody(exchange);
+            requests.add(method + " " + path);
+            if ("GET".equals(method) && "/jobs".equals(path)) {
+                writeJson(exchange, 200, "{\"jobs_v1\":{\"aliases\":{\"jobs\":{}}}}");
+                return;
+            }
+            if ("GET".equals(method) && "/jobs_v*/_alias".equals(path)) {
+                writeJson(exchange, 200, "{\"jobs_v1\":{\"aliases\":{\"jobs\":{}}},\"jobs_v0\":{\"aliases\":{}}}");
+                return;
+            }
+            if ("GET".equals(method) && "/_alias/jobs_rebuild".equals(path)) {
+                String target = rebuildIndex.get();
+                if (target == null) {
+                    writeJson(exchange, 404, "{}");
+                } else {
+                    writeJson(exchange, 200, "{\"" + target + "\":{\"aliases\":{\"jobs_rebuild\":{}}}}");
+                }
+                return;
+            }
+            if ("PUT".equals(method) && path.startsWith("/jobs_v") && !path.contains("/_")) {
+                rebuildCreateBody.set(body);
+                rebuildIndex.set(path.substring(1));
+                writeJson(exchange, 200, "{\"acknowledged\":true}");
+                return;
+            }
+            if ("POST".equals(method) && "/_aliases".equals(path)) {
+                aliasActionsBody.set(body);
+                rebuildIndex.set(null);
+            }
+            writeJson(exchange, 200, "{\"acknowledged\":true}");
+        })) {
+            OpenSearchJobSearchService rebuildingInstance = service(properties(server.baseUrl()));
+            SearchProperties otherProperties = properties(server.baseUrl());
+            otherProperties.getOpensearch().setRebuildTargetRefreshMs(60_000);
+            OpenSearchJobSearchService otherInstance = service(otherProperties);
+
+            SearchIndexRebuild rebuild = rebuildingInstance.beginRebuild(SearchIndexKind.JOBS);
+            List<String> beginRequests = List.copyOf(requests);
+            requests.clear();
+            otherInstance.indexJob(job(10L, 99L));
+            otherInstance.indexJob(job(11L, 99L));
+            List<String> writesDuringRebuild = List.copyOf(requests);
+            requests.clear();
+            rebuildingInstance.completeRebuild(rebuild);
+            List<String> promotionRequests = List.copyOf(requests);
+            otherInstance.refreshRebuildTargets();
+            requests.clear();
+            otherInstance.indexJob(job(10L, 99L));
+
+            assertThat(rebuild.alias()).isEqualTo("jobs");
+            assertThat(rebuild.indexName()).startsWith("jobs_v");
+            assertThat(beginRequests).contains("DELETE /jobs_v0").doesNotContain("DELETE /jobs_v1");
+            assertThat(rebuildCreateBody.get())
+                    .contains("\"number_of_replicas\":0")
+                    .contains("\"refresh_interval\":\"-1\"")
+                    .contains("\"jobs_rebuild\"");
+            JsonNode actions = new ObjectMapper().readTree(aliasActionsBody.get()).path("actions");
+            assertThat(actions).hasSize(3);
+            assertThat(actions.get(0).path("remove").path("index").asText()).isEqualTo("jobs_v1");
+            assertThat(actions.get(1).path("add").path("index").asText()).isEqualTo(rebuild.indexName());
+            assertThat(actions.get(1).path("add").path("alias").asText()).isEqualTo("jobs");
+            assertThat(actions.get(2).path("remove").path("alias").asText()).isEqualTo("jobs_rebuild");
+            assertThat(writesDuringRebuild).contains(
+                    "PUT /jobs/_doc/10", "PUT /" + rebuild.indexName() + "/_doc/10",
+                    "PUT /jobs/_doc/11", "PUT /" + rebuild.indexName() + "/_doc/11");
+            assertThat(writesDuringRebuild).filteredOn("GET /_alias/jobs_rebuild"::equals).hasSize(1);
+            assertThat(promotionRequests).endsWith("POST /_aliases", "DELETE /jobs_v1");
+            assertThat(requests).containsExactly("PUT /jobs/_doc/10");
+        }
+    }
+
+    @Test
+    void beginRebuildShouldRefuseWhileAnotherInstanceIsRebuildingAndClearStaleRebuilds() throws Exception {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<String> indexes = new AtomicReference<>();
+        String inFlightIndex = "jobs_v" + Instant.now().minusSeconds(60).toEpochMilli();
+        String crashedIndex = "jobs_v" + Instant.now().minusSeconds(7200).toEpochMilli();
+
+        try (TestServer server = startServer(exchange -> {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            requests.add(method + " " + path);
+            if ("GET".equals(method) && "/jobs_v*/_alias".equals(path)) {
+                writeJson(exchange, 200, indexes.get());
+                return;
+            }
+            writeJson(exchange, 200, "{\"acknowledged\":true}");
+        })) {
+            OpenSearchJobSearchService service = service(properties(server.baseUrl()));
+
+            indexes.set("{\"jobs_v1\":{\"aliases\":{\"jobs\":{}}},\"jobs_v0\":{\"aliases\":{}},"
+                    + "\"" + inFlightIndex + "\":{\"aliases\":{\"jobs_rebuild\":{}}}}");
+            assertThatThrownBy(() -> service.beginRebuild(SearchIndexKind.JOBS))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+            assertThat(requests).containsExactly("GET /jobs_v*/_alias");
+
+            requests.clear();
+            indexes.set("{\"jobs_v1\":{\"aliases\":{\"jobs\":{}}},\"jobs_v0\":{\"aliases\":{}},"
+                    + "\"" + crashedIndex + "\":{\"aliases\":{\"jobs_rebuild\":{}}}}");
+            SearchIndexRebuild rebuild = service.beginRebuild(SearchIndexKind.JOBS);
+
+            assertThat(requests).contains("DELETE /jobs_v0", "DELETE /" + crashedIndex, "PUT /" + rebuild.indexName())
+                    .doesNotContain("DELETE /jobs_v1");
+        }
+    }
 
-            List<JobSearchSuggestionItem> suggestions = service.suggest("back", 4);
+    @Test
+    void completeRebuildShouldRefuseToPromoteASupersededRebuild() throws Exception {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+        try (TestServer server = startServer(exchange -> {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            requests.add(method + " " + path);
+            if ("GET".equals(method) && "/_alias/jobs_rebuild".equals(path)) {
+                writeJson(exchange, 200, "{\"jobs_v3\":{\"aliases\":{\"jobs_rebuild\":{}}}}");
+                return;
+            }
+            writeJson(exchange, 200, "{\"acknowledged\":true}");
+        })) {
+            OpenSearchJobSearchService service = service(properties(server.baseUrl()));
 
-            assertThat(suggestions).contains(new JobSearchSuggestionItem("Backend Engineer", "TITLE"));
-            assertThat(suggestions).contains(new JobSearchSuggestionItem("backend", "TAG"));
+            assertThatThrownBy(() -> service.completeRebuild(new SearchIndexRebuild(SearchIndexKind.JOBS, "jobs", "jobs_v2")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("superseded");
+            assertThat(requests).doesNotContain("POST /_aliases");
+        }
+    }
+
+    @Test
+    void suggestShouldMergeCompletionSuggestionsAcrossTypes() throws Exception {
+        AtomicReference<String> suggestBody = new AtomicReference<>();
+
+        try (TestServer server = startServer(exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if ("GET".equals(exchange.getRequestMethod()) && "/jobs".equals(path)) {
+                writeJson(exchange, 200, "{\"jobs\":{\"aliases\":{}}}");
+                return;
+            }
+            if ("POST".equals(exchange.getRequestMethod()) && "/jobs/_search".equals(path)) {
+                suggestBody.set(requestBody(exchange));
+                writeJson(exchange, 200, """
+                        {"hits":{"total":{"value":0},"hits":[]},"suggest":{
+                          "TITLE":[{"text":"back","options":[{"text":"Backend Engineer","_score":1.0},{"text":"Backend Platform","_score":1.0}]}],
+                          "COMPANY":[{"text":"back","options":[]}],
+                          "TAG":[{"text":"back","options":[{"text":"backend","_score":1.0}]}]
+                        }}
+                        """);
+                return;
+            }
+            writeJson(exchange, 404, "{}");
+        })) {
+            OpenSearchJobSearchService service = service(properties(server.baseUrl()));
+
+            List<JobSearchSuggestionItem> suggestions = service.suggest("Back", 4);
+
+            assertThat(suggestions).containsExactly(
+                    new JobSearchSuggestionItem("Backend Engineer", "TITLE"),
+                    new JobSearchSuggestionItem("backend", "TAG"),
+                    new JobSearchSuggestionItem("Backend Platform", "TITLE")
+            );
+            JsonNode completion = new ObjectMapper().readTree(suggestBody.get()).path("suggest").path("TITLE");
+            assertThat(completion.path("prefix").asText()).isEqualTo("back");
+            assertThat(completion.path("completion").path("field").asText()).isEqualTo("titleSuggest");
+            assertThat(completion.path("completion").path("contexts").path("status").get(0).asText()).isEqualTo("OPEN");
         }
     }
 
@@ -201,7 +475,7 @@ class OpenSearchJobSearchServiceTest {
                 }
                 return;
             }
-            if ("PUT".equals(exchange.getRequestMethod()) && "/companies".equals(path)) {
+            if ("PUT".equals(exchange.getRequestMethod()) && path.startsWith("/companies_v")) {
                 companyIndexCreated.set(true);
                 writeJson(exchange, 200, "{\"acknowledged\":true}");
                 return;
@@ -224,7 +498,7 @@ class OpenSearchJobSearchServiceTest {
             }
             writeJson(exchange, 404, "{}");
         })) {
-            OpenSearchJobSearchService service = new OpenSearchJobSearchService(properties(server.baseUrl()), jobRepository);
+            OpenSearchJobSearchService service = service(properties(server.baseUrl()));
 
             List<CompanySearchResultItem> companies = service.searchCompanies("acme", 5);
 
@@ -236,11 +510,21 @@ class OpenSearchJobSearchServiceTest {
     }
 
     @Test
-    void indexCompanyShouldAggregateJobsByClient() throws Exception {
+    void indexCompanyShouldWriteMaintainedCompanyStats() throws Exception {
         AtomicBoolean companyIndexCreated = new AtomicBoolean(false);
         AtomicReference<String> lastIndexBody = new AtomicReference<>();
 
-        when(jobRepository.findByClientIdOrderByUpdatedAtDesc(99L)).thenReturn(List.of(job(10L, 99L), anotherJob(11L, 99L)));
+        when(companyStatsService.findCompany(99L)).thenReturn(Optional.of(new CompanySearchResultItem(
+                99L,
+                "Acme",
+                2,
+                1,
+                Instant.parse("2026-03-20T01:00:00Z"),
+                Instant.parse("2026-03-20T02:00:00Z"),
+                List.of("Remote"),
+                List.of("FULL_TIME", "CONTRACT"),
+                List.of("search", "java")
+        )));
 
         try (TestServer server = startServer(exchange -> {
             String path = exchange.getRequestURI().getPath();
@@ -252,19 +536,19 @@ class OpenSearchJobSearchServiceTest {
                 }
                 return;
             }
-            if ("PUT".equals(exchange.getRequestMethod()) && "/companies".equals(path)) {
+            if ("PUT".equals(exchange.getRequestMethod()) && path.startsWith("/companies_v")) {
                 companyIndexCreated.set(true);
                 writeJson(exchange, 200, "{\"acknowledged\":true}");
                 return;
             }
             if ("PUT".equals(exchange.getRequestMethod()) && "/companies/_doc/99".equals(path)) {
-                lastIndexBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                lastIndexBody.set(requestBody(exchange));
                 writeJson(exchange, 200, "{\"result\":\"updated\"}");
                 return;
             }
             writeJson(exchange, 404, "{}");
         })) {
-            OpenSearchJobSearchService service = new OpenSearchJobSearchService(properties(server.baseUrl()), jobRepository);
+            OpenSearchJobSearchService service = service(properties(server.baseUrl()));
 
             boolean indexed = service.indexCompany(99L);
 
@@ -275,6 +559,12 @@ class OpenSearchJobSearchServiceTest {
         }
     }
 
+    private OpenSearchJobSearchService service(SearchProperties properties) {
+        OpenSearchTransport transport = new OpenSearchTransport(properties, meterRegistry);
+        transports.add(transport);
+        return new OpenSearchJobSearchService(properties, companyStatsService, transport);
+    }
+
     private SearchProperties properties(String url) {
         SearchProperties properties = new SearchProperties();
         properties.setEnabled(true);
@@ -284,6 +574,7 @@ class OpenSearchJobSearchServiceTest {
         properties.getOpensearch().setIndexCompanies("companies");
         properties.getOpensearch().setConnectTimeoutMs(1000);
         properties.getOpensearch().setSocketTimeoutMs(1000);
+        properties.getOpensearch().setRebuildTargetRefreshMs(20);
         return properties;
     }
 
@@ -336,6 +627,14 @@ class OpenSearchJobSearchServiceTest {
         return new TestServer(server);
     }
 
+    private String requestBody(HttpExchange exchange) throws IOException {
+        InputStream body = exchange.getRequestBody();
+        if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            body = new GZIPInputStream(body);
+        }
+        return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
     private void writeJson(HttpExchange exchange, int statusCode, String body) throws IOException {
         byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
         exchange.getResponseHeaders().set("Content-Type", "application/json");
@@ -345,6 +644,20 @@ class OpenSearchJobSearchServiceTest {
         }
     }
 
+    private void writeGzipJson(HttpExchange exchange, int statusCode, String body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] bytes = compressed.toByteArray();
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
     private static final class TestServer implements AutoCloseable {
         private final HttpServer server;
 
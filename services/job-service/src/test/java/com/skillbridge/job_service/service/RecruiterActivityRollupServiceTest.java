@@ -0,0 +1,149 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.repository.RecruiterActivityEventRepository;
+import com.skillbridge.job_service.repository.RecruiterActivityRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RecruiterActivityRollupServiceTest {
+
+    private static final Instant COVERED_SINCE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private RecruiterActivityRepository activityRepository;
+
+    @Mock
+    private RecruiterActivityEventRepository eventRepository;
+
+    @Test
+    void recordShouldIncrementOnlyTheMetricColumnInTheUtcHourBucket() {
+        RecruiterActivityRollupService service = service(true, COVERED_SINCE.toString());
+        when(eventRepository.insertIfAbsent(eq("proposals-rejected:5:70"), any())).thenReturn(1);
+
+        boolean recorded = service.record(
+                "proposals-rejected:5:70",
+                900L,
+                Instant.parse("2026-03-10T14:47:12Z"),
+                RecruiterActivityMetric.REJECTED,
+                3
+        );
+
+        assertThat(recorded).isTrue();
+        verify(activityRepository).increment(
+                eq(900L),
+                eq(Instant.parse("2026-03-10T14:00:00Z")),
+                eq(0),
+                eq(0),
+                eq(0),
+                eq(0),
+                eq(3),
+                eq(0),
+                eq(0),
+                any()
+        );
+    }
+
+    @Test
+    void recordShouldSkipRedeliveredEvents() {
+        RecruiterActivityRollupService service = service(true, COVERED_SINCE.toString());
+        when(eventRepository.insertIfAbsent(eq("contract-created:12"), any())).thenReturn(0);
+
+        boolean recorded = service.record(
+                "contract-created:12",
+                900L,
+                Instant.parse("2026-03-10T14:47:12Z"),
+                RecruiterActivityMetric.CONTRACTS_CREATED,
+                1
+        );
+
+        assertThat(recorded).isFalse();
+        verify(activityRepository, never()).increment(any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void recordJobCreatedShouldCountLocallyWithoutDeduplication() {
+        RecruiterActivityRollupService service = service(true, COVERED_SINCE.toString());
+        Job job = new Job();
+        job.setClientId(77L);
+        job.setCreatedAt(Instant.parse("2026-03-10T23:59:59Z"));
+
+        service.recordJobCreated(job);
+
+        verifyNoInteractions(eventRepository);
+        verify(activityRepository).increment(
+                eq(77L),
+                eq(Instant.parse("2026-03-10T23:00:00Z")),
+                eq(1),
+                eq(0),
+                eq(0),
+                eq(0),
+                eq(0),
+                eq(0),
+                eq(0),
+                any()
+        );
+    }
+
+    @Test
+    void recordShouldIgnoreEventsWithoutClient() {
+        RecruiterActivityRollupService service = service(true, COVERED_SINCE.toString());
+
+        boolean recorded = service.record("proposal-created:1", null, Instant.now(), RecruiterActivityMetric.PROPOSALS, 1);
+
+        assertThat(recorded).isFalse();
+        verifyNoInteractions(eventRepository, activityRepository);
+    }
+
+    @Test
+    void canServeSeriesShouldRequireCoverageAndWholeHourOffsets() {
+        Instant from = Instant.parse("2026-02-01T00:00:00Z");
+        Instant to = Instant.parse("2026-04-30T00:00:00Z");
+        RecruiterActivityRollupService service = service(true, COVERED_SINCE.toString());
+
+        assertThat(service.canServeSeries(from, to, ZoneId.of("UTC"))).isTrue();
+        assertThat(service.canServeSeries(from, to, ZoneId.of("Europe/Berlin"))).isTrue();
+        assertThat(service.canServeSeries(from, to, ZoneOffset.ofHours(-5))).isTrue();
+        assertThat(service.canServeSeries(from, to, ZoneId.of("Asia/Kolkata"))).isFalse();
+        assertThat(service.canServeSeries(from, to, ZoneOffset.ofHoursMinutes(9, 30))).isFalse();
+        assertThat(service.canServeSeries(Instant.parse("2025-12-31T23:00:00Z"), to, ZoneId.of("UTC"))).isFalse();
+        assertThat(service(true, "").canServeSeries(from, to, ZoneId.of("UTC"))).isFalse();
+        assertThat(service(false, COVERED_SINCE.toString()).canServeSeries(from, to, ZoneId.of("UTC"))).isFalse();
+    }
+
+    @Test
+    void loadSeriesShouldQueryFromTheEnclosingHourWithPostgresTimezoneNames() {
+        RecruiterActivityRollupService service = service(true, COVERED_SINCE.toString());
+        Instant from = Instant.parse("2026-02-01T10:15:00Z");
+        Instant to = Instant.parse("2026-02-28T10:15:00Z");
+        when(activityRepository.sumSeriesByClientId(any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        service.loadSeries(900L, from, to, ReportGroupBy.WEEK, ZoneOffset.ofHours(7));
+        service.loadSeries(900L, from, to, ReportGroupBy.MONTH, ZoneId.of("America/New_York"));
+
+        verify(activityRepository).sumSeriesByClientId(900L, Instant.parse("2026-02-01T10:00:00Z"), to, "week", "UTC-07:00");
+        verify(activityRepository).sumSeriesByClientId(900L, Instant.parse("2026-02-01T10:00:00Z"), to, "month", "America/New_York");
+    }
+
+    private RecruiterActivityRollupService service(boolean readEnabled, String coveredSince) {
+        return new RecruiterActivityRollupService(activityRepository, eventRepository, readEnabled, coveredSince, 30);
+    }
+}
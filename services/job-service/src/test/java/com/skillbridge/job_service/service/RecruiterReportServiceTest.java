@@ -0,0 +1,219 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.skillbridge.job_service.dto.RecruiterReportConversionResponse;
+import com.skillbridge.job_service.dto.RecruiterReportOverviewResponse;
+import com.skillbridge.job_service.dto.RecruiterReportSeriesResponse;
+import com.skillbridge.job_service.repository.JobRepository;
+import com.skillbridge.job_service.security.JwtUserPrincipal;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+@ExtendWith(MockitoExtension.class)
+class RecruiterReportServiceTest {
+
+    private static final JwtUserPrincipal CLIENT = new JwtUserPrincipal(42L, "client@example.com", "CLIENT");
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-01-08T00:00:00Z");
+    private static final String PROPOSAL_SUMMARY = """
+            {"totalProposals":12,"pendingProposals":3,"reviewingProposals":2,"interviewsScheduled":2,
+             "acceptedProposals":4,"rejectedProposals":1,"hiresEstimated":4}
+            """;
+    private static final String CONTRACT_SUMMARY = """
+            {"totalContracts":5,"activeContracts":2,"completedContracts":3,"cancelledContracts":0}
+            """;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private RecruiterActivityRollupService rollupService;
+
+    private final List<RecruiterReportService> services = new ArrayList<>();
+
+    @AfterEach
+    void shutdownServices() {
+        services.forEach(RecruiterReportService::shutdown);
+    }
+
+    @Test
+    void getOverviewShouldCallProposalAndContractServicesConcurrently() throws IOException {
+        when(jobRepository.findByClientIdOrderByUpdatedAtDesc(42L)).thenReturn(List.of());
+        CountDownLatch bothLegsInFlight = new CountDownLatch(2);
+        AtomicBoolean overlapped = new AtomicBoolean(true);
+
+        try (TestServer proposalServer = startServer(exchange -> {
+                    overlapped.compareAndSet(true, awaitOtherLeg(bothLegsInFlight));
+                    writeJson(exchange, 200, PROPOSAL_SUMMARY);
+                });
+             TestServer contractServer = startServer(exchange -> {
+                    overlapped.compareAndSet(true, awaitOtherLeg(bothLegsInFlight));
+                    writeJson(exchange, 200, CONTRACT_SUMMARY);
+                })) {
+            RecruiterReportService service = newService(proposalServer, contractServer, 3000);
+
+            RecruiterReportOverviewResponse overview = service.getOverview(CLIENT, FROM, TO);
+
+            assertThat(overlapped).isTrue();
+            assertThat(overview.warnings()).isEmpty();
+            assertThat(overview.totalProposals()).isEqualTo(12);
+            assertThat(overview.acceptedProposals()).isEqualTo(4);
+            assertThat(overview.totalContracts()).isEqualTo(5);
+            assertThat(overview.completedContracts()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void getOverviewShouldReturnPartialDataWhenALegMissesTheReportDeadline() throws IOException {
+        when(jobRepository.findByClientIdOrderByUpdatedAtDesc(42L)).thenReturn(List.of());
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (TestServer proposalServer = startServer(exchange -> {
+                    awaitQuietly(release);
+                    writeJson(exchange, 200, PROPOSAL_SUMMARY);
+                });
+             TestServer contractServer = startServer(exchange -> writeJson(exchange, 200, CONTRACT_SUMMARY))) {
+            RecruiterReportService service = newService(proposalServer, contractServer, 200);
+
+            long startedAt = System.nanoTime();
+            RecruiterReportOverviewResponse overview;
+            try {
+                overview = service.getOverview(CLIENT, FROM, TO);
+            } finally {
+                release.countDown();
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            assertThat(elapsedMs).isLessThan(2000);
+            assertThat(overview.warnings()).containsExactly("proposal-service summary unavailable");
+            assertThat(overview.totalProposals()).isZero();
+            assertThat(overview.totalContracts()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void getConversionShouldWarnWhenADependencyFails() throws IOException {
+        when(jobRepository.findByClientIdOrderByUpdatedAtDesc(42L)).thenReturn(List.of());
+
+        try (TestServer proposalServer = startServer(exchange -> writeJson(exchange, 200, PROPOSAL_SUMMARY));
+             TestServer contractServer = startServer(exchange -> writeJson(exchange, 503, "{}"))) {
+            RecruiterReportService service = newService(proposalServer, contractServer, 3000);
+
+            RecruiterReportConversionResponse conversion = service.getConversion(CLIENT, FROM, TO);
+
+            assertThat(conversion.warnings()).containsExactly("contract-service summary unavailable");
+            assertThat(conversion.proposals()).isEqualTo(12);
+        }
+    }
+
+    @Test
+    void getSeriesShouldMergeBothLegsWhenServedLive() throws IOException {
+        when(jobRepository.findByClientIdOrderByUpdatedAtDesc(42L)).thenReturn(List.of());
+
+        try (TestServer proposalServer = startServer(exchange -> writeJson(exchange, 200, """
+                    {"points":[{"bucketStart":"2026-01-02T00:00:00Z","proposals":3,"interviews":1,"accepted":1,"rejected":0}]}
+                    """));
+             TestServer contractServer = startServer(exchange -> writeJson(exchange, 200, """
+                    {"points":[{"bucketStart":"2026-01-02T00:00:00Z","contractsCreated":1,"contractsCompleted":0}]}
+                    """))) {
+            RecruiterReportService service = newService(proposalServer, contractServer, 3000);
+
+            RecruiterReportSeriesResponse series = service.getSeries(CLIENT, FROM, TO, ReportGroupBy.DAY, "UTC");
+
+            assertThat(series.warnings()).isEmpty();
+            assertThat(series.points())
+                    .filteredOn(point -> point.bucketStart().equals(Instant.parse("2026-01-02T00:00:00Z")))
+                    .singleElement()
+                    .satisfies(point -> {
+                        assertThat(point.proposals()).isEqualTo(3);
+                        assertThat(point.hires()).isEqualTo(1);
+                    });
+        }
+    }
+
+    private RecruiterReportService newService(TestServer proposalServer, TestServer contractServer, long deadlineMs) {
+        RecruiterReportService service = new RecruiterReportService(
+                jobRepository,
+                rollupService,
+                proposalServer.baseUrl(),
+                contractServer.baseUrl(),
+                "internal-key",
+                deadlineMs,
+                4,
+                16,
+                500,
+                5000,
+                500,
+                5000
+        );
+        services.add(service);
+        return service;
+    }
+
+    private static boolean awaitOtherLeg(CountDownLatch latch) {
+        latch.countDown();
+        return awaitQuietly(latch);
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private TestServer startServer(HttpHandler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/", handler);
+        server.start();
+        return new TestServer(server);
+    }
+
+    private void writeJson(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static final class TestServer implements AutoCloseable {
+        private final HttpServer server;
+
+        private TestServer(HttpServer server) {
+            this.server = server;
+        }
+
+        private String baseUrl() {
+            return "http://localhost:" + server.getAddress().getPort();
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+        }
+    }
+}
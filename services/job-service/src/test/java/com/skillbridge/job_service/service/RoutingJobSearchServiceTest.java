@@ -1,6 +1,7 @@
 package com.skillbridge.job_service.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -15,6 +16,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.skillbridge.job_service.config.SearchProperties;
 import com.skillbridge.job_service.dto.PagedResult;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class RoutingJobSearchServiceTest {
 
@@ -27,8 +30,8 @@ class RoutingJobSearchServiceTest {
     @Test
     void searchShouldFallBackToDbWhenOpenSearchFails() {
         SearchProperties properties = properties(true, "opensearch");
-        RoutingJobSearchService routingJobSearchService = new RoutingJobSearchService(properties, dbJobSearchService, openSearchJobSearchService);
-        JobSearchRequest request = new JobSearchRequest(null, null, null, null, null, List.of(), null, null, null, null, null, null, JobSearchSort.LATEST, 0, 20);
+        RoutingJobSearchService routingJobSearchService = new RoutingJobSearchService(properties, dbJobSearchService, openSearchJobSearchService, guard(properties));
+        JobSearchRequest request = new JobSearchRequest(null, null, null, null, null, List.of(), null, null, null, null, null, null, JobSearchSort.LATEST, 0, 20, null, true);
         PagedResult<JobSearchResultItem> dbResult = new PagedResult<>(List.of(), 0, 0, 0, 20);
 
         when(openSearchJobSearchService.supportsIndexing()).thenReturn(true);
@@ -45,8 +48,8 @@ class RoutingJobSearchServiceTest {
     @Test
     void searchShouldUseDbWhenAdvancedSearchDisabled() {
         SearchProperties properties = properties(false, "opensearch");
-        RoutingJobSearchService routingJobSearchService = new RoutingJobSearchService(properties, dbJobSearchService, openSearchJobSearchService);
-        JobSearchRequest request = new JobSearchRequest(null, null, null, null, null, List.of(), null, null, null, null, null, null, JobSearchSort.LATEST, 0, 20);
+        RoutingJobSearchService routingJobSearchService = new RoutingJobSearchService(properties, dbJobSearchService, openSearchJobSearchService, guard(properties));
+        JobSearchRequest request = new JobSearchRequest(null, null, null, null, null, List.of(), null, null, null, null, null, null, JobSearchSort.LATEST, 0, 20, null, true);
         PagedResult<JobSearchResultItem> dbResult = new PagedResult<>(List.of(), 0, 0, 0, 20);
 
         when(dbJobSearchService.search(request)).thenReturn(dbResult);
@@ -61,7 +64,8 @@ class RoutingJobSearchServiceTest {
     @Test
     void suggestShouldFallBackToDbWhenOpenSearchFails() {
         SearchProperties properties = properties(true, "opensearch");
-        RoutingJobSearchService routingJobSearchService = new RoutingJobSearchService(properties, dbJobSearchService, openSearchJobSearchService);
+        properties.getSuggestions().setSource("opensearch");
+        RoutingJobSearchService routingJobSearchService = new RoutingJobSearchService(properties, dbJobSearchService, openSearchJobSearchService, guard(properties));
         List<JobSearchSuggestionItem> dbResult = List.of(new JobSearchSuggestionItem("backend engineer", "TITLE"));
 
         when(openSearchJobSearchService.supportsIndexing()).thenReturn(true);
@@ -75,10 +79,23 @@ class RoutingJobSearchServiceTest {
         verify(dbJobSearchService).suggest("backend", 5);
     }
 
+    @Test
+    void suggestShouldStayOnLocalIndexByDefaultEvenWithOpenSearchProvider() {
+        SearchProperties properties = properties(true, "opensearch");
+        RoutingJobSearchService routingJobSearchService = new RoutingJobSearchService(properties, dbJobSearchService, openSearchJobSearchService, guard(properties));
+        List<JobSearchSuggestionItem> dbResult = List.of(new JobSearchSuggestionItem("java", "TAG"));
+
+        when(openSearchJobSearchService.supportsIndexing()).thenReturn(true);
+        when(dbJobSearchService.suggest("ja", 5)).thenReturn(dbResult);
+
+        assertThat(routingJobSearchService.suggest("ja", 5)).isEqualTo(dbResult);
+        verify(openSearchJobSearchService, never()).suggest("ja", 5);
+    }
+
     @Test
     void companySearchShouldUseDbWhenAdvancedSearchDisabled() {
         SearchProperties properties = properties(false, "opensearch");
-        RoutingJobSearchService routingJobSearchService = new RoutingJobSearchService(properties, dbJobSearchService, openSearchJobSearchService);
+        RoutingJobSearchService routingJobSearchService = new RoutingJobSearchService(properties, dbJobSearchService, openSearchJobSearchService, guard(properties));
         List<CompanySearchResultItem> dbResult = List.of(new CompanySearchResultItem(1L, "Acme", 4, 2, null, null, List.of(), List.of(), List.of()));
 
         when(dbJobSearchService.searchCompanies("acme", 10)).thenReturn(dbResult);
@@ -96,4 +113,8 @@ class RoutingJobSearchServiceTest {
         properties.setProvider(provider);
         return properties;
     }
+
+    private SearchProviderGuard guard(SearchProperties properties) {
+        return new SearchProviderGuard(properties, new SimpleMeterRegistry());
+    }
 }
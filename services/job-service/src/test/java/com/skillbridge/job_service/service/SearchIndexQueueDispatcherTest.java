@@ -0,0 +1,148 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.domain.Job;
+import com.skillbridge.job_service.domain.SearchIndexEntityType;
+import com.skillbridge.job_service.domain.SearchIndexOutboxEntry;
+import com.skillbridge.job_service.repository.JobRepository;
+import com.skillbridge.job_service.repository.SearchIndexOutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexQueueDispatcherTest {
+
+    @Mock
+    private SearchIndexOutboxRepository outboxRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private CompanyStatsService companyStatsService;
+
+    @Mock
+    private JobSearchService jobSearchService;
+
+    @Mock
+    private SearchIndexQueue searchIndexQueue;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SearchIndexQueueDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        properties.getIndexQueue().setInitialRetryDelaySeconds(4);
+        dispatcher = new SearchIndexQueueDispatcher(
+                outboxRepository,
+                jobRepository,
+                companyStatsService,
+                jobSearchService,
+                searchIndexQueue,
+                searchResultCache,
+                properties,
+                transactionManager
+        );
+    }
+
+    @Test
+    void flushBatchShouldWriteCoalescedEntriesInOneBulkPerKindAndDeleteThem() {
+        SearchIndexOutboxEntry jobEntry = entry(1L, SearchIndexEntityType.JOB, 10L);
+        SearchIndexOutboxEntry deletedJobEntry = entry(2L, SearchIndexEntityType.JOB, 11L);
+        SearchIndexOutboxEntry companyEntry = entry(3L, SearchIndexEntityType.COMPANY, 77L);
+        SearchIndexOutboxEntry emptyCompanyEntry = entry(4L, SearchIndexEntityType.COMPANY, 88L);
+        when(outboxRepository.findDueForUpdate(any(Instant.class), eq(Limit.of(10))))
+                .thenReturn(List.of(jobEntry, deletedJobEntry, companyEntry, emptyCompanyEntry));
+        Job job = job(10L, 77L);
+        when(jobRepository.findByIdIn(List.of(10L, 11L))).thenReturn(List.of(job));
+        CompanySearchResultItem company = new CompanySearchResultItem(77L, "Acme", 1, 1, null, null, List.of(), List.of(), List.of());
+        when(companyStatsService.findCompanies(List.of(77L, 88L))).thenReturn(List.of(company));
+        when(jobSearchService.writeJobs(anyList(), anyCollection(), any(Instant.class))).thenReturn(Set.of());
+        when(jobSearchService.writeCompanies(anyList(), anyCollection(), any(Instant.class))).thenReturn(Set.of());
+
+        int claimed = dispatcher.flushBatch(10);
+
+        assertThat(claimed).isEqualTo(4);
+        assertThat(jobEntry.getNextAttemptAt()).isAfter(Instant.now().plusSeconds(30));
+        verify(jobSearchService).writeJobs(eq(List.of(job)), eq(Set.of(11L)), any(Instant.class));
+        verify(searchResultCache).invalidateJobs();
+        verify(jobSearchService).writeCompanies(eq(List.of(company)), eq(Set.of(88L)), any(Instant.class));
+        verify(outboxRepository).deleteFlushed(eq(List.of(1L, 2L, 3L, 4L)), any(Instant.class));
+        verify(searchIndexQueue).recordFlush(4, 0);
+    }
+
+    @Test
+    void flushBatchShouldBackOffEntriesRejectedBySearchBackend() {
+        SearchIndexOutboxEntry jobEntry = entry(1L, SearchIndexEntityType.JOB, 10L);
+        SearchIndexOutboxEntry companyEntry = entry(2L, SearchIndexEntityType.COMPANY, 77L);
+        companyEntry.setAttempts(2);
+        when(outboxRepository.findDueForUpdate(any(Instant.class), eq(Limit.of(10)))).thenReturn(List.of(jobEntry, companyEntry));
+        when(jobRepository.findByIdIn(List.of(10L))).thenReturn(List.of(job(10L, 77L)));
+        when(companyStatsService.findCompanies(List.of(77L))).thenThrow(new IllegalStateException("database unavailable"));
+        when(jobSearchService.writeJobs(anyList(), anyCollection(), any(Instant.class))).thenReturn(Set.of());
+        when(outboxRepository.findAllById(any())).thenReturn(List.of(companyEntry));
+
+        Instant before = Instant.now();
+        dispatcher.flushBatch(10);
+
+        verify(outboxRepository).deleteFlushed(eq(List.of(1L)), any(Instant.class));
+        verify(jobSearchService, never()).writeCompanies(anyList(), anyCollection(), any(Instant.class));
+        assertThat(companyEntry.getAttempts()).isEqualTo(3);
+        assertThat(companyEntry.getLastError()).isEqualTo("database unavailable");
+        assertThat(companyEntry.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(16));
+        verify(searchIndexQueue).recordFlush(1, 1);
+    }
+
+    @Test
+    void flushPendingWritesShouldSkipWhenQueueIsInactive() {
+        when(searchIndexQueue.isActive()).thenReturn(false);
+
+        dispatcher.flushPendingWrites();
+
+        verify(outboxRepository, never()).findDueForUpdate(any(), any());
+    }
+
+    private SearchIndexOutboxEntry entry(Long id, SearchIndexEntityType type, Long entityId) {
+        SearchIndexOutboxEntry entry = new SearchIndexOutboxEntry();
+        entry.setId(id);
+        entry.setEntityType(type);
+        entry.setEntityId(entityId);
+        entry.setRequestedAt(Instant.now());
+        entry.setNextAttemptAt(Instant.now());
+        return entry;
+    }
+
+    private Job job(Long jobId, Long clientId) {
+        Job job = new Job();
+        job.setId(jobId);
+        job.setClientId(clientId);
+        job.setTitle("Job " + jobId);
+        job.setUpdatedAt(Instant.parse("2026-03-19T02:00:00Z"));
+        return job;
+    }
+}
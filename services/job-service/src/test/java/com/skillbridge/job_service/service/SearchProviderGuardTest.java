@@ -0,0 +1,93 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.skillbridge.job_service.config.SearchProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SearchProviderGuardTest {
+
+    @Test
+    void callShouldFallBackWhenPrimaryExceedsLatencyBudget() {
+        SearchProperties properties = new SearchProperties();
+        properties.getResilience().setCallTimeoutMs(50);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SearchProviderGuard guard = new SearchProviderGuard(properties, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        String result = guard.call("search", () -> {
+            await(release);
+            return "opensearch";
+        }, () -> "db");
+
+        release.countDown();
+        assertThat(result).isEqualTo("db");
+        assertThat(meterRegistry.counter("search.provider.fallbacks", "operation", "search", "reason", "timeout").count()).isEqualTo(1);
+        guard.shutdown();
+    }
+
+    @Test
+    void callShouldSkipPrimaryWhileCircuitIsOpen() {
+        SearchProperties properties = new SearchProperties();
+        properties.getResilience().setMinimumCalls(2);
+        properties.getResilience().setSlidingWindowSize(4);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SearchProviderGuard guard = new SearchProviderGuard(properties, meterRegistry);
+        AtomicInteger primaryCalls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(guard.call("search", () -> {
+                primaryCalls.incrementAndGet();
+                throw new IllegalStateException("cluster unavailable");
+            }, () -> "db")).isEqualTo("db");
+        }
+
+        assertThat(primaryCalls).hasValue(2);
+        assertThat(guard.circuitState()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.counter("search.provider.fallbacks", "operation", "search", "reason", "circuit_open").count()).isEqualTo(1);
+        guard.shutdown();
+    }
+
+    @Test
+    void circuitShouldHalfOpenAfterCoolDownAndCloseOnSuccessfulProbes() {
+        AtomicLong clock = new AtomicLong();
+        SearchCircuitBreaker breaker = new SearchCircuitBreaker(4, 2, 50, 1000, 2, clock::get);
+
+        breaker.tryAcquire();
+        breaker.onSuccess();
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        clock.set(1000);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+
+        clock.set(2000);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.CLOSED);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
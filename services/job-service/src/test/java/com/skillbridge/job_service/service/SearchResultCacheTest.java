@@ -0,0 +1,173 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.skillbridge.job_service.config.SearchProperties;
+import com.skillbridge.job_service.domain.JobStatus;
+import com.skillbridge.job_service.domain.SearchCacheGeneration;
+import com.skillbridge.job_service.dto.PagedResult;
+import com.skillbridge.job_service.repository.SearchCacheGenerationRepository;
+import com.skillbridge.job_service.repository.SearchResultCacheRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+    @Mock
+    private SearchResultCacheRepository cacheRepository;
+
+    @Mock
+    private SearchCacheGenerationRepository generationRepository;
+
+    @Test
+    void getShouldServeRepeatedQueriesLocallyUntilJobsAreInvalidated() {
+        SearchResultCache cache = new SearchResultCache(cacheRepository, generationRepository, new SearchProperties());
+        AtomicInteger loads = new AtomicInteger();
+        PagedResult<JobSearchResultItem> page = page(item(1L, "Backend Engineer"));
+
+        assertThat(cache.get(request(0, BigDecimal.valueOf(100), List.of("java", "spring")), () -> load(loads, page))).isEqualTo(page);
+        assertThat(cache.get(request(0, new BigDecimal("100.00"), List.of("spring", "java")), () -> load(loads, page))).isEqualTo(page);
+        assertThat(loads).hasValue(1);
+
+        when(generationRepository.increment(SearchIndexKind.JOBS.name())).thenReturn(1L);
+        cache.invalidateJobs();
+        cache.get(request(0, BigDecimal.valueOf(100), List.of("java", "spring")), () -> load(loads, page));
+        assertThat(loads).hasValue(2);
+
+        cache.get(request(1, BigDecimal.valueOf(100), List.of("java", "spring")), () -> load(loads, page));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void localTierShouldEvictLeastRecentlyUsedEntriesBeyondLimits() {
+        SearchProperties properties = new SearchProperties();
+        properties.getResultCache().setMaxEntries(2);
+        SearchResultCache cache = new SearchResultCache(cacheRepository, generationRepository, properties);
+        AtomicInteger loads = new AtomicInteger();
+        PagedResult<JobSearchResultItem> page = page(item(1L, "Backend Engineer"));
+
+        cache.get(request(0, null, List.of()), () -> load(loads, page));
+        cache.get(request(1, null, List.of()), () -> load(loads, page));
+        cache.get(request(0, null, List.of()), () -> load(loads, page));
+        cache.get(request(2, null, List.of()), () -> load(loads, page));
+        cache.get(request(0, null, List.of()), () -> load(loads, page));
+        assertThat(loads).hasValue(3);
+
+        cache.get(request(1, null, List.of()), () -> load(loads, page));
+        assertThat(loads).hasValue(4);
+
+        properties.getResultCache().setMaxWeight(100);
+        cache.get(request(3, null, List.of()), () -> load(loads, page));
+        cache.get(request(3, null, List.of()), () -> load(loads, page));
+        assertThat(loads).hasValue(6);
+    }
+
+    @Test
+    void localTierShouldFollowGenerationBumpedByAnotherInstanceWithoutSharedPayloads() {
+        SearchResultCache cache = new SearchResultCache(cacheRepository, generationRepository, new SearchProperties());
+        AtomicInteger loads = new AtomicInteger();
+        PagedResult<JobSearchResultItem> page = page(item(1L, "Backend Engineer"));
+
+        cache.get(request(0, null, List.of()), () -> load(loads, page));
+        SearchCacheGeneration shared = new SearchCacheGeneration();
+        shared.setIndexName(SearchIndexKind.JOBS.name());
+        shared.setGeneration(3L);
+        when(generationRepository.findById(SearchIndexKind.JOBS.name())).thenReturn(Optional.of(shared));
+        cache.refreshGeneration();
+
+        assertThat(cache.currentGeneration()).isEqualTo(3L);
+        cache.get(request(0, null, List.of()), () -> load(loads, page));
+        assertThat(loads).hasValue(2);
+        verifyNoInteractions(cacheRepository);
+    }
+
+    @Test
+    void sharedTierShouldRoundTripResultsAndFollowSharedGeneration() {
+        SearchProperties properties = new SearchProperties();
+        properties.getResultCache().setSharedEnabled(true);
+        JobSearchRequest request = request(0, null, List.of("java"));
+        PagedResult<JobSearchResultItem> page = page(item(7L, "Data Engineer"));
+
+        SearchResultCache writer = new SearchResultCache(cacheRepository, generationRepository, properties);
+        writer.get(request, () -> page);
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(cacheRepository).upsert(key.capture(), eq(0L), payload.capture(), any(Instant.class));
+
+        SearchResultCache reader = new SearchResultCache(cacheRepository, generationRepository, properties);
+        when(cacheRepository.findPayload(eq(key.getValue()), eq(0L), any(Instant.class))).thenReturn(Optional.of(payload.getValue()));
+        assertThat(reader.get(request, () -> {
+            throw new AssertionError("shared tier should have served the result");
+        })).isEqualTo(page);
+
+        when(generationRepository.increment(SearchIndexKind.JOBS.name())).thenReturn(5L);
+        writer.invalidateJobs();
+        assertThat(writer.currentGeneration()).isEqualTo(5L);
+        when(cacheRepository.findPayload(anyString(), anyLong(), any(Instant.class))).thenReturn(Optional.empty());
+        AtomicInteger loads = new AtomicInteger();
+        writer.get(request, () -> load(loads, page));
+        assertThat(loads).hasValue(1);
+    }
+
+    private PagedResult<JobSearchResultItem> load(AtomicInteger loads, PagedResult<JobSearchResultItem> page) {
+        loads.incrementAndGet();
+        return page;
+    }
+
+    private JobSearchRequest request(int page, BigDecimal budgetMin, List<String> tags) {
+        return new JobSearchRequest(null, JobStatus.OPEN, budgetMin, null, null, tags, null, null, null, null, null, null, JobSearchSort.LATEST, page, 20, null, true);
+    }
+
+    private PagedResult<JobSearchResultItem> page(JobSearchResultItem item) {
+        return new PagedResult<>(List.of(item), 1, 1, 0, 20);
+    }
+
+    private JobSearchResultItem item(Long id, String title) {
+        Instant createdAt = Instant.parse("2026-01-02T03:04:05Z");
+        return new JobSearchResultItem(
+                id,
+                title,
+                "Build services",
+                null,
+                null,
+                null,
+                new BigDecimal("100.00"),
+                new BigDecimal("200.00"),
+                List.of("java"),
+                "OPEN",
+                77L,
+                "Acme",
+                "Hanoi",
+                "FULL_TIME",
+                null,
+                true,
+                3,
+                null,
+                null,
+                1,
+                createdAt,
+                createdAt,
+                null,
+                null,
+                null
+        );
+    }
+}
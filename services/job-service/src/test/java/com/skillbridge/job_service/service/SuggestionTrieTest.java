@@ -0,0 +1,71 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SuggestionTrieTest {
+
+    private static final List<String> WORDS = List.of("java", "javelin", "senior", "backend", "engineer", "data", "dev", "go", "react");
+    private static final List<String> TYPES = List.of("TITLE", "COMPANY", "TAG");
+    private static final List<String> QUERIES = List.of("j", "jav", "java", "java e", "java eng", "eng", "data", "d", "back", "go", "r", "senior java");
+
+    @Test
+    void applyShouldMatchAFullRebuildAfterRandomUpdates() {
+        Random random = new Random(42);
+        Map<String, SuggestionTrie.Term> terms = new LinkedHashMap<>();
+        SuggestionTrie trie = SuggestionTrie.build(List.of(), 6, 3);
+
+        for (int round = 0; round < 200; round++) {
+            List<SuggestionTrie.TermUpdate> updates = new ArrayList<>();
+            for (int change = 0; change < 1 + random.nextInt(4); change++) {
+                String key = randomKey(random);
+                String type = TYPES.get(random.nextInt(TYPES.size()));
+                SuggestionTrie.Term term = random.nextInt(4) == 0
+                        ? null
+                        : new SuggestionTrie.Term(key, new JobSearchSuggestionItem(key, type), 1 + random.nextInt(5));
+                if (term == null) {
+                    terms.remove(type + ":" + key);
+                } else {
+                    terms.put(type + ":" + key, term);
+                }
+                updates.add(new SuggestionTrie.TermUpdate(key, type, term));
+            }
+            trie = trie.apply(updates);
+
+            SuggestionTrie rebuilt = SuggestionTrie.build(terms.values(), 6, 3);
+            for (String query : QUERIES) {
+                assertThat(trie.lookup(query, 10)).as("round %d query %s", round, query).isEqualTo(rebuilt.lookup(query, 10));
+            }
+        }
+    }
+
+    @Test
+    void applyShouldLeaveUntouchedTrieUnchangedWhenRemovingUnknownTerms() {
+        SuggestionTrie trie = SuggestionTrie.build(
+                List.of(new SuggestionTrie.Term("java", new JobSearchSuggestionItem("java", "TAG"), 2)), 6, 3);
+
+        SuggestionTrie updated = trie.apply(List.of(new SuggestionTrie.TermUpdate("react", "TAG", null)));
+
+        assertThat(updated).isSameAs(trie);
+        assertThat(updated.lookup("ja", 5)).containsExactly(new JobSearchSuggestionItem("java", "TAG"));
+    }
+
+    private static String randomKey(Random random) {
+        int words = 1 + random.nextInt(3);
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                key.append(' ');
+            }
+            key.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package com.skillbridge.job_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.skillbridge.job_service.messaging.ViewerContextInvalidationPublisher;
+import com.skillbridge.job_service.repository.FollowedCompanyRepository;
+import com.skillbridge.job_service.repository.SavedJobRepository;
+import com.skillbridge.job_service.security.JwtUserPrincipal;
+
+@ExtendWith(MockitoExtension.class)
+class ViewerContextServiceTest {
+
+    private static final JwtUserPrincipal FREELANCER = new JwtUserPrincipal(7L, "freelancer@example.com", "FREELANCER");
+
+    @Mock
+    private SavedJobRepository savedJobRepository;
+
+    @Mock
+    private FollowedCompanyRepository followedCompanyRepository;
+
+    @Mock
+    private ViewerContextInvalidationPublisher invalidationPublisher;
+
+    @Test
+    void resolveShouldServeRepeatedViewsFromCachedIdSetsUntilInvalidated() {
+        ViewerContextService service = new ViewerContextService(savedJobRepository, followedCompanyRepository, invalidationPublisher, true, 30, 100, 100);
+        when(savedJobRepository.findJobIdsByUserId(7L, Limit.of(101))).thenReturn(List.of(3L, 12L, 40L));
+        when(followedCompanyRepository.findClientIdsByFollowerUserId(7L, Limit.of(101))).thenReturn(List.of(900L));
+
+        ViewerContextService.ViewerContext first = service.resolve(FREELANCER, List.of(12L, 13L), List.of(900L, 901L));
+        ViewerContextService.ViewerContext second = service.resolve(FREELANCER, List.of(40L), List.of(901L));
+
+        assertThat(first.savedJobIds()).containsExactly(12L);
+        assertThat(first.followedClientIds()).containsExactly(900L);
+        assertThat(second.isSaved(40L)).isTrue();
+        assertThat(second.followsCompany(901L)).isFalse();
+        verify(savedJobRepository, times(1)).findJobIdsByUserId(7L, Limit.of(101));
+        verify(savedJobRepository, never()).findSavedJobIds(anyLong(), any());
+
+        service.invalidate(7L);
+        service.resolve(FREELANCER, List.of(40L), List.of());
+
+        verify(invalidationPublisher).publish(7L);
+        verify(savedJobRepository, times(2)).findJobIdsByUserId(7L, Limit.of(101));
+        verify(followedCompanyRepository, times(2)).findClientIdsByFollowerUserId(7L, Limit.of(101));
+    }
+
+    @Test
+    void evictLocallyShouldDropIdsCachedBeforeAnotherInstanceInvalidatedThem() {
+        ViewerContextService service = new ViewerContextService(savedJobRepository, followedCompanyRepository, invalidationPublisher, true, 30, 100, 100);
+        when(savedJobRepository.findJobIdsByUserId(7L, Limit.of(101))).thenReturn(List.of()).thenReturn(List.of(40L));
+        when(followedCompanyRepository.findClientIdsByFollowerUserId(7L, Limit.of(101))).thenReturn(List.of());
+
+        assertThat(service.resolve(FREELANCER, List.of(40L), List.of()).isSaved(40L)).isFalse();
+        service.evictLocally(7L);
+
+        assertThat(service.resolve(FREELANCER, List.of(40L), List.of()).isSaved(40L)).isTrue();
+        verify(invalidationPublisher, never()).publish(anyLong());
+    }
+
+    @Test
+    void invalidationDuringALoadShouldOnlyDiscardThatUsersLoad() {
+        ViewerContextService service = new ViewerContextService(savedJobRepository, followedCompanyRepository, invalidationPublisher, true, 30, 100, 100);
+        JwtUserPrincipal other = new JwtUserPrincipal(8L, "other@example.com", "FREELANCER");
+        when(savedJobRepository.findJobIdsByUserId(7L, Limit.of(101))).thenAnswer(invocation -> {
+            service.invalidate(8L);
+            return List.of(40L);
+        });
+        when(savedJobRepository.findJobIdsByUserId(8L, Limit.of(101))).thenAnswer(invocation -> {
+            service.invalidate(8L);
+            return List.of(41L);
+        });
+        when(followedCompanyRepository.findClientIdsByFollowerUserId(anyLong(), any())).thenReturn(List.of());
+
+        service.resolve(FREELANCER, List.of(40L), List.of());
+        service.resolve(FREELANCER, List.of(40L), List.of());
+        service.resolve(other, List.of(41L), List.of());
+        service.resolve(other, List.of(41L), List.of());
+
+        verify(savedJobRepository, times(1)).findJobIdsByUserId(7L, Limit.of(101));
+        verify(savedJobRepository, times(2)).findJobIdsByUserId(8L, Limit.of(101));
+        assertThat(service.cachedUserCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resolveShouldFallBackToBatchedLookupsWhenUserHasTooManyIdsToCache() {
+        ViewerContextService service = new ViewerContextService(savedJobRepository, followedCompanyRepository, invalidationPublisher, true, 30, 100, 2);
+        when(savedJobRepository.findJobIdsByUserId(7L, Limit.of(3))).thenReturn(List.of(1L, 2L, 3L));
+        when(savedJobRepository.findSavedJobIds(7L, List.of(2L, 5L))).thenReturn(List.of(2L));
+        when(followedCompanyRepository.findFollowedClientIds(7L, List.of(900L))).thenReturn(List.of());
+
+        ViewerContextService.ViewerContext first = service.resolve(FREELANCER, List.of(2L, 5L, 2L), Arrays.asList(900L, null, 900L));
+        ViewerContextService.ViewerContext second = service.resolve(FREELANCER, List.of(2L, 5L), List.of(900L));
+
+        assertThat(first.savedJobIds()).containsExactly(2L);
+        assertThat(first.followedClientIds()).isEmpty();
+        assertThat(second.isSaved(2L)).isTrue();
+        verify(savedJobRepository, times(1)).findJobIdsByUserId(7L, Limit.of(3));
+        verify(followedCompanyRepository, never()).findClientIdsByFollowerUserId(anyLong(), any());
+        verify(savedJobRepository, times(2)).findSavedJobIds(7L, List.of(2L, 5L));
+    }
+
+    @Test
+    void resolveShouldEvictLeastRecentlyUsedViewersBeyondLimit() {
+        ViewerContextService service = new ViewerContextService(savedJobRepository, followedCompanyRepository, invalidationPublisher, true, 30, 2, 100);
+        when(savedJobRepository.findJobIdsByUserId(anyLong(), any())).thenReturn(List.of());
+        when(followedCompanyRepository.findClientIdsByFollowerUserId(anyLong(), any())).thenReturn(List.of());
+
+        for (long userId = 1; userId <= 3; userId++) {
+            service.resolve(new JwtUserPrincipal(userId, "user" + userId + "@example.com", "FREELANCER"), List.of(1L), List.of());
+        }
+
+        assertThat(service.cachedUserCount()).isEqualTo(2);
+    }
+
+    @Test
+    void resolveShouldSkipLookupsForNonFreelancers() {
+        ViewerContextService service = new ViewerContextService(savedJobRepository, followedCompanyRepository, invalidationPublisher, true, 30, 100, 100);
+
+        ViewerContextService.ViewerContext client = service.resolve(new JwtUserPrincipal(9L, "client@example.com", "CLIENT"), List.of(1L), List.of(2L));
+        ViewerContextService.ViewerContext anonymous = service.resolve(null, List.of(1L), List.of(2L));
+
+        assertThat(client.isSaved(1L)).isFalse();
+        assertThat(anonymous.followsCompany(2L)).isFalse();
+        verifyNoInteractions(savedJobRepository, followedCompanyRepository);
+    }
+}
@@ -2,13 +2,18 @@ package com.skillbridge.notification_service.config;
 
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +24,9 @@ import com.skillbridge.common.events.EventTopics;
 public class RabbitMqConfig {
 
     public static final String NOTIFICATION_QUEUE = "notification-service.events.queue";
+    public static final String JOB_FANOUT_QUEUE = "notification-service.job-fanout.queue";
+    public static final String DEAD_LETTER_EXCHANGE = "notification-service.dead-letter";
+    public static final String JOB_FANOUT_DEAD_LETTER_QUEUE = "notification-service.job-fanout.dlq";
 
     @Bean
     public TopicExchange domainEventsExchange() {
@@ -44,6 +52,13 @@ public class RabbitMqConfig {
                 .with(EventTopics.PROPOSAL_ACCEPTED_ROUTING_KEY);
     }
 
+    @Bean
+    public Binding proposalsRejectedBinding(Queue notificationQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(notificationQueue)
+                .to(domainEventsExchange)
+                .with(EventTopics.PROPOSALS_REJECTED_ROUTING_KEY);
+    }
+
     @Bean
     public Binding milestoneCompletedBinding(Queue notificationQueue, TopicExchange domainEventsExchange) {
         return BindingBuilder.bind(notificationQueue)
@@ -51,6 +66,45 @@ public class RabbitMqConfig {
                 .with(EventTopics.MILESTONE_COMPLETED_ROUTING_KEY);
     }
 
+    @Bean
+    public DirectExchange deadLetterExchange() {
+        return new DirectExchange(DEAD_LETTER_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue jobFanOutQueue() {
+        return QueueBuilder.durable(JOB_FANOUT_QUEUE)
+                .deadLetterExchange(DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(JOB_FANOUT_DEAD_LETTER_QUEUE)
+                .build();
+    }
+
+    @Bean
+    public Queue jobFanOutDeadLetterQueue() {
+        return QueueBuilder.durable(JOB_FANOUT_DEAD_LETTER_QUEUE).build();
+    }
+
+    @Bean
+    public Binding jobFanOutDeadLetterBinding(Queue jobFanOutDeadLetterQueue, DirectExchange deadLetterExchange) {
+        return BindingBuilder.bind(jobFanOutDeadLetterQueue)
+                .to(deadLetterExchange)
+                .with(JOB_FANOUT_DEAD_LETTER_QUEUE);
+    }
+
+    @Bean
+    public Binding jobPublishedBinding(Queue jobFanOutQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(jobFanOutQueue)
+                .to(domainEventsExchange)
+                .with(EventTopics.JOB_PUBLISHED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding jobStatusChangedBinding(Queue jobFanOutQueue, TopicExchange domainEventsExchange) {
+        return BindingBuilder.bind(jobFanOutQueue)
+                .to(domainEventsExchange)
+                .with(EventTopics.JOB_STATUS_CHANGED_ROUTING_KEY);
+    }
+
     @Bean
     public MessageConverter rabbitMessageConverter() {
         Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
@@ -71,4 +125,26 @@ public class RabbitMqConfig {
         factory.setMessageConverter(rabbitMessageConverter);
         return factory;
     }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory jobFanOutListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter rabbitMessageConverter,
+            @Value("${app.fanout.concurrency:2}") int concurrency,
+            @Value("${app.fanout.max-attempts:5}") int maxAttempts,
+            @Value("${app.fanout.retry-initial-interval-ms:1000}") long retryInitialIntervalMs
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(rabbitMessageConverter);
+        factory.setPrefetchCount(1);
+        factory.setConcurrentConsumers(Math.max(concurrency, 1));
+        factory.setMaxConcurrentConsumers(Math.max(concurrency, 1));
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(Math.max(maxAttempts, 1))
+                .backOffOptions(Math.max(retryInitialIntervalMs, 1), 2.0, 60000)
+                .recoverer(new RejectAndDontRequeueRecoverer())
+                .build());
+        return factory;
+    }
 }
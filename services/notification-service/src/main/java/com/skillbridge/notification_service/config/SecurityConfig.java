@@ -50,7 +50,7 @@ public class SecurityConfig {
                         .requestMatchers("/error").permitAll()
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/notifications/internal").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/notifications/internal", "/notifications/internal/batch").permitAll()
                         .requestMatchers(HttpMethod.GET, "/notifications/me").authenticated()
                         .requestMatchers(HttpMethod.PATCH, "/notifications/*/read").authenticated()
                         .anyRequest().authenticated()
@@ -17,7 +17,9 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.skillbridge.notification_service.dto.CreateNotificationBatchRequest;
 import com.skillbridge.notification_service.dto.CreateNotificationRequest;
+import com.skillbridge.notification_service.dto.NotificationBatchResponse;
 import com.skillbridge.notification_service.dto.NotificationResponse;
 import com.skillbridge.notification_service.security.JwtUserPrincipal;
 import com.skillbridge.notification_service.service.NotificationService;
@@ -72,6 +74,15 @@ public class NotificationController {
         );
     }
 
+    @PostMapping("/internal/batch")
+    public NotificationBatchResponse createInternalNotifications(
+            @Valid @RequestBody CreateNotificationBatchRequest request,
+            @RequestHeader(name = INTERNAL_API_KEY_HEADER, required = false) String providedApiKey
+    ) {
+        requireInternalApiKey(providedApiKey);
+        return notificationService.createNotifications(request.items());
+    }
+
     private void requireInternalApiKey(String providedApiKey) {
         if (providedApiKey == null || !providedApiKey.equals(internalApiKey)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid internal API key");
@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
@@ -18,7 +19,8 @@ import jakarta.persistence.Table;
 public class EmailDeliveryTask {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_delivery_tasks_id_seq")
+    @SequenceGenerator(name = "email_delivery_tasks_id_seq", sequenceName = "email_delivery_tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 64)
@@ -0,0 +1,11 @@
+package com.skillbridge.notification_service.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record CreateNotificationBatchRequest(
+        @NotEmpty @Size(max = 5000) List<CreateNotificationRequest> items
+) {
+}
@@ -0,0 +1,9 @@
+package com.skillbridge.notification_service.dto;
+
+public record NotificationBatchItemResult(
+        int index,
+        String status,
+        Long notificationId,
+        String error
+) {
+}
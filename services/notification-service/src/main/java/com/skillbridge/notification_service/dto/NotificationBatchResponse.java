@@ -0,0 +1,10 @@
+package com.skillbridge.notification_service.dto;
+
+import java.util.List;
+
+public record NotificationBatchResponse(
+        int created,
+        int rejected,
+        List<NotificationBatchItemResult> results
+) {
+}
@@ -0,0 +1,9 @@
+package com.skillbridge.notification_service.dto;
+
+import java.util.List;
+
+public record RecipientPageResponse(
+        List<Long> userIds,
+        Long nextAfterUserId
+) {
+}
@@ -0,0 +1,48 @@
+package com.skillbridge.notification_service.messaging;
+
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.skillbridge.common.events.JobPublishedEvent;
+import com.skillbridge.common.events.JobStatusChangedEvent;
+import com.skillbridge.notification_service.config.RabbitMqConfig;
+import com.skillbridge.notification_service.service.JobNotificationFanOutService;
+
+@Component
+@RabbitListener(queues = RabbitMqConfig.JOB_FANOUT_QUEUE, containerFactory = "jobFanOutListenerContainerFactory")
+public class JobFanOutEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(JobFanOutEventConsumer.class);
+
+    private final JobNotificationFanOutService fanOutService;
+
+    public JobFanOutEventConsumer(JobNotificationFanOutService fanOutService) {
+        this.fanOutService = fanOutService;
+    }
+
+    @RabbitHandler
+    public void handleJobPublished(JobPublishedEvent event) {
+        if (event == null) {
+            log.warn("Received null JobPublishedEvent");
+            return;
+        }
+        fanOutService.fanOutJobPublished(event);
+    }
+
+    @RabbitHandler
+    public void handleJobStatusChanged(JobStatusChangedEvent event) {
+        if (event == null) {
+            log.warn("Received null JobStatusChangedEvent");
+            return;
+        }
+        fanOutService.fanOutJobStatusChanged(event);
+    }
+
+    @RabbitHandler(isDefault = true)
+    public void handleUnsupportedEvent(Object event) {
+        log.warn("Unsupported event payload in job fan-out queue: {}", event);
+    }
+}
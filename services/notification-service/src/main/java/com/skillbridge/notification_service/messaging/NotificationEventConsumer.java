@@ -1,5 +1,6 @@
 package com.skillbridge.notification_service.messaging;
 
+import java.util.List;
 import java.util.Objects;
 
 import org.springframework.amqp.rabbit.annotation.RabbitHandler;
@@ -11,8 +12,10 @@ import org.slf4j.LoggerFactory;
 import com.skillbridge.common.events.MilestoneCompletedEvent;
 import com.skillbridge.common.events.ProposalAcceptedEvent;
 import com.skillbridge.common.events.ProposalCreatedEvent;
+import com.skillbridge.common.events.ProposalsRejectedEvent;
 import com.skillbridge.notification_service.config.RabbitMqConfig;
 import com.skillbridge.notification_service.domain.NotificationType;
+import com.skillbridge.notification_service.dto.CreateNotificationRequest;
 import com.skillbridge.notification_service.service.NotificationService;
 
 @Component
@@ -61,6 +64,29 @@ public class NotificationEventConsumer {
         );
     }
 
+    @RabbitHandler
+    public void handleProposalsRejected(ProposalsRejectedEvent event) {
+        if (event == null || event.recipients() == null || event.recipients().isEmpty()) {
+            log.warn("Received empty ProposalsRejectedEvent");
+            return;
+        }
+        String message = "Your application for job #" + event.jobId() + " was closed because another candidate was selected.";
+        List<CreateNotificationRequest> items = event.recipients().stream()
+                .map(recipient -> new CreateNotificationRequest(
+                        recipient.freelancerId(),
+                        recipient.freelancerEmail(),
+                        NotificationType.PROPOSAL_REJECTED.name(),
+                        "Application update",
+                        message
+                ))
+                .toList();
+        try {
+            notificationService.createNotifications(items);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to consume ProposalsRejectedEvent for acceptedProposalId={}: {}", event.acceptedProposalId(), ex.getMessage());
+        }
+    }
+
     @RabbitHandler
     public void handleMilestoneCompleted(MilestoneCompletedEvent event) {
         if (event == null) {
@@ -0,0 +1,19 @@
+package com.skillbridge.notification_service.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.skillbridge.notification_service.domain.NotificationFanOut;
+
+import jakarta.persistence.LockModeType;
+
+public interface NotificationFanOutRepository extends JpaRepository<NotificationFanOut, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select fanOut from NotificationFanOut fanOut where fanOut.eventId = :eventId")
+    Optional<NotificationFanOut> findByEventIdForUpdate(@Param("eventId") String eventId);
+}
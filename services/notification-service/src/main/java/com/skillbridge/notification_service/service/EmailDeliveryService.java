@@ -2,6 +2,7 @@ package com.skillbridge.notification_service.service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -9,8 +10,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.skillbridge.notification_service.config.EmailProperties;
 import com.skillbridge.notification_service.domain.EmailDeliveryStatus;
@@ -49,23 +53,55 @@ public class EmailDeliveryService {
             return;
         }
 
-        EmailDeliveryTask task = new EmailDeliveryTask();
-        task.setNotificationType(type.name());
-        task.setRecipientEmail(recipientEmail.trim());
-        task.setSubject(subject);
-        task.setBody(body);
-        task.setStatus(EmailDeliveryStatus.PENDING);
-        task.setAttemptCount(0);
-        task.setMaxAttempts(Math.max(1, emailProperties.getMaxAttempts()));
-        task.setNextAttemptAt(Instant.now());
-        EmailDeliveryTask savedTask = emailDeliveryTaskRepository.save(task);
+        EmailDeliveryTask savedTask = emailDeliveryTaskRepository.save(newTask(type, recipientEmail, subject, body));
         dispatchAsync(savedTask.getId());
     }
 
+    @Transactional
+    public int enqueueEmails(List<EmailRequest> requests) {
+        if (!emailProperties.isEnabled() || requests == null || requests.isEmpty()) {
+            return 0;
+        }
+        List<EmailDeliveryTask> tasks = new ArrayList<>();
+        for (EmailRequest request : requests) {
+            if (supportsEmail(request.type()) && request.recipientEmail() != null && !request.recipientEmail().isBlank()) {
+                tasks.add(newTask(request.type(), request.recipientEmail(), request.subject(), request.body()));
+            }
+        }
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        List<Long> taskIds = emailDeliveryTaskRepository.saveAll(tasks).stream()
+                .map(EmailDeliveryTask::getId)
+                .toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatchAllAsync(taskIds);
+                }
+            });
+        } else {
+            dispatchAllAsync(taskIds);
+        }
+        return tasks.size();
+    }
+
     public void dispatchAsync(Long taskId) {
         emailTaskExecutor.execute(() -> processTask(taskId));
     }
 
+    private void dispatchAllAsync(List<Long> taskIds) {
+        for (int i = 0; i < taskIds.size(); i++) {
+            try {
+                dispatchAsync(taskIds.get(i));
+            } catch (TaskRejectedException ex) {
+                log.info("Email dispatch queue full, leaving {} tasks for the retry poller", taskIds.size() - i);
+                return;
+            }
+        }
+    }
+
     @Scheduled(fixedDelayString = "${app.email.retry-poll-delay-ms:60000}")
     public void retryPendingEmails() {
         if (!emailProperties.isEnabled()) {
@@ -101,6 +137,19 @@ public class EmailDeliveryService {
         }
     }
 
+    private EmailDeliveryTask newTask(NotificationType type, String recipientEmail, String subject, String body) {
+        EmailDeliveryTask task = new EmailDeliveryTask();
+        task.setNotificationType(type.name());
+        task.setRecipientEmail(recipientEmail.trim());
+        task.setSubject(subject);
+        task.setBody(body);
+        task.setStatus(EmailDeliveryStatus.PENDING);
+        task.setAttemptCount(0);
+        task.setMaxAttempts(Math.max(1, emailProperties.getMaxAttempts()));
+        task.setNextAttemptAt(Instant.now());
+        return task;
+    }
+
     private boolean isDue(EmailDeliveryTask task) {
         return (task.getStatus() == EmailDeliveryStatus.PENDING || task.getStatus() == EmailDeliveryStatus.RETRY_PENDING)
                 && !task.getNextAttemptAt().isAfter(Instant.now());
@@ -147,4 +196,7 @@ public class EmailDeliveryService {
         }
         return value.length() <= maxLength ? value : value.substring(0, maxLength);
     }
+
+    public record EmailRequest(NotificationType type, String recipientEmail, String subject, String body) {
+    }
 }
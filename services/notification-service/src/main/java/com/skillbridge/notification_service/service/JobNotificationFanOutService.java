@@ -0,0 +1,161 @@
+package com.skillbridge.notification_service.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skillbridge.common.events.JobPublishedEvent;
+import com.skillbridge.common.events.JobStatusChangedEvent;
+import com.skillbridge.notification_service.domain.NotificationFanOut;
+import com.skillbridge.notification_service.domain.NotificationType;
+import com.skillbridge.notification_service.dto.RecipientPageResponse;
+import com.skillbridge.notification_service.repository.NotificationFanOutRepository;
+
+@Service
+public class JobNotificationFanOutService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobNotificationFanOutService.class);
+    private static final String INSERT_NOTIFICATION_SQL = """
+            insert into notifications (recipient_user_id, type, title, message, read, created_at, updated_at)
+            values (?, ?, ?, ?, false, ?, ?)
+            """;
+
+    private final JobRecipientClient jobRecipientClient;
+    private final NotificationFanOutRepository fanOutRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+    private final int insertBatchSize;
+
+    public JobNotificationFanOutService(
+            JobRecipientClient jobRecipientClient,
+            NotificationFanOutRepository fanOutRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.fanout.page-size:1000}") int pageSize,
+            @Value("${app.fanout.insert-batch-size:500}") int insertBatchSize
+    ) {
+        this.jobRecipientClient = jobRecipientClient;
+        this.fanOutRepository = fanOutRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = Math.max(pageSize, 1);
+        this.insertBatchSize = Math.max(insertBatchSize, 1);
+    }
+
+    public long fanOutJobPublished(JobPublishedEvent event) {
+        String companyName = event.companyName() == null || event.companyName().isBlank() ? "A company" : event.companyName();
+        return fanOut(
+                event.eventId(),
+                NotificationType.JOB_PUBLISHED,
+                event.jobId(),
+                "New job from " + companyName,
+                companyName + " posted a new job: " + event.title(),
+                afterUserId -> jobRecipientClient.fetchCompanyFollowers(event.clientId(), afterUserId, pageSize)
+        );
+    }
+
+    public long fanOutJobStatusChanged(JobStatusChangedEvent event) {
+        return fanOut(
+                event.eventId(),
+                NotificationType.JOB_STATUS_CHANGED,
+                event.jobId(),
+                "Saved job updated",
+                "Job #" + event.jobId() + " is now " + event.status(),
+                afterUserId -> jobRecipientClient.fetchJobSavers(event.jobId(), afterUserId, pageSize)
+        );
+    }
+
+    private long fanOut(
+            String eventId,
+            NotificationType type,
+            Long aggregateId,
+            String title,
+            String message,
+            LongFunction<RecipientPageResponse> pageLoader
+    ) {
+        if (eventId == null || eventId.isBlank() || aggregateId == null) {
+            log.warn("Skipping {} fan-out without eventId/aggregateId", type);
+            return 0;
+        }
+        NotificationFanOut progress = transactionTemplate.execute(status -> fanOutRepository.findById(eventId)
+                .orElseGet(() -> fanOutRepository.save(newFanOut(eventId, type, aggregateId))));
+        if (progress.getCompletedAt() != null) {
+            return progress.getDeliveredCount();
+        }
+
+        Long cursor = progress.getLastRecipientUserId();
+        while (cursor != null) {
+            long afterUserId = cursor;
+            RecipientPageResponse page = pageLoader.apply(afterUserId);
+            cursor = transactionTemplate.execute(status -> applyPage(eventId, afterUserId, page, type, title, message));
+        }
+        NotificationFanOut completed = fanOutRepository.findById(eventId).orElse(progress);
+        log.info("Fan-out {} for {} #{} delivered {} notifications", eventId, type, aggregateId, completed.getDeliveredCount());
+        return completed.getDeliveredCount();
+    }
+
+    private Long applyPage(
+            String eventId,
+            long afterUserId,
+            RecipientPageResponse page,
+            NotificationType type,
+            String title,
+            String message
+    ) {
+        NotificationFanOut fanOut = fanOutRepository.findByEventIdForUpdate(eventId)
+                .orElseThrow(() -> new IllegalStateException("Fan-out progress row missing for event " + eventId));
+        if (fanOut.getCompletedAt() != null) {
+            return null;
+        }
+        if (fanOut.getLastRecipientUserId() != afterUserId) {
+            return fanOut.getLastRecipientUserId();
+        }
+
+        List<Long> recipients = page.userIds().stream()
+                .filter(userId -> userId != null && userId > afterUserId)
+                .distinct()
+                .sorted()
+                .toList();
+        if (!recipients.isEmpty()) {
+            Timestamp now = Timestamp.from(Instant.now());
+            jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, recipients, insertBatchSize, (statement, userId) -> {
+                statement.setLong(1, userId);
+                statement.setString(2, type.name());
+                statement.setString(3, title);
+                statement.setString(4, message);
+                statement.setTimestamp(5, now);
+                statement.setTimestamp(6, now);
+            });
+            fanOut.setLastRecipientUserId(recipients.get(recipients.size() - 1));
+            fanOut.setDeliveredCount(fanOut.getDeliveredCount() + recipients.size());
+        }
+
+        if (page.nextAfterUserId() == null || recipients.isEmpty()) {
+            fanOut.setCompletedAt(Instant.now());
+            fanOutRepository.save(fanOut);
+            return null;
+        }
+        fanOutRepository.save(fanOut);
+        return fanOut.getLastRecipientUserId();
+    }
+
+    private NotificationFanOut newFanOut(String eventId, NotificationType type, Long aggregateId) {
+        NotificationFanOut fanOut = new NotificationFanOut();
+        fanOut.setEventId(eventId);
+        fanOut.setEventType(type);
+        fanOut.setAggregateId(aggregateId);
+        fanOut.setLastRecipientUserId(0L);
+        fanOut.setDeliveredCount(0L);
+        return fanOut;
+    }
+}
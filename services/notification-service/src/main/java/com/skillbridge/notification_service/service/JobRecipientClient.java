@@ -0,0 +1,44 @@
+package com.skillbridge.notification_service.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.skillbridge.notification_service.dto.RecipientPageResponse;
+
+@Component
+public class JobRecipientClient {
+
+    private static final String INTERNAL_API_KEY_HEADER = "X-Internal-Api-Key";
+
+    private final RestClient jobRestClient;
+    private final String internalApiKey;
+
+    public JobRecipientClient(
+            @Value("${app.services.job-base-url:http://localhost:8083}") String jobBaseUrl,
+            @Value("${app.internal.api-key}") String internalApiKey
+    ) {
+        this.jobRestClient = RestClient.builder().baseUrl(jobBaseUrl).build();
+        this.internalApiKey = internalApiKey;
+    }
+
+    public RecipientPageResponse fetchCompanyFollowers(Long clientId, long afterUserId, int limit) {
+        return fetch("/jobs/internal/companies/{id}/followers?afterUserId={after}&limit={limit}", clientId, afterUserId, limit);
+    }
+
+    public RecipientPageResponse fetchJobSavers(Long jobId, long afterUserId, int limit) {
+        return fetch("/jobs/internal/{id}/savers?afterUserId={after}&limit={limit}", jobId, afterUserId, limit);
+    }
+
+    private RecipientPageResponse fetch(String uri, Long id, long afterUserId, int limit) {
+        RecipientPageResponse page = jobRestClient.get()
+                .uri(uri, id, afterUserId, limit)
+                .header(INTERNAL_API_KEY_HEADER, internalApiKey)
+                .retrieve()
+                .body(RecipientPageResponse.class);
+        if (page == null || page.userIds() == null) {
+            throw new IllegalStateException("job-service returned an empty recipient page for " + uri);
+        }
+        return page;
+    }
+}
@@ -1,6 +1,7 @@
 package com.skillbridge.notification_service.service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
@@ -11,6 +12,9 @@ import org.springframework.web.server.ResponseStatusException;
 
 import com.skillbridge.notification_service.domain.Notification;
 import com.skillbridge.notification_service.domain.NotificationType;
+import com.skillbridge.notification_service.dto.CreateNotificationRequest;
+import com.skillbridge.notification_service.dto.NotificationBatchItemResult;
+import com.skillbridge.notification_service.dto.NotificationBatchResponse;
 import com.skillbridge.notification_service.dto.NotificationResponse;
 import com.skillbridge.notification_service.repository.NotificationRepository;
 import com.skillbridge.notification_service.security.JwtUserPrincipal;
@@ -18,6 +22,10 @@ import com.skillbridge.notification_service.security.JwtUserPrincipal;
 @Service
 public class NotificationService {
 
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
     private final NotificationRepository notificationRepository;
     private final EmailDeliveryService emailDeliveryService;
 
@@ -68,26 +76,77 @@ public class NotificationService {
             String message,
             String recipientEmail
     ) {
+        Notification notification = newNotification(recipientUserId, type, title, message);
+        notificationRepository.save(notification);
+        emailDeliveryService.enqueueEmail(type, normalizeEmail(recipientEmail), notification.getTitle(), notification.getMessage());
+    }
+
+    @Transactional
+    public void createNotificationByType(Long recipientUserId, String type, String title, String message, String recipientEmail) {
+        createNotification(recipientUserId, parseType(type), title, message, recipientEmail);
+    }
+
+    @Transactional
+    public NotificationBatchResponse createNotifications(List<CreateNotificationRequest> items) {
+        if (items == null || items.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "items must not be empty");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "items must not contain more than " + MAX_BATCH_SIZE + " entries");
+        }
+
+        NotificationBatchItemResult[] results = new NotificationBatchItemResult[items.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Notification> notifications = new ArrayList<>();
+        List<EmailDeliveryService.EmailRequest> emails = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                CreateNotificationRequest item = items.get(i);
+                if (item == null) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "item must not be null");
+                }
+                Notification notification = newNotification(
+                        item.recipientUserId(),
+                        parseType(item.type()),
+                        item.title(),
+                        item.message()
+                );
+                notifications.add(notification);
+                acceptedIndexes.add(i);
+                emails.add(new EmailDeliveryService.EmailRequest(
+                        notification.getType(),
+                        normalizeEmail(item.recipientEmail()),
+                        notification.getTitle(),
+                        notification.getMessage()
+                ));
+            } catch (ResponseStatusException ex) {
+                results[i] = new NotificationBatchItemResult(i, "REJECTED", null, ex.getReason());
+            }
+        }
+
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = new NotificationBatchItemResult(index, "CREATED", saved.get(i).getId(), null);
+        }
+        emailDeliveryService.enqueueEmails(emails);
+        return new NotificationBatchResponse(saved.size(), items.size() - saved.size(), List.of(results));
+    }
+
+    private Notification newNotification(Long recipientUserId, NotificationType type, String title, String message) {
         if (recipientUserId == null || recipientUserId < 1) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "recipientUserId must be greater than 0");
         }
         if (type == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "type is required");
         }
-
         Notification notification = new Notification();
         notification.setRecipientUserId(recipientUserId);
         notification.setType(type);
-        notification.setTitle(normalizeRequiredText(title, "title"));
-        notification.setMessage(normalizeRequiredText(message, "message"));
+        notification.setTitle(normalizeRequiredText(title, "title", MAX_TITLE_LENGTH));
+        notification.setMessage(normalizeRequiredText(message, "message", MAX_MESSAGE_LENGTH));
         notification.setRead(false);
-        notificationRepository.save(notification);
-        emailDeliveryService.enqueueEmail(type, normalizeEmail(recipientEmail), notification.getTitle(), notification.getMessage());
-    }
-
-    @Transactional
-    public void createNotificationByType(Long recipientUserId, String type, String title, String message, String recipientEmail) {
-        createNotification(recipientUserId, parseType(type), title, message, recipientEmail);
+        return notification;
     }
 
     private NotificationType parseType(String type) {
@@ -116,11 +175,15 @@ public class NotificationService {
         return principal.userId();
     }
 
-    private String normalizeRequiredText(String value, String fieldName) {
+    private String normalizeRequiredText(String value, String fieldName, int maxLength) {
         if (value == null || value.trim().isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, fieldName + " must not be blank");
         }
-        return value.trim();
+        String normalized = value.trim();
+        if (normalized.length() > maxLength) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, fieldName + " must not exceed " + maxLength + " characters");
+        }
+        return normalized;
     }
 
     private NotificationResponse toResponse(Notification notification) {
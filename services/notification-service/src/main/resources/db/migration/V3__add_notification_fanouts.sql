@@ -0,0 +1,12 @@
+create table if not exists notification_fanouts (
+    event_id varchar(64) primary key,
+    event_type varchar(64) not null,
+    aggregate_id bigint not null,
+    last_recipient_user_id bigint not null default 0,
+    delivered_count bigint not null default 0,
+    completed_at timestamptz,
+    created_at timestamptz not null,
+    updated_at timestamptz not null
+);
+
+create index if not exists idx_notification_fanouts_incomplete on notification_fanouts (created_at) where completed_at is null;
@@ -0,0 +1,6 @@
+do $$
+begin
+    execute format('alter sequence %s increment by 50', pg_get_serial_sequence('notifications', 'id'));
+    execute format('alter sequence %s increment by 50', pg_get_serial_sequence('email_delivery_tasks', 'id'));
+end
+$$;
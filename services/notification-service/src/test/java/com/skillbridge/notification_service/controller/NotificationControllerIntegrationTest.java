@@ -26,6 +26,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.skillbridge.notification_service.config.JwtProperties;
 import com.skillbridge.notification_service.config.SecurityConfig;
+import com.skillbridge.notification_service.dto.NotificationBatchItemResult;
+import com.skillbridge.notification_service.dto.NotificationBatchResponse;
 import com.skillbridge.notification_service.dto.NotificationResponse;
 import com.skillbridge.notification_service.security.JwtAuthenticationFilter;
 import com.skillbridge.notification_service.service.NotificationService;
@@ -142,6 +144,43 @@ class NotificationControllerIntegrationTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    void createInternalNotificationsShouldReturnPerItemResults() throws Exception {
+        when(notificationService.createNotifications(any())).thenReturn(new NotificationBatchResponse(
+                1,
+                1,
+                List.of(
+                        new NotificationBatchItemResult(0, "CREATED", 70L, null),
+                        new NotificationBatchItemResult(1, "REJECTED", null, "Unsupported notification type")
+                )
+        ));
+
+        mockMvc.perform(post("/notifications/internal/batch")
+                        .header("X-Internal-Api-Key", "internal-key")
+                        .contentType("application/json")
+                        .content("""
+                                {
+                                  "items":[
+                                    {"recipientUserId":50,"type":"JOB_PUBLISHED","title":"New job","message":"Posted"},
+                                    {"recipientUserId":51,"type":"NOPE","title":"New job","message":"Posted"}
+                                  ]
+                                }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].notificationId").value(70))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"));
+    }
+
+    @Test
+    void createInternalNotificationsShouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/notifications/internal/batch")
+                        .header("X-Internal-Api-Key", "internal-key")
+                        .contentType("application/json")
+                        .content("{\"items\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     private String tokenFor(Long userId, String role) {
         SecretKey key = Keys.hmacShaKeyFor("abcdefghijklmnopqrstuvwxyz123456".getBytes(StandardCharsets.UTF_8));
         return Jwts.builder()
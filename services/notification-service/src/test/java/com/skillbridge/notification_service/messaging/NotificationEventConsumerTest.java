@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.doThrow;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,7 +20,9 @@ import org.springframework.web.server.ResponseStatusException;
 import com.skillbridge.common.events.MilestoneCompletedEvent;
 import com.skillbridge.common.events.ProposalAcceptedEvent;
 import com.skillbridge.common.events.ProposalCreatedEvent;
+import com.skillbridge.common.events.ProposalsRejectedEvent;
 import com.skillbridge.notification_service.domain.NotificationType;
+import com.skillbridge.notification_service.dto.CreateNotificationRequest;
 import com.skillbridge.notification_service.service.NotificationService;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,6 +64,28 @@ class NotificationEventConsumerTest {
         );
     }
 
+    @Test
+    void handleProposalsRejectedShouldCreateAllNotificationsInOneBatch() {
+        ProposalsRejectedEvent event = new ProposalsRejectedEvent(
+                11L,
+                22L,
+                33L,
+                List.of(
+                        new ProposalsRejectedEvent.Recipient(44L, "a@example.com"),
+                        new ProposalsRejectedEvent.Recipient(45L, null)
+                ),
+                Instant.now()
+        );
+
+        notificationEventConsumer.handleProposalsRejected(event);
+
+        String message = "Your application for job #22 was closed because another candidate was selected.";
+        verify(notificationService).createNotifications(List.of(
+                new CreateNotificationRequest(44L, "a@example.com", "PROPOSAL_REJECTED", "Application update", message),
+                new CreateNotificationRequest(45L, null, "PROPOSAL_REJECTED", "Application update", message)
+        ));
+    }
+
     @Test
     void handleMilestoneCompletedShouldCreateTwoNotificationsWhenParticipantsDiffer() {
         MilestoneCompletedEvent event = new MilestoneCompletedEvent(99L, 88L, 77L, 10L, 11L, Instant.now());
@@ -2,11 +2,14 @@ package com.skillbridge.notification_service.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 
 import com.skillbridge.notification_service.config.EmailProperties;
 import com.skillbridge.notification_service.domain.EmailDeliveryStatus;
@@ -65,6 +69,42 @@ class EmailDeliveryServiceTest {
         verify(emailTaskExecutor, never()).execute(any(Runnable.class));
     }
 
+    @Test
+    void enqueueEmailsShouldSaveSupportedTasksTogetherAndDispatchEach() {
+        when(emailDeliveryTaskRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<EmailDeliveryTask> tasks = invocation.getArgument(0);
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setId(20L + i);
+            }
+            return tasks;
+        });
+
+        int enqueued = emailDeliveryService.enqueueEmails(List.of(
+                new EmailDeliveryService.EmailRequest(NotificationType.PROPOSAL_REJECTED, "a@example.com", "Rejected", "Body"),
+                new EmailDeliveryService.EmailRequest(NotificationType.JOB_PUBLISHED, "b@example.com", "New job", "Body"),
+                new EmailDeliveryService.EmailRequest(NotificationType.PROPOSAL_REJECTED, null, "Rejected", "Body"),
+                new EmailDeliveryService.EmailRequest(NotificationType.PROPOSAL_ACCEPTED, "c@example.com", "Accepted", "Body")
+        ));
+
+        assertThat(enqueued).isEqualTo(2);
+        verify(emailDeliveryTaskRepository, never()).save(any(EmailDeliveryTask.class));
+        verify(emailTaskExecutor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void enqueueEmailsShouldLeaveTasksForRetryPollerWhenExecutorIsSaturated() {
+        when(emailDeliveryTaskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new TaskRejectedException("full")).when(emailTaskExecutor).execute(any(Runnable.class));
+
+        int enqueued = emailDeliveryService.enqueueEmails(List.of(
+                new EmailDeliveryService.EmailRequest(NotificationType.PROPOSAL_REJECTED, "a@example.com", "Rejected", "Body"),
+                new EmailDeliveryService.EmailRequest(NotificationType.PROPOSAL_REJECTED, "b@example.com", "Rejected", "Body")
+        ));
+
+        assertThat(enqueued).isEqualTo(2);
+        verify(emailTaskExecutor, times(1)).execute(any(Runnable.class));
+    }
+
     @Test
     void enqueueEmailShouldPersistPendingTaskAndDispatchAsync() {
         when(emailDeliveryTaskRepository.save(any(EmailDeliveryTask.class))).thenAnswer(invocation -> {
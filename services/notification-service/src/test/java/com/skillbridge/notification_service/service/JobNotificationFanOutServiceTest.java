@@ -0,0 +1,126 @@
+package com.skillbridge.notification_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.skillbridge.common.events.JobPublishedEvent;
+import com.skillbridge.common.events.JobStatusChangedEvent;
+import com.skillbridge.notification_service.domain.NotificationFanOut;
+import com.skillbridge.notification_service.domain.NotificationType;
+import com.skillbridge.notification_service.dto.RecipientPageResponse;
+import com.skillbridge.notification_service.repository.NotificationFanOutRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JobNotificationFanOutServiceTest {
+
+    @Mock
+    private JobRecipientClient jobRecipientClient;
+
+    @Mock
+    private NotificationFanOutRepository fanOutRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobNotificationFanOutService fanOutService;
+
+    @BeforeEach
+    void setUp() {
+        fanOutService = new JobNotificationFanOutService(
+                jobRecipientClient,
+                fanOutRepository,
+                jdbcTemplate,
+                transactionManager,
+                2,
+                500
+        );
+    }
+
+    @Test
+    void fanOutJobPublishedShouldPageFollowersAndBatchInsertEachPage() {
+        NotificationFanOut[] stored = new NotificationFanOut[1];
+        when(fanOutRepository.findById("evt-1")).thenAnswer(invocation -> Optional.ofNullable(stored[0]));
+        when(fanOutRepository.save(any(NotificationFanOut.class))).thenAnswer(invocation -> {
+            stored[0] = invocation.getArgument(0);
+            return stored[0];
+        });
+        when(fanOutRepository.findByEventIdForUpdate("evt-1")).thenAnswer(invocation -> Optional.of(stored[0]));
+        when(jobRecipientClient.fetchCompanyFollowers(99L, 0L, 2)).thenReturn(new RecipientPageResponse(List.of(3L, 5L), 5L));
+        when(jobRecipientClient.fetchCompanyFollowers(99L, 5L, 2)).thenReturn(new RecipientPageResponse(List.of(8L), null));
+
+        long delivered = fanOutService.fanOutJobPublished(
+                new JobPublishedEvent("evt-1", 10L, 99L, "Acme", "Build API", Instant.now())
+        );
+
+        assertThat(delivered).isEqualTo(3);
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of(3L, 5L)), eq(500), any());
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of(8L)), eq(500), any());
+        assertThat(stored[0].getEventType()).isEqualTo(NotificationType.JOB_PUBLISHED);
+        assertThat(stored[0].getLastRecipientUserId()).isEqualTo(8L);
+        assertThat(stored[0].getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void fanOutJobStatusChangedShouldResumeFromStoredCursor() {
+        NotificationFanOut progress = fanOut("evt-2", 5L, 2L, null);
+        when(fanOutRepository.findById("evt-2")).thenReturn(Optional.of(progress));
+        when(fanOutRepository.findByEventIdForUpdate("evt-2")).thenReturn(Optional.of(progress));
+        when(jobRecipientClient.fetchJobSavers(10L, 5L, 2)).thenReturn(new RecipientPageResponse(List.of(5L, 7L), null));
+
+        long delivered = fanOutService.fanOutJobStatusChanged(
+                new JobStatusChangedEvent("evt-2", 10L, 99L, "CLOSED", Instant.now())
+        );
+
+        assertThat(delivered).isEqualTo(3);
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of(7L)), eq(500), any());
+        verify(jobRecipientClient, never()).fetchJobSavers(10L, 0L, 2);
+        assertThat(progress.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void fanOutShouldSkipEventsAlreadyCompleted() {
+        when(fanOutRepository.findById("evt-3")).thenReturn(Optional.of(fanOut("evt-3", 8L, 3L, Instant.now())));
+
+        long delivered = fanOutService.fanOutJobStatusChanged(
+                new JobStatusChangedEvent("evt-3", 10L, 99L, "OPEN", Instant.now())
+        );
+
+        assertThat(delivered).isEqualTo(3);
+        verify(jobRecipientClient, never()).fetchJobSavers(anyLong(), anyLong(), anyInt());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private NotificationFanOut fanOut(String eventId, long lastRecipientUserId, long deliveredCount, Instant completedAt) {
+        NotificationFanOut fanOut = new NotificationFanOut();
+        fanOut.setEventId(eventId);
+        fanOut.setEventType(NotificationType.JOB_STATUS_CHANGED);
+        fanOut.setAggregateId(10L);
+        fanOut.setLastRecipientUserId(lastRecipientUserId);
+        fanOut.setDeliveredCount(deliveredCount);
+        fanOut.setCompletedAt(completedAt);
+        return fanOut;
+    }
+}
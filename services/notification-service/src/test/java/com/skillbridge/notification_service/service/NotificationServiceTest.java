@@ -14,6 +14,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -22,6 +23,8 @@ import org.springframework.web.server.ResponseStatusException;
 
 import com.skillbridge.notification_service.domain.Notification;
 import com.skillbridge.notification_service.domain.NotificationType;
+import com.skillbridge.notification_service.dto.CreateNotificationRequest;
+import com.skillbridge.notification_service.dto.NotificationBatchResponse;
 import com.skillbridge.notification_service.dto.NotificationResponse;
 import com.skillbridge.notification_service.repository.NotificationRepository;
 import com.skillbridge.notification_service.security.JwtUserPrincipal;
@@ -35,6 +38,9 @@ class NotificationServiceTest {
     @Mock
     private EmailDeliveryService emailDeliveryService;
 
+    @Captor
+    private ArgumentCaptor<List<Notification>> savedNotifications;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -96,6 +102,40 @@ class NotificationServiceTest {
         verify(emailDeliveryService).enqueueEmail(NotificationType.JOB_PUBLISHED, null, "New job", "Company posted a new job");
     }
 
+    @Test
+    void createNotificationsShouldPersistValidItemsInOneBatchAndReportPerItemResults() {
+        long[] ids = {500L};
+        when(notificationRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            notifications.forEach(notification -> notification.setId(ids[0]++));
+            return notifications;
+        });
+
+        NotificationBatchResponse response = notificationService.createNotifications(List.of(
+                new CreateNotificationRequest(10L, " Freelancer@Example.com ", "proposal_rejected", "Application update", "Closed"),
+                new CreateNotificationRequest(0L, null, "PROPOSAL_REJECTED", "Application update", "Closed"),
+                new CreateNotificationRequest(11L, null, "UNKNOWN", "Application update", "Closed"),
+                new CreateNotificationRequest(12L, null, "JOB_PUBLISHED", " New job ", "x".repeat(1001)),
+                new CreateNotificationRequest(13L, null, "JOB_PUBLISHED", " New job ", " Acme posted a job ")
+        ));
+
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(3);
+        assertThat(response.results()).extracting("status")
+                .containsExactly("CREATED", "REJECTED", "REJECTED", "REJECTED", "CREATED");
+        assertThat(response.results().get(0).notificationId()).isEqualTo(500L);
+        assertThat(response.results().get(4).notificationId()).isEqualTo(501L);
+        assertThat(response.results().get(2).error()).isEqualTo("Unsupported notification type");
+
+        verify(notificationRepository).saveAll(savedNotifications.capture());
+        assertThat(savedNotifications.getValue()).extracting(Notification::getRecipientUserId).containsExactly(10L, 13L);
+        verify(notificationRepository, never()).save(any(Notification.class));
+        verify(emailDeliveryService).enqueueEmails(List.of(
+                new EmailDeliveryService.EmailRequest(NotificationType.PROPOSAL_REJECTED, "freelancer@example.com", "Application update", "Closed"),
+                new EmailDeliveryService.EmailRequest(NotificationType.JOB_PUBLISHED, null, "New job", "Acme posted a job")
+        ));
+    }
+
     @Test
     void markAsReadShouldMarkUnreadNotification() {
         Notification unread = new Notification();
@@ -2,5 +2,7 @@ package com.skillbridge.proposal_service.domain;
 
 public enum ProposalOutboxEventType {
     PROPOSAL_CREATED,
-    PROPOSAL_ACCEPTED
+    PROPOSAL_ACCEPTED,
+    PROPOSALS_REJECTED,
+    PROPOSAL_STATUS_CHANGED
 }
@@ -1,6 +1,7 @@
 package com.skillbridge.proposal_service.messaging;
 
 import java.time.Instant;
+import java.util.List;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,16 +12,20 @@ import org.springframework.stereotype.Component;
 import com.skillbridge.common.events.EventTopics;
 import com.skillbridge.common.events.ProposalAcceptedEvent;
 import com.skillbridge.common.events.ProposalCreatedEvent;
+import com.skillbridge.common.events.ProposalStatusChangedEvent;
+import com.skillbridge.common.events.ProposalsRejectedEvent;
 import com.skillbridge.proposal_service.domain.ProposalOutboxEvent;
 import com.skillbridge.proposal_service.domain.ProposalOutboxEventType;
 import com.skillbridge.proposal_service.domain.Proposal;
 import com.skillbridge.proposal_service.repository.ProposalOutboxEventRepository;
+import com.skillbridge.proposal_service.repository.ProposalRepository;
 
 @Component
 public class ProposalEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(ProposalEventPublisher.class);
     private static final String PROPOSAL_AGGREGATE_TYPE = "proposal";
+    private static final int MAX_RECIPIENTS_PER_EVENT = 1000;
 
     private final ProposalOutboxEventRepository outboxEventRepository;
     private final ObjectMapper objectMapper;
@@ -66,6 +71,49 @@ public class ProposalEventPublisher {
         );
     }
 
+    public void publishProposalStatusChanged(Proposal proposal, Long clientId, Instant changedAt) {
+        ProposalStatusChangedEvent event = new ProposalStatusChangedEvent(
+                proposal.getId(),
+                proposal.getJobId(),
+                clientId,
+                proposal.getFreelancerId(),
+                proposal.getStatus().name(),
+                changedAt
+        );
+        enqueue(
+                proposal.getId(),
+                ProposalOutboxEventType.PROPOSAL_STATUS_CHANGED,
+                EventTopics.PROPOSAL_STATUS_CHANGED_ROUTING_KEY,
+                event
+        );
+    }
+
+    public void publishCompetingProposalsRejected(
+            Proposal acceptedProposal,
+            Long clientId,
+            List<ProposalRepository.RejectedRecipient> rejected,
+            Instant rejectedAt
+    ) {
+        List<ProposalsRejectedEvent.Recipient> recipients = rejected.stream()
+                .map(recipient -> new ProposalsRejectedEvent.Recipient(recipient.getFreelancerId(), recipient.getFreelancerEmail()))
+                .toList();
+        for (int from = 0; from < recipients.size(); from += MAX_RECIPIENTS_PER_EVENT) {
+            ProposalsRejectedEvent event = new ProposalsRejectedEvent(
+                    acceptedProposal.getId(),
+                    acceptedProposal.getJobId(),
+                    clientId,
+                    recipients.subList(from, Math.min(from + MAX_RECIPIENTS_PER_EVENT, recipients.size())),
+                    rejectedAt
+            );
+            enqueue(
+                    acceptedProposal.getId(),
+                    ProposalOutboxEventType.PROPOSALS_REJECTED,
+                    EventTopics.PROPOSALS_REJECTED_ROUTING_KEY,
+                    event
+            );
+        }
+    }
+
     private void enqueue(Long proposalId, ProposalOutboxEventType eventType, String routingKey, Object payload) {
         try {
             ProposalOutboxEvent event = new ProposalOutboxEvent();
@@ -19,6 +19,8 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import com.skillbridge.common.events.ProposalAcceptedEvent;
 import com.skillbridge.common.events.ProposalCreatedEvent;
+import com.skillbridge.common.events.ProposalStatusChangedEvent;
+import com.skillbridge.common.events.ProposalsRejectedEvent;
 import com.skillbridge.proposal_service.domain.ProposalOutboxEvent;
 import com.skillbridge.proposal_service.domain.ProposalOutboxEventType;
 import com.skillbridge.proposal_service.repository.ProposalOutboxEventRepository;
@@ -116,6 +118,8 @@ public class ProposalOutboxDispatcher {
         return switch (event.getEventType()) {
             case PROPOSAL_CREATED -> objectMapper.readValue(event.getPayload(), ProposalCreatedEvent.class);
             case PROPOSAL_ACCEPTED -> objectMapper.readValue(event.getPayload(), ProposalAcceptedEvent.class);
+            case PROPOSALS_REJECTED -> objectMapper.readValue(event.getPayload(), ProposalsRejectedEvent.class);
+            case PROPOSAL_STATUS_CHANGED -> objectMapper.readValue(event.getPayload(), ProposalStatusChangedEvent.class);
         };
     }
 
@@ -1,10 +1,15 @@
 package com.skillbridge.proposal_service.repository;
 
+import java.time.Instant;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.proposal_service.domain.Proposal;
 import com.skillbridge.proposal_service.domain.ProposalStatus;
@@ -23,13 +28,174 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
 
     Page<Proposal> findByFreelancerIdAndStatus(Long freelancerId, ProposalStatus status, Pageable pageable);
 
-    List<Proposal> findByFreelancerId(Long freelancerId);
+    @Query(value = """
+            update proposals
+            set status = 'REJECTED',
+                reviewed_by_client_id = :clientId,
+                reviewed_at = :rejectedAt,
+                rejected_by_client_id = :clientId,
+                rejected_at = :rejectedAt,
+                feedback_message = coalesce(nullif(trim(feedback_message), ''), :feedbackMessage),
+                updated_at = :rejectedAt
+            where job_id = :jobId
+              and id <> :acceptedProposalId
+              and status not in ('ACCEPTED', 'REJECTED')
+            returning freelancer_id as "freelancerId", freelancer_email as "freelancerEmail"
+            """, nativeQuery = true)
+    List<RejectedRecipient> rejectCompetingProposals(
+            @Param("jobId") Long jobId,
+            @Param("acceptedProposalId") Long acceptedProposalId,
+            @Param("clientId") Long clientId,
+            @Param("rejectedAt") Instant rejectedAt,
+            @Param("feedbackMessage") String feedbackMessage
+    );
 
-    List<Proposal> findByJobIdAndIdNot(Long jobId, Long id);
+    @Query(value = """
+            select count(*) as "total",
+                   count(*) filter (where status = 'PENDING') as "pending",
+                   count(*) filter (where status = 'REVIEWING') as "reviewing",
+                   count(*) filter (where status = 'INTERVIEW_SCHEDULED') as "interviewsScheduled",
+                   count(*) filter (where status = 'ACCEPTED') as "accepted",
+                   count(*) filter (where status = 'REJECTED') as "rejected"
+            from proposals
+            where client_id = :clientId
+              and created_at between :from and :to
+            """, nativeQuery = true)
+    StatusCounts summarizeByClientIdCreatedBetween(
+            @Param("clientId") Long clientId,
+            @Param("from") Instant from,
+            @Param("to") Instant to
+    );
 
-    List<Proposal> findByClientId(Long clientId);
+    @Query(value = """
+            select job_id as "jobId",
+                   count(*) as "total",
+                   count(*) filter (where status = 'PENDING') as "pending",
+                   count(*) filter (where status = 'REVIEWING') as "reviewing",
+                   count(*) filter (where status = 'INTERVIEW_SCHEDULED') as "interviewsScheduled",
+                   count(*) filter (where status = 'ACCEPTED') as "accepted",
+                   count(*) filter (where status = 'REJECTED') as "rejected"
+            from proposals
+            where client_id = :clientId
+              and created_at between :from and :to
+            group by job_id
+            order by count(*) desc, count(*) filter (where status = 'ACCEPTED') desc, job_id
+            limit :limit
+            """, nativeQuery = true)
+    List<JobStatusCounts> findTopJobsByClientIdCreatedBetween(
+            @Param("clientId") Long clientId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            select date_trunc(:unit, event.occurred_at at time zone :timezone) at time zone :timezone as "bucketStart",
+                   count(*) filter (where event.metric = 'PROPOSAL') as "proposals",
+                   count(*) filter (where event.metric = 'INTERVIEW') as "interviews",
+                   count(*) filter (where event.metric = 'ACCEPTED') as "accepted",
+                   count(*) filter (where event.metric = 'REJECTED') as "rejected"
+            from (
+                select created_at as occurred_at, 'PROPOSAL' as metric
+                from proposals
+                where client_id = :clientId and created_at between :from and :to
+                union all
+                select interview_scheduled_at, 'INTERVIEW'
+                from proposals
+                where client_id = :clientId and interview_scheduled_at between :from and :to
+                union all
+                select accepted_at, 'ACCEPTED'
+                from proposals
+                where client_id = :clientId and accepted_at between :from and :to
+                union all
+                select rejected_at, 'REJECTED'
+                from proposals
+                where client_id = :clientId and rejected_at between :from and :to
+            ) event
+            group by 1
+            order by 1
+            """, nativeQuery = true)
+    List<SeriesBucket> countSeriesByClientId(
+            @Param("clientId") Long clientId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("unit") String unit,
+            @Param("timezone") String timezone
+    );
+
+    @Query("""
+            select p.jobId as jobId, p.status as status, count(p) as total
+            from Proposal p
+            where p.clientId = :clientId
+            group by p.jobId, p.status
+            """)
+    List<JobStatusCount> countByClientIdGroupByJobAndStatus(@Param("clientId") Long clientId);
+
+    @Query("""
+            select p.jobId as jobId, p.status as status, count(p) as total
+            from Proposal p
+            where p.freelancerId = :freelancerId
+            group by p.jobId, p.status
+            """)
+    List<JobStatusCount> countByFreelancerIdGroupByJobAndStatus(@Param("freelancerId") Long freelancerId);
+
+    @Query("select distinct p.jobId from Proposal p where p.clientId is null and p.jobId > :afterJobId order by p.jobId")
+    List<Long> findJobIdsMissingClientIdAfter(@Param("afterJobId") Long afterJobId, Limit limit);
+
+    @Modifying
+    @Query("update Proposal p set p.clientId = :clientId where p.jobId = :jobId and p.clientId is null")
+    int assignClientIdForJob(@Param("jobId") Long jobId, @Param("clientId") Long clientId);
 
     long countByFreelancerId(Long freelancerId);
 
     long countByFreelancerIdAndStatus(Long freelancerId, ProposalStatus status);
+
+    interface JobStatusCount {
+
+        Long getJobId();
+
+        ProposalStatus getStatus();
+
+        long getTotal();
+    }
+
+    interface StatusCounts {
+
+        long getTotal();
+
+        long getPending();
+
+        long getReviewing();
+
+        long getInterviewsScheduled();
+
+        long getAccepted();
+
+        long getRejected();
+    }
+
+    interface JobStatusCounts extends StatusCounts {
+
+        Long getJobId();
+    }
+
+    interface SeriesBucket {
+
+        Instant getBucketStart();
+
+        long getProposals();
+
+        long getInterviews();
+
+        long getAccepted();
+
+        long getRejected();
+    }
+
+    interface RejectedRecipient {
+
+        Long getFreelancerId();
+
+        String getFreelancerEmail();
+    }
 }
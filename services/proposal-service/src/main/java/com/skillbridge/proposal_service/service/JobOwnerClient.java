@@ -0,0 +1,51 @@
+package com.skillbridge.proposal_service.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Component
+public class JobOwnerClient {
+
+    private static final String INTERNAL_API_KEY_HEADER = "X-Internal-Api-Key";
+
+    private final RestClient jobRestClient;
+    private final String internalApiKey;
+
+    public JobOwnerClient(
+            @Value("${app.services.job-base-url:http://localhost:8083}") String jobBaseUrl,
+            @Value("${app.internal.api-key}") String internalApiKey
+    ) {
+        this.jobRestClient = RestClient.builder().baseUrl(jobBaseUrl).build();
+        this.internalApiKey = internalApiKey;
+    }
+
+    public Map<Long, Long> fetchOwners(List<Long> jobIds) {
+        JobOwner[] owners = jobRestClient.post()
+                .uri("/jobs/internal/owners")
+                .header(INTERNAL_API_KEY_HEADER, internalApiKey)
+                .body(new JobOwnerLookupRequest(jobIds))
+                .retrieve()
+                .body(JobOwner[].class);
+        if (owners == null) {
+            throw new IllegalStateException("job-service returned an empty owner lookup for " + jobIds.size() + " jobs");
+        }
+        Map<Long, Long> ownersByJobId = new HashMap<>();
+        for (JobOwner owner : owners) {
+            if (owner.jobId() != null && owner.clientId() != null) {
+                ownersByJobId.put(owner.jobId(), owner.clientId());
+            }
+        }
+        return ownersByJobId;
+    }
+
+    private record JobOwnerLookupRequest(List<Long> jobIds) {
+    }
+
+    private record JobOwner(Long jobId, Long clientId) {
+    }
+}
@@ -4,12 +4,13 @@ import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
@@ -17,8 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.skillbridge.proposal_service.domain.Proposal;
-import com.skillbridge.proposal_service.domain.ProposalStatus;
 import com.skillbridge.proposal_service.dto.InternalProposalSeriesPointResponse;
 import com.skillbridge.proposal_service.dto.InternalProposalSeriesResponse;
 import com.skillbridge.proposal_service.dto.InternalProposalSummaryResponse;
@@ -37,25 +36,16 @@ public class ProposalAnalyticsService {
     @Transactional(readOnly = true)
     public InternalProposalSummaryResponse getClientSummary(Long clientId, Instant from, Instant to) {
         Range range = normalizeRange(from, to);
-        List<Proposal> proposals = proposalRepository.findByClientId(clientId).stream()
-                .filter(proposal -> inRange(proposal.getCreatedAt(), range))
-                .toList();
-
-        long total = proposals.size();
-        long pending = countByStatus(proposals, ProposalStatus.PENDING);
-        long reviewing = countByStatus(proposals, ProposalStatus.REVIEWING);
-        long interviews = countByStatus(proposals, ProposalStatus.INTERVIEW_SCHEDULED);
-        long accepted = countByStatus(proposals, ProposalStatus.ACCEPTED);
-        long rejected = countByStatus(proposals, ProposalStatus.REJECTED);
+        ProposalRepository.StatusCounts counts = proposalRepository.summarizeByClientIdCreatedBetween(clientId, range.from(), range.to());
 
         return new InternalProposalSummaryResponse(
-                total,
-                pending,
-                reviewing,
-                interviews,
-                accepted,
-                rejected,
-                accepted
+                counts.getTotal(),
+                counts.getPending(),
+                counts.getReviewing(),
+                counts.getInterviewsScheduled(),
+                counts.getAccepted(),
+                counts.getRejected(),
+                counts.getAccepted()
         );
     }
 
@@ -71,27 +61,30 @@ public class ProposalAnalyticsService {
         AnalyticsGroupBy safeGroupBy = groupBy == null ? AnalyticsGroupBy.DAY : groupBy;
         ZoneId zoneId = resolveTimezone(timezone);
 
-        Map<Instant, Counter> counters = new LinkedHashMap<>();
-        List<Proposal> proposals = proposalRepository.findByClientId(clientId);
-
-        for (Proposal proposal : proposals) {
-            incrementCounter(counters, proposal.getCreatedAt(), range, safeGroupBy, zoneId, CounterMetric.PROPOSALS);
-            incrementCounter(counters, proposal.getInterviewScheduledAt(), range, safeGroupBy, zoneId, CounterMetric.INTERVIEWS);
-            incrementCounter(counters, proposal.getAcceptedAt(), range, safeGroupBy, zoneId, CounterMetric.ACCEPTED);
-            incrementCounter(counters, proposal.getRejectedAt(), range, safeGroupBy, zoneId, CounterMetric.REJECTED);
+        Map<Instant, ProposalRepository.SeriesBucket> buckets = new HashMap<>();
+        for (ProposalRepository.SeriesBucket bucket : proposalRepository.countSeriesByClientId(
+                clientId,
+                range.from(),
+                range.to(),
+                safeGroupBy.name().toLowerCase(Locale.ROOT),
+                toDatabaseTimezone(zoneId)
+        )) {
+            buckets.put(bucket.getBucketStart(), bucket);
         }
 
         List<InternalProposalSeriesPointResponse> points = new ArrayList<>();
         Instant bucketCursor = toBucketStart(range.from(), safeGroupBy, zoneId);
         while (!bucketCursor.isAfter(range.to())) {
-            Counter counter = counters.getOrDefault(bucketCursor, new Counter());
-            points.add(new InternalProposalSeriesPointResponse(
-                    bucketCursor,
-                    counter.proposals,
-                    counter.interviews,
-                    counter.accepted,
-                    counter.rejected
-            ));
+            ProposalRepository.SeriesBucket bucket = buckets.get(bucketCursor);
+            points.add(bucket == null
+                    ? new InternalProposalSeriesPointResponse(bucketCursor, 0, 0, 0, 0)
+                    : new InternalProposalSeriesPointResponse(
+                            bucketCursor,
+                            bucket.getProposals(),
+                            bucket.getInterviews(),
+                            bucket.getAccepted(),
+                            bucket.getRejected()
+                    ));
             bucketCursor = nextBucketStart(bucketCursor, safeGroupBy, zoneId);
         }
 
@@ -116,63 +109,37 @@ public class ProposalAnalyticsService {
         }
 
         Range range = normalizeRange(from, to);
-        Map<Long, List<Proposal>> proposalsByJob = proposalRepository.findByClientId(clientId).stream()
-                .filter(proposal -> inRange(proposal.getCreatedAt(), range))
-                .collect(java.util.stream.Collectors.groupingBy(Proposal::getJobId));
-
-        return proposalsByJob.entrySet().stream()
-                .map(entry -> toTopJobPerformance(entry.getKey(), entry.getValue()))
-                .sorted(Comparator
-                        .comparingLong(InternalTopJobProposalPerformanceResponse::totalProposals).reversed()
-                        .thenComparingLong(InternalTopJobProposalPerformanceResponse::acceptedProposals).reversed())
-                .limit(limit)
+        return proposalRepository.findTopJobsByClientIdCreatedBetween(clientId, range.from(), range.to(), limit).stream()
+                .map(this::toTopJobPerformance)
                 .toList();
     }
 
-    private InternalTopJobProposalPerformanceResponse toTopJobPerformance(Long jobId, List<Proposal> proposals) {
-        long total = proposals.size();
-        long pending = countByStatus(proposals, ProposalStatus.PENDING);
-        long reviewing = countByStatus(proposals, ProposalStatus.REVIEWING);
-        long interviews = countByStatus(proposals, ProposalStatus.INTERVIEW_SCHEDULED);
-        long accepted = countByStatus(proposals, ProposalStatus.ACCEPTED);
-        long rejected = countByStatus(proposals, ProposalStatus.REJECTED);
+    private InternalTopJobProposalPerformanceResponse toTopJobPerformance(ProposalRepository.JobStatusCounts counts) {
+        long total = counts.getTotal();
+        long accepted = counts.getAccepted();
         double acceptanceRate = total == 0 ? 0d : ((double) accepted * 100d) / total;
 
         return new InternalTopJobProposalPerformanceResponse(
-                jobId,
+                counts.getJobId(),
                 total,
-                pending,
-                reviewing,
-                interviews,
+                counts.getPending(),
+                counts.getReviewing(),
+                counts.getInterviewsScheduled(),
                 accepted,
-                rejected,
+                counts.getRejected(),
                 acceptanceRate
         );
     }
 
-    private long countByStatus(List<Proposal> proposals, ProposalStatus status) {
-        return proposals.stream().filter(proposal -> proposal.getStatus() == status).count();
-    }
-
-    private void incrementCounter(
-            Map<Instant, Counter> counters,
-            Instant timestamp,
-            Range range,
-            AnalyticsGroupBy groupBy,
-            ZoneId zoneId,
-            CounterMetric metric
-    ) {
-        if (!inRange(timestamp, range)) {
-            return;
+    private String toDatabaseTimezone(ZoneId zoneId) {
+        if (!(zoneId.normalized() instanceof ZoneOffset offset)) {
+            return zoneId.getId();
         }
-        Instant bucket = toBucketStart(timestamp, groupBy, zoneId);
-        Counter counter = counters.computeIfAbsent(bucket, ignored -> new Counter());
-        switch (metric) {
-            case PROPOSALS -> counter.proposals++;
-            case INTERVIEWS -> counter.interviews++;
-            case ACCEPTED -> counter.accepted++;
-            case REJECTED -> counter.rejected++;
+        if (offset.getTotalSeconds() == 0) {
+            return "UTC";
         }
+        String id = offset.getId();
+        return "UTC" + (id.startsWith("+") ? "-" : "+") + id.substring(1);
     }
 
     private Instant toBucketStart(Instant timestamp, AnalyticsGroupBy groupBy, ZoneId zoneId) {
@@ -220,27 +187,6 @@ public class ProposalAnalyticsService {
         return new Range(normalizedFrom, normalizedTo);
     }
 
-    private boolean inRange(Instant value, Range range) {
-        if (value == null) {
-            return false;
-        }
-        return !value.isBefore(range.from()) && !value.isAfter(range.to());
-    }
-
-    private enum CounterMetric {
-        PROPOSALS,
-        INTERVIEWS,
-        ACCEPTED,
-        REJECTED
-    }
-
-    private static class Counter {
-        long proposals;
-        long interviews;
-        long accepted;
-        long rejected;
-    }
-
     private record Range(Instant from, Instant to) {
     }
 }
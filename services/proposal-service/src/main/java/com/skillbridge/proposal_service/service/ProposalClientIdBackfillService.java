@@ -0,0 +1,87 @@
+package com.skillbridge.proposal_service.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClientException;
+
+import com.skillbridge.proposal_service.repository.ProposalRepository;
+
+@Service
+public class ProposalClientIdBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProposalClientIdBackfillService.class);
+
+    private final ProposalRepository proposalRepository;
+    private final JobOwnerClient jobOwnerClient;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ProposalClientIdBackfillService(
+            ProposalRepository proposalRepository,
+            JobOwnerClient jobOwnerClient,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.proposals.client-id-backfill.enabled:true}") boolean enabled,
+            @Value("${app.proposals.client-id-backfill.batch-size:200}") int batchSize
+    ) {
+        this.proposalRepository = proposalRepository;
+        this.jobOwnerClient = jobOwnerClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = Math.min(Math.max(batchSize, 1), 1000);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.proposals.client-id-backfill.initial-delay-ms:60000}",
+            fixedDelayString = "${app.proposals.client-id-backfill.interval-ms:3600000}"
+    )
+    public void backfillScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            backfillMissingClientIds();
+        } catch (RestClientException ex) {
+            log.warn("Proposal client_id backfill paused, job-service lookup failed: {}", ex.getMessage());
+        }
+    }
+
+    public long backfillMissingClientIds() {
+        long afterJobId = 0L;
+        long updatedProposals = 0L;
+        int unresolvedJobs = 0;
+        while (true) {
+            List<Long> jobIds = proposalRepository.findJobIdsMissingClientIdAfter(afterJobId, Limit.of(batchSize));
+            if (jobIds.isEmpty()) {
+                break;
+            }
+            Map<Long, Long> owners = jobOwnerClient.fetchOwners(jobIds);
+            Long updated = transactionTemplate.execute(status -> {
+                long count = 0L;
+                for (Map.Entry<Long, Long> owner : owners.entrySet()) {
+                    count += proposalRepository.assignClientIdForJob(owner.getKey(), owner.getValue());
+                }
+                return count;
+            });
+            updatedProposals += updated == null ? 0L : updated;
+            unresolvedJobs += (int) jobIds.stream().filter(jobId -> !owners.containsKey(jobId)).count();
+            afterJobId = jobIds.get(jobIds.size() - 1);
+            if (jobIds.size() < batchSize) {
+                break;
+            }
+        }
+        if (updatedProposals > 0 || unresolvedJobs > 0) {
+            log.info("Backfilled client_id on {} proposals, {} jobs could not be resolved", updatedProposals, unresolvedJobs);
+        }
+        return updatedProposals;
+    }
+}
@@ -1,6 +1,7 @@
 package com.skillbridge.proposal_service.service;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -42,6 +43,7 @@ public class ProposalService {
 
     private static final Logger log = LoggerFactory.getLogger(ProposalService.class);
     private static final String INTERNAL_API_KEY_HEADER = "X-Internal-Api-Key";
+    private static final String COMPETING_REJECTION_FEEDBACK = "The position has been filled by another candidate.";
 
     private final ProposalRepository proposalRepository;
     private final ProposalEventPublisher proposalEventPublisher;
@@ -137,12 +139,10 @@ public class ProposalService {
     @Transactional(readOnly = true)
     public ProposalDashboardResponse getMyDashboard(JwtUserPrincipal principal) {
         if (isRole(principal, "CLIENT")) {
-            List<Proposal> proposals = listClientOwnedProposals(principal.userId());
-            return toDashboard(proposals);
+            return toDashboard(proposalRepository.countByClientIdGroupByJobAndStatus(principal.userId()));
         }
         if (isRole(principal, "FREELANCER")) {
-            List<Proposal> proposals = proposalRepository.findByFreelancerId(principal.userId());
-            return toDashboard(proposals);
+            return toDashboard(proposalRepository.countByFreelancerIdGroupByJobAndStatus(principal.userId()));
         }
         throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Unsupported role for dashboard");
     }
@@ -170,6 +170,7 @@ public class ProposalService {
         proposal.setReviewedAt(now);
         proposal.setFeedbackMessage(normalizeRequiredText(request.feedbackMessage(), "feedbackMessage", 2000));
         Proposal saved = proposalRepository.save(proposal);
+        proposalEventPublisher.publishProposalStatusChanged(saved, principal.userId(), now);
         safeCreateNotification(
                 saved.getFreelancerId(),
                 null,
@@ -202,6 +203,7 @@ public class ProposalService {
         proposal.setInterviewMeetingLink(normalizeOptionalText(request.meetingLink(), 512));
         proposal.setInterviewNotes(normalizeOptionalText(request.notes(), 2000));
         Proposal saved = proposalRepository.save(proposal);
+        proposalEventPublisher.publishProposalStatusChanged(saved, principal.userId(), now);
         String calendarWarning = attachGoogleCalendarEvent(saved, principal);
 
         safeCreateNotification(
@@ -232,6 +234,7 @@ public class ProposalService {
         proposal.setRejectedAt(now);
         proposal.setFeedbackMessage(normalizeRequiredText(request.feedbackMessage(), "feedbackMessage", 2000));
         Proposal saved = proposalRepository.save(proposal);
+        proposalEventPublisher.publishProposalStatusChanged(saved, principal.userId(), now);
 
         safeCreateNotification(
                 saved.getFreelancerId(),
@@ -274,27 +277,15 @@ public class ProposalService {
     }
 
     private void rejectCompetingProposals(Proposal acceptedProposal, Long clientId, Instant now) {
-        List<Proposal> competingProposals = proposalRepository.findByJobIdAndIdNot(acceptedProposal.getJobId(), acceptedProposal.getId());
-        for (Proposal proposal : competingProposals) {
-            if (proposal.getStatus() == ProposalStatus.ACCEPTED || proposal.getStatus() == ProposalStatus.REJECTED) {
-                continue;
-            }
-            proposal.setStatus(ProposalStatus.REJECTED);
-            proposal.setReviewedByClientId(clientId);
-            proposal.setReviewedAt(now);
-            proposal.setRejectedByClientId(clientId);
-            proposal.setRejectedAt(now);
-            if (proposal.getFeedbackMessage() == null || proposal.getFeedbackMessage().isBlank()) {
-                proposal.setFeedbackMessage("The position has been filled by another candidate.");
-            }
-            proposalRepository.save(proposal);
-            safeCreateNotification(
-                    proposal.getFreelancerId(),
-                    proposal.getFreelancerEmail(),
-                    "PROPOSAL_REJECTED",
-                    "Application update",
-                    "Your application for job #" + proposal.getJobId() + " was closed because another candidate was selected."
-            );
+        List<ProposalRepository.RejectedRecipient> rejected = proposalRepository.rejectCompetingProposals(
+                acceptedProposal.getJobId(),
+                acceptedProposal.getId(),
+                clientId,
+                now,
+                COMPETING_REJECTION_FEEDBACK
+        );
+        if (!rejected.isEmpty()) {
+            proposalEventPublisher.publishCompetingProposalsRejected(acceptedProposal, clientId, rejected, now);
         }
     }
 
@@ -509,61 +500,52 @@ public class ProposalService {
         );
     }
 
-    private ProposalDashboardResponse toDashboard(List<Proposal> proposals) {
-        List<JobProposalStatsResponse> jobStats = proposals.stream()
-                .collect(java.util.stream.Collectors.groupingBy(Proposal::getJobId))
-                .entrySet()
+    private ProposalDashboardResponse toDashboard(List<ProposalRepository.JobStatusCount> counts) {
+        Map<Long, long[]> countsByJob = new HashMap<>();
+        long[] totals = new long[ProposalStatus.values().length];
+        for (ProposalRepository.JobStatusCount count : counts) {
+            if (count.getStatus() == null) {
+                continue;
+            }
+            int status = count.getStatus().ordinal();
+            countsByJob.computeIfAbsent(count.getJobId(), ignored -> new long[totals.length])[status] += count.getTotal();
+            totals[status] += count.getTotal();
+        }
+
+        List<JobProposalStatsResponse> jobStats = countsByJob.entrySet()
                 .stream()
                 .map(entry -> toJobStats(entry.getKey(), entry.getValue()))
                 .sorted((left, right) -> Long.compare(right.totalApplications(), left.totalApplications()))
                 .toList();
 
         return new ProposalDashboardResponse(
-                proposals.size(),
-                countByStatus(proposals, ProposalStatus.PENDING),
-                countByStatus(proposals, ProposalStatus.REVIEWING),
-                countByStatus(proposals, ProposalStatus.INTERVIEW_SCHEDULED),
-                countByStatus(proposals, ProposalStatus.ACCEPTED),
-                countByStatus(proposals, ProposalStatus.REJECTED),
+                Arrays.stream(totals).sum(),
+                totals[ProposalStatus.PENDING.ordinal()],
+                totals[ProposalStatus.REVIEWING.ordinal()],
+                totals[ProposalStatus.INTERVIEW_SCHEDULED.ordinal()],
+                totals[ProposalStatus.ACCEPTED.ordinal()],
+                totals[ProposalStatus.REJECTED.ordinal()],
                 jobStats
         );
     }
 
-    private JobProposalStatsResponse toJobStats(Long jobId, List<Proposal> proposals) {
+    private JobProposalStatsResponse toJobStats(Long jobId, long[] statusCounts) {
         return new JobProposalStatsResponse(
                 jobId,
-                proposals.size(),
-                countByStatus(proposals, ProposalStatus.PENDING),
-                countByStatus(proposals, ProposalStatus.REVIEWING),
-                countByStatus(proposals, ProposalStatus.INTERVIEW_SCHEDULED),
-                countByStatus(proposals, ProposalStatus.ACCEPTED),
-                countByStatus(proposals, ProposalStatus.REJECTED)
+                Arrays.stream(statusCounts).sum(),
+                statusCounts[ProposalStatus.PENDING.ordinal()],
+                statusCounts[ProposalStatus.REVIEWING.ordinal()],
+                statusCounts[ProposalStatus.INTERVIEW_SCHEDULED.ordinal()],
+                statusCounts[ProposalStatus.ACCEPTED.ordinal()],
+                statusCounts[ProposalStatus.REJECTED.ordinal()]
         );
     }
 
-    private long countByStatus(List<Proposal> proposals, ProposalStatus status) {
-        return proposals.stream().filter(proposal -> proposal.getStatus() == status).count();
-    }
-
-    private List<Proposal> listClientOwnedProposals(Long clientId) {
-        Map<Long, Long> jobOwnerCache = new HashMap<>();
-        return proposalRepository.findAll().stream()
-                .filter(proposal -> clientId.equals(resolveProposalClientId(proposal, jobOwnerCache)))
-                .toList();
-    }
-
     private Long resolveProposalClientId(Proposal proposal) {
-        return resolveProposalClientId(proposal, new HashMap<>());
-    }
-
-    private Long resolveProposalClientId(Proposal proposal, Map<Long, Long> jobOwnerCache) {
         if (proposal.getClientId() != null) {
             return proposal.getClientId();
         }
-        return jobOwnerCache.computeIfAbsent(proposal.getJobId(), jobId -> {
-            JobSummary job = fetchJob(jobId);
-            return job.clientId();
-        });
+        return fetchJob(proposal.getJobId()).clientId();
     }
 
     private ProposalResponse toResponse(Proposal proposal) {
@@ -0,0 +1 @@
+create index if not exists idx_proposals_missing_client_id on proposals (job_id) where client_id is null;
@@ -0,0 +1 @@
+create index if not exists idx_proposals_client_created_at on proposals (client_id, created_at);
@@ -4,11 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,10 +23,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.skillbridge.common.events.EventTopics;
+import com.skillbridge.common.events.ProposalStatusChangedEvent;
+import com.skillbridge.common.events.ProposalsRejectedEvent;
 import com.skillbridge.proposal_service.domain.Proposal;
 import com.skillbridge.proposal_service.domain.ProposalOutboxEvent;
 import com.skillbridge.proposal_service.domain.ProposalOutboxEventType;
+import com.skillbridge.proposal_service.domain.ProposalStatus;
 import com.skillbridge.proposal_service.repository.ProposalOutboxEventRepository;
+import com.skillbridge.proposal_service.repository.ProposalRepository;
 
 @ExtendWith(MockitoExtension.class)
 class ProposalEventPublisherTest {
@@ -73,6 +80,64 @@ class ProposalEventPublisherTest {
         assertThat(stored.getRoutingKey()).isEqualTo(EventTopics.PROPOSAL_ACCEPTED_ROUTING_KEY);
     }
 
+    @Test
+    void publishProposalStatusChangedShouldStoreOutboxEventWithCurrentStatus() throws Exception {
+        Proposal proposal = proposal(104L, 204L, 304L);
+        proposal.setStatus(ProposalStatus.INTERVIEW_SCHEDULED);
+        Instant changedAt = Instant.parse("2026-02-27T11:00:00Z");
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"type\":\"status-changed\"}");
+
+        proposalEventPublisher.publishProposalStatusChanged(proposal, 904L, changedAt);
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(objectMapper).writeValueAsString(payload.capture());
+        assertThat(payload.getValue())
+                .isEqualTo(new ProposalStatusChangedEvent(104L, 204L, 904L, 304L, "INTERVIEW_SCHEDULED", changedAt));
+
+        ArgumentCaptor<ProposalOutboxEvent> captor = ArgumentCaptor.forClass(ProposalOutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(ProposalOutboxEventType.PROPOSAL_STATUS_CHANGED);
+        assertThat(captor.getValue().getRoutingKey()).isEqualTo(EventTopics.PROPOSAL_STATUS_CHANGED_ROUTING_KEY);
+    }
+
+    @Test
+    void publishCompetingProposalsRejectedShouldChunkRecipientsIntoBatchedEvents() throws Exception {
+        Proposal accepted = proposal(103L, 203L, 303L);
+        List<ProposalRepository.RejectedRecipient> rejected = new ArrayList<>();
+        for (long i = 0; i < 1001; i++) {
+            long freelancerId = 1000L + i;
+            rejected.add(new ProposalRepository.RejectedRecipient() {
+                @Override
+                public Long getFreelancerId() {
+                    return freelancerId;
+                }
+
+                @Override
+                public String getFreelancerEmail() {
+                    return "f" + freelancerId + "@example.com";
+                }
+            });
+        }
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"type\":\"rejected\"}");
+
+        proposalEventPublisher.publishCompetingProposalsRejected(accepted, 903L, rejected, Instant.parse("2026-02-27T10:15:30Z"));
+
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(objectMapper, times(2)).writeValueAsString(payloads.capture());
+        assertThat(payloads.getAllValues())
+                .extracting(payload -> ((ProposalsRejectedEvent) payload).recipients().size())
+                .containsExactly(1000, 1);
+        ProposalsRejectedEvent first = (ProposalsRejectedEvent) payloads.getAllValues().get(0);
+        assertThat(first.jobId()).isEqualTo(203L);
+        assertThat(first.recipients().get(0)).isEqualTo(new ProposalsRejectedEvent.Recipient(1000L, "f1000@example.com"));
+
+        ArgumentCaptor<ProposalOutboxEvent> captor = ArgumentCaptor.forClass(ProposalOutboxEvent.class);
+        verify(outboxEventRepository, times(2)).save(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(ProposalOutboxEventType.PROPOSALS_REJECTED);
+        assertThat(captor.getValue().getRoutingKey()).isEqualTo(EventTopics.PROPOSALS_REJECTED_ROUTING_KEY);
+        assertThat(captor.getValue().getAggregateId()).isEqualTo(103L);
+    }
+
     @Test
     void publishShouldSwallowSerializationFailure() throws Exception {
         Proposal proposal = proposal(102L, 202L, 302L);
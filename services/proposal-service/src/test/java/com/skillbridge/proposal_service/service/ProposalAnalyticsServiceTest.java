@@ -0,0 +1,163 @@
+package com.skillbridge.proposal_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.skillbridge.proposal_service.dto.InternalProposalSeriesPointResponse;
+import com.skillbridge.proposal_service.dto.InternalProposalSeriesResponse;
+import com.skillbridge.proposal_service.dto.InternalProposalSummaryResponse;
+import com.skillbridge.proposal_service.dto.InternalTopJobProposalPerformanceResponse;
+import com.skillbridge.proposal_service.repository.ProposalRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProposalAnalyticsServiceTest {
+
+    private static final Instant FROM = Instant.parse("2026-03-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-03-03T12:00:00Z");
+
+    @Mock
+    private ProposalRepository proposalRepository;
+
+    @InjectMocks
+    private ProposalAnalyticsService proposalAnalyticsService;
+
+    @Test
+    void getClientSummaryShouldMapAggregatedCounts() {
+        when(proposalRepository.summarizeByClientIdCreatedBetween(7L, FROM, TO)).thenReturn(counts(null, 10, 4, 2, 1, 2, 1));
+
+        InternalProposalSummaryResponse summary = proposalAnalyticsService.getClientSummary(7L, FROM, TO);
+
+        assertThat(summary).isEqualTo(new InternalProposalSummaryResponse(10, 4, 2, 1, 2, 1, 2));
+    }
+
+    @Test
+    void getClientSeriesShouldFillEmptyBucketsBetweenAggregatedRows() {
+        Instant march2 = Instant.parse("2026-03-02T00:00:00Z");
+        when(proposalRepository.countSeriesByClientId(7L, FROM, TO, "day", "UTC"))
+                .thenReturn(List.of(bucket(march2, 5, 1, 2, 0)));
+
+        InternalProposalSeriesResponse series = proposalAnalyticsService.getClientSeries(7L, FROM, TO, AnalyticsGroupBy.DAY, null);
+
+        assertThat(series.points()).containsExactly(
+                new InternalProposalSeriesPointResponse(FROM, 0, 0, 0, 0),
+                new InternalProposalSeriesPointResponse(march2, 5, 1, 2, 0),
+                new InternalProposalSeriesPointResponse(Instant.parse("2026-03-03T00:00:00Z"), 0, 0, 0, 0)
+        );
+    }
+
+    @Test
+    void getClientSeriesShouldPassFixedOffsetsInPostgresSignConvention() {
+        when(proposalRepository.countSeriesByClientId(7L, FROM, TO, "week", "UTC-07:00")).thenReturn(List.of());
+
+        InternalProposalSeriesResponse series = proposalAnalyticsService.getClientSeries(7L, FROM, TO, AnalyticsGroupBy.WEEK, "+07:00");
+
+        assertThat(series.timezone()).isEqualTo("+07:00");
+        assertThat(series.points()).extracting(InternalProposalSeriesPointResponse::bucketStart)
+                .containsExactly(Instant.parse("2026-02-22T17:00:00Z"), Instant.parse("2026-03-01T17:00:00Z"));
+    }
+
+    @Test
+    void getClientTopJobsShouldComputeAcceptanceRateFromAggregatedRows() {
+        when(proposalRepository.findTopJobsByClientIdCreatedBetween(7L, FROM, TO, 2))
+                .thenReturn(List.of(counts(40L, 8, 2, 2, 1, 2, 1), counts(41L, 4, 4, 0, 0, 0, 0)));
+
+        List<InternalTopJobProposalPerformanceResponse> topJobs = proposalAnalyticsService.getClientTopJobs(7L, FROM, TO, 2);
+
+        assertThat(topJobs).extracting(InternalTopJobProposalPerformanceResponse::jobId).containsExactly(40L, 41L);
+        assertThat(topJobs.get(0).acceptanceRate()).isEqualTo(25d);
+        assertThat(topJobs.get(1).acceptanceRate()).isZero();
+    }
+
+    @Test
+    void getClientTopJobsShouldRejectOutOfRangeLimit() {
+        assertThatThrownBy(() -> proposalAnalyticsService.getClientTopJobs(7L, FROM, TO, 51))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private ProposalRepository.JobStatusCounts counts(
+            Long jobId,
+            long total,
+            long pending,
+            long reviewing,
+            long interviews,
+            long accepted,
+            long rejected
+    ) {
+        return new ProposalRepository.JobStatusCounts() {
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+
+            @Override
+            public long getPending() {
+                return pending;
+            }
+
+            @Override
+            public long getReviewing() {
+                return reviewing;
+            }
+
+            @Override
+            public long getInterviewsScheduled() {
+                return interviews;
+            }
+
+            @Override
+            public long getAccepted() {
+                return accepted;
+            }
+
+            @Override
+            public long getRejected() {
+                return rejected;
+            }
+        };
+    }
+
+    private ProposalRepository.SeriesBucket bucket(Instant bucketStart, long proposals, long interviews, long accepted, long rejected) {
+        return new ProposalRepository.SeriesBucket() {
+            @Override
+            public Instant getBucketStart() {
+                return bucketStart;
+            }
+
+            @Override
+            public long getProposals() {
+                return proposals;
+            }
+
+            @Override
+            public long getInterviews() {
+                return interviews;
+            }
+
+            @Override
+            public long getAccepted() {
+                return accepted;
+            }
+
+            @Override
+            public long getRejected() {
+                return rejected;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.skillbridge.proposal_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.skillbridge.proposal_service.repository.ProposalRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProposalClientIdBackfillServiceTest {
+
+    @Mock
+    private ProposalRepository proposalRepository;
+
+    @Mock
+    private JobOwnerClient jobOwnerClient;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void backfillShouldResolveOwnersPerBatchAndSkipUnknownJobs() {
+        ProposalClientIdBackfillService service = new ProposalClientIdBackfillService(proposalRepository, jobOwnerClient, transactionManager, true, 2);
+        when(proposalRepository.findJobIdsMissingClientIdAfter(0L, Limit.of(2))).thenReturn(List.of(5L, 8L));
+        when(proposalRepository.findJobIdsMissingClientIdAfter(8L, Limit.of(2))).thenReturn(List.of(13L));
+        when(jobOwnerClient.fetchOwners(List.of(5L, 8L))).thenReturn(Map.of(5L, 100L, 8L, 200L));
+        when(jobOwnerClient.fetchOwners(List.of(13L))).thenReturn(Map.of());
+        when(proposalRepository.assignClientIdForJob(5L, 100L)).thenReturn(3);
+        when(proposalRepository.assignClientIdForJob(8L, 200L)).thenReturn(1);
+
+        long updated = service.backfillMissingClientIds();
+
+        assertThat(updated).isEqualTo(4);
+        verify(proposalRepository, never()).assignClientIdForJob(eq(13L), anyLong());
+        verify(proposalRepository, never()).findJobIdsMissingClientIdAfter(13L, Limit.of(2));
+    }
+
+    @Test
+    void scheduledBackfillShouldStopQuietlyWhenJobServiceIsUnavailable() {
+        ProposalClientIdBackfillService service = new ProposalClientIdBackfillService(proposalRepository, jobOwnerClient, transactionManager, true, 200);
+        when(proposalRepository.findJobIdsMissingClientIdAfter(0L, Limit.of(200))).thenReturn(List.of(5L));
+        when(jobOwnerClient.fetchOwners(List.of(5L))).thenThrow(new ResourceAccessException("connection refused"));
+
+        service.backfillScheduled();
+
+        verify(proposalRepository, never()).assignClientIdForJob(anyLong(), anyLong());
+    }
+
+    @Test
+    void scheduledBackfillShouldDoNothingWhenDisabled() {
+        ProposalClientIdBackfillService service = new ProposalClientIdBackfillService(proposalRepository, jobOwnerClient, transactionManager, false, 200);
+
+        service.backfillScheduled();
+
+        verify(proposalRepository, never()).findJobIdsMissingClientIdAfter(anyLong(), eq(Limit.of(200)));
+    }
+}
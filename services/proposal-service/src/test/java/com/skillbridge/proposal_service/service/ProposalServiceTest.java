@@ -13,6 +13,7 @@ import java.math.BigDecimal;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -30,6 +31,8 @@ import org.springframework.web.server.ResponseStatusException;
 import com.skillbridge.proposal_service.domain.Proposal;
 import com.skillbridge.proposal_service.domain.ProposalStatus;
 import com.skillbridge.proposal_service.dto.CreateProposalRequest;
+import com.skillbridge.proposal_service.dto.JobProposalStatsResponse;
+import com.skillbridge.proposal_service.dto.ProposalDashboardResponse;
 import com.skillbridge.proposal_service.dto.ProposalResponse;
 import com.skillbridge.proposal_service.dto.RejectProposalRequest;
 import com.skillbridge.proposal_service.dto.ScheduleInterviewRequest;
@@ -168,7 +171,24 @@ class ProposalServiceTest {
             pending.setStatus(ProposalStatus.PENDING);
 
             when(proposalRepository.findById(444L)).thenReturn(Optional.of(pending));
-            when(proposalRepository.findByJobIdAndIdNot(31L, 444L)).thenReturn(java.util.List.of());
+            ProposalRepository.RejectedRecipient competitor = new ProposalRepository.RejectedRecipient() {
+                @Override
+                public Long getFreelancerId() {
+                    return 778L;
+                }
+
+                @Override
+                public String getFreelancerEmail() {
+                    return "competitor@example.com";
+                }
+            };
+            when(proposalRepository.rejectCompetingProposals(
+                    org.mockito.Mockito.eq(31L),
+                    org.mockito.Mockito.eq(444L),
+                    org.mockito.Mockito.eq(900L),
+                    any(Instant.class),
+                    any(String.class)
+            )).thenReturn(java.util.List.of(competitor));
             when(proposalRepository.save(any(Proposal.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             JwtUserPrincipal client = new JwtUserPrincipal(900L, "client@example.com", "CLIENT");
@@ -188,6 +208,13 @@ class ProposalServiceTest {
             assertThat(lastContractBody.get()).contains("\"clientId\":900");
             assertThat(lastContractBody.get()).contains("\"freelancerId\":777");
             verify(proposalEventPublisher).publishProposalAccepted(any(Proposal.class), org.mockito.Mockito.eq(900L));
+            verify(proposalEventPublisher).publishCompetingProposalsRejected(
+                    any(Proposal.class),
+                    org.mockito.Mockito.eq(900L),
+                    org.mockito.Mockito.eq(java.util.List.of(competitor)),
+                    any(Instant.class)
+            );
+            verify(proposalRepository, org.mockito.Mockito.times(1)).save(any(Proposal.class));
         }
     }
 
@@ -235,6 +262,7 @@ class ProposalServiceTest {
             assertThat(notificationCallCount.get()).isEqualTo(1);
             assertThat(lastNotificationBody.get()).contains("\"type\":\"PROPOSAL_REJECTED\"");
             assertThat(lastNotificationBody.get()).contains("\"recipientUserId\":777");
+            verify(proposalEventPublisher).publishProposalStatusChanged(pending, 300L, pending.getRejectedAt());
         }
     }
 
@@ -295,6 +323,7 @@ class ProposalServiceTest {
             assertThat(response.interviewEndsAt()).isAfter(response.interviewScheduledAt());
             assertThat(notificationCallCount.get()).isEqualTo(1);
             verify(calendarService).createInterviewEvent(any());
+            verify(proposalEventPublisher).publishProposalStatusChanged(proposal, 300L, proposal.getReviewedAt());
         }
     }
 
@@ -368,6 +397,30 @@ class ProposalServiceTest {
         }
     }
 
+    @Test
+    void getMyDashboardShouldAggregateClientCountsWithoutLoadingProposals() {
+        ProposalService proposalService = createService("http://localhost:65530", "http://localhost:65531", "http://localhost:65532");
+        JwtUserPrincipal client = new JwtUserPrincipal(91L, "client@example.com", "CLIENT");
+        when(proposalRepository.countByClientIdGroupByJobAndStatus(91L)).thenReturn(List.of(
+                jobStatusCount(10L, ProposalStatus.PENDING, 3),
+                jobStatusCount(10L, ProposalStatus.REJECTED, 2),
+                jobStatusCount(20L, ProposalStatus.PENDING, 1),
+                jobStatusCount(20L, ProposalStatus.ACCEPTED, 1),
+                jobStatusCount(20L, ProposalStatus.INTERVIEW_SCHEDULED, 1)
+        ));
+
+        ProposalDashboardResponse dashboard = proposalService.getMyDashboard(client);
+
+        assertThat(dashboard.totalApplications()).isEqualTo(8);
+        assertThat(dashboard.pendingApplications()).isEqualTo(4);
+        assertThat(dashboard.acceptedApplications()).isEqualTo(1);
+        assertThat(dashboard.rejectedApplications()).isEqualTo(2);
+        assertThat(dashboard.interviewsScheduled()).isEqualTo(1);
+        assertThat(dashboard.jobStats()).extracting(JobProposalStatsResponse::jobId).containsExactly(10L, 20L);
+        assertThat(dashboard.jobStats().get(1)).isEqualTo(new JobProposalStatsResponse(20L, 3, 1, 0, 1, 1, 0));
+        verify(proposalRepository, never()).findAll();
+    }
+
     private ProposalService createService(String jobBaseUrl, String contractBaseUrl, String notificationBaseUrl) {
         return new ProposalService(
                 proposalRepository,
@@ -380,6 +433,25 @@ class ProposalServiceTest {
         );
     }
 
+    private ProposalRepository.JobStatusCount jobStatusCount(Long jobId, ProposalStatus status, long total) {
+        return new ProposalRepository.JobStatusCount() {
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public ProposalStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
     private TestServer startServer(HttpHandler handler) throws IOException {
         HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
         server.createContext("/", handler);